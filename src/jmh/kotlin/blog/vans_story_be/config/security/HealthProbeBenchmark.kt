@@ -0,0 +1,103 @@
+package blog.vans_story_be.config.security
+
+import blog.vans_story_be.config.cors.CorsConfig
+import blog.vans_story_be.config.cors.CorsProperties
+import blog.vans_story_be.config.security.ratelimit.AuthRateLimiter
+import blog.vans_story_be.config.security.ratelimit.RateLimitProperties
+import blog.vans_story_be.domain.auth.jwt.AccessTokenCache
+import blog.vans_story_be.domain.auth.jwt.JwtKeyRing
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import blog.vans_story_be.domain.user.repository.UserRepository
+import blog.vans_story_be.domain.user.repository.UserRepositoryImpl
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import jakarta.servlet.Filter
+import jakarta.servlet.FilterChain
+import org.openjdk.jmh.annotations.*
+import org.springframework.context.annotation.AnnotationConfigUtils
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.mock.web.MockServletContext
+import org.springframework.security.web.FilterChainProxy
+import org.springframework.security.web.SecurityFilterChain
+import org.springframework.web.context.support.GenericWebApplicationContext
+import java.security.SecureRandom
+import java.util.Base64
+import java.util.concurrent.TimeUnit
+import java.util.function.Supplier
+
+/**
+ * 헬스 체크 요청이 Spring Security 필터를 통과하는 데 걸리는 시간의 분포(p50, p99)를 측정하는 벤치마크입니다.
+ *
+ * 실제 [SecurityConfig]로 필터 체인을 구성한 뒤 다음 두 경우를 비교합니다.
+ * - chain=before: 기본 체인만 사용합니다. 분리 전처럼 /actuator/health가 CORS, 요청 제한, JWT,
+ *   SecurityContext, 익명 인증, 인가 필터를 모두 거칩니다. (인증이 없으므로 403으로 끝남)
+ * - chain=after: [SecurityConfig.staticResourceFilterChain]이 먼저 일치하여 보안 헤더 필터만 거칩니다.
+ *
+ * SampleTime 모드이므로 결과에 p0.99 백분위가 함께 출력됩니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=HealthProbeBenchmark
+ * 결과: build/results/jmh/HealthProbeBenchmark.json (chain=before/after의 p0.50, p0.99를 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class HealthProbeBenchmark {
+
+    @Param("before", "after")
+    var chain: String = "after"
+
+    private lateinit var context: GenericWebApplicationContext
+    private lateinit var filter: Filter
+    private val terminal = FilterChain { _, response -> (response as MockHttpServletResponse).status = 200 }
+
+    @Setup
+    fun setUp() {
+        val meterRegistry = SimpleMeterRegistry()
+        val jwtProperties = JwtProperties().apply {
+            secretKey = Base64.getEncoder().encodeToString(ByteArray(64).also { SecureRandom().nextBytes(it) })
+            accessTokenValidityInSeconds = 18000L
+            refreshTokenValidityInSeconds = 604800L
+        }
+        val hashingProperties = PasswordHashingProperties().apply { fixedCost = 4 }
+
+        context = GenericWebApplicationContext(MockServletContext()).apply {
+            AnnotationConfigUtils.registerAnnotationConfigProcessors(this)
+            registerBean(MeterRegistry::class.java, Supplier { meterRegistry })
+            registerBean(ObjectMapper::class.java, Supplier { ObjectMapper() })
+            registerBean(JwtProperties::class.java, Supplier { jwtProperties })
+            registerBean(JwtKeyRing::class.java, Supplier { JwtKeyRing(jwtProperties) })
+            registerBean(JwtProvider::class.java, Supplier { JwtProvider(jwtProperties, getBean(JwtKeyRing::class.java)) })
+            registerBean(AccessTokenCache::class.java, Supplier { AccessTokenCache(jwtProperties, meterRegistry) })
+            registerBean(TokenRevocationList::class.java, Supplier { TokenRevocationList(jwtProperties) })
+            registerBean(UserRepository::class.java, Supplier { UserRepositoryImpl() })
+            registerBean(CorsProperties::class.java)
+            registerBean(CorsConfig::class.java)
+            registerBean(AuthRateLimiter::class.java, Supplier { AuthRateLimiter(RateLimitProperties(), meterRegistry) })
+            registerBean(PasswordHashingProperties::class.java, Supplier { hashingProperties })
+            registerBean(PasswordHashingExecutor::class.java, Supplier { PasswordHashingExecutor(hashingProperties, meterRegistry) })
+            registerBean(SecurityConfig::class.java)
+            refresh()
+        }
+
+        filter = when (chain) {
+            "before" -> FilterChainProxy(context.getBean("securityFilterChain", SecurityFilterChain::class.java))
+            else -> context.getBean("springSecurityFilterChain", Filter::class.java)
+        }
+    }
+
+    @TearDown
+    fun tearDown() {
+        context.close()
+    }
+
+    @Benchmark
+    fun healthProbe(): Int {
+        val response = MockHttpServletResponse()
+        filter.doFilter(MockHttpServletRequest("GET", "/actuator/health"), response, terminal)
+        return response.status
+    }
+}
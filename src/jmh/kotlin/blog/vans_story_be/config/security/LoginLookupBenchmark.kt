@@ -0,0 +1,76 @@
+package blog.vans_story_be.config.security
+
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.repository.UserRepositoryImpl
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.batchInsert
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.openjdk.jmh.annotations.*
+import org.springframework.security.core.userdetails.UserDetails
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+
+/**
+ * 로그인 시 사용자 조회 처리량을 측정하는 벤치마크입니다. (H2 인메모리 DB)
+ *
+ * - [entityLookup]: 기존 방식. User DAO 엔티티를 만들어 UserPrincipal로 복사합니다.
+ * - [projectionLookup]: [CustomUserDetailsService]가 id, email, password, role만 조회합니다.
+ *
+ * BCrypt 검증 비용은 두 방식이 같으므로 제외하고 조회 경로만 비교합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=LoginLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+open class LoginLookupBenchmark {
+
+    companion object {
+        private const val USER_COUNT = 10_000
+        private const val PASSWORD_HASH = "\$2a\$10\$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5cM1vEXAMPLEHASHVALUE0"
+    }
+
+    private val repository = UserRepositoryImpl()
+    private val userDetailsService = CustomUserDetailsService(repository)
+
+    @Setup
+    fun setUp() {
+        Database.connect(
+            url = "jdbc:h2:mem:login-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            driver = "org.h2.Driver"
+        )
+        transaction {
+            SchemaUtils.drop(Users)
+            SchemaUtils.create(Users)
+            Users.batchInsert(1..USER_COUNT, shouldReturnGeneratedValues = false) { i ->
+                this[Users.email] = "user$i@vans-story.com"
+                this[Users.password] = PASSWORD_HASH
+                this[Users.nickname] = "user$i"
+                this[Users.role] = if (i % 100 == 0) Role.ADMIN else Role.USER
+            }
+        }
+    }
+
+    @Benchmark
+    fun entityLookup(): UserDetails? = transaction {
+        repository.findByEmail(randomEmail())
+            .map { user ->
+                UserPrincipal(
+                    id = user.id.value,
+                    name = user.email,
+                    passwordHash = user.password,
+                    role = user.role
+                )
+            }
+            .orElse(null)
+    }
+
+    @Benchmark
+    fun projectionLookup(): UserDetails =
+        userDetailsService.loadUserByUsername(randomEmail())
+
+    private fun randomEmail(): String =
+        "user${ThreadLocalRandom.current().nextInt(1, USER_COUNT + 1)}@vans-story.com"
+}
@@ -0,0 +1,64 @@
+package blog.vans_story_be.domain.auth.jwt
+
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.security.Keys
+import org.openjdk.jmh.annotations.*
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.Authentication
+import org.springframework.security.core.authority.SimpleGrantedAuthority
+import java.security.SecureRandom
+import java.util.Base64
+import java.util.concurrent.TimeUnit
+import javax.crypto.SecretKey
+
+/**
+ * JwtFilter 한 번의 요청에서 발생하는 인증 비용을 측정하는 벤치마크입니다.
+ *
+ * - [legacyValidateThenAuthenticate]: 기존 방식. validateToken과 getAuthentication이
+ *   각각 파서를 새로 만들고 서명을 두 번 검증합니다.
+ * - [verifyOnce]: 미리 만들어 둔 파서로 한 번만 파싱하고, 검증된 클레임으로 인증 정보를 만듭니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtAuthBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class JwtAuthBenchmark {
+
+    private lateinit var provider: JwtProvider
+    private lateinit var key: SecretKey
+    private lateinit var token: String
+
+    @Setup
+    fun setUp() {
+        val secret = ByteArray(64).also { SecureRandom().nextBytes(it) }
+        val properties = JwtProperties().apply {
+            secretKey = Base64.getEncoder().encodeToString(secret)
+            accessTokenValidityInSeconds = 18000L
+            refreshTokenValidityInSeconds = 604800L
+        }
+        provider = JwtProvider(properties, JwtKeyRing(properties).also { it.init() }).also { it.init() }
+        key = Keys.hmacShaKeyFor(secret)
+        token = provider.generateAccessToken(
+            UsernamePasswordAuthenticationToken(
+                "bench@vans-story.com",
+                null,
+                listOf(SimpleGrantedAuthority("ROLE_USER"))
+            )
+        )
+    }
+
+    @Benchmark
+    fun legacyValidateThenAuthenticate(): Authentication {
+        // validateToken: 파서 생성 + 서명 검증
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token)
+        // getAuthentication: 파서 재생성 + 서명 재검증
+        val claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).payload
+        return provider.getAuthentication(token, claims)
+    }
+
+    @Benchmark
+    fun verifyOnce(): Authentication? =
+        (provider.verify(token) as? TokenVerification.Valid)
+            ?.let { provider.getAuthentication(token, it.claims) }
+}
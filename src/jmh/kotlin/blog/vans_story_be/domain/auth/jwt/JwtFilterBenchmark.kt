@@ -0,0 +1,69 @@
+package blog.vans_story_be.domain.auth.jwt
+
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import jakarta.servlet.FilterChain
+import org.openjdk.jmh.annotations.*
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.authority.SimpleGrantedAuthority
+import org.springframework.security.core.context.SecurityContextHolder
+import java.security.SecureRandom
+import java.util.Base64
+import java.util.concurrent.TimeUnit
+
+/**
+ * 같은 액세스 토큰이 반복되는 요청에서 JwtFilter 지연 시간을 측정하는 벤치마크입니다.
+ *
+ * cacheEnabled=false는 매 요청마다 서명 검증과 클레임 파싱을 수행하고,
+ * cacheEnabled=true는 첫 요청 이후 [AccessTokenCache]에서 인증 정보를 재사용합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class JwtFilterBenchmark {
+
+    @Param("true", "false")
+    var cacheEnabled: Boolean = true
+
+    private lateinit var filter: JwtFilter
+    private lateinit var token: String
+    private val chain = FilterChain { _, _ -> }
+
+    @Setup
+    fun setUp() {
+        val properties = JwtProperties().apply {
+            secretKey = Base64.getEncoder().encodeToString(ByteArray(64).also { SecureRandom().nextBytes(it) })
+            accessTokenValidityInSeconds = 18000L
+            refreshTokenValidityInSeconds = 604800L
+            accessTokenCacheEnabled = cacheEnabled
+        }
+        val provider = JwtProvider(properties, JwtKeyRing(properties).also { it.init() }).also { it.init() }
+        filter = JwtFilter(
+            provider,
+            AccessTokenCache(properties, SimpleMeterRegistry()),
+            TokenRevocationList(properties)
+        )
+        token = provider.generateAccessToken(
+            UsernamePasswordAuthenticationToken(
+                "bench@vans-story.com",
+                null,
+                listOf(SimpleGrantedAuthority("ROLE_USER"))
+            )
+        )
+    }
+
+    @Benchmark
+    fun filterAuthenticatedRequest(): Any? {
+        val request = MockHttpServletRequest("GET", "/api/v1/users/1").apply {
+            addHeader("Authorization", "Bearer $token")
+        }
+        filter.doFilter(request, MockHttpServletResponse(), chain)
+        val authentication = SecurityContextHolder.getContext().authentication
+        SecurityContextHolder.clearContext()
+        return authentication
+    }
+}
@@ -0,0 +1,116 @@
+package blog.vans_story_be.domain.user.mapper
+
+import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.User
+import blog.vans_story_be.domain.user.entity.Users
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.batchInsert
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.openjdk.jmh.annotations.*
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+import java.util.concurrent.TimeUnit
+import kotlin.reflect.KMutableProperty1
+import kotlin.reflect.full.memberProperties
+
+/**
+ * 사용자 엔티티 한 건을 DTO로 변환하는 비용을 측정하는 벤치마크입니다. (H2 인메모리 DB)
+ *
+ * - reflective*: 기존 GenericMapper 방식. 매핑할 때마다 kotlin-reflect로 두 클래스의 memberProperties를
+ *   조회하고 associateBy로 맵을 만든 뒤 setter.call을 시도합니다. (아래 [ReflectiveMapper]에 기존 코드를 그대로 옮겨 두었습니다)
+ * - direct*: 현재 [UserMapper]. 생성자에 필드를 직접 대입합니다.
+ *
+ * 엔티티는 setUp에서 미리 읽어 두므로 DB 조회 비용은 포함되지 않습니다.
+ * 객체당 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 확인합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=UserMapperBenchmark -Pjmh.profilers=gc
+ * 결과: build/results/jmh/UserMapperBenchmark.json (reflective*와 direct*의 ns/op, gc.alloc.rate.norm을 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class UserMapperBenchmark {
+
+    companion object {
+        private const val USER_COUNT = 256
+        private val formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+    }
+
+    private val mapper = UserMapper()
+    private lateinit var users: List<User>
+    private var index = 0
+
+    @Setup
+    fun setUp() {
+        Database.connect(
+            url = "jdbc:h2:mem:mapper-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            driver = "org.h2.Driver"
+        )
+        users = transaction {
+            SchemaUtils.drop(Users)
+            SchemaUtils.create(Users)
+            Users.batchInsert(1..USER_COUNT, shouldReturnGeneratedValues = false) { i ->
+                this[Users.email] = "user$i@vans-story.com"
+                this[Users.password] = "encoded"
+                this[Users.nickname] = "user$i"
+                this[Users.role] = Role.USER
+            }
+            // 읽은 값이 엔티티에 보관되므로 이후 트랜잭션 밖에서도 프로퍼티를 읽을 수 있음
+            User.all().toList()
+        }
+    }
+
+    @Benchmark
+    fun reflectiveToResponse(): UserDto.Response {
+        val user = nextUser()
+        return ReflectiveMapper.toDto(user, UserDto.Response(
+            id = user.id.value,
+            createdAt = user.createdAt.format(formatter),
+            updatedAt = user.updatedAt.format(formatter)
+        ))
+    }
+
+    @Benchmark
+    fun directToResponse(): UserDto.Response = mapper.toResponseDto(nextUser())
+
+    @Benchmark
+    fun reflectiveToUpdateDto(): UserDto.UpdateRequest {
+        val user = nextUser()
+        return ReflectiveMapper.toDto(user, UserDto.UpdateRequest(
+            email = user.email,
+            nickname = user.nickname,
+            role = Role.ADMIN
+        ))
+    }
+
+    @Benchmark
+    fun directToUpdateDto(): UserDto.UpdateRequest = mapper.toUpdateDto(nextUser(), role = Role.ADMIN)
+
+    private fun nextUser(): User = users[index++ and (USER_COUNT - 1)]
+
+    /**
+     * 제거된 GenericMapper.toDto와 같은 코드입니다. (비교 기준)
+     */
+    private object ReflectiveMapper {
+        inline fun <reified E : Any, reified D : Any> toDto(entity: E, dto: D): D {
+            val entityProps = entity::class.memberProperties.associateBy { it.name }
+            val dtoProps = dto::class.memberProperties.associateBy { it.name }
+
+            dtoProps.forEach { (name, prop) ->
+                entityProps[name]?.let { entityProp ->
+                    try {
+                        if (prop is KMutableProperty1<*, *>) {
+                            @Suppress("UNCHECKED_CAST")
+                            (prop as KMutableProperty1<D, Any?>).setter.call(dto, entityProp.getter.call(entity))
+                        }
+                    } catch (_: Exception) {
+                        // 타입 불일치 또는 접근 불가: 무시
+                    }
+                }
+            }
+            return dto
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package blog.vans_story_be
 
+import org.jetbrains.exposed.spring.autoconfig.ExposedAutoConfiguration
 import org.springframework.boot.autoconfigure.SpringBootApplication
 import org.springframework.boot.runApplication
+import org.springframework.scheduling.annotation.EnableScheduling
 
 /**
  * Vans Story 블로그 애플리케이션의 메인 클래스
  * Spring Boot 애플리케이션의 시작점입니다.
+ * JWT 서명 키 교체 등 주기 작업을 위해 스케줄링을 활성화합니다.
+ * Exposed Database와 트랜잭션 매니저는 DataSourceConfig에서 직접 등록하므로 Exposed 자동 설정은 제외합니다.
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = [ExposedAutoConfiguration::class])
+@EnableScheduling
 class VansStoryBeApplication
 
 fun main(args: Array<String>) {
@@ -2,70 +2,106 @@ package blog.vans_story_be.config.database
 
 import com.zaxxer.hikari.HikariConfig
 import com.zaxxer.hikari.HikariDataSource
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 import javax.sql.DataSource
+import org.jetbrains.exposed.spring.SpringTransactionManager
 import org.jetbrains.exposed.sql.Database
-import org.jetbrains.exposed.sql.SchemaUtils
-import org.jetbrains.exposed.sql.transactions.transaction
-import org.springframework.boot.context.event.ApplicationReadyEvent
-import org.springframework.context.event.EventListener
-import blog.vans_story_be.domain.user.entity.Users
-import blog.vans_story_be.domain.oauth.entity.UserOAuths
+import org.jetbrains.exposed.sql.DatabaseConfig
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.springframework.transaction.support.TransactionTemplate
 import mu.KotlinLogging
 
 @Configuration
-class DataSourceConfig {
+class DataSourceConfig(
+    private val properties: DatabaseProperties
+) {
+    companion object {
+        /** 메트릭 태그(pool)와 로그에 표시되는 풀 이름 */
+        const val POOL_NAME = "vans-blog"
 
-    private val log = KotlinLogging.logger {}
-
-    @Value("\${VANS_BLOG_DB_HOST:localhost}")
-    private lateinit var dbHost: String
-
-    @Value("\${VANS_BLOG_DB_PORT:3306}")
-    private lateinit var dbPort: String
-
-    @Value("\${VANS_BLOG_DB_NAME:devblog}")
-    private lateinit var dbName: String
-
-    @Value("\${VANS_BLOG_DB_USERNAME:root}")
-    private lateinit var dbUsername: String
+        /**
+         * 트랜잭션 매니저가 내부에서 연결한 [Database]를 반환합니다.
+         *
+         * <p>SpringTransactionManager는 Database를 공개하지 않으므로, 매니저로 트랜잭션을 한 번 열어
+         * 그 트랜잭션의 Database를 읽습니다. 기동 시 한 번만 호출되며, 커넥션을 한 번 빌리지만 SQL은 실행하지 않습니다.</p>
+         *
+         * @param transactionManager Spring-Exposed 트랜잭션 매니저
+         * @return 매니저가 사용하는 Database
+         */
+        fun databaseOf(transactionManager: SpringTransactionManager): Database =
+            checkNotNull(TransactionTemplate(transactionManager).execute { TransactionManager.current().db }) {
+                "트랜잭션 매니저의 Database를 확인할 수 없습니다."
+            }
+    }
 
-    @Value("\${VANS_BLOG_DB_PASSWORD:qwe123}")
-    private lateinit var dbPassword: String
+    private val log = KotlinLogging.logger {}
 
+    /**
+     * HikariCP 커넥션 풀을 생성합니다.
+     *
+     * <p>풀 상태는 Micrometer로 hikaricp.connections.active / idle / pending / acquire 등의 이름으로 발행되며
+     * /actuator/metrics에서 확인할 수 있습니다.</p>
+     */
     @Bean
-    fun dataSource(): DataSource {
+    fun dataSource(meterRegistry: MeterRegistry): DataSource {
         val config = HikariConfig().apply {
+            poolName = POOL_NAME
             driverClassName = "org.mariadb.jdbc.Driver"
-            jdbcUrl = "jdbc:mariadb://$dbHost:$dbPort/$dbName?createDatabaseIfNotExist=true&serverTimezone=Asia/Seoul&characterEncoding=UTF-8"
-            username = dbUsername
-            password = dbPassword
-            
+            jdbcUrl = properties.jdbcUrl()
+            username = properties.username
+            password = properties.password
+
             // HikariCP 설정
             connectionInitSql = "SET NAMES utf8mb4"
-            maximumPoolSize = 10
-            minimumIdle = 5
-            connectionTimeout = 30000
-            idleTimeout = 600000
-            maxLifetime = 1800000
+            maximumPoolSize = properties.maxPoolSize
+            minimumIdle = properties.minIdle.coerceAtMost(properties.maxPoolSize)
+            connectionTimeout = properties.connectionTimeoutMs
+            idleTimeout = properties.idleTimeoutMs
+            maxLifetime = properties.maxLifetimeMs
+            leakDetectionThreshold = properties.leakDetectionThresholdMs
+            metricsTrackerFactory = MicrometerMetricsTrackerFactory(meterRegistry)
         }
-        
+
         return HikariDataSource(config)
     }
 
-    @EventListener(ApplicationReadyEvent::class)
-    fun createTables() {
-        runCatching {
-            Database.connect(dataSource())
-            transaction {
-                log.info { "데이터베이스 테이블 생성 시작..." }
-                SchemaUtils.create(Users, UserOAuths)
-                log.info { "데이터베이스 테이블 생성 완료!" }
-            }
-        }.onFailure { e ->
-            log.error(e) { "테이블 생성 중 오류 발생: ${e.message}" }
+    /**
+     * Spring `@Transactional`과 Exposed 트랜잭션을 연결하는 트랜잭션 매니저입니다.
+     *
+     * <p>`@Transactional` 메서드가 시작되면 [dataSource]에서 커넥션 하나를 빌려 Exposed 트랜잭션으로 현재 스레드에 등록합니다.
+     * 그 안에서 호출되는 리포지토리의 `transaction {}`은 새 트랜잭션을 열지 않고 이 트랜잭션에 참여하므로,
+     * 요청 하나의 작업 단위는 커넥션 하나와 커밋 한 번으로 처리됩니다.</p>
+     *
+     * <p>생성자가 내부에서 `Database.connect`로 자신을 트랜잭션 매니저로 쓰는 [Database]를 만들며,
+     * [database] 빈은 따로 연결하지 않고 바로 그 Database를 사용합니다.
+     * exposed-spring-boot-starter의 자동 설정은 매니저(와 그 Database)를 하나 더 만들므로 사용하지 않습니다.
+     * (VansStoryBeApplication 참고)</p>
+     */
+    @Bean
+    fun transactionManager(
+        dataSource: DataSource,
+        @Value("\${spring.exposed.show-sql:false}") showSql: Boolean
+    ): SpringTransactionManager = SpringTransactionManager(dataSource, DatabaseConfig { }, showSql)
+
+    /**
+     * 애플리케이션 전체가 사용하는 Exposed [Database]를 등록합니다.
+     *
+     * <p>[transactionManager]가 만든 Database를 기본 Database로 등록하므로, Database는 애플리케이션에 하나만 존재합니다.
+     * `@Transactional` 밖(스케줄러, 초기 데이터 로드 등)의 `transaction {}`도 같은 Database와 매니저를 거쳐 [dataSource] 풀을 사용합니다.
+     * 등록 전에 [SchemaMigrator]로 적용되지 않은 마이그레이션을 실행하므로
+     * CommandLineRunner나 ApplicationReadyEvent 리스너가 실행될 때는 스키마가 준비되어 있습니다.</p>
+     */
+    @Bean
+    fun database(dataSource: DataSource, transactionManager: SpringTransactionManager): Database {
+        if (properties.migrateOnStartup) {
+            SchemaMigrator(dataSource, lockTimeoutSeconds = properties.migrationLockTimeoutSeconds).migrate()
+        } else {
+            log.info { "기동 시 스키마 마이그레이션을 건너뜁니다. (VANS_BLOG_DB_MIGRATE_ON_STARTUP=false)" }
         }
+        return databaseOf(transactionManager).also { TransactionManager.defaultDatabase = it }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package blog.vans_story_be.config.database
+
+import mu.KotlinLogging
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+import java.sql.SQLException
+import javax.sql.DataSource
+
+/**
+ * 기동 시 커넥션 풀 크기가 힙과 DB가 감당할 수 있는 범위인지 점검하는 클래스입니다.
+ *
+ * <p>풀 크기를 바꾸지는 않고 경고만 남깁니다.</p>
+ *
+ * <h4>점검 항목:</h4>
+ * <ul>
+ *   <li>힙: 최대 커넥션 수 x 커넥션당 추정 사용량이 최대 힙의 [DatabaseProperties.maxHeapRatio]를 넘는지
+ *       (384MB 힙, 기본값 기준 최대 19개)</li>
+ *   <li>CPU: 최대 커넥션 수가 (CPU 코어 수 x 2 + 1)을 넘는지. 그 이상은 DB에서 대기만 늘어납니다.</li>
+ *   <li>DB: 최대 커넥션 수 x 인스턴스 수가 DB max_connections의 80%를 넘는지
+ *       (관리용 접속과 다른 클라이언트를 위한 여유분)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see DatabaseProperties
+ */
+@Component
+class DataSourcePoolSelfCheck(
+    private val dataSource: DataSource,
+    private val properties: DatabaseProperties
+) {
+    companion object {
+        private val log = KotlinLogging.logger {}
+
+        /** DB max_connections 중 애플리케이션 풀에 허용하는 비율 */
+        private const val DB_CONNECTION_RATIO = 0.8
+    }
+
+    /**
+     * 기동 완료 후 풀 크기를 점검하고 결과를 로그로 남깁니다.
+     */
+    @EventListener(ApplicationReadyEvent::class)
+    fun check() {
+        val warnings = evaluate(
+            maxHeapBytes = Runtime.getRuntime().maxMemory(),
+            processors = Runtime.getRuntime().availableProcessors(),
+            dbMaxConnections = queryMaxConnections()
+        )
+        if (warnings.isEmpty()) {
+            log.info { "커넥션 풀 점검 통과: maxPoolSize=${properties.maxPoolSize}" }
+        } else {
+            warnings.forEach { log.warn { "커넥션 풀 점검: $it" } }
+        }
+    }
+
+    /**
+     * 풀 크기를 점검합니다.
+     *
+     * @param maxHeapBytes 최대 힙 크기
+     * @param processors 사용 가능한 CPU 코어 수
+     * @param dbMaxConnections DB의 max_connections (조회하지 못했으면 null)
+     * @return 경고 메시지 목록 (문제가 없으면 비어 있음)
+     */
+    fun evaluate(maxHeapBytes: Long, processors: Int, dbMaxConnections: Int?): List<String> {
+        val poolSize = properties.maxPoolSize
+        val warnings = ArrayList<String>()
+
+        val heapLimit = (maxHeapBytes * properties.maxHeapRatio / properties.bytesPerConnection.coerceAtLeast(1)).toInt()
+        if (poolSize > heapLimit) {
+            warnings += "maxPoolSize=$poolSize 가 힙 기준 권장값($heapLimit)을 넘습니다. " +
+                "(최대 힙 ${maxHeapBytes / (1024 * 1024)}MB x ${properties.maxHeapRatio} / " +
+                "커넥션당 ${properties.bytesPerConnection / 1024}KB)"
+        }
+
+        val cpuLimit = processors * 2 + 1
+        if (poolSize > cpuLimit) {
+            warnings += "maxPoolSize=$poolSize 가 CPU 기준 권장값($cpuLimit = 코어 ${processors}개 x 2 + 1)을 넘습니다."
+        }
+
+        if (dbMaxConnections != null) {
+            val dbLimit = (dbMaxConnections * DB_CONNECTION_RATIO).toInt()
+            val required = poolSize * properties.instances.coerceAtLeast(1)
+            if (required > dbLimit) {
+                warnings += "maxPoolSize=$poolSize x 인스턴스 ${properties.instances}개 = $required 가 " +
+                    "DB max_connections($dbMaxConnections)의 ${(DB_CONNECTION_RATIO * 100).toInt()}%($dbLimit)를 넘습니다."
+            }
+        }
+        return warnings
+    }
+
+    /**
+     * DB의 max_connections를 조회합니다. (MariaDB/MySQL 전용, 그 밖의 DB는 null)
+     */
+    private fun queryMaxConnections(): Int? =
+        try {
+            dataSource.connection.use { connection ->
+                connection.createStatement().use { statement ->
+                    statement.executeQuery("SELECT @@max_connections").use { rs ->
+                        if (rs.next()) rs.getInt(1) else null
+                    }
+                }
+            }
+        } catch (e: SQLException) {
+            log.debug(e) { "DB max_connections 조회 실패, DB 기준 점검을 건너뜁니다." }
+            null
+        }
+}
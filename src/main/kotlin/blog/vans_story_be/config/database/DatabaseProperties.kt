@@ -0,0 +1,179 @@
+package blog.vans_story_be.config.database
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * 데이터베이스 접속, 커넥션 풀, MariaDB 드라이버 설정 값을 관리하는 클래스입니다.
+ *
+ * <h4>설정 항목 (환경변수):</h4>
+ * <ul>
+ *   <li>VANS_BLOG_DB_HOST / PORT / NAME / USERNAME / PASSWORD: 접속 정보</li>
+ *   <li>VANS_BLOG_DB_POOL_MAX_SIZE: 최대 커넥션 수 (기본값: 10)</li>
+ *   <li>VANS_BLOG_DB_POOL_MIN_IDLE: 유지할 최소 유휴 커넥션 수 (기본값: 5)</li>
+ *   <li>VANS_BLOG_DB_POOL_CONNECTION_TIMEOUT_MS: 커넥션 대여 대기 한도 (기본값: 30000)</li>
+ *   <li>VANS_BLOG_DB_POOL_IDLE_TIMEOUT_MS: 유휴 커넥션 정리 기준 (기본값: 600000)</li>
+ *   <li>VANS_BLOG_DB_POOL_MAX_LIFETIME_MS: 커넥션 최대 수명 (기본값: 1800000)</li>
+ *   <li>VANS_BLOG_DB_POOL_LEAK_DETECTION_MS: 반납되지 않은 커넥션 경고 기준, 0이면 사용 안 함 (기본값: 0)</li>
+ *   <li>VANS_BLOG_DB_USE_SERVER_PREP_STMTS: 서버 측 Prepared Statement 사용 (기본값: true)</li>
+ *   <li>VANS_BLOG_DB_CACHE_PREP_STMTS: Prepared Statement 캐시 사용 (기본값: true)</li>
+ *   <li>VANS_BLOG_DB_PREP_STMT_CACHE_SIZE: 커넥션당 캐시할 Prepared Statement 수 (기본값: 250)</li>
+ *   <li>VANS_BLOG_DB_USE_BULK_STMTS: 배치 실행에 bulk 프로토콜 사용 (기본값: true)</li>
+ *   <li>VANS_BLOG_DB_POOL_BYTES_PER_CONNECTION: 기동 점검에 쓰는 커넥션당 힙 사용량 추정치 (기본값: 2097152)</li>
+ *   <li>VANS_BLOG_DB_POOL_MAX_HEAP_RATIO: 커넥션 풀에 허용할 최대 힙 비율 (기본값: 0.1)</li>
+ *   <li>VANS_BLOG_DB_INSTANCES: 같은 DB를 사용하는 애플리케이션 인스턴스 수 (기본값: 1)</li>
+ *   <li>VANS_BLOG_DB_MIGRATE_ON_STARTUP: 기동 시 스키마 마이그레이션 실행 여부 (기본값: true)</li>
+ *   <li>VANS_BLOG_DB_MIGRATION_LOCK_TIMEOUT_SECONDS: 다른 인스턴스의 마이그레이션을 기다리는 최대 시간 (기본값: 300)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see DataSourceConfig
+ * @see DataSourcePoolSelfCheck
+ * @see SchemaMigrator
+ */
+@Component
+class DatabaseProperties {
+    /**
+     * DB 호스트입니다.
+     */
+    @Value("\${VANS_BLOG_DB_HOST:localhost}")
+    var host: String = "localhost"
+
+    /**
+     * DB 포트입니다.
+     */
+    @Value("\${VANS_BLOG_DB_PORT:3306}")
+    var port: Int = 3306
+
+    /**
+     * 데이터베이스 이름입니다.
+     */
+    @Value("\${VANS_BLOG_DB_NAME:devblog}")
+    var name: String = "devblog"
+
+    /**
+     * 접속 계정입니다.
+     */
+    @Value("\${VANS_BLOG_DB_USERNAME:root}")
+    var username: String = "root"
+
+    /**
+     * 접속 비밀번호입니다.
+     */
+    @Value("\${VANS_BLOG_DB_PASSWORD:qwe123}")
+    var password: String = "qwe123"
+
+    /**
+     * 풀의 최대 커넥션 수입니다.
+     *
+     * <p>요청 스레드 수가 아니라 DB가 동시에 처리할 수 있는 쿼리 수에 맞춥니다.
+     * 기동 시 [DataSourcePoolSelfCheck]가 힙과 DB의 max_connections 기준으로 점검합니다.</p>
+     */
+    @Value("\${VANS_BLOG_DB_POOL_MAX_SIZE:10}")
+    var maxPoolSize: Int = 10
+
+    /**
+     * 유지할 최소 유휴 커넥션 수입니다. 최대 커넥션 수보다 크면 최대 커넥션 수로 맞춥니다.
+     */
+    @Value("\${VANS_BLOG_DB_POOL_MIN_IDLE:5}")
+    var minIdle: Int = 5
+
+    /**
+     * 커넥션을 빌리기 위해 기다리는 최대 시간(밀리초)입니다.
+     */
+    @Value("\${VANS_BLOG_DB_POOL_CONNECTION_TIMEOUT_MS:30000}")
+    var connectionTimeoutMs: Long = 30_000L
+
+    /**
+     * 최소 유휴 수를 넘는 커넥션을 닫기까지의 유휴 시간(밀리초)입니다.
+     */
+    @Value("\${VANS_BLOG_DB_POOL_IDLE_TIMEOUT_MS:600000}")
+    var idleTimeoutMs: Long = 600_000L
+
+    /**
+     * 커넥션의 최대 수명(밀리초)입니다. DB의 wait_timeout보다 짧아야 합니다.
+     */
+    @Value("\${VANS_BLOG_DB_POOL_MAX_LIFETIME_MS:1800000}")
+    var maxLifetimeMs: Long = 1_800_000L
+
+    /**
+     * 이 시간(밀리초) 동안 반납되지 않은 커넥션의 대여 위치를 경고로 남깁니다. 0이면 사용하지 않습니다.
+     */
+    @Value("\${VANS_BLOG_DB_POOL_LEAK_DETECTION_MS:0}")
+    var leakDetectionThresholdMs: Long = 0L
+
+    /**
+     * 서버 측 Prepared Statement 사용 여부입니다.
+     *
+     * <p>true이면 같은 SQL을 커넥션마다 한 번만 파싱하고 이후에는 바이너리 프로토콜로 파라미터만 보냅니다.</p>
+     */
+    @Value("\${VANS_BLOG_DB_USE_SERVER_PREP_STMTS:true}")
+    var useServerPrepStmts: Boolean = true
+
+    /**
+     * 드라이버의 Prepared Statement 캐시 사용 여부입니다.
+     */
+    @Value("\${VANS_BLOG_DB_CACHE_PREP_STMTS:true}")
+    var cachePrepStmts: Boolean = true
+
+    /**
+     * 커넥션당 캐시할 Prepared Statement 수입니다.
+     *
+     * <p>애플리케이션이 사용하는 SQL 종류는 수십 개이므로 기본값이면 모두 캐시됩니다.</p>
+     */
+    @Value("\${VANS_BLOG_DB_PREP_STMT_CACHE_SIZE:250}")
+    var prepStmtCacheSize: Int = 250
+
+    /**
+     * 배치 실행(batchInsert 등)에 MariaDB bulk 프로토콜을 사용할지 여부입니다.
+     */
+    @Value("\${VANS_BLOG_DB_USE_BULK_STMTS:true}")
+    var useBulkStmts: Boolean = true
+
+    /**
+     * 기동 점검에 사용하는 커넥션 하나의 힙 사용량 추정치(바이트)입니다.
+     *
+     * <p>드라이버의 송수신 버퍼와 Prepared Statement 캐시, 결과 행을 읽는 동안의 임시 객체를 포함합니다.</p>
+     */
+    @Value("\${VANS_BLOG_DB_POOL_BYTES_PER_CONNECTION:2097152}")
+    var bytesPerConnection: Long = 2L * 1024 * 1024
+
+    /**
+     * 커넥션 풀이 사용해도 되는 최대 힙 비율입니다. (0.1 = 최대 힙의 10%)
+     */
+    @Value("\${VANS_BLOG_DB_POOL_MAX_HEAP_RATIO:0.1}")
+    var maxHeapRatio: Double = 0.1
+
+    /**
+     * 같은 DB에 접속하는 애플리케이션 인스턴스 수입니다. DB max_connections 점검에 사용합니다.
+     */
+    @Value("\${VANS_BLOG_DB_INSTANCES:1}")
+    var instances: Int = 1
+
+    /**
+     * 기동 시 [SchemaMigrator]로 적용되지 않은 마이그레이션을 실행할지 여부입니다.
+     *
+     * <p>배포 파이프라인에서 마이그레이션을 따로 실행하는 환경에서는 false로 둡니다.</p>
+     */
+    @Value("\${VANS_BLOG_DB_MIGRATE_ON_STARTUP:true}")
+    var migrateOnStartup: Boolean = true
+
+    /**
+     * 다른 인스턴스가 마이그레이션 중일 때 락을 기다리는 최대 시간(초)입니다. 넘으면 기동을 중단합니다.
+     */
+    @Value("\${VANS_BLOG_DB_MIGRATION_LOCK_TIMEOUT_SECONDS:300}")
+    var migrationLockTimeoutSeconds: Int = SchemaMigrator.DEFAULT_LOCK_TIMEOUT_SECONDS
+
+    /**
+     * 드라이버 옵션을 포함한 JDBC URL을 만듭니다.
+     */
+    fun jdbcUrl(): String =
+        "jdbc:mariadb://$host:$port/$name" +
+            "?createDatabaseIfNotExist=true&serverTimezone=Asia/Seoul&characterEncoding=UTF-8" +
+            "&useServerPrepStmts=$useServerPrepStmts" +
+            "&cachePrepStmts=$cachePrepStmts" +
+            "&prepStmtCacheSize=$prepStmtCacheSize" +
+            "&useBulkStmts=$useBulkStmts"
+}
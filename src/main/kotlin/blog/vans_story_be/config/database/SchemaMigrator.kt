@@ -0,0 +1,268 @@
+package blog.vans_story_be.config.database
+
+import mu.KotlinLogging
+import org.springframework.core.io.Resource
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver
+import java.security.MessageDigest
+import java.sql.Connection
+import java.sql.SQLException
+import java.sql.Timestamp
+import java.time.LocalDateTime
+import javax.sql.DataSource
+
+/**
+ * 버전이 붙은 SQL 스크립트로 스키마를 관리하는 클래스입니다.
+ *
+ * <p>classpath의 db/migration/V{버전}__{설명}.sql 파일을 버전 순서대로 한 번씩만 실행하고,
+ * 실행한 버전과 스크립트의 SHA-256 체크섬을 schema_migrations 테이블에 기록합니다.
+ * 모두 적용된 뒤의 기동에서는 schema_migrations 조회 한 번만 실행하고 DDL이나 메타데이터 조회는 하지 않습니다.</p>
+ *
+ * <p>적용할 마이그레이션이 있으면 DB 수준의 락을 잡은 뒤 이력을 다시 읽고 적용하므로,
+ * 여러 인스턴스가 동시에 기동해도 한 인스턴스만 스크립트를 실행합니다.
+ * MariaDB/MySQL에서는 GET_LOCK 명명 락을, 그 밖의 DB(테스트용 H2)에서는 별도 커넥션에서
+ * schema_migrations_lock 행에 SELECT ... FOR UPDATE를 사용합니다.</p>
+ *
+ * <h4>규칙:</h4>
+ * <ul>
+ *   <li>적용된 스크립트는 수정하지 않습니다. 체크섬이 달라지면 기동을 중단합니다.</li>
+ *   <li>스키마 변경은 다음 버전의 새 파일로 추가합니다.</li>
+ *   <li>구문은 줄 끝의 세미콜론(;)으로 구분하며, MariaDB와 테스트용 H2(MySQL 모드)에서 모두 실행되는 SQL로 작성합니다.</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see DataSourceConfig
+ */
+class SchemaMigrator(
+    private val dataSource: DataSource,
+    private val location: String = DEFAULT_LOCATION,
+    private val lockTimeoutSeconds: Int = DEFAULT_LOCK_TIMEOUT_SECONDS
+) {
+    companion object {
+        private val log = KotlinLogging.logger {}
+
+        const val DEFAULT_LOCATION = "classpath*:db/migration/"
+        const val HISTORY_TABLE = "schema_migrations"
+        const val LOCK_TABLE = "schema_migrations_lock"
+        const val LOCK_NAME = "vans_blog_schema_migration"
+        const val DEFAULT_LOCK_TIMEOUT_SECONDS = 300
+
+        private val FILE_NAME = Regex("""V(\d+)__(.+)\.sql""")
+        private val STATEMENT_END = Regex(""";\s*(\r?\n|$)""")
+    }
+
+    /**
+     * 마이그레이션 스크립트 하나입니다.
+     *
+     * @property version 버전 (파일 이름의 V 뒤 숫자)
+     * @property description 설명 (파일 이름의 __ 뒤)
+     * @property script 스크립트 내용
+     */
+    class Migration(val version: Int, val description: String, val script: String) {
+        /** 줄바꿈 차이(CRLF/LF)를 무시한 스크립트의 SHA-256 체크섬 */
+        val checksum: String = MessageDigest.getInstance("SHA-256")
+            .digest(script.replace("\r\n", "\n").trim().toByteArray(Charsets.UTF_8))
+            .joinToString("") { "%02x".format(it) }
+
+        /** 주석 줄을 제외하고 세미콜론으로 구분한 구문 목록 */
+        fun statements(): List<String> =
+            script.lineSequence()
+                .filterNot { it.trimStart().startsWith("--") }
+                .joinToString("\n")
+                .split(STATEMENT_END)
+                .map { it.trim() }
+                .filter { it.isNotEmpty() }
+    }
+
+    /**
+     * 적용되지 않은 마이그레이션을 실행합니다.
+     *
+     * @return 이번에 적용한 마이그레이션 수
+     * @throws IllegalStateException 적용된 스크립트의 체크섬이 달라졌거나 버전이 중복된 경우
+     */
+    fun migrate(): Int = migrate(loadMigrations())
+
+    /**
+     * 주어진 마이그레이션 중 적용되지 않은 것을 버전 순서대로 실행합니다.
+     *
+     * <p>모두 적용되어 있으면 락 없이 바로 끝냅니다. 적용할 것이 있으면 락을 잡고 이력을 다시 읽어,
+     * 기다리는 동안 다른 인스턴스가 적용한 버전은 건너뜁니다.</p>
+     *
+     * @param migrations 마이그레이션 목록
+     * @return 이번에 적용한 마이그레이션 수
+     * @throws IllegalStateException 락을 제한 시간 안에 얻지 못한 경우
+     */
+    fun migrate(migrations: List<Migration>): Int {
+        val startedAt = System.nanoTime()
+        val duplicated = migrations.groupBy { it.version }.filterValues { it.size > 1 }.keys
+        check(duplicated.isEmpty()) { "마이그레이션 버전이 중복되었습니다: $duplicated" }
+
+        val applied = dataSource.connection.use { connection ->
+            val history = readHistory(connection)
+            if (history != null) {
+                verifyChecksums(migrations, history)
+                if (migrations.all { it.version in history }) return@use 0
+            }
+
+            withLock(connection) {
+                val locked = readHistory(connection) ?: createHistoryTable(connection)
+                verifyChecksums(migrations, locked)
+
+                migrations.sortedBy { it.version }
+                    .filter { it.version !in locked }
+                    .onEach { apply(connection, it) }
+                    .size
+            }
+        }
+
+        log.info { "스키마 마이그레이션 완료: 적용 ${applied}개, ${(System.nanoTime() - startedAt) / 1_000_000}ms" }
+        return applied
+    }
+
+    /**
+     * classpath에서 마이그레이션 스크립트를 읽습니다.
+     */
+    fun loadMigrations(): List<Migration> =
+        PathMatchingResourcePatternResolver().getResources("${location}V*__*.sql")
+            .mapNotNull { resource -> toMigration(resource) }
+            .sortedBy { it.version }
+
+    private fun toMigration(resource: Resource): Migration? {
+        val match = resource.filename?.let { FILE_NAME.matchEntire(it) } ?: return null
+        val script = resource.inputStream.use { it.readBytes().toString(Charsets.UTF_8) }
+        return Migration(match.groupValues[1].toInt(), match.groupValues[2].replace('_', ' '), script)
+    }
+
+    /**
+     * 적용 이력을 조회합니다. 이력 테이블이 없으면 null을 반환합니다.
+     *
+     * @return 버전별 체크섬
+     */
+    private fun readHistory(connection: Connection): Map<Int, String>? =
+        try {
+            connection.createStatement().use { statement ->
+                statement.executeQuery("SELECT version, checksum FROM $HISTORY_TABLE").use { rs ->
+                    buildMap { while (rs.next()) put(rs.getInt(1), rs.getString(2)) }
+                }
+            }
+        } catch (e: SQLException) {
+            log.debug(e) { "$HISTORY_TABLE 테이블이 없어 새로 만듭니다." }
+            null
+        }
+
+    /**
+     * 마이그레이션 락을 잡은 채로 [block]을 실행합니다.
+     *
+     * <p>MariaDB는 DDL마다 자동 커밋하므로 같은 커넥션의 행 락은 첫 DDL에서 풀립니다.
+     * 그래서 MariaDB/MySQL에서는 커밋과 무관하게 세션이 끝날 때까지 유지되는 GET_LOCK을 사용합니다.</p>
+     */
+    private fun <T> withLock(connection: Connection, block: () -> T): T {
+        val product = connection.metaData.databaseProductName
+        return if (product.contains("MariaDB", ignoreCase = true) || product.contains("MySQL", ignoreCase = true)) {
+            withNamedLock(connection, block)
+        } else {
+            withLockRow(block)
+        }
+    }
+
+    private fun <T> withNamedLock(connection: Connection, block: () -> T): T {
+        val acquired = connection.prepareStatement("SELECT GET_LOCK(?, ?)").use { statement ->
+            statement.setString(1, LOCK_NAME)
+            statement.setInt(2, lockTimeoutSeconds)
+            statement.executeQuery().use { rs -> rs.next() && rs.getInt(1) == 1 }
+        }
+        check(acquired) { "스키마 마이그레이션 락($LOCK_NAME)을 ${lockTimeoutSeconds}초 안에 얻지 못했습니다." }
+
+        try {
+            return block()
+        } finally {
+            connection.prepareStatement("SELECT RELEASE_LOCK(?)").use { statement ->
+                statement.setString(1, LOCK_NAME)
+                statement.executeQuery().close()
+            }
+        }
+    }
+
+    /**
+     * 별도 커넥션의 트랜잭션에서 락 행을 SELECT ... FOR UPDATE로 잡은 채 [block]을 실행합니다.
+     * 마이그레이션 커넥션의 DDL이 커밋되어도 락은 이 커넥션을 롤백할 때까지 유지됩니다.
+     */
+    private fun <T> withLockRow(block: () -> T): T =
+        dataSource.connection.use { lockConnection ->
+            lockConnection.createStatement().use { statement ->
+                statement.execute("CREATE TABLE IF NOT EXISTS $LOCK_TABLE (id INT NOT NULL PRIMARY KEY)")
+            }
+            try {
+                lockConnection.createStatement().use { it.executeUpdate("INSERT INTO $LOCK_TABLE (id) VALUES (1)") }
+            } catch (e: SQLException) {
+                log.debug(e) { "$LOCK_TABLE 락 행이 이미 있습니다." }
+            }
+
+            lockConnection.autoCommit = false
+            try {
+                lockConnection.createStatement().use { statement ->
+                    statement.queryTimeout = lockTimeoutSeconds
+                    statement.executeQuery("SELECT id FROM $LOCK_TABLE WHERE id = 1 FOR UPDATE").close()
+                }
+                block()
+            } finally {
+                lockConnection.rollback()
+                lockConnection.autoCommit = true
+            }
+        }
+
+    private fun createHistoryTable(connection: Connection): Map<Int, String> {
+        connection.createStatement().use { statement ->
+            statement.execute(
+                """
+                CREATE TABLE IF NOT EXISTS $HISTORY_TABLE (
+                    version INT NOT NULL PRIMARY KEY,
+                    description VARCHAR(200) NOT NULL,
+                    checksum VARCHAR(64) NOT NULL,
+                    applied_at DATETIME(6) NOT NULL,
+                    execution_ms BIGINT NOT NULL
+                )
+                """.trimIndent()
+            )
+        }
+        return emptyMap()
+    }
+
+    private fun verifyChecksums(migrations: List<Migration>, history: Map<Int, String>) {
+        migrations.forEach { migration ->
+            val recorded = history[migration.version] ?: return@forEach
+            check(recorded == migration.checksum) {
+                "이미 적용된 마이그레이션 V${migration.version}(${migration.description})의 내용이 바뀌었습니다. " +
+                    "적용된 스크립트는 수정하지 말고 새 버전으로 추가하세요. (기록: $recorded, 현재: ${migration.checksum})"
+            }
+        }
+    }
+
+    /**
+     * 마이그레이션 하나를 실행하고 이력을 남깁니다.
+     *
+     * <p>MariaDB는 DDL마다 자동 커밋하므로 스크립트 단위 롤백은 없습니다.
+     * 중간에 실패해도 다시 실행할 수 있도록 스크립트는 IF NOT EXISTS로 작성합니다.</p>
+     */
+    private fun apply(connection: Connection, migration: Migration) {
+        val startedAt = System.nanoTime()
+        log.info { "마이그레이션 적용: V${migration.version} ${migration.description}" }
+
+        connection.createStatement().use { statement ->
+            migration.statements().forEach { statement.execute(it) }
+        }
+
+        val elapsedMs = (System.nanoTime() - startedAt) / 1_000_000
+        connection.prepareStatement(
+            "INSERT INTO $HISTORY_TABLE (version, description, checksum, applied_at, execution_ms) VALUES (?, ?, ?, ?, ?)"
+        ).use { insert ->
+            insert.setInt(1, migration.version)
+            insert.setString(2, migration.description)
+            insert.setString(3, migration.checksum)
+            insert.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()))
+            insert.setLong(5, elapsedMs)
+            insert.executeUpdate()
+        }
+    }
+}
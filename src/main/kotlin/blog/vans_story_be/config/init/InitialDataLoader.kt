@@ -6,9 +6,7 @@ import mu.KotlinLogging
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.boot.CommandLineRunner
 import org.springframework.stereotype.Component
-import org.jetbrains.exposed.sql.Database
 import org.jetbrains.exposed.sql.transactions.transaction
-import javax.sql.DataSource
 
 /**
  * 초기 데이터 로더 클래스입니다.
@@ -51,8 +49,7 @@ import javax.sql.DataSource
  */
 @Component
 class InitialDataLoader(
-    private val userService: UserService,
-    private val dataSource: DataSource
+    private val userService: UserService
 ) : CommandLineRunner {
     companion object {
         private val log = KotlinLogging.logger {}
@@ -111,8 +108,6 @@ class InitialDataLoader(
      */
     override fun run(vararg args: String) {
         runCatching {
-            // Exposed Database 연결 설정
-            Database.connect(dataSource)
             initializeData()
         }.onFailure { e ->
             log.error(e) { "초기 데이터 로드 중 상세 오류: ${e.message}" }
@@ -0,0 +1,143 @@
+package blog.vans_story_be.config.security
+
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import mu.KotlinLogging
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import org.springframework.security.crypto.password.PasswordEncoder
+
+/**
+ * 현재 하드웨어에 맞춰 BCrypt cost를 정하고, 해싱을 전용 실행기에서 수행하는 PasswordEncoder입니다.
+ *
+ * <p>기동 시 최소 cost로 해시 시간을 측정한 뒤, cost가 1 오를 때마다 시간이 두 배가 되는 점을 이용해
+ * 목표 시간([PasswordHashingProperties.targetMs])을 넘지 않는 가장 큰 cost를 선택합니다.
+ * 저장된 해시의 cost가 현재 cost보다 낮으면 [upgradeEncoding]이 true를 반환하여,
+ * 로그인 성공 시 DaoAuthenticationProvider가 새 cost로 다시 해싱하고
+ * [CustomUserDetailsService.updatePassword]로 저장합니다.</p>
+ *
+ * <p>선택한 cost의 예상 해시 시간은 [PasswordHashingExecutor]에 함께 전달되어,
+ * 제한 시간 안에 끝나지 않을 요청을 대기열에 넣기 전에 거절하는 데 사용됩니다.</p>
+ *
+ * <h4>메트릭:</h4>
+ * <ul>
+ *   <li>password.hash.cost: 현재 사용 중인 BCrypt cost</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see PasswordHashingExecutor
+ * @see PasswordHashingProperties
+ */
+class CalibratedPasswordEncoder(
+    properties: PasswordHashingProperties,
+    private val executor: PasswordHashingExecutor,
+    meterRegistry: MeterRegistry
+) : PasswordEncoder {
+
+    companion object {
+        private val logger = KotlinLogging.logger {}
+        private const val CALIBRATION_SAMPLES = 3
+        private const val CALIBRATION_PASSWORD = "calibration-Password1!"
+    }
+
+    /**
+     * 보정 결과입니다.
+     *
+     * @property cost 선택된 cost
+     * @property hashNanos 선택된 cost의 예상 해시 1회 시간
+     */
+    private class Calibration(val cost: Int, val hashNanos: Long)
+
+    private val calibration: Calibration = properties.fixedCost.takeIf { it > 0 }
+        ?.let { fixedCost -> estimate(fixedCost, properties.minCost) }
+        ?: calibrate(properties)
+
+    /**
+     * 현재 사용 중인 BCrypt cost입니다.
+     */
+    val cost: Int = calibration.cost
+
+    /**
+     * 현재 cost의 예상 해시 1회 시간(나노초)입니다.
+     */
+    val expectedHashNanos: Long = calibration.hashNanos
+
+    private val delegate = BCryptPasswordEncoder(cost)
+
+    init {
+        Gauge.builder("password.hash.cost") { cost }
+            .description("현재 BCrypt cost")
+            .register(meterRegistry)
+    }
+
+    override fun encode(rawPassword: CharSequence): String =
+        executor.execute(PasswordHashingExecutor.Operation.ENCODE, expectedHashNanos) { delegate.encode(rawPassword) }
+
+    override fun matches(rawPassword: CharSequence, encodedPassword: String?): Boolean =
+        executor.execute(PasswordHashingExecutor.Operation.MATCHES, expectedHashNanos) { delegate.matches(rawPassword, encodedPassword) }
+
+    /**
+     * 저장된 해시의 cost가 현재 cost보다 낮은지 확인합니다.
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 다시 해싱해야 하면 true
+     */
+    override fun upgradeEncoding(encodedPassword: String?): Boolean =
+        delegate.upgradeEncoding(encodedPassword)
+
+    /**
+     * 목표 해시 시간에 맞는 cost를 계산합니다.
+     *
+     * <p>최소 cost에서 여러 번 측정한 값 중 가장 짧은 시간을 기준으로 삼아
+     * JIT 준비나 다른 작업의 간섭을 줄입니다.</p>
+     *
+     * @param properties 해싱 설정
+     * @return 선택된 cost와 예상 해시 시간
+     */
+    private fun calibrate(properties: PasswordHashingProperties): Calibration {
+        val baselineNanos = measure(properties.minCost)
+
+        val targetNanos = properties.targetMs * 1_000_000
+        var selected = properties.minCost
+        var estimatedNanos = baselineNanos
+        while (selected < properties.maxCost && estimatedNanos * 2 <= targetNanos) {
+            selected++
+            estimatedNanos *= 2
+        }
+
+        logger.info {
+            "BCrypt cost 보정 완료 - cost: $selected, 예상 해시 시간: ${estimatedNanos / 1_000_000}ms " +
+                "(cost ${properties.minCost} 측정값: ${baselineNanos / 1_000_000}ms, 목표: ${properties.targetMs}ms)"
+        }
+        return Calibration(selected, estimatedNanos)
+    }
+
+    /**
+     * 고정 cost의 예상 해시 시간을 구합니다. 높은 cost를 직접 재지 않도록 더 낮은 cost에서 측정해 두 배씩 늘립니다.
+     *
+     * @param fixedCost 고정 cost
+     * @param minCost 측정에 쓸 cost의 상한
+     * @return 고정 cost와 예상 해시 시간
+     */
+    private fun estimate(fixedCost: Int, minCost: Int): Calibration {
+        val measuredCost = minOf(fixedCost, minCost)
+        val hashNanos = measure(measuredCost) shl (fixedCost - measuredCost)
+        logger.info { "BCrypt 고정 cost: $fixedCost, 예상 해시 시간: ${hashNanos / 1_000_000}ms" }
+        return Calibration(fixedCost, hashNanos)
+    }
+
+    /**
+     * 주어진 cost로 여러 번 해싱해 가장 짧은 시간을 반환합니다.
+     */
+    private fun measure(cost: Int): Long {
+        val encoder = BCryptPasswordEncoder(cost)
+        encoder.encode(CALIBRATION_PASSWORD)
+
+        return (1..CALIBRATION_SAMPLES).minOf {
+            val startedAt = System.nanoTime()
+            encoder.encode(CALIBRATION_PASSWORD)
+            System.nanoTime() - startedAt
+        }
+    }
+}
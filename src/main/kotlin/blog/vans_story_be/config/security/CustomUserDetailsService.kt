@@ -1,12 +1,12 @@
 package blog.vans_story_be.config.security
 
-import blog.vans_story_be.domain.user.entity.User
+import blog.vans_story_be.domain.user.dto.UserCredentials
 import blog.vans_story_be.domain.user.repository.UserRepository
 import blog.vans_story_be.global.exception.CustomException
 import mu.KotlinLogging
 import org.jetbrains.exposed.sql.transactions.transaction
-import org.springframework.security.core.authority.SimpleGrantedAuthority
 import org.springframework.security.core.userdetails.UserDetails
+import org.springframework.security.core.userdetails.UserDetailsPasswordService
 import org.springframework.security.core.userdetails.UserDetailsService
 import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.stereotype.Service
@@ -19,15 +19,16 @@ import org.springframework.stereotype.Service
  * 
  * <h3>주요 기능:</h3>
  * <ul>
- *   <li>이메일 기반 사용자 조회</li>
- *   <li>User 엔티티를 UserDetails로 변환</li>
+ *   <li>이메일 기반 사용자 조회 (인증에 필요한 컬럼만 조회)</li>
+ *   <li>조회 결과를 UserDetails로 변환</li>
  *   <li>사용자 권한 정보 관리</li>
+ *   <li>오래된 BCrypt cost로 저장된 비밀번호의 재해싱 결과 저장</li>
  * </ul>
  * 
  * <h3>인증 프로세스:</h3>
  * <ol>
- *   <li>사용자 이메일로 데이터베이스 조회</li>
- *   <li>User 엔티티를 UserDetails 객체로 변환</li>
+ *   <li>사용자 이메일로 id, email, password, role만 조회 (쿼리 1회)</li>
+ *   <li>조회 결과를 UserDetails 객체로 변환</li>
  *   <li>사용자 권한 정보 설정</li>
  *   <li>인증 실패 시 예외 발생</li>
  * </ol>
@@ -43,13 +44,13 @@ import org.springframework.stereotype.Service
  * @version 1.0.0
  * @since 2025.06.07
  * @see org.springframework.security.core.userdetails.UserDetailsService
- * @see blog.vans_story_be.domain.user.entity.User
+ * @see blog.vans_story_be.domain.user.dto.UserCredentials
  * @see blog.vans_story_be.domain.user.repository.UserRepository
  */
 @Service
 class CustomUserDetailsService(
     private val userRepository: UserRepository
-) : UserDetailsService {
+) : UserDetailsService, UserDetailsPasswordService {
     
     private val logger = KotlinLogging.logger {}
 
@@ -59,10 +60,13 @@ class CustomUserDetailsService(
      * <p>이 메서드는 Spring Security의 인증 프로세스에서 호출되며,
      * 사용자 인증에 필요한 모든 정보를 로드합니다.</p>
      * 
+     * <p>로그인마다 호출되므로 DAO 엔티티를 만들지 않고 인증에 필요한 네 컬럼만
+     * 프로젝션 쿼리 한 번으로 읽습니다.</p>
+     * 
      * <h4>처리 과정:</h4>
      * <ol>
-     *   <li>이메일로 사용자 조회</li>
-     *   <li>User 엔티티를 UserDetails로 변환</li>
+     *   <li>이메일로 인증 정보 조회</li>
+     *   <li>조회 결과를 UserDetails로 변환</li>
      *   <li>사용자를 찾을 수 없는 경우 예외 발생</li>
      * </ol>
      * 
@@ -78,23 +82,39 @@ class CustomUserDetailsService(
      */
     override fun loadUserByUsername(email: String): UserDetails {
         logger.info { "사용자 조회 시도: $email" }
-        return transaction {
-            userRepository.findByEmail(email)
-                .map { user ->
-                    logger.info { "사용자 발견: ${user.email}, 역할: ${user.role}" }
-                    createUserDetails(user)
-                }
-                .orElseThrow { 
-                    logger.error { "사용자를 찾을 수 없습니다: $email" }
-                    CustomException("사용자를 찾을 수 없습니다.") 
-                }
+        val credentials = transaction { userRepository.findCredentialsByEmail(email) }
+            ?: run {
+                logger.error { "사용자를 찾을 수 없습니다: $email" }
+                throw CustomException("사용자를 찾을 수 없습니다.")
+            }
+        logger.info { "사용자 발견: ${credentials.email}, 역할: ${credentials.role}" }
+        return createUserDetails(credentials)
+    }
+
+    /**
+     * 로그인 성공 후 더 높은 BCrypt cost로 다시 해싱한 비밀번호를 저장합니다.
+     *
+     * <p>DaoAuthenticationProvider가 [CalibratedPasswordEncoder.upgradeEncoding]이 true일 때 호출합니다.
+     * 비밀번호 자체는 바뀌지 않으므로 기존 토큰은 폐기하지 않습니다.</p>
+     *
+     * @param user 인증된 사용자 정보
+     * @param newPassword 새 cost로 해싱된 비밀번호
+     * @return 새 해시가 반영된 사용자 정보
+     */
+    override fun updatePassword(user: UserDetails, newPassword: String): UserDetails {
+        transaction {
+            userRepository.updatePasswordByEmail(user.username, newPassword)
         }
+        logger.info { "비밀번호 재해싱 완료: ${user.username}" }
+        return (user as? UserPrincipal)
+            ?.let { UserPrincipal(id = it.id, name = it.username, passwordHash = newPassword, role = it.role) }
+            ?: user
     }
 
     /**
-     * User 엔티티를 UserDetails 객체로 변환합니다.
+     * 로그인 인증 정보를 UserDetails 객체로 변환합니다.
      * 
-     * <p>이 메서드는 User 엔티티의 정보를 Spring Security가 이해할 수 있는
+     * <p>이 메서드는 조회된 인증 정보를 Spring Security가 이해할 수 있는
      * UserDetails 객체로 변환합니다.</p>
      * 
      * <h4>변환 정보:</h4>
@@ -111,16 +131,14 @@ class CustomUserDetailsService(
      *   <li>사용자 역할은 ROLE_ 접두사 없이 저장</li>
      * </ul>
      * 
-     * @param user User 엔티티
-     * @return UserDetails 객체
+     * @param credentials 로그인 인증 정보
+     * @return UserDetails 객체 ([UserPrincipal])
      */
-    private fun createUserDetails(user: User): UserDetails {
-        val authority = SimpleGrantedAuthority(user.role.name)
-
-        return org.springframework.security.core.userdetails.User.builder()
-            .username(user.email)
-            .password(user.password)
-            .authorities(setOf(authority))
-            .build()
-    }
+    private fun createUserDetails(credentials: UserCredentials): UserDetails =
+        UserPrincipal(
+            id = credentials.id,
+            name = credentials.email,
+            passwordHash = credentials.passwordHash,
+            role = credentials.role
+        )
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package blog.vans_story_be.config.security
+
+/**
+ * 비밀번호 해싱 실행기가 포화 상태여서 요청을 처리할 수 없을 때 발생하는 예외입니다.
+ *
+ * <p>[blog.vans_story_be.global.exception.GlobalExceptionHandler]에서 503 Service Unavailable과
+ * Retry-After 헤더로 응답합니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see PasswordHashingExecutor
+ */
+class PasswordHashingBusyException(
+    message: String = "요청이 많아 잠시 후 다시 시도해주세요."
+) : RuntimeException(message)
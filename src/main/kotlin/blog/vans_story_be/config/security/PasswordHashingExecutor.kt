@@ -0,0 +1,175 @@
+package blog.vans_story_be.config.security
+
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PreDestroy
+import mu.KotlinLogging
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory
+import org.springframework.stereotype.Component
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+/**
+ * BCrypt 해싱 전용 실행기입니다.
+ *
+ * <p>BCrypt는 의도적으로 CPU를 많이 사용하므로, 로그인이나 회원가입이 몰리면 Tomcat 워커 스레드가
+ * 해싱에 묶여 다른 API까지 응답하지 못하게 됩니다. 이 실행기는 해싱을 고정 크기 스레드 풀에서만 수행하고,
+ * 대기열이 가득 차면 기다리지 않고 [PasswordHashingBusyException]으로 즉시 거절합니다.</p>
+ *
+ * <h4>요청 스레드와 제한 시간:</h4>
+ * <ul>
+ *   <li>호출한 요청 스레드는 결과가 나올 때까지 최대 [PasswordHashingProperties.timeoutMs] 동안 기다립니다.
+ *       해싱 자체는 전용 스레드에서만 실행되지만, 기다리는 동안 요청 스레드는 반환되지 않습니다.</li>
+ *   <li>앞선 작업 수와 예상 해시 시간으로 완료 시각을 추정해, 제한 시간 안에 끝나지 않을 작업은 대기열에 넣기 전에 거절합니다.</li>
+ *   <li>시간이 초과되면 아직 대기열에 있는 작업만 취소됩니다. 이미 시작된 BCrypt는 중단할 수 없어 끝까지 실행되고 결과는 버려집니다.</li>
+ * </ul>
+ *
+ * <h4>메트릭:</h4>
+ * <ul>
+ *   <li>password.hash.duration (operation=encode|matches): 해시 1회 소요 시간 히스토그램</li>
+ *   <li>password.hash.queue.wait: 대기열에서 기다린 시간 히스토그램</li>
+ *   <li>password.hash.queue.size: 현재 대기열 길이</li>
+ *   <li>password.hash.rejected: 대기열 초과, 예상 완료 시각 초과 또는 시간 초과로 거절된 횟수</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see PasswordHashingProperties
+ * @see CalibratedPasswordEncoder
+ */
+@Component
+class PasswordHashingExecutor(
+    private val properties: PasswordHashingProperties,
+    meterRegistry: MeterRegistry
+) {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+        private const val METRIC_PREFIX = "password.hash"
+    }
+
+    /**
+     * 해싱 작업의 종류입니다. 메트릭 태그로 사용됩니다.
+     */
+    enum class Operation(val tag: String) {
+        ENCODE("encode"),
+        MATCHES("matches")
+    }
+
+    private val threads = properties.threads.takeIf { it > 0 } ?: Runtime.getRuntime().availableProcessors()
+    private val queue = ArrayBlockingQueue<Runnable>(properties.queueCapacity)
+
+    private val executor = ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        queue,
+        CustomizableThreadFactory("password-hash-"),
+        ThreadPoolExecutor.AbortPolicy()
+    )
+
+    private val durationTimers = Operation.entries.associateWith { operation ->
+        Timer.builder("$METRIC_PREFIX.duration")
+            .description("비밀번호 해시 1회 소요 시간")
+            .tag("operation", operation.tag)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+    }
+
+    private val queueWaitTimer = Timer.builder("$METRIC_PREFIX.queue.wait")
+        .description("비밀번호 해싱 대기열 대기 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+
+    private val rejectedCounter = Counter.builder("$METRIC_PREFIX.rejected")
+        .description("대기열 초과, 예상 완료 시각 초과 또는 시간 초과로 거절된 해싱 요청 수")
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("$METRIC_PREFIX.queue.size", queue) { it.size.toDouble() }
+            .description("비밀번호 해싱 대기열 길이")
+            .register(meterRegistry)
+        logger.info { "비밀번호 해싱 실행기 초기화 - threads: $threads, queueCapacity: ${properties.queueCapacity}" }
+    }
+
+    /**
+     * 해싱 작업을 전용 스레드에서 실행하고 결과를 기다립니다.
+     *
+     * <p>먼저 실행 중이거나 대기 중인 작업이 모두 끝난 뒤 이 작업이 끝나는 시각을 [expectedHashNanos]로 추정하고,
+     * 제한 시간을 넘으면 대기열에 넣지 않고 바로 거절합니다. 끝까지 기다려도 시간 초과로 버려질 작업에
+     * 해싱 스레드를 쓰지 않기 위해서입니다.</p>
+     *
+     * @param operation 작업 종류
+     * @param expectedHashNanos 보정된 해시 1회 예상 시간 (0이면 예상 완료 시각을 확인하지 않음)
+     * @param task 해싱 작업
+     * @return 작업 결과
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않는(않을) 경우
+     */
+    fun <T> execute(operation: Operation, expectedHashNanos: Long = 0L, task: () -> T): T {
+        if (expectedHashNanos > 0 && expectedCompletionNanos(expectedHashNanos) > properties.timeoutMs * 1_000_000) {
+            rejectedCounter.increment()
+            logger.warn { "비밀번호 해싱 예상 완료 시각이 제한 시간(${properties.timeoutMs}ms)을 넘어 요청을 거절했습니다. (queue: ${queue.size})" }
+            throw PasswordHashingBusyException()
+        }
+
+        val submittedAt = System.nanoTime()
+        val future = try {
+            executor.submit(Callable {
+                val startedAt = System.nanoTime()
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS)
+                try {
+                    task()
+                } finally {
+                    durationTimers.getValue(operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS)
+                }
+            })
+        } catch (e: RejectedExecutionException) {
+            rejectedCounter.increment()
+            logger.warn { "비밀번호 해싱 대기열 초과로 요청을 거절했습니다. (queue: ${queue.size})" }
+            throw PasswordHashingBusyException()
+        }
+
+        return try {
+            future.get(properties.timeoutMs, TimeUnit.MILLISECONDS)
+        } catch (e: TimeoutException) {
+            // 대기 중인 작업만 실행되지 않게 하며, 이미 시작된 해싱은 끝까지 실행됨
+            future.cancel(false)
+            rejectedCounter.increment()
+            logger.warn { "비밀번호 해싱 시간 초과 (${properties.timeoutMs}ms)" }
+            throw PasswordHashingBusyException()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        } catch (e: InterruptedException) {
+            future.cancel(false)
+            Thread.currentThread().interrupt()
+            throw PasswordHashingBusyException()
+        }
+    }
+
+    /**
+     * 지금 제출한 작업이 끝날 때까지 걸릴 시간을 추정합니다.
+     *
+     * <p>앞선 작업(실행 중 + 대기 중)을 스레드 수로 나눈 만큼의 해시가 먼저 끝나야 이 작업이 시작됩니다.
+     * 실행 중인 작업의 남은 시간은 알 수 없으므로 한 번의 해시 전체로 계산합니다.</p>
+     */
+    private fun expectedCompletionNanos(expectedHashNanos: Long): Long {
+        val ahead = queue.size + executor.activeCount
+        return (ahead / threads + 1) * expectedHashNanos
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행기를 정리합니다.
+     */
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdown()
+    }
+}
@@ -0,0 +1,77 @@
+package blog.vans_story_be.config.security
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * 비밀번호 해싱 설정 값을 관리하는 클래스입니다.
+ *
+ * <p>BCrypt 해싱 전용 실행기의 크기와 대기열 한도, 그리고 BCrypt cost 보정 기준을 환경변수로 설정합니다.</p>
+ *
+ * <h4>설정 항목 (환경변수):</h4>
+ * <ul>
+ *   <li>VANS_BLOG_PASSWORD_HASH_THREADS: 해싱 스레드 수 (기본값: CPU 코어 수)</li>
+ *   <li>VANS_BLOG_PASSWORD_HASH_QUEUE_CAPACITY: 대기열 최대 길이, 초과 시 즉시 거절 (기본값: 16)</li>
+ *   <li>VANS_BLOG_PASSWORD_HASH_TIMEOUT_MS: 해싱 결과를 기다리는 최대 시간 (기본값: 5000)</li>
+ *   <li>VANS_BLOG_PASSWORD_HASH_TARGET_MS: cost 보정 시 목표로 하는 해시 1회 시간 (기본값: 250)</li>
+ *   <li>VANS_BLOG_PASSWORD_HASH_MIN_COST: 보정 결과의 하한 (기본값: 10, BCrypt 기본값)</li>
+ *   <li>VANS_BLOG_PASSWORD_HASH_MAX_COST: 보정 결과의 상한 (기본값: 14)</li>
+ *   <li>VANS_BLOG_PASSWORD_HASH_COST: 고정 cost, 0이면 기동 시 보정 (기본값: 0)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see PasswordHashingExecutor
+ * @see CalibratedPasswordEncoder
+ */
+@Component
+class PasswordHashingProperties {
+    /**
+     * 해싱 전용 스레드 수입니다. 0이면 CPU 코어 수를 사용합니다.
+     */
+    @Value("\${VANS_BLOG_PASSWORD_HASH_THREADS:0}")
+    var threads: Int = 0
+
+    /**
+     * 실행 대기열의 최대 길이입니다.
+     *
+     * <p>대기열이 가득 차면 작업을 기다리게 하지 않고 즉시 거절하여
+     * 로그인 폭주 중에도 Tomcat 스레드가 다른 요청을 처리할 수 있게 합니다.</p>
+     */
+    @Value("\${VANS_BLOG_PASSWORD_HASH_QUEUE_CAPACITY:16}")
+    var queueCapacity: Int = 16
+
+    /**
+     * 요청 스레드가 해싱 결과를 기다리는 최대 시간(밀리초)입니다.
+     *
+     * <p>예상 완료 시각이 이 시간을 넘는 요청은 대기열에 넣기 전에 거절합니다.
+     * 이미 시작된 해싱은 시간이 초과되어도 중단되지 않습니다.</p>
+     */
+    @Value("\${VANS_BLOG_PASSWORD_HASH_TIMEOUT_MS:5000}")
+    var timeoutMs: Long = 5000L
+
+    /**
+     * cost 보정 시 목표로 하는 해시 1회 소요 시간(밀리초)입니다.
+     */
+    @Value("\${VANS_BLOG_PASSWORD_HASH_TARGET_MS:250}")
+    var targetMs: Long = 250L
+
+    /**
+     * 보정 결과의 하한입니다. 기존 해시의 강도를 낮추지 않도록 BCrypt 기본값(10)을 사용합니다.
+     */
+    @Value("\${VANS_BLOG_PASSWORD_HASH_MIN_COST:10}")
+    var minCost: Int = 10
+
+    /**
+     * 보정 결과의 상한입니다.
+     */
+    @Value("\${VANS_BLOG_PASSWORD_HASH_MAX_COST:14}")
+    var maxCost: Int = 14
+
+    /**
+     * 고정 cost입니다. 0이면 기동 시 하드웨어에 맞춰 보정합니다.
+     */
+    @Value("\${VANS_BLOG_PASSWORD_HASH_COST:0}")
+    var fixedCost: Int = 0
+}
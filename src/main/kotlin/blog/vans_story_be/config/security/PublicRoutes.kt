@@ -0,0 +1,90 @@
+package blog.vans_story_be.config.security
+
+import jakarta.servlet.http.HttpServletRequest
+import org.springframework.security.web.util.matcher.RequestMatcher
+
+/**
+ * 인증 없이 접근할 수 있는 경로 목록입니다.
+ *
+ * <p>[SecurityConfig]의 인가 규칙과 [blog.vans_story_be.domain.auth.jwt.JwtFilter]의 토큰 처리 생략 여부가
+ * 같은 목록을 사용하도록 한 곳에 모았습니다. 경로는 기동 시 한 번 정리되며, 요청마다 정규식이나
+ * 문자열 생성 없이 requestURI의 해당 구간을 직접 비교합니다.</p>
+ *
+ * <h4>경로 종류:</h4>
+ * <ul>
+ *   <li>정적/프로브 경로 ([STATIC]): Swagger UI, API 문서, 헬스 체크. 인증 정보가 필요 없으므로
+ *       필터를 최소화한 별도 SecurityFilterChain에서 처리합니다.</li>
+ *   <li>공개 API 경로 ([PUBLIC]): 로그인, 회원가입 등. 기본 SecurityFilterChain에서 permitAll로 허용되며
+ *       JwtFilter가 토큰을 해석하지 않습니다.</li>
+ * </ul>
+ *
+ * <h4>경로 표기:</h4>
+ * <ul>
+ *   <li>"/a/b": 정확히 일치하는 경로</li>
+ *   <li>"/a/**": "/a" 자체와 "/a/"로 시작하는 모든 하위 경로 (Spring의 "/**"와 같은 의미)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see SecurityConfig
+ */
+object PublicRoutes {
+
+    /**
+     * 정적 리소스와 헬스 체크 경로입니다.
+     */
+    val STATIC: RequestMatcher = RouteTable(
+        "/swagger-ui.html",
+        "/swagger-ui/**",
+        "/v3/api-docs/**",
+        "/actuator/health/**",
+        "/favicon.ico"
+    )
+
+    /**
+     * 인증 없이 호출할 수 있는 API 경로입니다.
+     */
+    val PUBLIC: RequestMatcher = RouteTable(
+        "/api/v1/auth/login",
+        "/api/v1/auth/signup",
+        "/api/v1/auth/refresh",
+        "/api/v1/auth/logout",
+        "/api/v1/oauth/login",
+        "/api/v1/oauth/exchange",
+        "/api/v1/users/email/**",
+        "/.well-known/jwks.json",
+        "/error"
+    )
+
+    /**
+     * 미리 정리된 경로 목록으로 요청을 판별하는 RequestMatcher입니다.
+     *
+     * <p>requestURI에서 context path 이후 구간만 regionMatches로 비교하므로 substring을 만들지 않습니다.
+     * 경로 정규화(".", "..", "//", ";")는 Spring Security의 StrictHttpFirewall이 먼저 거부합니다.</p>
+     */
+    private class RouteTable(vararg patterns: String) : RequestMatcher {
+        private val exact: Array<String> = patterns.filterNot { it.endsWith("/**") }.toTypedArray()
+        private val prefixes: Array<String> = patterns.filter { it.endsWith("/**") }
+            .map { it.removeSuffix("/**") }
+            .toTypedArray()
+
+        override fun matches(request: HttpServletRequest): Boolean {
+            val uri = request.requestURI ?: return false
+            val offset = request.contextPath?.length ?: 0
+            val length = uri.length - offset
+
+            for (path in exact) {
+                if (length == path.length && uri.regionMatches(offset, path, 0, path.length)) return true
+            }
+            for (prefix in prefixes) {
+                if (length < prefix.length || !uri.regionMatches(offset, prefix, 0, prefix.length)) continue
+                // "/a/**"는 "/a"와 "/a/..."에만 일치하고 "/ab"에는 일치하지 않음
+                if (length == prefix.length || uri[offset + prefix.length] == '/') return true
+            }
+            return false
+        }
+
+        override fun toString(): String = "RouteTable(exact=${exact.toList()}, prefixes=${prefixes.toList()})"
+    }
+}
@@ -1,16 +1,25 @@
 package blog.vans_story_be.config.security
 
+import blog.vans_story_be.config.security.ratelimit.AuthRateLimiter
+import blog.vans_story_be.config.security.ratelimit.RateLimitFilter
+import blog.vans_story_be.domain.auth.jwt.AccessTokenCache
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
 import blog.vans_story_be.domain.auth.jwt.JwtFilter
 import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import blog.vans_story_be.domain.user.entity.Role
 import blog.vans_story_be.domain.user.repository.UserRepository
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest
+import org.springframework.boot.actuate.health.HealthEndpoint
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.core.annotation.Order
 import org.springframework.security.authentication.AuthenticationManager
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration
 import org.springframework.security.config.annotation.web.builders.HttpSecurity
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity
 import org.springframework.security.config.http.SessionCreationPolicy
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
 import org.springframework.security.crypto.password.PasswordEncoder
 import org.springframework.security.web.SecurityFilterChain
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter
@@ -27,9 +36,13 @@ import org.springframework.web.cors.CorsConfigurationSource
  * - CSRF 보호 비활성화(REST API 특성상)
  *
  * @property jwtProvider JWT 토큰 발급 및 검증을 담당하는 Provider
+ * @property accessTokenCache 검증된 액세스 토큰 캐시
+ * @property tokenRevocationList 만료 전에 폐기된 토큰 목록
+ * @property authRateLimiter 인증 엔드포인트 요청 제한기
+ * @property objectMapper 요청 제한 응답 직렬화용 ObjectMapper
  * @property userRepository 사용자 정보 조회용 Repository (추후 커스텀 인증 로직에 활용 가능)
  * @property corsConfigurationSource CORS 정책을 제공하는 Bean
- * @constructor JWT Provider, UserRepository, CORS Source를 주입받아 생성
+ * @constructor JWT Provider, 액세스 토큰 캐시, UserRepository, CORS Source를 주입받아 생성
  * @author vans
  * @since 2025.06.07
  * @version 1.0.0
@@ -43,6 +56,16 @@ class SecurityConfig(
      * JWT 토큰 발급 및 검증을 담당하는 Provider
      */
     private val jwtProvider: JwtProvider,
+    /**
+     * 검증된 액세스 토큰 캐시
+     */
+    private val accessTokenCache: AccessTokenCache,
+    private val tokenRevocationList: TokenRevocationList,
+    /**
+     * 인증 엔드포인트 요청 제한기
+     */
+    private val authRateLimiter: AuthRateLimiter,
+    private val objectMapper: ObjectMapper,
     /**
      * 사용자 정보 조회용 Repository (추후 커스텀 인증 로직에 활용 가능)
      */
@@ -55,10 +78,20 @@ class SecurityConfig(
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder 빈을 생성합니다.
      *
+     * <p>BCrypt cost는 기동 시 하드웨어에 맞춰 보정되며, 해싱은 전용 실행기에서 수행됩니다.</p>
+     *
+     * @param properties 비밀번호 해싱 설정
+     * @param executor 비밀번호 해싱 전용 실행기
+     * @param meterRegistry 메트릭 레지스트리
      * @return [PasswordEncoder] BCrypt 해시 기반 인코더
+     * @see CalibratedPasswordEncoder
      */
     @Bean
-    fun passwordEncoder(): PasswordEncoder = BCryptPasswordEncoder()
+    fun passwordEncoder(
+        properties: PasswordHashingProperties,
+        executor: PasswordHashingExecutor,
+        meterRegistry: MeterRegistry
+    ): PasswordEncoder = CalibratedPasswordEncoder(properties, executor, meterRegistry)
 
     /**
      * 인증 관리자를 생성합니다.
@@ -72,11 +105,39 @@ class SecurityConfig(
     fun authenticationManager(config: AuthenticationConfiguration): AuthenticationManager =
         config.authenticationManager
 
+    /**
+     * 정적 리소스와 헬스 체크 경로 전용 보안 필터 체인을 구성합니다.
+     *
+     * <p>[PublicRoutes.STATIC] 경로는 인증 정보를 사용하지 않으므로 JWT 인증, 요청 제한, 인가,
+     * SecurityContext 저장, 익명 인증 등의 필터를 거치지 않고 보안 헤더만 적용합니다.
+     * 기본 체인보다 먼저 평가되도록 우선순위를 높게 둡니다.</p>
+     *
+     * @param http [HttpSecurity] 보안 설정 객체
+     * @return [SecurityFilterChain] 정적/프로브 경로 전용 필터 체인
+     * @throws Exception 보안 설정 실패 시 예외 발생
+     * @see PublicRoutes
+     */
+    @Bean
+    @Order(1)
+    @Throws(Exception::class)
+    fun staticResourceFilterChain(http: HttpSecurity): SecurityFilterChain = http
+        .securityMatcher(PublicRoutes.STATIC)
+        .csrf { it.disable() }
+        .requestCache { it.disable() }
+        .securityContext { it.disable() }
+        .sessionManagement { it.disable() }
+        .anonymous { it.disable() }
+        .servletApi { it.disable() }
+        .logout { it.disable() }
+        .exceptionHandling { it.disable() }
+        .build()
+
     /**
      * Spring Security의 보안 필터 체인을 구성합니다.
      *
-     * - JWT 인증 필터([JwtFilter])를 UsernamePasswordAuthenticationFilter 앞에 추가
-     * - 인증이 필요 없는 엔드포인트는 permitAll로 허용
+     * - 요청 제한 필터([RateLimitFilter])와 JWT 인증 필터([JwtFilter])를 차례로 UsernamePasswordAuthenticationFilter 앞에 추가
+     * - 인증이 필요 없는 엔드포인트([PublicRoutes.PUBLIC])는 permitAll로 허용하며, JwtFilter는 이 경로의 토큰을 해석하지 않음
+     * - 헬스 체크를 제외한 Actuator 엔드포인트(/actuator/metrics 등)는 ADMIN 역할 필요
      * - 나머지 모든 요청은 인증 필요
      * - 세션은 STATELESS로 관리
      * - CORS, CSRF 정책 적용
@@ -85,27 +146,32 @@ class SecurityConfig(
      * @return [SecurityFilterChain] 보안 필터 체인 인스턴스
      * @throws Exception 보안 설정 실패 시 예외 발생
      * @see JwtFilter
+     * @see PublicRoutes
      * @see UsernamePasswordAuthenticationFilter
      * @see SessionCreationPolicy
      */
     @Bean
+    @Order(2)
     @Throws(Exception::class)
     fun securityFilterChain(http: HttpSecurity): SecurityFilterChain = http
         .cors { it.configurationSource(corsConfigurationSource) }
         .csrf { it.disable() }
         .authorizeHttpRequests { auth ->
             auth
-                .requestMatchers("/api/v1/auth/login", "/api/v1/auth/signup", "/api/v1/auth/refresh", "/api/v1/auth/logout").permitAll()
-                .requestMatchers("/api/v1/oauth/login", "/api/v1/oauth/exchange").permitAll()
-                .requestMatchers("/api/v1/users/email/**").permitAll()
-                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                .requestMatchers("/error").permitAll()
+                .requestMatchers(PublicRoutes.PUBLIC).permitAll()
+                // 캐시, 커넥션 풀, 요청 제한, JVM 메트릭은 관리자만 조회
+                .requestMatchers(EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint::class.java))
+                .hasRole(Role.ADMIN.name)
                 .anyRequest().authenticated()
         }
         .addFilterBefore(
-            JwtFilter(jwtProvider),
+            RateLimitFilter(authRateLimiter, objectMapper),
+            UsernamePasswordAuthenticationFilter::class.java
+        )
+        .addFilterBefore(
+            JwtFilter(jwtProvider, accessTokenCache, tokenRevocationList, PublicRoutes.PUBLIC),
             UsernamePasswordAuthenticationFilter::class.java
         )
         .sessionManagement { it.sessionCreationPolicy(SessionCreationPolicy.STATELESS) }
         .build()
-} 
\ No newline at end of file
+}
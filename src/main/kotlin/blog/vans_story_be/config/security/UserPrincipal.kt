@@ -0,0 +1,50 @@
+package blog.vans_story_be.config.security
+
+import blog.vans_story_be.domain.user.entity.Role
+import org.springframework.security.core.CredentialsContainer
+import org.springframework.security.core.GrantedAuthority
+import org.springframework.security.core.userdetails.UserDetails
+
+/**
+ * 인증된 사용자를 나타내는 Principal 클래스입니다.
+ *
+ * <p>Spring Security의 기본 User와 달리 권한 목록을 복사·정렬하지 않고
+ * [Role.authorities]에 미리 만들어 둔 불변 집합을 그대로 공유합니다.
+ * 따라서 JWT로부터 인증 정보를 만들 때 권한 객체를 새로 할당하지 않습니다.</p>
+ *
+ * <h4>필드 설명:</h4>
+ * <ul>
+ *   <li>id: 사용자 ID (이메일 subject를 사용하는 기존 형식의 토큰에서는 null)</li>
+ *   <li>username: 사용자 식별 값 (기존 형식은 이메일, 압축 형식은 사용자 ID)</li>
+ *   <li>role: 사용자 역할 (알 수 없는 권한 문자열을 가진 토큰에서는 null)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see CustomUserDetailsService
+ * @see blog.vans_story_be.domain.auth.jwt.JwtProvider
+ */
+class UserPrincipal(
+    val id: Long?,
+    private val name: String,
+    private var passwordHash: String?,
+    val role: Role?,
+    private val grantedAuthorities: Collection<GrantedAuthority> = role?.authorities ?: emptySet()
+) : UserDetails, CredentialsContainer {
+
+    override fun getAuthorities(): Collection<GrantedAuthority> = grantedAuthorities
+
+    override fun getPassword(): String? = passwordHash
+
+    override fun getUsername(): String = name
+
+    /**
+     * 인증 완료 후 비밀번호 해시를 메모리에서 제거합니다.
+     */
+    override fun eraseCredentials() {
+        passwordHash = null
+    }
+
+    override fun toString(): String = "UserPrincipal(id=$id, username='$name', role=$role)"
+}
@@ -0,0 +1,113 @@
+package blog.vans_story_be.config.security.ratelimit
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import mu.KotlinLogging
+import org.springframework.stereotype.Component
+import java.util.concurrent.TimeUnit
+
+/**
+ * 인증 엔드포인트의 요청 제한을 판단하는 클래스입니다.
+ *
+ * <p>클라이언트 IP와 로그인 이메일마다 [TokenBucket]을 하나씩 두고, 요청마다 토큰을 하나씩 사용합니다.
+ * 버킷은 크기가 제한된 Caffeine 캐시에 보관되며, 일정 시간 사용되지 않으면 제거됩니다.
+ * 판단은 DB 조회나 비밀번호 해싱보다 먼저 이루어지므로, 무차별 대입 공격이 와도
+ * 해싱 실행기와 커넥션 풀이 소모되지 않습니다.</p>
+ *
+ * <h4>메트릭:</h4>
+ * <ul>
+ *   <li>rate_limit.throttled (endpoint, key=ip|email): 제한된 요청 수</li>
+ *   <li>rate_limit.buckets (key=ip|email): 현재 보관 중인 버킷 수</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see RateLimitFilter
+ * @see RateLimitProperties
+ */
+@Component
+class AuthRateLimiter(
+    private val properties: RateLimitProperties,
+    private val meterRegistry: MeterRegistry
+) {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+        private const val METRIC_PREFIX = "rate_limit"
+    }
+
+    /**
+     * 버킷을 구분하는 키의 종류입니다. 메트릭 태그로 사용됩니다.
+     */
+    enum class KeyType(val tag: String) {
+        IP("ip"),
+        EMAIL("email")
+    }
+
+    private val ipBuckets = newBucketCache()
+    private val emailBuckets = newBucketCache()
+
+    init {
+        Gauge.builder("$METRIC_PREFIX.buckets", ipBuckets) { it.estimatedSize().toDouble() }
+            .description("보관 중인 요청 제한 버킷 수")
+            .tag("key", KeyType.IP.tag)
+            .register(meterRegistry)
+        Gauge.builder("$METRIC_PREFIX.buckets", emailBuckets) { it.estimatedSize().toDouble() }
+            .description("보관 중인 요청 제한 버킷 수")
+            .tag("key", KeyType.EMAIL.tag)
+            .register(meterRegistry)
+    }
+
+    /**
+     * 요청 제한 사용 여부입니다.
+     */
+    val enabled: Boolean
+        get() = properties.enabled
+
+    /**
+     * IP 기준으로 요청을 허용할지 판단합니다.
+     *
+     * @param endpoint 메트릭 태그로 사용할 엔드포인트 이름
+     * @param ip 클라이언트 IP
+     * @return 0이면 허용, 양수이면 다시 시도할 수 있을 때까지의 시간(나노초)
+     */
+    fun tryAcquireIp(endpoint: String, ip: String): Long =
+        tryAcquire(endpoint, KeyType.IP, ip)
+
+    /**
+     * 이메일 기준으로 로그인 시도를 허용할지 판단합니다.
+     *
+     * @param endpoint 메트릭 태그로 사용할 엔드포인트 이름
+     * @param email 로그인 이메일 (소문자로 정규화된 값)
+     * @return 0이면 허용, 양수이면 다시 시도할 수 있을 때까지의 시간(나노초)
+     */
+    fun tryAcquireEmail(endpoint: String, email: String): Long =
+        tryAcquire(endpoint, KeyType.EMAIL, email)
+
+    private fun tryAcquire(endpoint: String, type: KeyType, key: String): Long {
+        val bucket = when (type) {
+            KeyType.IP -> ipBuckets.get(key) { TokenBucket(properties.ipCapacity, properties.ipPerMinute) }
+            KeyType.EMAIL -> emailBuckets.get(key) { TokenBucket(properties.emailCapacity, properties.emailPerMinute) }
+        }
+        val waitNanos = bucket.tryConsume()
+        if (waitNanos > 0) {
+            // Counter.builder는 이미 등록된 미터를 반환하므로 태그 조합별로 하나만 생성됨
+            Counter.builder("$METRIC_PREFIX.throttled")
+                .description("요청 제한으로 거절된 요청 수")
+                .tag("endpoint", endpoint)
+                .tag("key", type.tag)
+                .register(meterRegistry)
+                .increment()
+            logger.debug { "요청 제한 - endpoint: $endpoint, ${type.tag}: $key, 대기: ${waitNanos / 1_000_000}ms" }
+        }
+        return waitNanos
+    }
+
+    private fun newBucketCache(): Cache<String, TokenBucket> = Caffeine.newBuilder()
+        .maximumSize(properties.maxKeys)
+        .expireAfterAccess(properties.idleSeconds, TimeUnit.SECONDS)
+        .build()
+}
@@ -0,0 +1,61 @@
+package blog.vans_story_be.config.security.ratelimit
+
+import jakarta.servlet.ReadListener
+import jakarta.servlet.ServletInputStream
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletRequestWrapper
+import java.io.BufferedReader
+import java.io.ByteArrayInputStream
+import java.io.IOException
+import java.io.InputStreamReader
+
+/**
+ * 미리 읽어 둔 요청 본문을 다시 제공하는 요청 래퍼입니다.
+ *
+ * <p>[RateLimitFilter]가 로그인 이메일을 확인하기 위해 본문을 읽은 뒤에도
+ * 컨트롤러가 같은 본문을 역직렬화할 수 있도록 합니다.</p>
+ *
+ * <p>본문이 이미 메모리에 있으므로 비동기 읽기([ReadListener])를 등록하면
+ * 곧바로 onDataAvailable, onAllDataRead 순서로 알립니다.</p>
+ *
+ * @param request 원본 요청
+ * @param body 미리 읽어 둔 본문
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+class CachedBodyHttpServletRequest(
+    request: HttpServletRequest,
+    private val body: ByteArray
+) : HttpServletRequestWrapper(request) {
+
+    override fun getInputStream(): ServletInputStream {
+        val input = ByteArrayInputStream(body)
+        return object : ServletInputStream() {
+            override fun read(): Int = input.read()
+
+            override fun read(b: ByteArray, off: Int, len: Int): Int = input.read(b, off, len)
+
+            override fun isFinished(): Boolean = input.available() == 0
+
+            override fun isReady(): Boolean = true
+
+            override fun setReadListener(listener: ReadListener) {
+                try {
+                    listener.onDataAvailable()
+                    listener.onAllDataRead()
+                } catch (e: IOException) {
+                    listener.onError(e)
+                }
+            }
+        }
+    }
+
+    override fun getReader(): BufferedReader =
+        BufferedReader(InputStreamReader(inputStream, characterEncoding ?: Charsets.UTF_8.name()))
+
+    override fun getContentLength(): Int = body.size
+
+    override fun getContentLengthLong(): Long = body.size.toLong()
+}
@@ -0,0 +1,111 @@
+package blog.vans_story_be.config.security.ratelimit
+
+import blog.vans_story_be.global.response.ApiResponse
+import com.fasterxml.jackson.databind.ObjectMapper
+import jakarta.servlet.FilterChain
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpMethod
+import org.springframework.http.HttpStatus
+import org.springframework.http.MediaType
+import org.springframework.web.filter.OncePerRequestFilter
+import java.util.Locale
+import java.util.concurrent.TimeUnit
+
+/**
+ * 인증 엔드포인트 앞에서 요청 수를 제한하는 필터입니다.
+ *
+ * <p>로그인, 토큰 갱신, OAuth 코드 교환 요청을 컨트롤러에 전달하기 전에 [AuthRateLimiter]로 판단하여,
+ * 제한을 넘으면 DB 조회나 비밀번호 해싱 없이 429 Too Many Requests와 Retry-After 헤더로 응답합니다.</p>
+ *
+ * <h4>제한 기준:</h4>
+ * <ul>
+ *   <li>POST /api/v1/auth/login: 클라이언트 IP + 요청 본문의 이메일</li>
+ *   <li>POST /api/v1/auth/refresh: 클라이언트 IP</li>
+ *   <li>POST /api/v1/oauth/exchange: 클라이언트 IP</li>
+ * </ul>
+ *
+ * <p>클라이언트 IP는 [HttpServletRequest.getRemoteAddr]를 사용합니다. 프록시 뒤에서는
+ * server.forward-headers-strategy 설정으로 신뢰할 수 있는 프록시의 X-Forwarded-For만 반영되므로,
+ * 클라이언트가 헤더를 위조해 제한을 우회할 수 없습니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see AuthRateLimiter
+ */
+class RateLimitFilter(
+    private val rateLimiter: AuthRateLimiter,
+    private val objectMapper: ObjectMapper
+) : OncePerRequestFilter() {
+
+    companion object {
+        private const val LOGIN_PATH = "/api/v1/auth/login"
+        private const val REFRESH_PATH = "/api/v1/auth/refresh"
+        private const val OAUTH_EXCHANGE_PATH = "/api/v1/oauth/exchange"
+
+        /** 로그인 요청 본문으로 허용하는 최대 크기 (이메일과 비밀번호만 포함) */
+        private const val MAX_LOGIN_BODY_BYTES = 4096
+        private const val THROTTLED_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+    }
+
+    override fun shouldNotFilter(request: HttpServletRequest): Boolean {
+        if (!rateLimiter.enabled || request.method != HttpMethod.POST.name()) return true
+        return endpointOf(request) == null
+    }
+
+    override fun doFilterInternal(
+        request: HttpServletRequest,
+        response: HttpServletResponse,
+        filterChain: FilterChain
+    ) {
+        val endpoint = endpointOf(request) ?: return filterChain.doFilter(request, response)
+
+        val ipWait = rateLimiter.tryAcquireIp(endpoint, request.remoteAddr)
+        if (ipWait > 0) return reject(response, ipWait)
+
+        if (endpoint != "login") return filterChain.doFilter(request, response)
+
+        val body = request.inputStream.readNBytes(MAX_LOGIN_BODY_BYTES + 1)
+        if (body.size > MAX_LOGIN_BODY_BYTES) {
+            response.status = HttpStatus.PAYLOAD_TOO_LARGE.value()
+            return
+        }
+        val email = extractEmail(body)
+        if (email != null) {
+            val emailWait = rateLimiter.tryAcquireEmail(endpoint, email)
+            if (emailWait > 0) return reject(response, emailWait)
+        }
+        filterChain.doFilter(CachedBodyHttpServletRequest(request, body), response)
+    }
+
+    private fun endpointOf(request: HttpServletRequest): String? =
+        when (request.servletPath) {
+            LOGIN_PATH -> "login"
+            REFRESH_PATH -> "refresh"
+            OAUTH_EXCHANGE_PATH -> "oauth_exchange"
+            else -> null
+        }
+
+    /**
+     * 로그인 요청 본문에서 이메일을 추출합니다.
+     *
+     * <p>본문이 올바르지 않으면 null을 반환하고, 검증 오류 응답은 컨트롤러에 맡깁니다.</p>
+     */
+    private fun extractEmail(body: ByteArray): String? =
+        runCatching { objectMapper.readTree(body)?.get("email")?.asText() }
+            .getOrNull()
+            ?.trim()
+            ?.lowercase(Locale.ROOT)
+            ?.takeIf { it.isNotEmpty() }
+
+    private fun reject(response: HttpServletResponse, waitNanos: Long) {
+        val retryAfterSeconds = (TimeUnit.NANOSECONDS.toMillis(waitNanos) + 999) / 1000
+        response.status = HttpStatus.TOO_MANY_REQUESTS.value()
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds.coerceAtLeast(1).toString())
+        response.contentType = MediaType.APPLICATION_JSON_VALUE
+        response.characterEncoding = Charsets.UTF_8.name()
+        objectMapper.writeValue(response.writer, ApiResponse.error<Unit>(THROTTLED_MESSAGE))
+    }
+}
@@ -0,0 +1,75 @@
+package blog.vans_story_be.config.security.ratelimit
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * 인증 엔드포인트 요청 제한 설정 값을 관리하는 클래스입니다.
+ *
+ * <p>로그인, 토큰 갱신, OAuth 코드 교환 요청을 클라이언트 IP별로, 로그인은 이메일별로도 제한합니다.
+ * 각 제한은 최대 연속 허용 횟수(capacity)와 분당 회복량(per minute)으로 지정합니다.</p>
+ *
+ * <h4>설정 항목 (환경변수):</h4>
+ * <ul>
+ *   <li>VANS_BLOG_RATE_LIMIT_ENABLED: 요청 제한 사용 여부 (기본값: true)</li>
+ *   <li>VANS_BLOG_RATE_LIMIT_IP_CAPACITY: IP별 최대 연속 요청 수 (기본값: 20)</li>
+ *   <li>VANS_BLOG_RATE_LIMIT_IP_PER_MINUTE: IP별 분당 회복 요청 수 (기본값: 20)</li>
+ *   <li>VANS_BLOG_RATE_LIMIT_EMAIL_CAPACITY: 이메일별 최대 연속 로그인 시도 수 (기본값: 5)</li>
+ *   <li>VANS_BLOG_RATE_LIMIT_EMAIL_PER_MINUTE: 이메일별 분당 회복 로그인 시도 수 (기본값: 5)</li>
+ *   <li>VANS_BLOG_RATE_LIMIT_MAX_KEYS: IP/이메일 각각 보관할 최대 버킷 수 (기본값: 10000)</li>
+ *   <li>VANS_BLOG_RATE_LIMIT_IDLE_SECONDS: 사용하지 않는 버킷을 제거할 시간(초) (기본값: 600)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see AuthRateLimiter
+ */
+@Component
+class RateLimitProperties {
+    /**
+     * 요청 제한 사용 여부입니다.
+     */
+    @Value("\${VANS_BLOG_RATE_LIMIT_ENABLED:true}")
+    var enabled: Boolean = true
+
+    /**
+     * IP별 최대 연속 요청 수입니다.
+     */
+    @Value("\${VANS_BLOG_RATE_LIMIT_IP_CAPACITY:20}")
+    var ipCapacity: Int = 20
+
+    /**
+     * IP별 분당 회복 요청 수입니다.
+     */
+    @Value("\${VANS_BLOG_RATE_LIMIT_IP_PER_MINUTE:20}")
+    var ipPerMinute: Int = 20
+
+    /**
+     * 이메일별 최대 연속 로그인 시도 수입니다.
+     */
+    @Value("\${VANS_BLOG_RATE_LIMIT_EMAIL_CAPACITY:5}")
+    var emailCapacity: Int = 5
+
+    /**
+     * 이메일별 분당 회복 로그인 시도 수입니다.
+     */
+    @Value("\${VANS_BLOG_RATE_LIMIT_EMAIL_PER_MINUTE:5}")
+    var emailPerMinute: Int = 5
+
+    /**
+     * IP/이메일 각각 보관할 최대 버킷 수입니다.
+     *
+     * <p>버킷 하나는 키 문자열과 AtomicLong 하나이므로 기본값 10,000개는 수 MB 이내입니다.</p>
+     */
+    @Value("\${VANS_BLOG_RATE_LIMIT_MAX_KEYS:10000}")
+    var maxKeys: Long = 10_000L
+
+    /**
+     * 마지막 요청 후 버킷을 제거할 시간(초)입니다.
+     *
+     * <p>버킷이 가득 찰 때까지 걸리는 시간보다 길어야 제거 후 다시 만들어져도 제한이 풀리지 않습니다.</p>
+     */
+    @Value("\${VANS_BLOG_RATE_LIMIT_IDLE_SECONDS:600}")
+    var idleSeconds: Long = 600L
+}
@@ -0,0 +1,45 @@
+package blog.vans_story_be.config.security.ratelimit
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 락 없이 동작하는 토큰 버킷입니다.
+ *
+ * <p>남은 토큰 수 대신 "다음 토큰이 도착하는 이론상 시각" 하나만 AtomicLong으로 보관하는
+ * GCRA(Generic Cell Rate Algorithm) 방식입니다. 최대 [capacity]번까지 연속으로 허용하고,
+ * 이후에는 분당 [perMinute]회 속도로 회복합니다. 상태 갱신은 CAS 한 번이며 객체를 만들지 않습니다.</p>
+ *
+ * @param capacity 최대 연속 허용 횟수
+ * @param perMinute 분당 회복 횟수
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+class TokenBucket(
+    capacity: Int,
+    perMinute: Int
+) {
+    private val intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute.coerceAtLeast(1)
+    private val burstNanos = intervalNanos * capacity.coerceAtLeast(1)
+    private val theoreticalArrival = AtomicLong(System.nanoTime())
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     * @return 0이면 허용, 양수이면 다음 요청이 허용될 때까지 기다려야 하는 시간(나노초)
+     */
+    fun tryConsume(now: Long = System.nanoTime()): Long {
+        while (true) {
+            val current = theoreticalArrival.get()
+            // nanoTime은 음수일 수 있으므로 차이로 비교
+            val base = if (current - now > 0) current else now
+            val next = base + intervalNanos
+            val waitNanos = next - burstNanos - now
+            if (waitNanos > 0) return waitNanos
+            if (theoreticalArrival.compareAndSet(current, next)) return 0L
+        }
+    }
+}
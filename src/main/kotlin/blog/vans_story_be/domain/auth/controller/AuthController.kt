@@ -154,9 +154,11 @@ class AuthController(
      * 사용자 로그아웃을 처리합니다.
      *
      * 처리 과정:
-     * 1. Refresh Token 쿠키 만료 처리
-     * 2. 로그아웃 이벤트 로깅
+     * 1. Refresh Token 계열 폐기 (쿠키가 있는 경우)
+     * 2. Refresh Token 쿠키 만료 처리
+     * 3. 로그아웃 이벤트 로깅
      *
+     * @param refreshToken 쿠키에서 추출한 Refresh Token (없으면 null)
      * @param response HTTP 응답 객체 (쿠키 만료에 사용)
      * @return 로그아웃 성공 응답
      *
@@ -164,6 +166,7 @@ class AuthController(
      * ```kotlin
      * // 클라이언트 측 요청 예시
      * // POST /api/v1/auth/logout
+     * // Cookie: refreshToken=eyJhbGciOiJIUzI1NiIs...
      * 
      * // 서버 응답 예시
      * // HTTP/1.1 200 OK
@@ -175,8 +178,11 @@ class AuthController(
         description = "사용자 로그아웃을 처리하고 Refresh Token을 만료시킵니다."
     )
     @PostMapping("/logout")
-    fun logout(response: HttpServletResponse): ResponseEntity<ApiResponse<Nothing?>> = withLogging("로그아웃") {
-        authService.logout(response)
+    fun logout(
+        @CookieValue(name = "refreshToken", required = false) refreshToken: String?,
+        response: HttpServletResponse
+    ): ResponseEntity<ApiResponse<Nothing?>> = withLogging("로그아웃") {
+        authService.logout(refreshToken, response)
         ResponseEntity.noContent().build()
     }
 
@@ -0,0 +1,66 @@
+package blog.vans_story_be.domain.auth.controller
+
+import blog.vans_story_be.domain.auth.jwt.JwtKeyRing
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.tags.Tag
+import org.springframework.http.CacheControl
+import org.springframework.http.MediaType
+import org.springframework.http.ResponseEntity
+import org.springframework.web.bind.annotation.GetMapping
+import org.springframework.web.bind.annotation.RestController
+import java.time.Duration
+
+/**
+ * JWT 검증용 공개키를 제공하는 컨트롤러
+ *
+ * 주요 기능:
+ * - 현재 유효한 서명 검증 공개키를 JWK Set(RFC 7517) 형식으로 공개
+ *
+ * API 엔드포인트:
+ * - GET /.well-known/jwks.json: 공개키 목록 조회
+ *
+ * 엣지 프록시나 다른 서비스는 이 공개키로 토큰을 직접 검증할 수 있습니다.
+ * 표준 형식을 따르기 위해 ApiResponse로 감싸지 않고 JWK Set을 그대로 반환합니다.
+ * HS512(기본값)를 사용할 때는 빈 목록을 반환합니다.
+ *
+ * @property jwtKeyRing 서명/검증 키를 관리하는 키 링
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+@RestController
+@Tag(name = "Auth", description = "인증 API")
+class JwksController(
+    private val jwtKeyRing: JwtKeyRing
+) {
+    companion object {
+        /** 키 교체 주기보다 충분히 짧게 유지하여 새 kid가 빠르게 전파되도록 합니다. */
+        private val CACHE_MAX_AGE: Duration = Duration.ofMinutes(5)
+    }
+
+    /**
+     * 서명 검증 공개키 목록을 조회합니다.
+     *
+     * @return JWK Set
+     *
+     * 사용 예시:
+     * ```json
+     * // GET /.well-known/jwks.json
+     * {
+     *   "keys": [
+     *     { "kty": "OKP", "crv": "Ed25519", "alg": "EdDSA", "use": "sig", "kid": "3q2-7w...", "x": "11qYAYKx..." }
+     *   ]
+     * }
+     * ```
+     */
+    @Operation(
+        summary = "JWKS 공개키 조회",
+        description = "JWT 서명 검증에 사용할 공개키 목록을 JWK Set 형식으로 조회합니다."
+    )
+    @GetMapping("/.well-known/jwks.json", produces = [MediaType.APPLICATION_JSON_VALUE])
+    fun jwks(): ResponseEntity<Map<String, Any>> =
+        ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(CACHE_MAX_AGE).cachePublic())
+            .body(jwtKeyRing.jwks())
+}
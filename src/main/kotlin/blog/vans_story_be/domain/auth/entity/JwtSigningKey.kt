@@ -0,0 +1,29 @@
+package blog.vans_story_be.domain.auth.entity
+
+import org.jetbrains.exposed.sql.Table
+import org.jetbrains.exposed.sql.javatime.datetime
+
+/**
+ * 비대칭 JWT 서명 키를 관리하는 테이블 정의 (VANS_BLOG_JWT_ALGORITHM이 EdDSA 또는 ES256일 때 사용)
+ *
+ * 모든 인스턴스가 같은 키 목록을 읽으므로, 재시작이나 배포 후에도, 다른 인스턴스에서도
+ * 이전에 발급한 토큰을 검증할 수 있습니다.
+ *
+ * 필드 설명:
+ * - [kid]: 토큰 헤더의 kid
+ * - [algorithm]: 키 알고리즘 (EdDSA, ES256)
+ * - [publicKey]: X.509 인코딩 공개키 (Base64)
+ * - [privateKey]: PKCS#8 인코딩 개인키를 JWT 비밀키에서 파생한 키로 AES-GCM 암호화한 값 (Base64)
+ * - [createdAt]: 생성 시각
+ * - [expiresAt]: 검증 키에서 제거될 시각 (null이면 교체되지 않은 최신 키)
+ */
+object JwtSigningKeys : Table("jwt_signing_keys") {
+    val kid = varchar("kid", 32)
+    val algorithm = varchar("algorithm", 10)
+    val publicKey = varchar("public_key", 512)
+    val privateKey = varchar("private_key", 512)
+    val createdAt = datetime("created_at")
+    val expiresAt = datetime("expires_at").nullable().index()
+
+    override val primaryKey = PrimaryKey(kid)
+}
@@ -0,0 +1,36 @@
+package blog.vans_story_be.domain.auth.entity
+
+import org.jetbrains.exposed.sql.Table
+import org.jetbrains.exposed.sql.javatime.datetime
+import java.time.LocalDateTime
+
+/**
+ * 발급된 Refresh Token을 관리하는 테이블 정의
+ *
+ * 하나의 로그인에서 시작된 토큰들은 같은 [familyId]를 공유합니다.
+ * 토큰이 갱신될 때마다 새 행이 추가되고 이전 행은 [rotated]로 표시되며,
+ * 이미 갱신된 토큰이 다시 사용되면 계열 전체가 [revoked]로 표시됩니다.
+ *
+ * 필드 설명:
+ * - [tokenId]: 토큰의 jti 클레임
+ * - [familyId]: 토큰 계열 ID (fam 클레임)
+ * - [subject]: 토큰의 subject (이메일 또는 사용자 ID)
+ * - [expiresAt]: 토큰 만료 시각 (백그라운드 정리 기준)
+ * - [lastUsed]: 갱신에 사용된 시각 (배치로 기록, 다른 인스턴스가 사용 완료 표시를 읽는 기준)
+ * - [revokedAt]: 계열이 폐기된 시각 (다른 인스턴스가 폐기를 읽는 기준)
+ * - [createdAt]: 발급 시각 (지정하지 않으면 삽입하는 시점)
+ */
+object RefreshTokens : Table("refresh_tokens") {
+    val tokenId = varchar("token_id", 32)
+    val familyId = varchar("family_id", 32).index()
+    val subject = varchar("subject", 100)
+    val expiresAt = datetime("expires_at").index()
+    val lastUsed = datetime("last_used").nullable().index()
+    val rotated = bool("rotated").default(false)
+    val revoked = bool("revoked").default(false)
+    val revokedAt = datetime("revoked_at").nullable().index()
+    // default(LocalDateTime.now())는 클래스 로드 시 한 번만 계산되므로 삽입할 때마다 계산
+    val createdAt = datetime("created_at").clientDefault { LocalDateTime.now() }
+
+    override val primaryKey = PrimaryKey(tokenId)
+}
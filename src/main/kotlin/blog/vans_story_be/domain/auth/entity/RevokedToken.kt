@@ -0,0 +1,36 @@
+package blog.vans_story_be.domain.auth.entity
+
+import org.jetbrains.exposed.sql.Table
+import org.jetbrains.exposed.sql.javatime.datetime
+
+/**
+ * 폐기 항목의 종류
+ *
+ * - [TOKEN]: 특정 토큰 하나 (jti 기준)
+ * - [SUBJECT]: 특정 사용자가 기준 시각 이전에 발급받은 모든 토큰
+ */
+enum class RevocationType {
+    TOKEN,
+    SUBJECT
+}
+
+/**
+ * 만료 전에 폐기된 JWT를 관리하는 테이블 정의
+ *
+ * 서버가 재시작되어도 폐기 목록이 유지되도록 메모리 목록과 함께 기록됩니다.
+ * 폐기된 토큰이 모두 만료되는 [expiresAt] 이후에는 백그라운드에서 삭제됩니다.
+ *
+ * 필드 설명:
+ * - [revocationKey]: jti(TOKEN) 또는 토큰 subject(SUBJECT)
+ * - [type]: 폐기 항목의 종류
+ * - [issuedBefore]: SUBJECT일 때 이 시각 이전에 발급된 토큰을 폐기
+ * - [expiresAt]: 항목을 보관해야 하는 마지막 시각
+ */
+object RevokedTokens : Table("revoked_tokens") {
+    val revocationKey = varchar("revocation_key", 100)
+    val type = enumerationByName("type", 20, RevocationType::class)
+    val issuedBefore = datetime("issued_before").nullable()
+    val expiresAt = datetime("expires_at").index()
+
+    override val primaryKey = PrimaryKey(revocationKey, type)
+}
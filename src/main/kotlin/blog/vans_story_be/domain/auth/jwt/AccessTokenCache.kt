@@ -0,0 +1,131 @@
+package blog.vans_story_be.domain.auth.jwt
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import mu.KotlinLogging
+import org.springframework.security.core.Authentication
+import org.springframework.stereotype.Component
+import java.security.MessageDigest
+import java.util.Base64
+import java.util.concurrent.TimeUnit
+
+/**
+ * 이미 검증된 액세스 토큰의 인증 정보를 보관하는 제한 크기 캐시입니다.
+ *
+ * <p>SPA는 한 페이지를 그리는 동안 같은 액세스 토큰으로 여러 번 요청합니다.
+ * 이 캐시는 토큰의 SHA-256 다이제스트를 키로 [Authentication]과 폐기 확인에 필요한 클레임을 저장하여,
+ * 같은 토큰에 대해 HMAC 서명 검증과 클레임 파싱을 반복하지 않도록 합니다.
+ * 원본 토큰은 메모리에 보관하지 않습니다.</p>
+ *
+ * <h4>만료 및 제거 정책:</h4>
+ * <ul>
+ *   <li>각 항목은 토큰의 exp 시각에 만료됩니다.</li>
+ *   <li>항목 수가 [JwtProperties.accessTokenCacheMaxSize]를 넘으면 크기 기반으로 제거됩니다.</li>
+ *   <li>[JwtProperties.accessTokenCacheEnabled]가 false이면 항상 캐시 미스로 동작합니다.</li>
+ *   <li>폐기된 토큰은 캐시에서 제거하지 않고, 캐시 적중 후 [JwtFilter]가 폐기 목록을 확인합니다.</li>
+ * </ul>
+ *
+ * <h4>메트릭:</h4>
+ * <p>actuator의 /actuator/metrics에서 cache.gets(result=hit|miss), cache.evictions,
+ * cache.size를 cache=jwt.access-token 태그로 조회할 수 있습니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see JwtFilter
+ * @see JwtProperties
+ */
+@Component
+class AccessTokenCache(
+    jwtProperties: JwtProperties,
+    meterRegistry: MeterRegistry
+) {
+    companion object {
+        private const val CACHE_NAME = "jwt.access-token"
+        private val logger = KotlinLogging.logger {}
+    }
+
+    /**
+     * 캐시 항목입니다.
+     *
+     * @property authentication 검증된 토큰으로 만든 인증 정보
+     * @property tokenId 토큰의 jti (없으면 null)
+     * @property subject 토큰의 subject
+     * @property issuedAtMillis 토큰 발급 시각(epoch millis, iat가 없으면 0)
+     * @property expiresAtMillis 토큰 만료 시각(epoch millis)
+     */
+    data class Entry(
+        val authentication: Authentication,
+        val tokenId: String?,
+        val subject: String,
+        val issuedAtMillis: Long,
+        val expiresAtMillis: Long
+    )
+
+    private val enabled = jwtProperties.accessTokenCacheEnabled
+
+    private val cache: Cache<String, Entry> = Caffeine.newBuilder()
+        .maximumSize(jwtProperties.accessTokenCacheMaxSize)
+        .expireAfter(object : Expiry<String, Entry> {
+            override fun expireAfterCreate(key: String, value: Entry, currentTime: Long): Long =
+                TimeUnit.MILLISECONDS.toNanos(
+                    (value.expiresAtMillis - System.currentTimeMillis()).coerceAtLeast(0L)
+                )
+
+            override fun expireAfterUpdate(key: String, value: Entry, currentTime: Long, currentDuration: Long): Long =
+                expireAfterCreate(key, value, currentTime)
+
+            override fun expireAfterRead(key: String, value: Entry, currentTime: Long, currentDuration: Long): Long =
+                currentDuration
+        })
+        .recordStats()
+        .build<String, Entry>()
+        .also { CaffeineCacheMetrics.monitor(meterRegistry, it, CACHE_NAME) }
+
+    init {
+        logger.info { "액세스 토큰 캐시 초기화 - enabled: $enabled, maxSize: ${jwtProperties.accessTokenCacheMaxSize}" }
+    }
+
+    /**
+     * 토큰에 해당하는 캐시 항목을 조회합니다.
+     *
+     * @param token 액세스 토큰
+     * @return 캐시 항목 또는 null (미스, 만료, 비활성화)
+     */
+    fun get(token: String): Entry? {
+        if (!enabled) return null
+        val entry = cache.getIfPresent(digest(token)) ?: return null
+        // 만료 시각 직후 정리 전에 조회되는 경우를 막기 위한 이중 확인
+        return entry.takeIf { it.expiresAtMillis > System.currentTimeMillis() }
+    }
+
+    /**
+     * 검증된 토큰의 캐시 항목을 저장합니다.
+     *
+     * @param token 액세스 토큰
+     * @param entry 검증된 토큰으로 만든 캐시 항목
+     */
+    fun put(token: String, entry: Entry) {
+        if (!enabled) return
+        cache.put(digest(token), entry)
+    }
+
+    /**
+     * 캐시의 모든 항목을 제거합니다.
+     */
+    fun invalidateAll() = cache.invalidateAll()
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 생성합니다.
+     *
+     * @param token 액세스 토큰
+     * @return Base64(URL-safe) 인코딩된 다이제스트
+     */
+    private fun digest(token: String): String =
+        Base64.getUrlEncoder().withoutPadding().encodeToString(
+            MessageDigest.getInstance("SHA-256").digest(token.toByteArray(Charsets.US_ASCII))
+        )
+}
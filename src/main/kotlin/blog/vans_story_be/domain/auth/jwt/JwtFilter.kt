@@ -1,10 +1,14 @@
 package blog.vans_story_be.domain.auth.jwt
 
+import blog.vans_story_be.config.security.PublicRoutes
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
 import jakarta.servlet.FilterChain
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
 import mu.KotlinLogging
+import org.springframework.security.core.Authentication
 import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.security.web.util.matcher.RequestMatcher
 import org.springframework.util.StringUtils
 import org.springframework.web.filter.OncePerRequestFilter
 
@@ -14,11 +18,17 @@ import org.springframework.web.filter.OncePerRequestFilter
  * <p>HTTP 요청의 Authorization 헤더에서 JWT 토큰을 추출하고 검증합니다.
  * 유효한 토큰이 있는 경우 SecurityContext에 인증 정보를 설정합니다.</p>
  * 
+ * <p>인증 없이 호출하는 공개 경로([PublicRoutes.PUBLIC])에서는 필터가 실행되지 않으므로
+ * 헤더 해석과 SecurityContext 설정을 하지 않습니다.</p>
+ * 
  * <h4>처리 흐름:</h4>
  * <ol>
  *   <li>Authorization 헤더에서 Bearer 토큰 추출</li>
- *   <li>토큰 유효성 검증</li>
- *   <li>유효한 토큰인 경우 SecurityContext에 인증 정보 설정</li>
+ *   <li>검증된 액세스 토큰 캐시 조회 (적중 시 파싱 생략)</li>
+ *   <li>토큰을 한 번만 파싱하여 서명/만료 검증 및 클레임 추출</li>
+ *   <li>리프레시 토큰(typ=refresh 또는 fam 클레임)은 거부 (캐시에도 저장하지 않음)</li>
+ *   <li>폐기 목록 확인 (캐시 적중 여부와 관계없이 항상 수행)</li>
+ *   <li>유효한 토큰인 경우 검증된 클레임으로 SecurityContext에 인증 정보 설정</li>
  *   <li>다음 필터로 요청 전달</li>
  * </ol>
  * 
@@ -26,7 +36,7 @@ import org.springframework.web.filter.OncePerRequestFilter
  * <pre>
  * // SecurityConfig에서 필터 등록
  * http.addFilterBefore(
- *     JwtFilter(jwtProvider),
+ *     JwtFilter(jwtProvider, accessTokenCache, tokenRevocationList, PublicRoutes.PUBLIC),
  *     UsernamePasswordAuthenticationFilter::class.java
  * )
  * </pre>
@@ -35,10 +45,16 @@ import org.springframework.web.filter.OncePerRequestFilter
  * @version 1.0.0
  * @since 2025.06.07
  * @see JwtProvider
+ * @see AccessTokenCache
+ * @see TokenRevocationList
+ * @see PublicRoutes
  * @see org.springframework.security.core.context.SecurityContextHolder
  */
 class JwtFilter(
-    private val jwtProvider: JwtProvider
+    private val jwtProvider: JwtProvider,
+    private val accessTokenCache: AccessTokenCache,
+    private val tokenRevocationList: TokenRevocationList,
+    private val publicRoutes: RequestMatcher = PublicRoutes.PUBLIC
 ) : OncePerRequestFilter() {
 
     companion object {
@@ -47,6 +63,15 @@ class JwtFilter(
         private val logger = KotlinLogging.logger {}
     }
 
+    /**
+     * 공개 경로는 토큰을 처리하지 않습니다.
+     *
+     * @param request HTTP 요청
+     * @return 필터를 건너뛸지 여부
+     */
+    override fun shouldNotFilter(request: HttpServletRequest): Boolean =
+        publicRoutes.matches(request)
+
     /**
      * HTTP 요청을 필터링하여 JWT 토큰을 처리합니다.
      * 
@@ -61,16 +86,9 @@ class JwtFilter(
         response: HttpServletResponse,
         filterChain: FilterChain
     ) {
-        // 로그아웃 경로는 토큰 검증 건너뛰기
-        if (request.requestURI == "/api/v1/auth/logout") {
-            filterChain.doFilter(request, response)
-            return
-        }
-
         try {
             resolveToken(request)?.let { token ->
-                if (jwtProvider.validateToken(token)) {
-                    val authentication = jwtProvider.getAuthentication(token)
+                authenticate(token)?.let { authentication ->
                     SecurityContextHolder.getContext().authentication = authentication
                     logger.debug { "JWT 토큰 인증 성공: ${authentication.name}" }
                 }
@@ -82,6 +100,54 @@ class JwtFilter(
         filterChain.doFilter(request, response)
     }
 
+    /**
+     * 토큰으로부터 인증 정보를 얻습니다.
+     *
+     * <p>캐시에 검증된 결과가 있으면 그대로 사용하고, 없으면 토큰을 검증한 뒤
+     * 토큰의 만료 시각까지 캐시에 저장합니다. 두 경우 모두 폐기 목록을 확인합니다.</p>
+     *
+     * @param token JWT 토큰
+     * @return 인증 정보 또는 null (유효하지 않거나 폐기된 토큰)
+     */
+    private fun authenticate(token: String): Authentication? {
+        val entry = accessTokenCache.get(token) ?: verify(token) ?: return null
+
+        if (tokenRevocationList.isRevoked(entry.tokenId, entry.subject, entry.issuedAtMillis)) {
+            logger.info { "폐기된 JWT 토큰입니다: ${entry.subject}" }
+            return null
+        }
+        return entry.authentication
+    }
+
+    /**
+     * 토큰을 검증하고 결과를 캐시에 저장합니다.
+     *
+     * <p>리프레시 토큰은 같은 키로 서명되므로 서명만으로는 구분되지 않습니다.
+     * 리프레시 토큰을 Bearer 토큰으로 보내면 계열이 폐기된 뒤에도 만료될 때까지 API를 호출할 수 있으므로 거부합니다.</p>
+     *
+     * @param token JWT 토큰
+     * @return 캐시 항목 또는 null (유효하지 않은 토큰이거나 리프레시 토큰)
+     */
+    private fun verify(token: String): AccessTokenCache.Entry? {
+        val result = jwtProvider.verify(token)
+        if (result !is TokenVerification.Valid) return null
+
+        val claims = result.claims
+        if (JwtProvider.isRefreshToken(claims)) {
+            logger.info { "리프레시 토큰은 액세스 토큰으로 사용할 수 없습니다: ${claims.subject}" }
+            return null
+        }
+        val entry = AccessTokenCache.Entry(
+            authentication = jwtProvider.getAuthentication(token, claims),
+            tokenId = claims.id,
+            subject = claims.subject,
+            issuedAtMillis = JwtProvider.issuedAtMillis(claims),
+            expiresAtMillis = claims.expiration?.time ?: 0L
+        )
+        if (claims.expiration != null) accessTokenCache.put(token, entry)
+        return entry
+    }
+
     /**
      * HTTP 요청 헤더에서 JWT 토큰을 추출합니다.
      * 
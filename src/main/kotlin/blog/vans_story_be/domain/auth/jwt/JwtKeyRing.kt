@@ -0,0 +1,406 @@
+package blog.vans_story_be.domain.auth.jwt
+
+import blog.vans_story_be.domain.auth.entity.JwtSigningKeys
+import io.jsonwebtoken.security.Keys
+import jakarta.annotation.PostConstruct
+import mu.KotlinLogging
+import org.jetbrains.exposed.sql.*
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.eq
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.less
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.context.annotation.DependsOn
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.math.BigInteger
+import java.security.Key
+import java.security.KeyFactory
+import java.security.KeyPair
+import java.security.KeyPairGenerator
+import java.security.PrivateKey
+import java.security.PublicKey
+import java.security.SecureRandom
+import java.security.interfaces.ECPublicKey
+import java.security.spec.ECGenParameterSpec
+import java.security.spec.PKCS8EncodedKeySpec
+import java.security.spec.X509EncodedKeySpec
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.format.DateTimeParseException
+import java.util.Base64
+import javax.crypto.Cipher
+import javax.crypto.Mac
+import javax.crypto.SecretKey
+import javax.crypto.spec.GCMParameterSpec
+import javax.crypto.spec.SecretKeySpec
+
+/**
+ * JWT 서명 키와 검증 키를 관리하는 키 링입니다.
+ *
+ * <p>HS512(기본값)에서는 VANS_BLOG_JWT_SECRET_KEY 하나로 서명과 검증을 모두 수행합니다.
+ * EdDSA/ES256에서는 키 쌍을 [JwtSigningKeys] 테이블에 저장하여 모든 인스턴스가 같은 키로 서명하고 검증하며,
+ * 정해진 주기마다 새 키 쌍으로 교체합니다. 교체된 키의 공개키는 그 키로 서명된 토큰이
+ * 모두 만료될 때까지(리프레시 토큰 유효 기간) 검증용으로 유지되므로, 재시작이나 배포 후에도 토큰이 유지됩니다.</p>
+ *
+ * <h4>검증 키 선택:</h4>
+ * <ul>
+ *   <li>kid 없음: HS512에서는 비밀키, 비대칭 알고리즘에서는 VANS_BLOG_JWT_LEGACY_HS512_UNTIL 기한까지만 비밀키 (기본값은 거부)</li>
+ *   <li>kid 있음: kid로 공개키를 Map에서 O(1) 조회</li>
+ * </ul>
+ *
+ * <h4>인스턴스 간 공유:</h4>
+ * <ul>
+ *   <li>각 인스턴스는 VANS_BLOG_JWT_KEY_RELOAD_INTERVAL_MS마다 키 목록을 다시 읽습니다.</li>
+ *   <li>새 키는 생성 후 읽기 주기가 지나야 서명에 사용되므로, 그 사이 모든 인스턴스가 공개키를 알게 됩니다.</li>
+ *   <li>개인키는 JWT 비밀키에서 파생한 키로 AES-GCM 암호화하여 저장합니다.</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see JwtProvider
+ * @see JwtSigningAlgorithm
+ */
+@Component
+@DependsOn("database")
+class JwtKeyRing(
+    private val jwtProperties: JwtProperties
+) {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+        private const val KID_BYTES = 12
+        private const val EC_COORDINATE_BYTES = 32
+        private const val ED25519_KEY_BYTES = 32
+        private const val GCM_IV_BYTES = 12
+        private const val GCM_TAG_BITS = 128
+
+        /** JWT 비밀키에서 개인키 암호화 키를 파생할 때 사용하는 구분 값 */
+        private const val KEY_DERIVATION_LABEL = "vans-blog/jwt-signing-key"
+    }
+
+    /**
+     * 현재 서명에 사용하는 키입니다.
+     *
+     * @property kid 키 식별자 (HS512에서는 null)
+     * @property key 서명 키 (SecretKey 또는 PrivateKey)
+     */
+    class SigningKey(
+        val kid: String?,
+        val key: Key
+    )
+
+    /**
+     * DB에서 읽은 검증 키입니다.
+     *
+     * @property publicKey 공개키
+     * @property sealedPrivateKey 암호화된 개인키 (서명 키로 선택될 때만 복호화)
+     * @property createdAt 생성 시각(epoch millis)
+     */
+    private class VerificationKey(
+        val publicKey: PublicKey,
+        val sealedPrivateKey: String,
+        val createdAt: Long
+    )
+
+    private val algorithm = jwtProperties.signingAlgorithm
+    private val random = SecureRandom()
+    private lateinit var hmacKey: SecretKey
+    private lateinit var keyEncryptionKey: SecretKeySpec
+    private var legacyHmacDeadline: Instant? = null
+
+    @Volatile
+    private var verificationKeys: Map<String, VerificationKey> = emptyMap()
+
+    @Volatile
+    private var current: SigningKey? = null
+
+    @Volatile
+    private var jwks: Map<String, Any> = mapOf("keys" to emptyList<Any>())
+
+    /**
+     * HMAC 키를 초기화하고, 비대칭 알고리즘이면 공유 키를 읽습니다. 키가 없으면 첫 키 쌍을 생성합니다.
+     *
+     * @throws IllegalStateException VANS_BLOG_JWT_LEGACY_HS512_UNTIL 형식이 잘못된 경우
+     */
+    @PostConstruct
+    fun init() {
+        hmacKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtProperties.secretKey))
+        legacyHmacDeadline = jwtProperties.legacyHmacUntil.takeIf { it.isNotBlank() }?.let {
+            try {
+                Instant.parse(it)
+            } catch (e: DateTimeParseException) {
+                throw IllegalStateException("VANS_BLOG_JWT_LEGACY_HS512_UNTIL 형식이 잘못되었습니다: $it", e)
+            }
+        }
+
+        if (algorithm.asymmetric) {
+            val derived = Mac.getInstance("HmacSHA256")
+                .apply { init(SecretKeySpec(hmacKey.encoded, "HmacSHA256")) }
+                .doFinal(KEY_DERIVATION_LABEL.toByteArray(Charsets.UTF_8))
+            keyEncryptionKey = SecretKeySpec(derived, "AES")
+            reload()
+            if (current == null) rotate()
+        } else {
+            current = SigningKey(null, hmacKey)
+        }
+        logger.info { "JWT 키 링 초기화 - algorithm: $algorithm, kid: ${current?.kid}, 기존 HS512 허용 기한: $legacyHmacDeadline" }
+    }
+
+    /**
+     * 현재 서명 키를 반환합니다.
+     *
+     * @return 서명 키
+     * @throws IllegalStateException 초기화되지 않은 경우
+     */
+    fun signingKey(): SigningKey =
+        current ?: throw IllegalStateException("JWT 키 링이 초기화되지 않았습니다.")
+
+    /**
+     * kid에 해당하는 검증 키를 반환합니다.
+     *
+     * @param kid 토큰 헤더의 kid (없으면 null)
+     * @return 검증 키 또는 null (알 수 없는 kid, 또는 비대칭 알고리즘에서 허용 기한이 지난 kid 없는 토큰)
+     */
+    fun verificationKey(kid: String?): Key? =
+        if (kid == null) hmacKey.takeIf { !algorithm.asymmetric || acceptsLegacyHmac() }
+        else verificationKeys[kid]?.publicKey
+
+    /**
+     * 공개 검증 키 목록을 JWK Set 형식으로 반환합니다.
+     *
+     * @return {"keys": [...]} 형식의 JWK Set (HS512에서는 빈 목록)
+     */
+    fun jwks(): Map<String, Any> = jwks
+
+    /**
+     * 새 서명 키 쌍을 생성하고 기존 키를 퇴역시킵니다.
+     *
+     * <p>HS512에서는 아무것도 하지 않습니다.</p>
+     */
+    @Scheduled(
+        fixedDelayString = "\${VANS_BLOG_JWT_KEY_ROTATION_INTERVAL_MS:86400000}",
+        initialDelayString = "\${VANS_BLOG_JWT_KEY_ROTATION_INTERVAL_MS:86400000}"
+    )
+    fun rotate() = rotate(System.currentTimeMillis())
+
+    /**
+     * 새 서명 키 쌍을 생성하고 기존 키를 퇴역시킵니다.
+     *
+     * <p>활성 키 행을 잠근 뒤 확인하므로 여러 인스턴스가 동시에 시도해도 한 인스턴스만 교체하며,
+     * 다른 인스턴스가 교체 주기의 절반 안에 이미 교체했으면 건너뜁니다. 퇴역한 키는 리프레시 토큰 유효 기간 동안
+     * 검증용으로 남고, 기간이 지난 키는 삭제됩니다.</p>
+     *
+     * @param now 현재 시각(epoch millis)
+     */
+    @Synchronized
+    fun rotate(now: Long) {
+        if (!algorithm.asymmetric) return
+
+        val rotated = transaction {
+            val active = JwtSigningKeys.slice(JwtSigningKeys.createdAt)
+                .select { (JwtSigningKeys.algorithm eq algorithm.name) and JwtSigningKeys.expiresAt.isNull() }
+                .forUpdate()
+                .map { toEpochMillis(it[JwtSigningKeys.createdAt]) }
+            val newest = active.maxOrNull()
+            if (newest != null && now - newest < jwtProperties.keyRotationIntervalMs / 2) return@transaction null
+
+            val keyPair = generateKeyPair()
+            val kid = newKid()
+            val algorithmName = algorithm.name
+            // 기존 키는 새 키가 서명에 쓰이기 시작할 때(늦어도 읽기 주기 두 번 후)까지 서명하므로,
+            // 그때부터 리프레시 토큰 유효 기간 동안 검증 가능해야 함
+            val retireUntil = now + 2 * jwtProperties.keyReloadIntervalMs + jwtProperties.refreshTokenValidityInSeconds * 1000
+
+            JwtSigningKeys.update({ (JwtSigningKeys.algorithm eq algorithm.name) and JwtSigningKeys.expiresAt.isNull() }) {
+                it[expiresAt] = toDateTime(retireUntil)
+            }
+            JwtSigningKeys.insert {
+                it[JwtSigningKeys.kid] = kid
+                it[JwtSigningKeys.algorithm] = algorithmName
+                it[publicKey] = base64(keyPair.public.encoded)
+                it[privateKey] = seal(kid, keyPair.private.encoded)
+                it[createdAt] = toDateTime(now)
+            }
+            JwtSigningKeys.deleteWhere { expiresAt less toDateTime(now) }
+            kid
+        }
+
+        if (rotated != null) logger.info { "JWT 서명 키 생성 - kid: $rotated" }
+        reload(now)
+    }
+
+    /**
+     * 공유 키 목록을 DB에서 다시 읽습니다.
+     */
+    @Scheduled(
+        fixedDelayString = "\${VANS_BLOG_JWT_KEY_RELOAD_INTERVAL_MS:60000}",
+        initialDelayString = "\${VANS_BLOG_JWT_KEY_RELOAD_INTERVAL_MS:60000}"
+    )
+    fun reload() = reload(System.currentTimeMillis())
+
+    /**
+     * 공유 키 목록을 DB에서 다시 읽고 서명 키를 고릅니다.
+     *
+     * <p>서명 키는 생성 후 읽기 주기가 지난 키 중 가장 최근 키이며, 그런 키가 없으면(첫 기동) 가장 최근 키입니다.
+     * 검증 키가 최대 개수를 넘으면 오래된 키부터 제외합니다. 읽기에 실패하면 기존 키를 유지합니다.</p>
+     *
+     * @param now 현재 시각(epoch millis)
+     */
+    @Synchronized
+    fun reload(now: Long) {
+        if (!algorithm.asymmetric) return
+
+        val rows = runCatching {
+            transaction {
+                JwtSigningKeys.select {
+                    (JwtSigningKeys.algorithm eq algorithm.name) and
+                        (JwtSigningKeys.expiresAt.isNull() or (JwtSigningKeys.expiresAt greater toDateTime(now)))
+                }.toList()
+            }
+        }.getOrElse { e ->
+            logger.error(e) { "JWT 서명 키 목록 조회 실패, 기존 키를 유지합니다." }
+            return
+        }
+
+        val loaded = rows
+            .map { row ->
+                row[JwtSigningKeys.kid] to VerificationKey(
+                    publicKey = toPublicKey(row[JwtSigningKeys.publicKey]),
+                    sealedPrivateKey = row[JwtSigningKeys.privateKey],
+                    createdAt = toEpochMillis(row[JwtSigningKeys.createdAt])
+                )
+            }
+            .sortedByDescending { it.second.createdAt }
+        if (loaded.size > jwtProperties.maxVerificationKeys) {
+            logger.warn { "검증 키 최대 개수 초과로 오래된 키 ${loaded.size - jwtProperties.maxVerificationKeys}개를 제외했습니다. 해당 키로 서명된 토큰은 더 이상 검증되지 않습니다." }
+        }
+        val kept = loaded.take(jwtProperties.maxVerificationKeys)
+        if (kept.isEmpty()) return
+
+        val (kid, signing) = kept.firstOrNull { now - it.second.createdAt >= jwtProperties.keyReloadIntervalMs } ?: kept.first()
+        if (current?.kid != kid) {
+            current = SigningKey(kid, toPrivateKey(open(kid, signing.sealedPrivateKey)))
+            logger.info { "JWT 서명 키 선택 - kid: $kid" }
+        }
+        verificationKeys = kept.toMap()
+        jwks = mapOf("keys" to kept.map { (id, key) -> toJwk(id, key.publicKey) })
+    }
+
+    private fun acceptsLegacyHmac(): Boolean =
+        legacyHmacDeadline?.let { Instant.now().isBefore(it) } ?: false
+
+    /**
+     * 설정된 알고리즘의 키 쌍을 생성합니다.
+     *
+     * @return 생성된 키 쌍
+     */
+    private fun generateKeyPair(): KeyPair = when (algorithm) {
+        JwtSigningAlgorithm.EdDSA -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair()
+        JwtSigningAlgorithm.ES256 -> KeyPairGenerator.getInstance("EC")
+            .apply { initialize(ECGenParameterSpec("secp256r1"), random) }
+            .generateKeyPair()
+        JwtSigningAlgorithm.HS512 -> throw IllegalStateException("HS512는 키 쌍을 사용하지 않습니다.")
+    }
+
+    private fun keyFactory(): KeyFactory =
+        KeyFactory.getInstance(if (algorithm == JwtSigningAlgorithm.EdDSA) "Ed25519" else "EC")
+
+    private fun toPublicKey(encoded: String): PublicKey =
+        keyFactory().generatePublic(X509EncodedKeySpec(Base64.getDecoder().decode(encoded)))
+
+    private fun toPrivateKey(encoded: ByteArray): PrivateKey =
+        keyFactory().generatePrivate(PKCS8EncodedKeySpec(encoded))
+
+    /**
+     * 개인키를 AES-GCM으로 암호화합니다. kid를 추가 인증 데이터로 묶어 다른 행으로 옮긴 값은 복호화되지 않습니다.
+     *
+     * @param kid 키 식별자
+     * @param plain PKCS#8 인코딩 개인키
+     * @return Base64(IV + 암호문)
+     */
+    private fun seal(kid: String, plain: ByteArray): String {
+        val iv = ByteArray(GCM_IV_BYTES).also { random.nextBytes(it) }
+        val cipher = Cipher.getInstance("AES/GCM/NoPadding").apply {
+            init(Cipher.ENCRYPT_MODE, keyEncryptionKey, GCMParameterSpec(GCM_TAG_BITS, iv))
+            updateAAD(kid.toByteArray(Charsets.UTF_8))
+        }
+        return base64(iv + cipher.doFinal(plain))
+    }
+
+    /**
+     * [seal]로 암호화한 개인키를 복호화합니다.
+     *
+     * @throws javax.crypto.AEADBadTagException JWT 비밀키가 다르거나 값이 변조된 경우
+     */
+    private fun open(kid: String, sealed: String): ByteArray {
+        val bytes = Base64.getDecoder().decode(sealed)
+        val cipher = Cipher.getInstance("AES/GCM/NoPadding").apply {
+            init(Cipher.DECRYPT_MODE, keyEncryptionKey, GCMParameterSpec(GCM_TAG_BITS, bytes, 0, GCM_IV_BYTES))
+            updateAAD(kid.toByteArray(Charsets.UTF_8))
+        }
+        return cipher.doFinal(bytes, GCM_IV_BYTES, bytes.size - GCM_IV_BYTES)
+    }
+
+    /**
+     * 무작위 kid를 생성합니다.
+     *
+     * @return Base64(URL-safe) 인코딩된 kid
+     */
+    private fun newKid(): String =
+        base64Url(ByteArray(KID_BYTES).also { random.nextBytes(it) })
+
+    /**
+     * 공개키를 RFC 7517 JWK 형식으로 변환합니다.
+     *
+     * @param kid 키 식별자
+     * @param publicKey 공개키
+     * @return JWK 맵
+     */
+    private fun toJwk(kid: String, publicKey: PublicKey): Map<String, String> = when (publicKey) {
+        is ECPublicKey -> linkedMapOf(
+            "kty" to "EC",
+            "crv" to "P-256",
+            "alg" to "ES256",
+            "use" to "sig",
+            "kid" to kid,
+            "x" to base64Url(unsignedFixed(publicKey.w.affineX)),
+            "y" to base64Url(unsignedFixed(publicKey.w.affineY))
+        )
+        else -> linkedMapOf(
+            "kty" to "OKP",
+            "crv" to "Ed25519",
+            "alg" to "EdDSA",
+            "use" to "sig",
+            "kid" to kid,
+            // X.509 SubjectPublicKeyInfo의 마지막 32바이트가 Ed25519 공개키 원문
+            "x" to base64Url(publicKey.encoded.copyOfRange(publicKey.encoded.size - ED25519_KEY_BYTES, publicKey.encoded.size))
+        )
+    }
+
+    /**
+     * EC 좌표를 부호 없는 고정 길이 바이트 배열로 변환합니다.
+     *
+     * @param value 좌표 값
+     * @return 32바이트 배열
+     */
+    private fun unsignedFixed(value: BigInteger): ByteArray {
+        val bytes = value.toByteArray()
+        return when {
+            bytes.size == EC_COORDINATE_BYTES -> bytes
+            bytes.size > EC_COORDINATE_BYTES -> bytes.copyOfRange(bytes.size - EC_COORDINATE_BYTES, bytes.size)
+            else -> ByteArray(EC_COORDINATE_BYTES - bytes.size) + bytes
+        }
+    }
+
+    private fun toDateTime(epochMillis: Long): LocalDateTime =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+
+    private fun toEpochMillis(dateTime: LocalDateTime): Long =
+        dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+
+    private fun base64(bytes: ByteArray): String =
+        Base64.getEncoder().encodeToString(bytes)
+
+    private fun base64Url(bytes: ByteArray): String =
+        Base64.getUrlEncoder().withoutPadding().encodeToString(bytes)
+}
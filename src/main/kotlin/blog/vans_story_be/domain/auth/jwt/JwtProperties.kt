@@ -14,6 +14,16 @@ import org.springframework.stereotype.Component
  * VANS_BLOG_JWT_SECRET_KEY=your-secret-key-here
  * VANS_BLOG_JWT_ACCESS_TOKEN_VALIDITY=18000    # 5시간
  * VANS_BLOG_JWT_REFRESH_TOKEN_VALIDITY=604800  # 7일
+ * VANS_BLOG_JWT_CACHE_ENABLED=true             # 검증된 액세스 토큰 캐시 사용 여부 (선택)
+ * VANS_BLOG_JWT_CACHE_MAX_SIZE=10000           # 캐시 최대 항목 수 (선택)
+ * VANS_BLOG_REFRESH_TOKEN_INDEX_MAX_SIZE=50000 # Refresh Token 메모리 인덱스 최대 항목 수 (선택)
+ * VANS_BLOG_REFRESH_TOKEN_SYNC_LOOKBACK_MS=10000 # 다른 인스턴스의 변경을 다시 읽을 때 겹쳐 읽는 시간 (선택)
+ * VANS_BLOG_JWT_COMPACT_CLAIMS=false           # 압축 클레임 형식으로 발급 여부 (선택)
+ * VANS_BLOG_JWT_ALGORITHM=HS512                # 서명 알고리즘: HS512, EdDSA, ES256 (선택)
+ * VANS_BLOG_JWT_KEY_ROTATION_INTERVAL_MS=86400000  # 비대칭 키 교체 주기 (선택)
+ * VANS_BLOG_JWT_MAX_VERIFICATION_KEYS=4        # 동시에 유지할 검증 키 최대 수 (선택)
+ * VANS_BLOG_JWT_KEY_RELOAD_INTERVAL_MS=60000   # 공유 키 목록을 다시 읽는 주기 (선택)
+ * VANS_BLOG_JWT_LEGACY_HS512_UNTIL=            # 비대칭 전환 중 kid 없는 HS512 토큰을 받을 기한, ISO-8601 (선택)
  * </pre>
  * 
  * <h4>사용 예시:</h4>
@@ -51,4 +61,86 @@ class JwtProperties {
      */
     @Value("\${VANS_BLOG_JWT_REFRESH_TOKEN_VALIDITY}")
     var refreshTokenValidityInSeconds: Long = 0L
-} 
\ No newline at end of file
+
+    /**
+     * 검증된 액세스 토큰 캐시 사용 여부입니다.
+     */
+    @Value("\${VANS_BLOG_JWT_CACHE_ENABLED:true}")
+    var accessTokenCacheEnabled: Boolean = true
+
+    /**
+     * 검증된 액세스 토큰 캐시의 최대 항목 수입니다.
+     *
+     * <p>항목 하나는 SHA-256 다이제스트 키와 Authentication 객체로 약 1KB 미만이므로,
+     * 기본값 10,000개는 -Xmx384m 힙에서 10MB 이내를 사용합니다.</p>
+     */
+    @Value("\${VANS_BLOG_JWT_CACHE_MAX_SIZE:10000}")
+    var accessTokenCacheMaxSize: Long = 10_000L
+
+    /**
+     * Refresh Token 메모리 인덱스의 최대 항목 수입니다.
+     *
+     * <p>넘치거나 만료된 항목은 인덱스에서 빠지며, 다음 갱신 때 DB에서 다시 읽습니다.
+     * 항목 하나는 약 200바이트이므로 기본값 50,000개는 10MB 정도를 사용합니다.</p>
+     */
+    @Value("\${VANS_BLOG_REFRESH_TOKEN_INDEX_MAX_SIZE:50000}")
+    var refreshTokenIndexMaxSize: Long = 50_000L
+
+    /**
+     * 다른 인스턴스의 사용 완료/폐기 기록을 읽을 때 직전 조회 시각보다 앞으로 겹쳐 읽는 시간(밀리초)입니다.
+     *
+     * <p>last_used는 갱신 시각으로, revoked_at은 기록 시각으로 저장되며 각 인스턴스의 시계를 사용합니다.
+     * 기록 주기(VANS_BLOG_REFRESH_TOKEN_FLUSH_INTERVAL_MS)와 인스턴스 간 시계 차이를 더한 값보다 크게 둡니다.</p>
+     */
+    @Value("\${VANS_BLOG_REFRESH_TOKEN_SYNC_LOOKBACK_MS:10000}")
+    var refreshTokenSyncLookbackMs: Long = 10_000L
+
+    /**
+     * 압축 클레임 형식으로 토큰을 발급할지 여부입니다.
+     *
+     * <p>true이면 subject에 이메일 대신 사용자 ID를, auth 클레임 대신 역할 ordinal(r)을 담습니다.
+     * 검증은 설정과 관계없이 두 형식을 모두 허용하므로 단계적으로 전환할 수 있습니다.</p>
+     */
+    @Value("\${VANS_BLOG_JWT_COMPACT_CLAIMS:false}")
+    var compactClaims: Boolean = false
+
+    /**
+     * 토큰 서명 알고리즘입니다.
+     *
+     * <p>HS512 이외의 값을 지정하면 서명 키 쌍을 jwt_signing_keys 테이블에 저장하여 모든 인스턴스가 공유하고
+     * 주기적으로 교체합니다. kid가 없는 기존 HS512 토큰은 [legacyHmacUntil]까지만 검증됩니다.</p>
+     */
+    @Value("\${VANS_BLOG_JWT_ALGORITHM:HS512}")
+    var signingAlgorithm: JwtSigningAlgorithm = JwtSigningAlgorithm.HS512
+
+    /**
+     * 동시에 유지할 검증 키의 최대 개수입니다. (현재 서명 키 포함)
+     */
+    @Value("\${VANS_BLOG_JWT_MAX_VERIFICATION_KEYS:4}")
+    var maxVerificationKeys: Int = 4
+
+    /**
+     * 비대칭 키 교체 주기(밀리초)입니다.
+     *
+     * <p>여러 인스턴스가 같은 주기로 교체를 시도하므로, 가장 최근 키가 주기의 절반보다 새것이면 교체하지 않습니다.</p>
+     */
+    @Value("\${VANS_BLOG_JWT_KEY_ROTATION_INTERVAL_MS:86400000}")
+    var keyRotationIntervalMs: Long = 86_400_000L
+
+    /**
+     * 공유 키 목록을 DB에서 다시 읽는 주기(밀리초)입니다.
+     *
+     * <p>새 키는 생성 후 이 주기가 지나야 서명에 사용되므로, 그 전에 모든 인스턴스가 공개키를 읽어 둡니다.</p>
+     */
+    @Value("\${VANS_BLOG_JWT_KEY_RELOAD_INTERVAL_MS:60000}")
+    var keyReloadIntervalMs: Long = 60_000L
+
+    /**
+     * 비대칭 알고리즘으로 전환한 뒤 kid가 없는 HS512 토큰을 계속 받을 기한입니다. (ISO-8601, 예: 2025-07-01T00:00:00Z)
+     *
+     * <p>비어 있으면 비대칭 알고리즘에서 kid 없는 토큰은 모두 거부됩니다.
+     * 기존 토큰이 만료될 때까지(리프레시 토큰 유효 기간)만 설정하는 것을 권장합니다.</p>
+     */
+    @Value("\${VANS_BLOG_JWT_LEGACY_HS512_UNTIL:}")
+    var legacyHmacUntil: String = ""
+}
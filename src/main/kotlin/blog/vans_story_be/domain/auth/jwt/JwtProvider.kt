@@ -1,18 +1,19 @@
 package blog.vans_story_be.domain.auth.jwt
 
+import blog.vans_story_be.config.security.UserPrincipal
+import blog.vans_story_be.domain.auth.store.RefreshTokenStore
+import blog.vans_story_be.domain.user.entity.Role
 import io.jsonwebtoken.*
-import io.jsonwebtoken.security.Keys
 import io.jsonwebtoken.security.SecurityException
+import io.jsonwebtoken.security.SignatureException
 import jakarta.annotation.PostConstruct
 import mu.KotlinLogging
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
 import org.springframework.security.core.Authentication
-import org.springframework.security.core.GrantedAuthority
 import org.springframework.security.core.authority.SimpleGrantedAuthority
-import org.springframework.security.core.userdetails.User
 import org.springframework.stereotype.Component
+import java.security.Key
 import java.util.*
-import javax.crypto.SecretKey
 
 /**
  * JWT 토큰의 생성, 검증, 파싱을 담당하는 클래스입니다.
@@ -27,17 +28,27 @@ import javax.crypto.SecretKey
  *   <li>토큰 유효성 검증</li>
  *   <li>토큰에서 인증 정보 추출</li>
  * </ul>
+ *
+ * <h4>클레임 형식:</h4>
+ * <ul>
+ *   <li>기존 형식: sub=이메일, auth="ROLE_USER" (쉼표로 구분된 권한 문자열)</li>
+ *   <li>압축 형식: sub=사용자 ID, r=역할 ordinal ({@code VANS_BLOG_JWT_COMPACT_CLAIMS=true}일 때 발급)</li>
+ * </ul>
+ * <p>검증 시에는 두 형식을 모두 허용하며, 역할은 [Role.authorities]의 미리 만들어 둔 권한 집합으로 변환됩니다.</p>
  * 
  * <h4>사용 예시:</h4>
  * <pre>
  * // 토큰 생성
  * val accessToken = jwtProvider.generateAccessToken(authentication)
- * val refreshToken = jwtProvider.generateRefreshToken(authentication)
+ * val refreshToken = jwtProvider.generateRefreshToken(authentication, refreshTokenStore.startFamily(jwtProvider.subjectOf(authentication)))
  * 
- * // 토큰 검증
- * if (jwtProvider.validateToken(token)) {
- *     val authentication = jwtProvider.getAuthentication(token)
- *     // 인증 처리
+ * // 토큰 검증 (한 번의 파싱으로 검증과 클레임 추출을 함께 수행)
+ * when (val result = jwtProvider.verify(token)) {
+ *     is TokenVerification.Valid -> {
+ *         val authentication = jwtProvider.getAuthentication(token, result.claims)
+ *         // 인증 처리
+ *     }
+ *     is TokenVerification.Invalid -> logger.info { result.reason.message }
  * }
  * </pre>
  * 
@@ -45,24 +56,78 @@ import javax.crypto.SecretKey
  * @version 1.0.0
  * @since 2025.06.07
  * @see JwtProperties
+ * @see JwtKeyRing
+ * @see TokenVerification
  * @see org.springframework.security.core.Authentication
  */
 @Component
 class JwtProvider(
-    private val jwtProperties: JwtProperties
+    private val jwtProperties: JwtProperties,
+    private val jwtKeyRing: JwtKeyRing
 ) {
-    private lateinit var key: SecretKey
+    private lateinit var parser: JwtParser
     private val logger = KotlinLogging.logger {}
 
+    companion object {
+        /** 기존 형식의 권한 클레임 이름 */
+        private const val AUTHORITIES_CLAIM = "auth"
+
+        /** 압축 형식의 역할 ordinal 클레임 이름 */
+        private const val ROLE_CLAIM = "r"
+
+        /** 리프레시 토큰 계열 ID 클레임 이름 */
+        const val FAMILY_CLAIM = "fam"
+
+        /** 토큰 종류 클레임 이름 (리프레시 토큰에만 포함) */
+        const val TOKEN_TYPE_CLAIM = "typ"
+
+        /** 리프레시 토큰의 [TOKEN_TYPE_CLAIM] 값 */
+        const val REFRESH_TOKEN_TYPE = "refresh"
+
+        /**
+         * 리프레시 토큰인지 확인합니다.
+         *
+         * <p>종류 클레임이 없더라도 계열 ID(fam)가 있으면 이전에 발급된 리프레시 토큰으로 봅니다.
+         * 액세스 토큰만 받아야 하는 [JwtFilter]에서 사용합니다.</p>
+         *
+         * @param claims 검증된 클레임
+         * @return 리프레시 토큰이면 true
+         */
+        fun isRefreshToken(claims: Claims): Boolean =
+            claims[TOKEN_TYPE_CLAIM] == REFRESH_TOKEN_TYPE || claims[FAMILY_CLAIM] != null
+
+        /** 밀리초 단위 발급 시각 클레임 이름 (iat는 초 단위) */
+        const val ISSUED_AT_MILLIS_CLAIM = "iat_ms"
+
+        /**
+         * 토큰의 발급 시각을 밀리초로 반환합니다.
+         *
+         * <p>[ISSUED_AT_MILLIS_CLAIM]이 없는 이전 토큰은 초 단위 iat를 사용합니다.
+         * iat는 실제 발급 시각보다 이르거나 같으므로, 폐기 기준과 같은 초에 발급된 이전 토큰은 폐기된 쪽으로 판단됩니다.</p>
+         *
+         * @param claims 검증된 클레임
+         * @return 발급 시각 (epoch millis, 없으면 0)
+         */
+        fun issuedAtMillis(claims: Claims): Long =
+            (claims[ISSUED_AT_MILLIS_CLAIM] as? Number)?.toLong() ?: claims.issuedAt?.time ?: 0L
+    }
+
     /**
-     * JWT 서명에 사용할 키를 초기화합니다.
+     * 토큰 검증에 사용할 파서를 초기화합니다.
      * 
-     * <p>application.yml에 설정된 secretKey를 디코딩하여 HMAC-SHA 키를 생성합니다.</p>
+     * <p>검증에 사용할 [JwtParser]를 한 번만 만들어 둡니다. JwtParser는 불변이며 스레드 안전하므로
+     * 모든 요청이 같은 인스턴스를 공유합니다. 검증 키는 토큰 헤더의 kid로 [JwtKeyRing]에서
+     * O(1)로 조회되므로 키가 교체되어도 파서를 다시 만들 필요가 없습니다.</p>
      */
     @PostConstruct
-    protected fun init() {
-        val keyBytes = Base64.getDecoder().decode(jwtProperties.secretKey)
-        key = Keys.hmacShaKeyFor(keyBytes)
+    fun init() {
+        parser = Jwts.parser()
+            .keyLocator(object : LocatorAdapter<Key>() {
+                override fun locate(header: JwsHeader): Key =
+                    jwtKeyRing.verificationKey(header.keyId)
+                        ?: throw SignatureException("알 수 없는 서명 키입니다: ${header.keyId}")
+            })
+            .build()
     }
 
     /**
@@ -76,33 +141,129 @@ class JwtProvider(
 
     /**
      * 리프레시 토큰을 생성합니다.
+     *
+     * <p>[RefreshTokenStore]에서 발급받은 토큰 ID를 jti로, 계열 ID를 fam 클레임으로 기록하고,
+     * 액세스 토큰으로 쓰이지 않도록 typ=refresh 클레임을 함께 기록합니다.</p>
      * 
      * @param authentication 인증 정보
+     * @param issued 저장소에 등록된 토큰 식별자
      * @return 생성된 리프레시 토큰
      */
-    fun generateRefreshToken(authentication: Authentication): String =
-        generateToken(authentication, jwtProperties.refreshTokenValidityInSeconds)
+    fun generateRefreshToken(authentication: Authentication, issued: RefreshTokenStore.Issued): String =
+        generateToken(authentication, jwtProperties.refreshTokenValidityInSeconds) {
+            it.id(issued.tokenId)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_CLAIM, issued.familyId)
+        }
 
     /**
      * JWT 토큰을 생성합니다.
+     *
+     * <p>압축 형식이 켜져 있고 principal에서 사용자 ID와 역할을 알 수 있으면 압축 형식으로,
+     * 그렇지 않으면 기존 형식으로 발급합니다. 모든 토큰에는 폐기 확인을 위한 jti, iat와 밀리초 발급 시각(iat_ms)이 포함됩니다.</p>
      * 
      * @param authentication 인증 정보
      * @param validityInSeconds 토큰 유효 기간(초)
+     * @param customizer 추가 클레임 설정
      * @return 생성된 JWT 토큰
      */
-    private fun generateToken(authentication: Authentication, validityInSeconds: Long): String {
-        val authorities = authentication.authorities.joinToString(",") { it.authority }
+    private fun generateToken(
+        authentication: Authentication,
+        validityInSeconds: Long,
+        customizer: (JwtBuilder) -> Unit = {}
+    ): String {
         val now = Date()
         val validity = Date(now.time + validityInSeconds * 1000)
+        val builder = Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .issuedAt(now)
+            .claim(ISSUED_AT_MILLIS_CLAIM, now.time)
+
+        builder.subject(subjectOf(authentication))
+        val role = compactRole(authentication)
+        if (role != null) {
+            builder.claim(ROLE_CLAIM, role.ordinal)
+        } else {
+            builder.claim(AUTHORITIES_CLAIM, authentication.authorities.joinToString(",") { it.authority })
+        }
+
+        customizer(builder)
+
+        val signingKey = jwtKeyRing.signingKey()
+        signingKey.kid?.let { builder.header().keyId(it).and() }
 
-        return Jwts.builder()
-            .subject(authentication.name)
-            .claim("auth", authorities)
-            .signWith(key)
+        return builder
+            .signWith(signingKey.key)
             .expiration(validity)
             .compact()
     }
 
+    /**
+     * 인증 정보로 발급할 토큰의 subject를 반환합니다.
+     *
+     * <p>압축 형식이면 사용자 ID, 기존 형식이면 이메일입니다.
+     * [RefreshTokenStore]에 토큰 계열을 등록할 때 같은 값을 사용합니다.</p>
+     *
+     * @param authentication 인증 정보
+     * @return 토큰 subject
+     */
+    fun subjectOf(authentication: Authentication): String =
+        compactRole(authentication)
+            ?.let { (authentication.principal as UserPrincipal).id.toString() }
+            ?: authentication.name
+
+    /**
+     * 압축 형식으로 발급할 수 있으면 principal의 역할을 반환합니다.
+     *
+     * @param authentication 인증 정보
+     * @return 역할 또는 null (기존 형식으로 발급)
+     */
+    private fun compactRole(authentication: Authentication): Role? {
+        if (!jwtProperties.compactClaims) return null
+        val principal = authentication.principal as? UserPrincipal ?: return null
+        return if (principal.id != null) principal.role else null
+    }
+
+    /**
+     * JWT 토큰을 한 번 파싱하여 서명과 만료 시간을 검증합니다.
+     *
+     * <p>검증에 성공하면 클레임을, 실패하면 실패 사유를 반환합니다.
+     * 예외를 던지지 않으므로 필터와 서비스에서 같은 토큰을 두 번 파싱할 필요가 없습니다.</p>
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 검증 결과
+     */
+    fun verify(token: String): TokenVerification = try {
+        TokenVerification.Valid(parseClaims(token))
+    } catch (e: SecurityException) {
+        invalid(TokenVerification.FailureReason.INVALID_SIGNATURE)
+    } catch (e: MalformedJwtException) {
+        invalid(TokenVerification.FailureReason.MALFORMED)
+    } catch (e: ExpiredJwtException) {
+        invalid(TokenVerification.FailureReason.EXPIRED)
+    } catch (e: UnsupportedJwtException) {
+        invalid(TokenVerification.FailureReason.UNSUPPORTED)
+    } catch (e: IllegalArgumentException) {
+        invalid(TokenVerification.FailureReason.ILLEGAL_ARGUMENT)
+    } catch (e: JwtException) {
+        invalid(TokenVerification.FailureReason.INVALID)
+    }
+
+    /**
+     * 검증된 클레임으로부터 인증 정보를 생성합니다.
+     *
+     * @param token 원본 JWT 토큰 (credentials로 사용)
+     * @param claims [verify]로 검증된 클레임
+     * @return 인증 정보
+     */
+    fun getAuthentication(token: String, claims: Claims): Authentication {
+        val principal = (claims[ROLE_CLAIM] as? Number)
+            ?.let { compactPrincipal(claims.subject, it.toInt()) }
+            ?: legacyPrincipal(claims.subject, claims[AUTHORITIES_CLAIM]?.toString().orEmpty())
+
+        return UsernamePasswordAuthenticationToken(principal, token, principal.authorities)
+    }
+
     /**
      * JWT 토큰에서 인증 정보를 추출합니다.
      * 
@@ -110,16 +271,8 @@ class JwtProvider(
      * @return 인증 정보
      * @throws JwtException 토큰 파싱 실패 시
      */
-    fun getAuthentication(token: String): Authentication {
-        val claims = parseClaims(token)
-        val authorities = claims["auth"]
-            .toString()
-            .split(",")
-            .map { SimpleGrantedAuthority(it) }
-
-        val principal = User(claims.subject, "", authorities)
-        return UsernamePasswordAuthenticationToken(principal, token, authorities)
-    }
+    fun getAuthentication(token: String): Authentication =
+        getAuthentication(token, parseClaims(token))
 
     /**
      * JWT 토큰의 유효성을 검증합니다.
@@ -127,24 +280,58 @@ class JwtProvider(
      * @param token 검증할 JWT 토큰
      * @return 토큰 유효성 여부
      */
-    fun validateToken(token: String): Boolean = try {
-        parseClaims(token)
-        true
-    } catch (e: SecurityException) {
-        logger.info { "잘못된 JWT 서명입니다." }
-        false
-    } catch (e: MalformedJwtException) {
-        logger.info { "잘못된 JWT 토큰입니다." }
-        false
-    } catch (e: ExpiredJwtException) {
-        logger.info { "만료된 JWT 토큰입니다." }
-        false
-    } catch (e: UnsupportedJwtException) {
-        logger.info { "지원되지 않는 JWT 토큰입니다." }
-        false
-    } catch (e: IllegalArgumentException) {
-        logger.info { "JWT 토큰이 잘못되었습니다." }
-        false
+    fun validateToken(token: String): Boolean =
+        verify(token) is TokenVerification.Valid
+
+    /**
+     * 압축 형식(sub=사용자 ID, r=역할 ordinal)의 클레임으로 principal을 생성합니다.
+     *
+     * @param subject 사용자 ID 문자열
+     * @param roleOrdinal 역할 ordinal
+     * @return 사용자 ID와 역할이 설정된 principal
+     * @throws MalformedJwtException 사용자 ID 또는 역할을 해석할 수 없는 경우
+     */
+    private fun compactPrincipal(subject: String, roleOrdinal: Int): UserPrincipal {
+        val userId = subject.toLongOrNull()
+            ?: throw MalformedJwtException("압축 형식 토큰의 subject가 사용자 ID가 아닙니다.")
+        val role = Role.entries.getOrNull(roleOrdinal)
+            ?: throw MalformedJwtException("알 수 없는 역할입니다: $roleOrdinal")
+        return UserPrincipal(id = userId, name = subject, passwordHash = "", role = role)
+    }
+
+    /**
+     * 기존 형식(sub=이메일, auth=권한 문자열)의 클레임으로 principal을 생성합니다.
+     *
+     * <p>단일 역할이면 [Role.authorities]를 그대로 사용하고,
+     * 알 수 없는 권한 문자열만 새로 생성합니다.</p>
+     *
+     * @param subject 이메일
+     * @param authorities 쉼표로 구분된 권한 문자열
+     * @return 역할이 설정된 principal (사용자 ID는 null)
+     */
+    private fun legacyPrincipal(subject: String, authorities: String): UserPrincipal {
+        val role = Role.fromAuthority(authorities)
+            ?: return UserPrincipal(
+                id = null,
+                name = subject,
+                passwordHash = "",
+                role = null,
+                grantedAuthorities = authorities.split(",")
+                    .filter { it.isNotBlank() }
+                    .map { SimpleGrantedAuthority(it) }
+            )
+        return UserPrincipal(id = null, name = subject, passwordHash = "", role = role)
+    }
+
+    /**
+     * 검증 실패를 로그로 남기고 실패 결과를 생성합니다.
+     *
+     * @param reason 실패 사유
+     * @return 실패 결과
+     */
+    private fun invalid(reason: TokenVerification.FailureReason): TokenVerification.Invalid {
+        logger.info { reason.message }
+        return TokenVerification.Invalid(reason)
     }
 
     /**
@@ -155,9 +342,5 @@ class JwtProvider(
      * @throws JwtException 토큰 파싱 실패 시
      */
     private fun parseClaims(token: String): Claims =
-        Jwts.parser()
-            .verifyWith(key as SecretKey)
-            .build()
-            .parseSignedClaims(token)
-            .payload
-} 
\ No newline at end of file
+        parser.parseSignedClaims(token).payload
+}
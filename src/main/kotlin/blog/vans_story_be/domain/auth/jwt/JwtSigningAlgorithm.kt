@@ -0,0 +1,28 @@
+package blog.vans_story_be.domain.auth.jwt
+
+/**
+ * JWT 서명 알고리즘 종류입니다.
+ *
+ * - [HS512]: VANS_BLOG_JWT_SECRET_KEY로 서명하는 대칭키 방식 (기본값, kid 없음)
+ * - [EdDSA]: Ed25519 키 쌍으로 서명하고 kid 헤더를 포함
+ * - [ES256]: P-256 ECDSA 키 쌍으로 서명하고 kid 헤더를 포함
+ *
+ * 비대칭 방식에서는 공개키가 /.well-known/jwks.json으로 공개되므로
+ * 다른 서비스가 비밀키 공유 없이 토큰을 검증할 수 있습니다.
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see JwtKeyRing
+ */
+enum class JwtSigningAlgorithm {
+    HS512,
+    EdDSA,
+    ES256;
+
+    /**
+     * 비대칭 키 쌍을 사용하는 알고리즘인지 여부입니다.
+     */
+    val asymmetric: Boolean
+        get() = this != HS512
+}
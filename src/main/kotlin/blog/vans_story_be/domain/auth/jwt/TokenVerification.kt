@@ -0,0 +1,54 @@
+package blog.vans_story_be.domain.auth.jwt
+
+import io.jsonwebtoken.Claims
+
+/**
+ * JWT 토큰 검증 결과를 표현하는 타입입니다.
+ *
+ * <p>[JwtProvider.verify]는 토큰을 한 번만 파싱하고, 그 결과를
+ * 검증된 클레임 또는 실패 사유로 반환합니다. 호출자는 같은 토큰을 다시 파싱하지 않고
+ * [Valid.claims]로 인증 정보를 만들 수 있습니다.</p>
+ *
+ * <h4>사용 예시:</h4>
+ * <pre>
+ * when (val result = jwtProvider.verify(token)) {
+ *     is TokenVerification.Valid -> jwtProvider.getAuthentication(token, result.claims)
+ *     is TokenVerification.Invalid -> logger.info { result.reason.message }
+ * }
+ * </pre>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see JwtProvider
+ */
+sealed interface TokenVerification {
+
+    /**
+     * 서명과 만료 시간이 모두 검증된 토큰입니다.
+     *
+     * @property claims 검증된 토큰의 클레임
+     */
+    data class Valid(val claims: Claims) : TokenVerification
+
+    /**
+     * 검증에 실패한 토큰입니다.
+     *
+     * @property reason 실패 사유
+     */
+    data class Invalid(val reason: FailureReason) : TokenVerification
+
+    /**
+     * 토큰 검증 실패 사유입니다.
+     *
+     * @property message 로그에 남길 메시지
+     */
+    enum class FailureReason(val message: String) {
+        INVALID_SIGNATURE("잘못된 JWT 서명입니다."),
+        MALFORMED("잘못된 JWT 토큰입니다."),
+        EXPIRED("만료된 JWT 토큰입니다."),
+        UNSUPPORTED("지원되지 않는 JWT 토큰입니다."),
+        ILLEGAL_ARGUMENT("JWT 토큰이 잘못되었습니다."),
+        INVALID("유효하지 않은 JWT 토큰입니다.")
+    }
+}
@@ -1,7 +1,12 @@
 package blog.vans_story_be.domain.auth.service
 
+import blog.vans_story_be.config.security.PasswordHashingBusyException
 import blog.vans_story_be.domain.auth.dto.LoginRequest
 import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import blog.vans_story_be.domain.auth.jwt.TokenVerification
+import blog.vans_story_be.domain.auth.store.RefreshTokenStore
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import io.jsonwebtoken.Claims
 import blog.vans_story_be.global.exception.CustomException
 import jakarta.servlet.http.Cookie
 import jakarta.servlet.http.HttpServletResponse
@@ -17,6 +22,9 @@ import org.springframework.stereotype.Service
  * 
  * <p>로그인, 토큰 갱신, Refresh Token 관리 등의 인증 관련 기능을 제공합니다.
  * JWT 기반의 인증을 사용하며, 액세스 토큰과 리프레시 토큰을 모두 관리합니다.</p>
+ *
+ * <p>Refresh Token은 [RefreshTokenStore]에 계열 단위로 등록됩니다. 갱신할 때마다 새 토큰으로 교체되며,
+ * 이미 사용된 토큰이 다시 제시되면 계열 전체가 폐기됩니다.</p>
  * 
  * <h4>주요 기능:</h4>
  * <ul>
@@ -34,7 +42,7 @@ import org.springframework.stereotype.Service
  * authService.refresh(refreshToken, response)
  * 
  * // 로그아웃
- * authService.logout(response)
+ * authService.logout(refreshToken, response)
  * </pre>
  * 
  * @author vans
@@ -42,11 +50,14 @@ import org.springframework.stereotype.Service
  * @since 2025.06.07
  * @see JwtProvider
  * @see LoginRequest
+ * @see RefreshTokenStore
  */
 @Service
 class AuthService(
     private val authenticationManager: AuthenticationManager,
-    private val jwtProvider: JwtProvider
+    private val jwtProvider: JwtProvider,
+    private val refreshTokenStore: RefreshTokenStore,
+    private val tokenRevocationList: TokenRevocationList
 ) {
     private val logger = KotlinLogging.logger {}
 
@@ -64,14 +75,17 @@ class AuthService(
      * @param loginRequest 로그인 요청 정보 (이메일, 비밀번호)
      * @param response HTTP 응답 객체
      * @throws BadCredentialsException 인증 실패 시
+     * @throws PasswordHashingBusyException 비밀번호 해싱 대기열이 가득 찬 경우
      */
     fun login(loginRequest: LoginRequest, response: HttpServletResponse) {
         runCatching {
             val authentication = authenticateUser(loginRequest)
-            generateAndSetTokens(authentication, response)
+            val issued = refreshTokenStore.startFamily(jwtProvider.subjectOf(authentication))
+            generateAndSetTokens(authentication, issued, response)
         }.onFailure { e ->
             logger.error(e) { "로그인 실패: ${loginRequest.email}, 오류: ${e.message}" }
             throw when (e) {
+                is PasswordHashingBusyException -> e
                 is BadCredentialsException -> {
                     logger.error { "인증 실패 - 잘못된 자격 증명: ${loginRequest.email}" }
                     CustomException("이메일 또는 비밀번호가 올바르지 않습니다.")
@@ -87,8 +101,8 @@ class AuthService(
     /**
      * Refresh Token을 검증하고 새로운 토큰을 발급합니다.
      * 
-     * <p>기존 Refresh Token의 유효성을 검증한 후,
-     * 새로운 액세스 토큰과 리프레시 토큰을 발급합니다.</p>
+     * <p>기존 Refresh Token의 유효성을 검증하고 저장소에서 사용 완료로 표시한 후,
+     * 같은 계열의 새로운 액세스 토큰과 리프레시 토큰을 발급합니다.</p>
      * 
      * @param refreshToken 갱신에 사용할 Refresh Token
      * @param response HTTP 응답 객체
@@ -96,8 +110,10 @@ class AuthService(
      */
     fun refresh(refreshToken: String, response: HttpServletResponse) {
         runCatching {
-            val authentication = validateAndGetAuthentication(refreshToken)
-            generateAndSetTokens(authentication, response)
+            val claims = validateAndGetClaims(refreshToken)
+            val issued = rotate(claims)
+            val authentication = jwtProvider.getAuthentication(refreshToken, claims)
+            generateAndSetTokens(authentication, issued, response)
             logger.info { "토큰 갱신 성공: ${authentication.name}" }
         }.onFailure { e ->
             logger.error(e) { "토큰 갱신 실패" }
@@ -108,11 +124,18 @@ class AuthService(
     /**
      * 로그아웃을 처리합니다.
      * 
-     * <p>Refresh Token 쿠키를 만료시켜 로그아웃을 처리합니다.</p>
+     * <p>Refresh Token 계열을 폐기하고 쿠키를 만료시켜 로그아웃을 처리합니다.
+     * 토큰이 없거나 유효하지 않으면 쿠키만 만료시킵니다.</p>
      * 
+     * @param refreshToken 쿠키의 Refresh Token (없으면 null)
      * @param response HTTP 응답 객체
      */
-    fun logout(response: HttpServletResponse) {
+    fun logout(refreshToken: String?, response: HttpServletResponse) {
+        refreshToken
+            ?.let { jwtProvider.verify(it) as? TokenVerification.Valid }
+            ?.takeIf { it.claims[JwtProvider.TOKEN_TYPE_CLAIM] == JwtProvider.REFRESH_TOKEN_TYPE }
+            ?.let { it.claims.get(JwtProvider.FAMILY_CLAIM, String::class.java) }
+            ?.let { refreshTokenStore.revokeFamily(it) }
         response.addCookie(createExpiredCookie())
         logger.info { "사용자 로그아웃 처리 완료" }
     }
@@ -141,21 +164,50 @@ class AuthService(
     }
 
     /**
-     * Refresh Token을 검증하고 인증 정보를 추출합니다.
+     * Refresh Token을 한 번 파싱하여 유효성, 토큰 종류, 폐기 여부를 검증하고 클레임을 반환합니다.
      *
-     * 처리 과정:
-     * 1. Refresh Token 유효성 검증
-     * 2. 토큰에서 인증 정보 추출
+     * <p>typ=refresh 클레임이 없는 토큰(액세스 토큰, 종류 클레임 도입 전의 리프레시 토큰)으로는 갱신할 수 없습니다.</p>
      *
      * @param refreshToken 검증할 Refresh Token
-     * @return 인증된 사용자의 Authentication 객체
-     * @throws CustomException 토큰이 유효하지 않은 경우
+     * @return 검증된 클레임
+     * @throws CustomException 토큰이 유효하지 않거나, 리프레시 토큰이 아니거나, 폐기된 경우
+     */
+    private fun validateAndGetClaims(refreshToken: String): Claims {
+        val claims = when (val result = jwtProvider.verify(refreshToken)) {
+            is TokenVerification.Valid -> result.claims
+            is TokenVerification.Invalid -> throw CustomException("Refresh Token이 유효하지 않습니다.")
+        }
+        if (claims[JwtProvider.TOKEN_TYPE_CLAIM] != JwtProvider.REFRESH_TOKEN_TYPE) {
+            throw CustomException("Refresh Token이 아닙니다.")
+        }
+        if (tokenRevocationList.isRevoked(claims.id, claims.subject, JwtProvider.issuedAtMillis(claims))) {
+            throw CustomException("폐기된 Refresh Token입니다.")
+        }
+        return claims
+    }
+
+    /**
+     * 저장소에서 Refresh Token을 교체하고 새 토큰 식별자를 발급받습니다.
+     *
+     * 처리 과정:
+     * 1. jti, fam 클레임 확인 (계열 정보가 없는 이전 형식의 토큰은 거부)
+     * 2. 저장소에서 사용 완료로 표시 (이미 사용된 토큰이면 계열 전체 폐기)
+     *
+     * @param claims 검증된 Refresh Token 클레임
+     * @return 새 Refresh Token 식별자
+     * @throws CustomException 교체가 거부된 경우
      */
-    private fun validateAndGetAuthentication(refreshToken: String): Authentication {
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw CustomException("Refresh Token이 유효하지 않습니다.")
+    private fun rotate(claims: Claims): RefreshTokenStore.Issued {
+        val tokenId = claims.id
+        val familyId = claims.get(JwtProvider.FAMILY_CLAIM, String::class.java)
+        if (tokenId == null || familyId == null) {
+            throw CustomException("Refresh Token에 계열 정보가 없습니다. 다시 로그인해주세요.")
+        }
+
+        return when (val result = refreshTokenStore.rotate(tokenId, familyId, claims.subject)) {
+            is RefreshTokenStore.RotationResult.Rotated -> result.next
+            is RefreshTokenStore.RotationResult.Rejected -> throw CustomException(result.reason)
         }
-        return jwtProvider.getAuthentication(refreshToken)
     }
 
     /**
@@ -167,11 +219,16 @@ class AuthService(
      * 3. Refresh Token을 쿠키에 설정
      *
      * @param authentication 인증된 사용자 정보
+     * @param issued 저장소에 등록된 Refresh Token 식별자
      * @param response HTTP 응답 객체
      */
-    private fun generateAndSetTokens(authentication: Authentication, response: HttpServletResponse) {
+    private fun generateAndSetTokens(
+        authentication: Authentication,
+        issued: RefreshTokenStore.Issued,
+        response: HttpServletResponse
+    ) {
         val accessToken = jwtProvider.generateAccessToken(authentication)
-        val refreshToken = jwtProvider.generateRefreshToken(authentication)
+        val refreshToken = jwtProvider.generateRefreshToken(authentication, issued)
         
         response.setHeader("Authorization", BEARER_PREFIX + accessToken)
         response.addCookie(createRefreshTokenCookie(refreshToken))
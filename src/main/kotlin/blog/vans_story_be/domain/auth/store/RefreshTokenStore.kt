@@ -0,0 +1,353 @@
+package blog.vans_story_be.domain.auth.store
+
+import blog.vans_story_be.domain.auth.entity.RefreshTokens
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import mu.KotlinLogging
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.less
+import org.jetbrains.exposed.sql.batchInsert
+import org.jetbrains.exposed.sql.deleteWhere
+import org.jetbrains.exposed.sql.select
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.jetbrains.exposed.sql.update
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.security.SecureRandom
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.util.Base64
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Refresh Token 계열(family)을 관리하는 저장소입니다.
+ *
+ * <p>로그인마다 새 계열이 시작되고, 갱신할 때마다 같은 계열의 새 토큰이 발급되며 이전 토큰은
+ * 사용 완료로 표시됩니다. 이미 사용된 토큰이 다시 제시되면 탈취로 간주하여 계열 전체를 폐기합니다.</p>
+ *
+ * <h4>저장 구조:</h4>
+ * <ul>
+ *   <li>메모리 인덱스(제한 크기 Caffeine 캐시)가 판단의 기준이며, 갱신 경로는 DB를 기다리지 않습니다.</li>
+ *   <li>인덱스는 [JwtProperties.refreshTokenIndexMaxSize]를 넘거나 토큰이 만료되면 항목을 내보냅니다.</li>
+ *   <li>발급, 사용 시각(last_used), 계열 폐기는 큐에 쌓였다가 [flush]에서 한 트랜잭션으로 기록됩니다.</li>
+ *   <li>재시작 직후나 인덱스에서 빠진 토큰은 DB에서 한 번 읽어 인덱스에 올립니다.
+ *       아직 기록되지 않은 사용 완료 표시는 DB 행보다 우선합니다.</li>
+ *   <li>만료된 토큰은 요청 스레드가 아닌 [sweepExpired]에서 정리됩니다.</li>
+ * </ul>
+ *
+ * <h4>여러 인스턴스:</h4>
+ * <ul>
+ *   <li>[sync]가 주기적으로 다른 인스턴스가 기록한 사용 완료(last_used)와 계열 폐기(revoked_at)를 읽어
+ *       인덱스에 반영합니다. [blog.vans_story_be.domain.auth.jwt.JwtKeyRing.reload]와 같은 방식입니다.</li>
+ *   <li>인덱스에 없는 토큰은 DB 행(rotated, revoked)을 기준으로 판단합니다.</li>
+ *   <li>남는 구간: 한 인스턴스의 사용 완료와 폐기는 기록 주기 + 동기화 주기(기본 약 2초)가 지나야
+ *       다른 인스턴스에 보입니다. 그 사이 같은 토큰을 다른 인스턴스에 제시하면 한 번 더 갱신될 수 있고,
+ *       폐기된 계열도 한 번 더 갱신될 수 있습니다.</li>
+ *   <li>새로 발급된 토큰은 기록 주기(기본 1초)가 지나기 전까지 다른 인스턴스에서 등록되지 않은 토큰으로 거부됩니다.
+ *       액세스 토큰이 만료된 뒤에야 갱신하므로 일반적인 사용에서는 닿지 않는 구간입니다.</li>
+ * </ul>
+ *
+ * <h4>설정 (환경변수):</h4>
+ * <pre>
+ * VANS_BLOG_REFRESH_TOKEN_FLUSH_INTERVAL_MS=1000     # 배치 기록 주기
+ * VANS_BLOG_REFRESH_TOKEN_SWEEP_INTERVAL_MS=3600000  # 만료 토큰 정리 주기
+ * VANS_BLOG_REFRESH_TOKEN_SYNC_INTERVAL_MS=1000      # 다른 인스턴스의 사용/폐기 기록을 읽는 주기
+ * </pre>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see RefreshTokens
+ * @see blog.vans_story_be.domain.auth.service.AuthService
+ */
+@Component
+class RefreshTokenStore(
+    private val jwtProperties: JwtProperties
+) {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+        private const val ID_BYTES = 16
+    }
+
+    /**
+     * 새로 발급된 Refresh Token의 식별자입니다.
+     *
+     * @property tokenId jti 클레임으로 사용할 토큰 ID
+     * @property familyId fam 클레임으로 사용할 계열 ID
+     */
+    data class Issued(
+        val tokenId: String,
+        val familyId: String
+    )
+
+    /**
+     * 토큰 갱신 결과입니다.
+     */
+    sealed interface RotationResult {
+        /** 갱신 성공. [next]로 새 Refresh Token을 발급합니다. */
+        data class Rotated(val next: Issued) : RotationResult
+
+        /** 갱신 거부. [reason]은 로그와 예외 메시지에 사용합니다. */
+        data class Rejected(val reason: String) : RotationResult
+    }
+
+    /**
+     * 메모리 인덱스 항목입니다.
+     */
+    private class Entry(
+        val familyId: String,
+        val subject: String,
+        val expiresAt: Long,
+        rotated: Boolean = false
+    ) {
+        val rotated = AtomicBoolean(rotated)
+    }
+
+    /**
+     * DB에 기록할 신규 토큰입니다.
+     */
+    private data class PendingInsert(
+        val tokenId: String,
+        val familyId: String,
+        val subject: String,
+        val issuedAt: Long,
+        val expiresAt: Long
+    )
+
+    private val random = SecureRandom()
+    private val tokens: Cache<String, Entry> = Caffeine.newBuilder()
+        .maximumSize(jwtProperties.refreshTokenIndexMaxSize)
+        .expireAfter(object : Expiry<String, Entry> {
+            override fun expireAfterCreate(key: String, value: Entry, currentTime: Long): Long =
+                TimeUnit.MILLISECONDS.toNanos((value.expiresAt - System.currentTimeMillis()).coerceAtLeast(0L))
+
+            override fun expireAfterUpdate(key: String, value: Entry, currentTime: Long, currentDuration: Long): Long =
+                currentDuration
+
+            override fun expireAfterRead(key: String, value: Entry, currentTime: Long, currentDuration: Long): Long =
+                currentDuration
+        })
+        .build()
+    private val revokedFamilies = ConcurrentHashMap<String, Long>()
+
+    private val pendingInserts = ConcurrentLinkedQueue<PendingInsert>()
+    private val pendingLastUsed = ConcurrentHashMap<String, Long>()
+    private val pendingRevokedFamilies = ConcurrentLinkedQueue<String>()
+
+    @Volatile
+    private var lastSyncedAt: Long = System.currentTimeMillis()
+
+    /**
+     * 로그인 시 새 토큰 계열을 시작합니다.
+     *
+     * @param subject 토큰의 subject
+     * @return 발급할 토큰의 식별자
+     */
+    fun startFamily(subject: String): Issued = issue(newId(), subject)
+
+    /**
+     * Refresh Token을 사용 완료로 표시하고 같은 계열의 새 토큰을 발급합니다.
+     *
+     * <p>이미 사용된 토큰이면 계열 전체를 폐기하고 거부합니다.
+     * 같은 토큰으로 동시에 요청이 들어와도 한 요청만 성공합니다.</p>
+     *
+     * @param tokenId 제시된 토큰의 jti
+     * @param familyId 제시된 토큰의 fam
+     * @param subject 제시된 토큰의 subject
+     * @return 갱신 결과
+     */
+    fun rotate(tokenId: String, familyId: String, subject: String): RotationResult {
+        if (revokedFamilies.containsKey(familyId)) {
+            return RotationResult.Rejected("폐기된 Refresh Token 계열입니다.")
+        }
+
+        val entry = tokens.getIfPresent(tokenId) ?: loadFromDatabase(tokenId)
+            ?: return RotationResult.Rejected("등록되지 않은 Refresh Token입니다.")
+
+        // 재시작 직후에는 폐기된 계열이 DB에서 읽은 뒤에야 메모리에 올라오므로 한 번 더 확인
+        if (revokedFamilies.containsKey(familyId)) {
+            return RotationResult.Rejected("폐기된 Refresh Token 계열입니다.")
+        }
+
+        if (entry.familyId != familyId || entry.subject != subject) {
+            return RotationResult.Rejected("Refresh Token 정보가 일치하지 않습니다.")
+        }
+
+        if (!entry.rotated.compareAndSet(false, true)) {
+            logger.warn { "Refresh Token 재사용 감지 - 계열 폐기: family=$familyId, subject=$subject" }
+            revokeFamily(familyId)
+            return RotationResult.Rejected("이미 사용된 Refresh Token입니다.")
+        }
+
+        pendingLastUsed[tokenId] = System.currentTimeMillis()
+        return RotationResult.Rotated(issue(familyId, subject))
+    }
+
+    /**
+     * 토큰 계열 전체를 폐기합니다. (로그아웃, 재사용 감지)
+     *
+     * @param familyId 폐기할 계열 ID
+     */
+    fun revokeFamily(familyId: String) {
+        val keepUntil = System.currentTimeMillis() + jwtProperties.refreshTokenValidityInSeconds * 1000
+        if (revokedFamilies.put(familyId, keepUntil) == null) {
+            pendingRevokedFamilies.add(familyId)
+        }
+    }
+
+    /**
+     * 대기 중인 발급/사용/폐기 기록을 한 트랜잭션으로 DB에 반영합니다.
+     *
+     * <p>실패하면 다음 주기에 다시 시도하도록 큐에 되돌립니다.</p>
+     */
+    @Scheduled(fixedDelayString = "\${VANS_BLOG_REFRESH_TOKEN_FLUSH_INTERVAL_MS:1000}")
+    fun flush() {
+        val inserts = drain(pendingInserts)
+        val revoked = drain(pendingRevokedFamilies)
+        val lastUsed = pendingLastUsed.keys.toList()
+            .mapNotNull { id -> pendingLastUsed.remove(id)?.let { id to it } }
+
+        if (inserts.isEmpty() && revoked.isEmpty() && lastUsed.isEmpty()) return
+
+        runCatching {
+            transaction {
+                if (inserts.isNotEmpty()) {
+                    RefreshTokens.batchInsert(inserts, shouldReturnGeneratedValues = false) {
+                        this[RefreshTokens.tokenId] = it.tokenId
+                        this[RefreshTokens.familyId] = it.familyId
+                        this[RefreshTokens.subject] = it.subject
+                        this[RefreshTokens.expiresAt] = toDateTime(it.expiresAt)
+                        this[RefreshTokens.createdAt] = toDateTime(it.issuedAt)
+                    }
+                }
+                lastUsed.forEach { (id, usedAt) ->
+                    RefreshTokens.update({ RefreshTokens.tokenId eq id }) {
+                        it[RefreshTokens.lastUsed] = toDateTime(usedAt)
+                        it[RefreshTokens.rotated] = true
+                    }
+                }
+                if (revoked.isNotEmpty()) {
+                    val revokedAt = LocalDateTime.now()
+                    RefreshTokens.update({ RefreshTokens.familyId inList revoked }) {
+                        it[RefreshTokens.revoked] = true
+                        it[RefreshTokens.revokedAt] = revokedAt
+                    }
+                }
+            }
+        }.onSuccess {
+            logger.debug { "Refresh Token 기록 완료 - 발급: ${inserts.size}, 사용: ${lastUsed.size}, 폐기: ${revoked.size}" }
+        }.onFailure { e ->
+            logger.error(e) { "Refresh Token 기록 실패, 다음 주기에 재시도합니다." }
+            pendingInserts.addAll(inserts)
+            pendingRevokedFamilies.addAll(revoked)
+            lastUsed.forEach { (id, usedAt) -> pendingLastUsed.putIfAbsent(id, usedAt) }
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 기록한 사용 완료와 계열 폐기를 인덱스에 반영합니다.
+     *
+     * <p>직전 조회 시각에서 [JwtProperties.refreshTokenSyncLookbackMs]만큼 앞부터 다시 읽습니다.
+     * 같은 기록을 여러 번 반영해도 결과는 같으며, 인덱스에 없는 토큰은 다음 갱신 때 DB에서 읽으므로 건너뜁니다.
+     * 조회에 실패하면 조회 시각을 옮기지 않아 다음 주기에 같은 구간을 다시 읽습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "\${VANS_BLOG_REFRESH_TOKEN_SYNC_INTERVAL_MS:1000}")
+    fun sync() {
+        val startedAt = System.currentTimeMillis()
+        val since = toDateTime(lastSyncedAt - jwtProperties.refreshTokenSyncLookbackMs)
+
+        runCatching {
+            transaction {
+                val rotated = RefreshTokens.slice(RefreshTokens.tokenId)
+                    .select { RefreshTokens.lastUsed greaterEq since }
+                    .map { it[RefreshTokens.tokenId] }
+                val revoked = RefreshTokens.slice(RefreshTokens.familyId)
+                    .select { RefreshTokens.revokedAt greaterEq since }
+                    .withDistinct()
+                    .map { it[RefreshTokens.familyId] }
+                rotated to revoked
+            }
+        }.onSuccess { (rotated, revoked) ->
+            rotated.forEach { tokens.getIfPresent(it)?.rotated?.set(true) }
+            val keepUntil = startedAt + jwtProperties.refreshTokenValidityInSeconds * 1000
+            revoked.forEach { revokedFamilies.putIfAbsent(it, keepUntil) }
+            lastSyncedAt = startedAt
+        }.onFailure { e ->
+            logger.error(e) { "Refresh Token 사용/폐기 기록 동기화 실패, 다음 주기에 재시도합니다." }
+        }
+    }
+
+    /**
+     * 만료된 토큰을 메모리와 DB에서 정리합니다.
+     */
+    @Scheduled(
+        fixedDelayString = "\${VANS_BLOG_REFRESH_TOKEN_SWEEP_INTERVAL_MS:3600000}",
+        initialDelayString = "\${VANS_BLOG_REFRESH_TOKEN_SWEEP_INTERVAL_MS:3600000}"
+    )
+    fun sweepExpired() {
+        val now = System.currentTimeMillis()
+        tokens.cleanUp()
+        revokedFamilies.entries.removeIf { it.value <= now }
+
+        runCatching {
+            transaction {
+                RefreshTokens.deleteWhere { RefreshTokens.expiresAt less toDateTime(now) }
+            }
+        }.onSuccess { deleted ->
+            logger.info { "만료된 Refresh Token 정리 완료 - 삭제: ${deleted}건, 메모리 인덱스: ${tokens.estimatedSize()}건" }
+        }.onFailure { e ->
+            logger.error(e) { "만료된 Refresh Token 정리 실패" }
+        }
+    }
+
+    /**
+     * 새 토큰을 인덱스에 등록하고 DB 기록 큐에 추가합니다.
+     */
+    private fun issue(familyId: String, subject: String): Issued {
+        val tokenId = newId()
+        val issuedAt = System.currentTimeMillis()
+        val expiresAt = issuedAt + jwtProperties.refreshTokenValidityInSeconds * 1000
+        tokens.put(tokenId, Entry(familyId, subject, expiresAt))
+        pendingInserts.add(PendingInsert(tokenId, familyId, subject, issuedAt, expiresAt))
+        return Issued(tokenId, familyId)
+    }
+
+    /**
+     * 인덱스에 없는 토큰을 DB에서 읽어 인덱스에 등록합니다. (재시작 직후 등)
+     *
+     * @param tokenId 토큰 ID
+     * @return 인덱스 항목 또는 null (DB에도 없거나 만료된 경우)
+     */
+    private fun loadFromDatabase(tokenId: String): Entry? = runCatching {
+        transaction {
+            RefreshTokens.select { RefreshTokens.tokenId eq tokenId }.singleOrNull()
+        }
+    }.getOrElse { e ->
+        logger.error(e) { "Refresh Token 조회 실패: $tokenId" }
+        null
+    }?.let { row ->
+        val expiresAt = row[RefreshTokens.expiresAt].atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        if (expiresAt <= System.currentTimeMillis()) return null
+        if (row[RefreshTokens.revoked]) {
+            revokedFamilies.putIfAbsent(row[RefreshTokens.familyId], expiresAt)
+        }
+        // 인덱스에서 빠졌지만 사용 완료 표시가 아직 기록되지 않은 토큰은 사용된 것으로 처리
+        val rotated = row[RefreshTokens.rotated] || pendingLastUsed.containsKey(tokenId)
+        val entry = Entry(row[RefreshTokens.familyId], row[RefreshTokens.subject], expiresAt, rotated)
+        tokens.asMap().putIfAbsent(tokenId, entry) ?: entry
+    }
+
+    private fun newId(): String =
+        Base64.getUrlEncoder().withoutPadding().encodeToString(ByteArray(ID_BYTES).also { random.nextBytes(it) })
+
+    private fun toDateTime(epochMillis: Long): LocalDateTime =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+
+    private fun <T> drain(queue: ConcurrentLinkedQueue<T>): List<T> =
+        generateSequence { queue.poll() }.toList()
+}
@@ -0,0 +1,225 @@
+package blog.vans_story_be.domain.auth.store
+
+import blog.vans_story_be.domain.auth.entity.RevocationType
+import blog.vans_story_be.domain.auth.entity.RevokedTokens
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import mu.KotlinLogging
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.greater
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.lessEq
+import org.jetbrains.exposed.sql.deleteWhere
+import org.jetbrains.exposed.sql.select
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.jetbrains.exposed.sql.upsert
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.util.Date
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 만료 전에 폐기된 JWT 목록입니다.
+ *
+ * <p>관리자가 역할을 변경하거나 사용자가 삭제되면, 이미 발급된 토큰이 만료될 때까지
+ * 기다리지 않고 즉시 사용할 수 없도록 합니다.</p>
+ *
+ * <h4>폐기 방식:</h4>
+ * <ul>
+ *   <li>토큰 단위: jti로 특정 토큰 하나를 폐기합니다.</li>
+ *   <li>사용자 단위: 기준 시각 이전에 해당 subject로 발급된 모든 토큰(액세스/리프레시)을 폐기합니다.
+ *       subject는 기존 형식(이메일)과 압축 형식(사용자 ID)을 모두 등록합니다.</li>
+ * </ul>
+ *
+ * <h4>저장 구조:</h4>
+ * <ul>
+ *   <li>판단은 메모리의 ConcurrentHashMap 조회로만 이루어지며, [isRevoked]는 객체를 생성하지 않습니다.</li>
+ *   <li>폐기는 드물게 발생하므로 호출한 트랜잭션 안에서 즉시 DB에 기록하고, 기동 시 다시 읽어 들입니다.</li>
+ *   <li>메모리 목록은 트랜잭션이 커밋된 뒤에 갱신합니다. 롤백된 폐기는 토큰을 막지 않습니다.</li>
+ *   <li>사용자 단위 기준 시각은 밀리초 그대로 저장하고, 토큰의 밀리초 발급 시각([JwtProvider.issuedAtMillis])과 비교합니다.</li>
+ *   <li>폐기된 토큰이 모두 만료되면 [prune]에서 메모리와 DB에서 함께 제거됩니다.</li>
+ * </ul>
+ *
+ * <h4>설정 (환경변수):</h4>
+ * <pre>
+ * VANS_BLOG_JWT_REVOCATION_PRUNE_INTERVAL_MS=600000  # 만료 항목 정리 주기
+ * </pre>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see RevokedTokens
+ * @see blog.vans_story_be.domain.auth.jwt.JwtFilter
+ */
+@Component
+class TokenRevocationList(
+    private val jwtProperties: JwtProperties
+) {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+    }
+
+    /**
+     * 사용자 단위 폐기 기준입니다.
+     *
+     * @property issuedBeforeMillis 이 시각 이전에 발급된 토큰을 폐기 (밀리초)
+     * @property keepUntilMillis 항목을 보관할 마지막 시각
+     */
+    private class Cutoff(
+        val issuedBeforeMillis: Long,
+        val keepUntilMillis: Long
+    )
+
+    private val revokedTokens = ConcurrentHashMap<String, Long>()
+    private val subjectCutoffs = ConcurrentHashMap<String, Cutoff>()
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param tokenId 토큰의 jti (없으면 null)
+     * @param subject 토큰의 subject
+     * @param issuedAtMillis 토큰의 밀리초 발급 시각 ([JwtProvider.issuedAtMillis], 없으면 0)
+     * @return 폐기 여부
+     */
+    fun isRevoked(tokenId: String?, subject: String, issuedAtMillis: Long): Boolean {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) return true
+        val cutoff = subjectCutoffs[subject] ?: return false
+        return issuedAtMillis < cutoff.issuedBeforeMillis
+    }
+
+    /**
+     * 특정 토큰 하나를 폐기합니다.
+     *
+     * @param tokenId 토큰의 jti
+     * @param expiration 토큰의 exp (이 시각까지 보관)
+     */
+    fun revokeToken(tokenId: String, expiration: Date) {
+        persist(tokenId, RevocationType.TOKEN, null, expiration.time)
+        afterCommit {
+            revokedTokens[tokenId] = expiration.time
+            logger.info { "토큰 폐기: jti=$tokenId" }
+        }
+    }
+
+    /**
+     * 사용자가 지금까지 발급받은 모든 토큰을 폐기합니다.
+     *
+     * <p>기준 시각은 밀리초 그대로 사용하므로, 폐기 직전에 발급된 토큰은 같은 초 안이라도 폐기되고
+     * 폐기 직후에 다시 로그인해 받은 토큰은 유효합니다.</p>
+     *
+     * @param userId 사용자 ID (압축 형식 토큰의 subject)
+     * @param email 이메일 (기존 형식 토큰의 subject)
+     */
+    fun revokeUser(userId: Long, email: String) = revokeUser(userId, email, System.currentTimeMillis())
+
+    /**
+     * 주어진 시각 이전에 발급된 사용자의 모든 토큰을 폐기합니다.
+     *
+     * @param userId 사용자 ID (압축 형식 토큰의 subject)
+     * @param email 이메일 (기존 형식 토큰의 subject)
+     * @param now 기준 시각 (epoch millis)
+     */
+    fun revokeUser(userId: Long, email: String, now: Long) {
+        val keepUntil = now + jwtProperties.refreshTokenValidityInSeconds * 1000
+        val subjects = listOf(userId.toString(), email)
+
+        subjects.forEach { persist(it, RevocationType.SUBJECT, now, keepUntil) }
+        afterCommit {
+            subjects.forEach { subject ->
+                subjectCutoffs.merge(subject, Cutoff(now, keepUntil)) { old, new ->
+                    if (new.issuedBeforeMillis >= old.issuedBeforeMillis) new else old
+                }
+            }
+            logger.info { "사용자 토큰 전체 폐기: id=$userId" }
+        }
+    }
+
+    /**
+     * 기동 시 DB에 기록된 유효한 폐기 항목을 메모리로 읽어 들입니다.
+     */
+    @EventListener(ApplicationReadyEvent::class)
+    fun load() {
+        runCatching {
+            transaction {
+                RevokedTokens.select { RevokedTokens.expiresAt greater LocalDateTime.now() }
+                    .forEach { row ->
+                        val key = row[RevokedTokens.revocationKey]
+                        val keepUntil = toEpochMillis(row[RevokedTokens.expiresAt])
+                        when (row[RevokedTokens.type]) {
+                            RevocationType.TOKEN -> revokedTokens[key] = keepUntil
+                            RevocationType.SUBJECT -> row[RevokedTokens.issuedBefore]?.let {
+                                subjectCutoffs[key] = Cutoff(toEpochMillis(it), keepUntil)
+                            }
+                        }
+                    }
+            }
+        }.onSuccess {
+            logger.info { "토큰 폐기 목록 로드 완료 - 토큰: ${revokedTokens.size}, 사용자: ${subjectCutoffs.size}" }
+        }.onFailure { e ->
+            logger.error(e) { "토큰 폐기 목록 로드 실패" }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 폐기 항목을 메모리와 DB에서 제거합니다.
+     */
+    @Scheduled(
+        fixedDelayString = "\${VANS_BLOG_JWT_REVOCATION_PRUNE_INTERVAL_MS:600000}",
+        initialDelayString = "\${VANS_BLOG_JWT_REVOCATION_PRUNE_INTERVAL_MS:600000}"
+    )
+    fun prune() {
+        val now = System.currentTimeMillis()
+        revokedTokens.entries.removeIf { it.value <= now }
+        subjectCutoffs.entries.removeIf { it.value.keepUntilMillis <= now }
+
+        runCatching {
+            transaction {
+                RevokedTokens.deleteWhere { RevokedTokens.expiresAt lessEq toDateTime(now) }
+            }
+        }.onSuccess { deleted ->
+            logger.debug { "만료된 토큰 폐기 항목 정리 - 삭제: ${deleted}건" }
+        }.onFailure { e ->
+            logger.error(e) { "만료된 토큰 폐기 항목 정리 실패" }
+        }
+    }
+
+    /**
+     * 폐기 항목을 DB에 기록합니다. 호출한 쪽의 트랜잭션이 있으면 함께 커밋됩니다.
+     */
+    private fun persist(key: String, type: RevocationType, issuedBeforeMillis: Long?, keepUntilMillis: Long) {
+        transaction {
+            RevokedTokens.upsert {
+                it[revocationKey] = key
+                it[RevokedTokens.type] = type
+                it[issuedBefore] = issuedBeforeMillis?.let(::toDateTime)
+                it[expiresAt] = toDateTime(keepUntilMillis)
+            }
+        }
+    }
+
+    /**
+     * 호출한 쪽의 Spring 트랜잭션이 커밋된 뒤에 [action]을 실행합니다.
+     * Exposed의 `transaction {}`도 [org.jetbrains.exposed.spring.SpringTransactionManager]를 거치므로 같은 동기화를 사용합니다.
+     * 진행 중인 트랜잭션이 없으면 DB 기록이 이미 커밋되었으므로 바로 실행합니다.
+     */
+    private fun afterCommit(action: () -> Unit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action()
+            return
+        }
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() = action()
+        })
+    }
+
+    private fun toDateTime(epochMillis: Long): LocalDateTime =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+
+    private fun toEpochMillis(dateTime: LocalDateTime): Long =
+        dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+}
@@ -0,0 +1,25 @@
+package blog.vans_story_be.domain.oauth.dto
+
+import blog.vans_story_be.domain.user.entity.Role
+
+/**
+ * OAuth 로그인 토큰 발급에 필요한 사용자 정보만 담는 조회 전용 객체
+ *
+ * [blog.vans_story_be.domain.oauth.repository.OAuthRepository.findLoginUserByProviderAndProviderId]가
+ * user_oauths와 users를 조인한 쿼리 한 번으로 세 개의 컬럼만 읽어 생성합니다.
+ * DAO 엔티티를 만들지 않으므로 지연 로딩으로 인한 추가 쿼리가 없습니다.
+ *
+ * 필드 설명:
+ * - [userId]: 사용자 ID
+ * - [email]: 이메일 (토큰 subject)
+ * - [role]: 사용자 역할
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+data class OAuthLoginUser(
+    val userId: Long,
+    val email: String,
+    val role: Role
+)
@@ -0,0 +1,21 @@
+package blog.vans_story_be.domain.oauth.entity
+
+import org.jetbrains.exposed.sql.Table
+import org.jetbrains.exposed.sql.javatime.datetime
+
+/**
+ * OAuth 임시 코드 테이블 정의 (VANS_BLOG_OAUTH_CODE_STORE=db일 때 사용)
+ *
+ * 필드 설명:
+ * - [codeId]: 서명된 임시 코드의 식별자 부분
+ * - [provider], [providerId]: 교환할 OAuth 계정 정보
+ * - [expiresAt]: 만료 시각 (만료된 행은 DatabaseTempCodeStore가 주기적으로 삭제)
+ */
+object OAuthTempCodes : Table("oauth_temp_codes") {
+    val codeId = varchar("code_id", 32)
+    val provider = varchar("provider", 50)
+    val providerId = varchar("provider_id", 100)
+    val expiresAt = datetime("expires_at").index()
+
+    override val primaryKey = PrimaryKey(codeId)
+}
@@ -12,6 +12,9 @@ import java.time.LocalDateTime
  * 사용자 OAuth 연동 정보를 관리하는 테이블 정의
  */
 object UserOAuths : LongIdTable("user_oauths") {
+    /** (provider, providerId) 고유 인덱스 이름 (Exposed 기본 이름과 같아 기존 스키마와 호환) */
+    const val PROVIDER_UNIQUE_INDEX = "user_oauths_provider_provider_id_unique"
+
     val userId = reference("user_id", Users)
     val provider = varchar("provider", 50)
     val providerId = varchar("provider_id", 100)
@@ -20,7 +23,7 @@ object UserOAuths : LongIdTable("user_oauths") {
     
     init {
         // 복합 유니크 인덱스: 같은 provider에서 같은 providerId는 한 번만 등록 가능
-        uniqueIndex(provider, providerId)
+        uniqueIndex(PROVIDER_UNIQUE_INDEX, provider, providerId)
     }
 }
 
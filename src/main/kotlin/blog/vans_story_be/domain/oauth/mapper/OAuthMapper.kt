@@ -2,7 +2,6 @@ package blog.vans_story_be.domain.oauth.mapper
 
 import blog.vans_story_be.domain.oauth.dto.OAuthDto
 import blog.vans_story_be.domain.oauth.entity.UserOAuth
-import blog.vans_story_be.global.mapper.GenericMapper
 import org.springframework.stereotype.Component
 
 /**
@@ -1,5 +1,6 @@
 package blog.vans_story_be.domain.oauth.repository
 
+import blog.vans_story_be.domain.oauth.dto.OAuthLoginUser
 import blog.vans_story_be.domain.oauth.entity.UserOAuth
 
 /**
@@ -19,21 +20,39 @@ interface OAuthRepository {
     /**
      * OAuth 연동 정보를 저장합니다.
      *
+     * 중복 여부를 미리 조회하지 않고 INSERT 한 번을 시도하며,
+     * (provider, provider_id) 고유 인덱스에 막히면 이미 다른 계정에 연동된 것으로 보고 null을 반환합니다.
+     *
+     * @sample
+     * ```sql
+     * INSERT INTO user_oauths (user_id, provider, provider_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)
+     * ```
+     *
      * @param userId 사용자 ID
      * @param provider OAuth 제공업체
      * @param providerId OAuth 제공업체 사용자 ID
-     * @return 저장된 OAuth 연동 정보
+     * @return 저장된 OAuth 연동 정보 (이미 연동된 provider/providerId이면 null)
      */
-    fun save(userId: Long, provider: String, providerId: String): UserOAuth
+    fun save(userId: Long, provider: String, providerId: String): UserOAuth?
 
     /**
-     * Provider와 Provider ID로 OAuth 연동 정보를 조회합니다.
+     * Provider와 Provider ID로 연동된 사용자의 토큰 발급 정보를 조회합니다.
+     *
+     * user_oauths의 (provider, provider_id) 고유 인덱스로 행을 찾고 users와 조인하는 쿼리 한 번으로 처리합니다.
+     * 삭제 요청된 사용자는 조회되지 않습니다.
+     *
+     * @sample
+     * ```sql
+     * SELECT users.id, users.email, users.role FROM user_oauths
+     * INNER JOIN users ON users.id = user_oauths.user_id
+     * WHERE user_oauths.provider = ? AND user_oauths.provider_id = ? AND users.deleted_at IS NULL
+     * ```
      *
      * @param provider OAuth 제공업체
      * @param providerId OAuth 제공업체 사용자 ID
-     * @return OAuth 연동 정보 (없으면 null)
+     * @return 토큰 발급에 필요한 사용자 정보 (없으면 null)
      */
-    fun findByProviderAndProviderId(provider: String, providerId: String): UserOAuth?
+    fun findLoginUserByProviderAndProviderId(provider: String, providerId: String): OAuthLoginUser?
 
     /**
      * 사용자 ID로 모든 OAuth 연동 정보를 조회합니다.
@@ -55,15 +74,29 @@ interface OAuthRepository {
     /**
      * OAuth 연동 정보를 삭제합니다.
      *
+     * 조건부 DELETE 한 번으로 처리하며, 삭제된 행 수로 연동 정보가 있었는지 판단합니다.
+     *
+     * @sample
+     * ```sql
+     * DELETE FROM user_oauths WHERE user_oauths.user_id = ? AND user_oauths.provider = ?
+     * ```
+     *
      * @param userId 사용자 ID
      * @param provider OAuth 제공업체
-     * @return 삭제 성공 여부
+     * @return 삭제 성공 여부 (연동 정보가 없었으면 false)
      */
     fun deleteByUserIdAndProvider(userId: Long, provider: String): Boolean
 
     /**
      * Provider와 Provider ID로 OAuth 연동 정보가 존재하는지 확인합니다.
      *
+     * 전체 개수를 세지 않고 첫 행 하나만 확인합니다.
+     *
+     * @sample
+     * ```sql
+     * SELECT 1 FROM user_oauths WHERE user_oauths.provider = ? AND user_oauths.provider_id = ? LIMIT 1
+     * ```
+     *
      * @param provider OAuth 제공업체
      * @param providerId OAuth 제공업체 사용자 ID
      * @return 존재 여부
@@ -73,9 +106,16 @@ interface OAuthRepository {
     /**
      * 사용자 ID와 Provider로 OAuth 연동 정보가 존재하는지 확인합니다.
      *
+     * 전체 개수를 세지 않고 첫 행 하나만 확인합니다.
+     *
+     * @sample
+     * ```sql
+     * SELECT 1 FROM user_oauths WHERE user_oauths.user_id = ? AND user_oauths.provider = ? LIMIT 1
+     * ```
+     *
      * @param userId 사용자 ID
      * @param provider OAuth 제공업체
      * @return 존재 여부
      */
     fun existsByUserIdAndProvider(userId: Long, provider: String): Boolean
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,20 +1,25 @@
 package blog.vans_story_be.domain.oauth.repository
 
+import blog.vans_story_be.domain.oauth.dto.OAuthLoginUser
 import blog.vans_story_be.domain.oauth.entity.UserOAuth
 import blog.vans_story_be.domain.oauth.entity.UserOAuths
 import blog.vans_story_be.domain.user.entity.Users
 import mu.KotlinLogging
 import org.jetbrains.exposed.dao.id.EntityID
+import org.jetbrains.exposed.exceptions.ExposedSQLException
 import org.jetbrains.exposed.sql.*
 import org.jetbrains.exposed.sql.SqlExpressionBuilder.eq
 import org.jetbrains.exposed.sql.transactions.transaction
 import org.springframework.stereotype.Repository
+import java.sql.SQLException
 import java.time.LocalDateTime
 
 /**
  * OAuth 연동 정보 데이터 접근을 위한 Repository 구현체
  *
  * Exposed ORM을 사용하여 데이터베이스 작업을 처리합니다.
+ * 각 메서드의 `transaction {}`은 호출한 쪽에 트랜잭션(`@Transactional` 포함)이 있으면 그 트랜잭션에 참여하므로,
+ * 서비스 메서드 하나에서 여러 번 호출해도 커넥션 하나와 커밋 한 번으로 처리됩니다.
  *
  * @author vans
  * @version 1.0.0
@@ -25,29 +30,41 @@ class OAuthRepositoryImpl : OAuthRepository {
 
     private val logger = KotlinLogging.logger {}
 
-    override fun save(userId: Long, provider: String, providerId: String): UserOAuth {
+    override fun save(userId: Long, provider: String, providerId: String): UserOAuth? {
         return transaction {
             logger.info { "OAuth 연동 정보 저장 시작 - userId: $userId, provider: $provider, providerId: $providerId" }
-            
-            val userOAuth = UserOAuth.new {
-                this.userId = EntityID(userId, Users)
-                this.provider = provider
-                this.providerId = providerId
-                this.updatedAt = LocalDateTime.now()
+
+            try {
+                // INSERT를 바로 실행해야 고유 인덱스 위반을 이 자리에서 판별할 수 있음
+                val userOAuth = UserOAuth.new {
+                    this.userId = EntityID(userId, Users)
+                    this.provider = provider
+                    this.providerId = providerId
+                    this.updatedAt = LocalDateTime.now()
+                }.also { it.flush() }
+
+                logger.info { "OAuth 연동 정보 저장 완료 - id: ${userOAuth.id}" }
+                userOAuth
+            } catch (e: ExposedSQLException) {
+                if (!isProviderUniqueViolation(e)) throw e
+                logger.info { "이미 연동된 OAuth 계정 - provider: $provider, providerId: $providerId" }
+                null
             }
-            
-            logger.info { "OAuth 연동 정보 저장 완료 - id: ${userOAuth.id}" }
-            userOAuth
         }
     }
 
-    override fun findByProviderAndProviderId(provider: String, providerId: String): UserOAuth? {
+    override fun findLoginUserByProviderAndProviderId(provider: String, providerId: String): OAuthLoginUser? {
         return transaction {
-            logger.debug { "OAuth 연동 정보 조회 - provider: $provider, providerId: $providerId" }
-            
-            UserOAuth.find {
-                (UserOAuths.provider eq provider) and (UserOAuths.providerId eq providerId)
-            }.singleOrNull()
+            logger.debug { "OAuth 로그인 사용자 조회 - provider: $provider, providerId: $providerId" }
+
+            // 삭제 요청된 사용자의 연동 정보로는 로그인할 수 없도록 제외
+            UserOAuths.innerJoin(Users)
+                .slice(Users.id, Users.email, Users.role)
+                .select {
+                    (UserOAuths.provider eq provider) and (UserOAuths.providerId eq providerId) and Users.active
+                }
+                .singleOrNull()
+                ?.let { OAuthLoginUser(it[Users.id].value, it[Users.email], it[Users.role]) }
         }
     }
 
@@ -89,20 +106,34 @@ class OAuthRepositoryImpl : OAuthRepository {
     override fun existsByProviderAndProviderId(provider: String, providerId: String): Boolean {
         return transaction {
             logger.debug { "OAuth 연동 정보 존재 여부 확인 - provider: $provider, providerId: $providerId" }
-            
-            UserOAuth.find {
-                (UserOAuths.provider eq provider) and (UserOAuths.providerId eq providerId)
-            }.count() > 0
+
+            UserOAuths.slice(intLiteral(1))
+                .select { (UserOAuths.provider eq provider) and (UserOAuths.providerId eq providerId) }
+                .limit(1)
+                .any()
         }
     }
 
     override fun existsByUserIdAndProvider(userId: Long, provider: String): Boolean {
         return transaction {
             logger.debug { "사용자 OAuth 연동 정보 존재 여부 확인 - userId: $userId, provider: $provider" }
-            
-            UserOAuth.find {
-                (UserOAuths.userId eq userId) and (UserOAuths.provider eq provider)
-            }.count() > 0
+
+            UserOAuths.slice(intLiteral(1))
+                .select { (UserOAuths.userId eq userId) and (UserOAuths.provider eq provider) }
+                .limit(1)
+                .any()
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 예외가 (provider, provider_id) 고유 인덱스 위반인지 확인합니다.
+     *
+     * SQLState가 23(무결성 제약 위반)으로 시작하고 오류 메시지에 인덱스 이름이 포함된 경우만 해당하며,
+     * 외래 키 위반 등 다른 제약 위반은 그대로 던집니다.
+     */
+    private fun isProviderUniqueViolation(e: ExposedSQLException): Boolean {
+        val cause = e.cause as? SQLException ?: return false
+        return cause.sqlState?.startsWith("23") == true &&
+            cause.message?.contains(UserOAuths.PROVIDER_UNIQUE_INDEX, ignoreCase = true) == true
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package blog.vans_story_be.domain.oauth.repository
+
+import blog.vans_story_be.domain.oauth.entity.UserOAuths
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.reaper.UserDependentPurger
+import org.jetbrains.exposed.dao.id.EntityID
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.inList
+import org.jetbrains.exposed.sql.deleteWhere
+import org.jetbrains.exposed.sql.select
+import org.springframework.stereotype.Component
+
+/**
+ * 삭제 요청된 사용자의 OAuth 연동 정보를 정리합니다.
+ *
+ * <p>삭제할 행의 ID를 먼저 최대 limit건 조회한 뒤 기본 키로 삭제하므로,
+ * DELETE ... LIMIT를 지원하지 않는 DB에서도 동작하고 잠금 범위가 조회한 행으로 한정됩니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see blog.vans_story_be.domain.user.reaper.UserReaper
+ */
+@Component
+class UserOAuthPurger : UserDependentPurger {
+
+    override val name: String = UserOAuths.tableName
+
+    /**
+     * @sample SQL
+     * SELECT user_oauths.id FROM user_oauths WHERE user_id IN (?, ...) LIMIT ?;
+     * DELETE FROM user_oauths WHERE id IN (?, ...);
+     */
+    override fun purge(userIds: List<Long>, limit: Int): Int {
+        val ids = UserOAuths.slice(UserOAuths.id)
+            .select { UserOAuths.userId inList userIds.map { EntityID(it, Users) } }
+            .limit(limit)
+            .map { it[UserOAuths.id] }
+        return if (ids.isEmpty()) 0 else UserOAuths.deleteWhere { UserOAuths.id inList ids }
+    }
+}
@@ -0,0 +1,115 @@
+package blog.vans_story_be.domain.oauth.store
+
+import blog.vans_story_be.domain.oauth.entity.OAuthTempCodes
+import mu.KotlinLogging
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.eq
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.lessEq
+import org.jetbrains.exposed.sql.and
+import org.jetbrains.exposed.sql.deleteWhere
+import org.jetbrains.exposed.sql.insert
+import org.jetbrains.exposed.sql.select
+import org.jetbrains.exposed.sql.statements.StatementType
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.jetbrains.exposed.sql.vendors.MariaDBDialect
+import org.jetbrains.exposed.sql.vendors.currentDialect
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+
+/**
+ * oauth_temp_codes 테이블에 임시 코드를 보관하는 [TempCodeStore]입니다.
+ *
+ * <p>교환은 조회와 삭제를 한 단계로 처리하여, 여러 인스턴스가 같은 코드를 동시에 교환해도 한 요청만 성공합니다.</p>
+ *
+ * <h4>교환 방식:</h4>
+ * <ul>
+ *   <li>MariaDB: DELETE ... RETURNING 한 문장으로 삭제한 행의 값을 받습니다.</li>
+ *   <li>그 밖의 DB(테스트용 H2 등): SELECT ... FOR UPDATE로 행을 잠근 뒤 같은 트랜잭션에서 삭제하고,
+ *       삭제된 행 수가 1일 때만 성공으로 봅니다.</li>
+ * </ul>
+ *
+ * <p>교환은 호출한 쪽의 트랜잭션(OAuthService의 `@Transactional`)에 참여하지 않고 별도 트랜잭션(REQUIRES_NEW)으로 커밋합니다.
+ * 참여하면 코드를 꺼낸 뒤 사용자 조회 등이 실패해 바깥 트랜잭션이 롤백될 때 DELETE도 함께 롤백되어,
+ * 같은 코드를 다시 교환할 수 있게 되기 때문입니다. 메모리, Redis 저장소처럼 꺼낸 코드는 교환 결과와 관계없이 다시 쓸 수 없습니다.</p>
+ *
+ * @sample
+ * ```sql
+ * DELETE FROM oauth_temp_codes WHERE code_id = ? AND expires_at > ? RETURNING provider, provider_id
+ * ```
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see OAuthTempCodes
+ */
+class DatabaseTempCodeStore(
+    transactionManager: PlatformTransactionManager
+) : TempCodeStore {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+
+        private val DELETE_RETURNING =
+            "DELETE FROM ${OAuthTempCodes.tableName} " +
+                "WHERE ${OAuthTempCodes.codeId.name} = ? AND ${OAuthTempCodes.expiresAt.name} > ? " +
+                "RETURNING ${OAuthTempCodes.provider.name}, ${OAuthTempCodes.providerId.name}"
+    }
+
+    override val name = "db"
+
+    // 교환 전용 트랜잭션 (호출한 쪽 트랜잭션은 잠시 중단)
+    private val consumeTransaction = TransactionTemplate(transactionManager).apply {
+        propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    }
+
+    override fun save(id: String, grant: TempCodeGrant, ttlSeconds: Long) {
+        transaction {
+            OAuthTempCodes.insert {
+                it[codeId] = id
+                it[provider] = grant.provider
+                it[providerId] = grant.providerId
+                it[expiresAt] = LocalDateTime.now().plusSeconds(ttlSeconds)
+            }
+        }
+    }
+
+    override fun take(id: String): TempCodeGrant? = consumeTransaction.execute {
+        transaction {
+            val now = LocalDateTime.now()
+            if (currentDialect is MariaDBDialect) {
+                exec(
+                    DELETE_RETURNING,
+                    listOf(OAuthTempCodes.codeId.columnType to id, OAuthTempCodes.expiresAt.columnType to now),
+                    explicitStatementType = StatementType.SELECT
+                ) { rs -> if (rs.next()) TempCodeGrant(rs.getString(1), rs.getString(2)) else null }
+            } else {
+                val grant = OAuthTempCodes
+                    .select { (OAuthTempCodes.codeId eq id) and (OAuthTempCodes.expiresAt greater now) }
+                    .forUpdate()
+                    .singleOrNull()
+                    ?.let { TempCodeGrant(it[OAuthTempCodes.provider], it[OAuthTempCodes.providerId]) }
+                grant?.takeIf { OAuthTempCodes.deleteWhere { codeId eq id } == 1 }
+            }
+        }
+    }
+
+    /**
+     * 만료된 코드를 주기적으로 삭제합니다.
+     */
+    @Scheduled(
+        fixedDelayString = "\${VANS_BLOG_OAUTH_CODE_DB_SWEEP_INTERVAL_MS:60000}",
+        initialDelayString = "\${VANS_BLOG_OAUTH_CODE_DB_SWEEP_INTERVAL_MS:60000}"
+    )
+    fun sweep() {
+        runCatching {
+            transaction {
+                OAuthTempCodes.deleteWhere { expiresAt lessEq LocalDateTime.now() }
+            }
+        }.onSuccess { deleted ->
+            if (deleted > 0) logger.debug { "만료된 OAuth 임시 코드 ${deleted}개 정리" }
+        }.onFailure { e ->
+            logger.error(e) { "만료된 OAuth 임시 코드 정리 실패" }
+        }
+    }
+}
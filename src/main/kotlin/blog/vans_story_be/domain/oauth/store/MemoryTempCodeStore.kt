@@ -0,0 +1,148 @@
+package blog.vans_story_be.domain.oauth.store
+
+import blog.vans_story_be.global.exception.CustomException
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import mu.KotlinLogging
+import org.springframework.scheduling.annotation.Scheduled
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.locks.ReentrantLock
+
+/**
+ * 프로세스 메모리에 임시 코드를 보관하는 [TempCodeStore]입니다. 인스턴스가 하나일 때 사용합니다.
+ *
+ * <p>코드는 ConcurrentHashMap에 보관하고, 만료 순서는 발급 순서대로 쌓이는 큐(deadline queue)로 관리합니다.
+ * 유효 시간이 모두 같으므로 발급 순서가 곧 만료 순서이며, 정리는 큐 앞에서 만료된 항목만 꺼내면 됩니다.</p>
+ *
+ * <h4>비용:</h4>
+ * <ul>
+ *   <li>보관: 맵 삽입 + 큐 추가, O(1)</li>
+ *   <li>교환: 맵 remove 한 번으로 조회와 삭제를 함께 처리하므로 같은 코드는 한 번만 교환됩니다.</li>
+ *   <li>정리: 만료된 항목 수만큼만 처리합니다. 전체를 훑거나 맵을 복사하지 않습니다.</li>
+ *   <li>시각은 System.nanoTime을 사용하므로 시스템 시계 변경의 영향을 받지 않고 객체를 만들지 않습니다.</li>
+ * </ul>
+ *
+ * <p>보관 수는 [TempCodeProperties.maxCodes]로 제한합니다. 교환된 코드도 만료 시각까지는 큐에 남아 자리를 차지하므로,
+ * 유효 시간 동안 발급할 수 있는 코드 수의 상한이 됩니다.</p>
+ *
+ * <h4>메트릭:</h4>
+ * <ul>
+ *   <li>oauth.temp_codes: 현재 보관 중인 코드 수 (교환 전)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see TempCodeProperties
+ */
+class MemoryTempCodeStore(
+    private val properties: TempCodeProperties,
+    meterRegistry: MeterRegistry
+) : TempCodeStore {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+    }
+
+    private class Entry(
+        val id: String,
+        val grant: TempCodeGrant,
+        val deadlineNanos: Long
+    )
+
+    override val name = "memory"
+
+    private val codes = ConcurrentHashMap<String, Entry>()
+    private val deadlines = ConcurrentLinkedQueue<Entry>()
+    private val queued = AtomicInteger()
+    private val sweepLock = ReentrantLock()
+
+    init {
+        Gauge.builder("oauth.temp_codes", codes) { it.size.toDouble() }
+            .description("교환되지 않은 OAuth 임시 코드 수")
+            .register(meterRegistry)
+    }
+
+    override fun save(id: String, grant: TempCodeGrant, ttlSeconds: Long) =
+        save(id, grant, ttlSeconds, System.nanoTime())
+
+    /**
+     * 코드를 보관합니다.
+     *
+     * <p>만료 순서를 발급 순서로 관리하므로 [ttlSeconds]는 항상 같은 값이어야 합니다.</p>
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     * @throws CustomException 보관 수 상한에 도달한 경우
+     */
+    fun save(id: String, grant: TempCodeGrant, ttlSeconds: Long, now: Long) {
+        if (!reserve(now)) {
+            logger.warn { "OAuth 임시 코드 보관 수 상한(${properties.maxCodes})에 도달하여 발급을 거절합니다." }
+            throw CustomException("잠시 후 다시 시도해주세요.")
+        }
+        val entry = Entry(id, grant, now + TimeUnit.SECONDS.toNanos(ttlSeconds))
+        codes[id] = entry
+        deadlines.offer(entry)
+    }
+
+    override fun take(id: String): TempCodeGrant? = take(id, System.nanoTime())
+
+    /**
+     * 코드를 꺼내면서 삭제합니다.
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     */
+    fun take(id: String, now: Long): TempCodeGrant? {
+        val entry = codes.remove(id) ?: return null
+        // nanoTime은 음수일 수 있으므로 차이로 비교
+        return if (entry.deadlineNanos - now > 0) entry.grant else null
+    }
+
+    /**
+     * 만료된 코드를 정리합니다. 다른 스레드가 정리 중이면 건너뜁니다.
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     * @return 정리한 항목 수
+     */
+    fun expire(now: Long = System.nanoTime()): Int {
+        if (!sweepLock.tryLock()) return 0
+        try {
+            var expired = 0
+            while (true) {
+                val head = deadlines.peek() ?: break
+                if (head.deadlineNanos - now > 0) break
+                deadlines.poll()
+                queued.decrementAndGet()
+                codes.remove(head.id, head)
+                expired++
+            }
+            return expired
+        } finally {
+            sweepLock.unlock()
+        }
+    }
+
+    /**
+     * 주기적으로 만료된 코드를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "\${VANS_BLOG_OAUTH_CODE_SWEEP_INTERVAL_MS:1000}")
+    fun sweep() {
+        val expired = expire()
+        if (expired > 0) {
+            logger.debug { "만료된 OAuth 임시 코드 ${expired}개 정리" }
+        }
+    }
+
+    /**
+     * 보관 자리를 하나 확보합니다. 가득 찼으면 만료된 코드를 먼저 정리합니다.
+     */
+    private fun reserve(now: Long): Boolean {
+        if (queued.incrementAndGet() <= properties.maxCodes) return true
+        queued.decrementAndGet()
+        expire(now)
+        if (queued.incrementAndGet() <= properties.maxCodes) return true
+        queued.decrementAndGet()
+        return false
+    }
+}
@@ -0,0 +1,48 @@
+package blog.vans_story_be.domain.oauth.store
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.module.kotlin.readValue
+import io.lettuce.core.SetArgs
+import io.lettuce.core.api.StatefulRedisConnection
+
+/**
+ * Redis 프로토콜 서버에 임시 코드를 보관하는 [TempCodeStore]입니다.
+ *
+ * <p>코드는 만료 시간(EX)을 지정한 문자열 키로 보관하므로 만료 정리는 Redis가 합니다.
+ * 교환은 GETDEL 한 명령으로 조회와 삭제를 함께 처리하여, 여러 인스턴스가 동시에 교환해도 한 요청만 성공합니다.
+ * (GETDEL은 Redis 6.2 이상에서 지원)</p>
+ *
+ * <p>커넥션 하나를 모든 스레드가 공유합니다. Lettuce 커넥션은 스레드에 안전하며 명령을 파이프라인으로 보냅니다.</p>
+ *
+ * @sample
+ * ```
+ * SET oauth:temp_code:{id} {"provider":"google","providerId":"..."} EX 300
+ * GETDEL oauth:temp_code:{id}
+ * ```
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see TempCodeStoreConfig
+ */
+class RedisTempCodeStore(
+    private val connection: StatefulRedisConnection<String, String>,
+    private val objectMapper: ObjectMapper
+) : TempCodeStore, AutoCloseable {
+    companion object {
+        private const val KEY_PREFIX = "oauth:temp_code:"
+    }
+
+    override val name = "redis"
+
+    override fun save(id: String, grant: TempCodeGrant, ttlSeconds: Long) {
+        connection.sync().set(KEY_PREFIX + id, objectMapper.writeValueAsString(grant), SetArgs.Builder.ex(ttlSeconds))
+    }
+
+    override fun take(id: String): TempCodeGrant? =
+        connection.sync().getdel(KEY_PREFIX + id)?.let { objectMapper.readValue<TempCodeGrant>(it) }
+
+    override fun close() {
+        connection.close()
+    }
+}
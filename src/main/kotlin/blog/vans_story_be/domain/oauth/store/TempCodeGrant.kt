@@ -0,0 +1,16 @@
+package blog.vans_story_be.domain.oauth.store
+
+/**
+ * 임시 코드로 교환할 OAuth 계정 정보입니다.
+ *
+ * @property provider OAuth 제공자
+ * @property providerId 제공자의 사용자 식별자
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+data class TempCodeGrant(
+    val provider: String,
+    val providerId: String
+)
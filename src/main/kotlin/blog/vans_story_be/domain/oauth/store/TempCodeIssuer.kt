@@ -0,0 +1,105 @@
+package blog.vans_story_be.domain.oauth.store
+
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import mu.KotlinLogging
+import org.springframework.stereotype.Component
+import java.security.MessageDigest
+import java.security.SecureRandom
+import java.util.Base64
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
+
+/**
+ * HMAC으로 서명한 OAuth 임시 코드를 발급하고 교환하는 클래스입니다.
+ *
+ * <p>코드는 `oauth_temp_{식별자}.{서명}` 형식이며, 서명은 식별자의 HMAC-SHA256입니다.
+ * 교환 시 서명을 먼저 검증하므로 위조되거나 잘린 코드는 [TempCodeStore]를 조회하지 않고 거절됩니다.
+ * 서명 키는 인스턴스끼리 같아야 하므로, 따로 설정하지 않으면 공유되는 JWT 서명 키에서 파생합니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see TempCodeStore
+ * @see TempCodeProperties
+ */
+@Component
+class TempCodeIssuer(
+    private val store: TempCodeStore,
+    private val properties: TempCodeProperties,
+    jwtProperties: JwtProperties
+) {
+    companion object {
+        private val logger = KotlinLogging.logger {}
+
+        private const val CODE_PREFIX = "oauth_temp_"
+        private const val SEPARATOR = '.'
+        private const val ALGORITHM = "HmacSHA256"
+        private const val ID_BYTES = 16
+
+        /** JWT 서명 키에서 코드 서명 키를 파생할 때 사용하는 구분 값 */
+        private const val KEY_DERIVATION_LABEL = "vans-blog/oauth-temp-code"
+
+        private val encoder = Base64.getUrlEncoder().withoutPadding()
+        private val decoder = Base64.getUrlDecoder()
+    }
+
+    private val random = SecureRandom()
+    private val key: SecretKeySpec = SecretKeySpec(
+        properties.secret.takeIf { it.isNotBlank() }?.toByteArray(Charsets.UTF_8)
+            ?: hmac(SecretKeySpec(jwtProperties.secretKey.toByteArray(Charsets.UTF_8), ALGORITHM), KEY_DERIVATION_LABEL),
+        ALGORITHM
+    )
+
+    // Mac은 스레드에 안전하지 않으므로 스레드마다 하나씩 사용
+    private val macs = ThreadLocal.withInitial { Mac.getInstance(ALGORITHM).apply { init(key) } }
+
+    /**
+     * 임시 코드를 발급합니다.
+     *
+     * @param grant 교환할 OAuth 계정 정보
+     * @return 서명된 임시 코드
+     */
+    fun issue(grant: TempCodeGrant): String {
+        val id = encoder.encodeToString(ByteArray(ID_BYTES).also { random.nextBytes(it) })
+        store.save(id, grant, properties.ttlSeconds)
+        return CODE_PREFIX + id + SEPARATOR + encoder.encodeToString(sign(id))
+    }
+
+    /**
+     * 임시 코드를 교환합니다. 같은 코드는 한 번만 성공합니다.
+     *
+     * @param code 임시 코드
+     * @return 교환할 OAuth 계정 정보 (서명이 맞지 않거나, 없거나, 만료되었으면 null)
+     */
+    fun redeem(code: String): TempCodeGrant? {
+        val id = verify(code)
+        if (id == null) {
+            logger.debug { "서명이 맞지 않는 OAuth 임시 코드 - code: ${code.take(8)}..." }
+            return null
+        }
+        return store.take(id)
+    }
+
+    /**
+     * 서명을 검증하고 식별자를 반환합니다.
+     */
+    private fun verify(code: String): String? {
+        if (!code.startsWith(CODE_PREFIX)) return null
+        val separator = code.lastIndexOf(SEPARATOR)
+        if (separator <= CODE_PREFIX.length) return null
+
+        val id = code.substring(CODE_PREFIX.length, separator)
+        val signature = try {
+            decoder.decode(code.substring(separator + 1))
+        } catch (e: IllegalArgumentException) {
+            return null
+        }
+        // 일정 시간 비교
+        return id.takeIf { MessageDigest.isEqual(sign(id), signature) }
+    }
+
+    private fun sign(id: String): ByteArray = macs.get().doFinal(id.toByteArray(Charsets.UTF_8))
+
+    private fun hmac(key: SecretKeySpec, message: String): ByteArray =
+        Mac.getInstance(ALGORITHM).apply { init(key) }.doFinal(message.toByteArray(Charsets.UTF_8))
+}
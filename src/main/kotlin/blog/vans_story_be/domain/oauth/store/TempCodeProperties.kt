@@ -0,0 +1,62 @@
+package blog.vans_story_be.domain.oauth.store
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * OAuth 임시 코드 저장소 설정 값을 관리하는 클래스입니다.
+ *
+ * <h4>설정 항목 (환경변수):</h4>
+ * <ul>
+ *   <li>VANS_BLOG_OAUTH_CODE_STORE: 저장소 종류, memory / db / redis (기본값: memory)</li>
+ *   <li>VANS_BLOG_OAUTH_CODE_SECRET: 코드 서명 키 (기본값: JWT 서명 키에서 파생)</li>
+ *   <li>VANS_BLOG_OAUTH_CODE_TTL_SECONDS: 임시 코드 유효 시간 (기본값: 300)</li>
+ *   <li>VANS_BLOG_OAUTH_CODE_MAX_CODES: memory 저장소가 동시에 보관할 최대 코드 수 (기본값: 10000)</li>
+ *   <li>VANS_BLOG_OAUTH_CODE_SWEEP_INTERVAL_MS: memory 저장소의 만료 코드 정리 간격 (기본값: 1000)</li>
+ *   <li>VANS_BLOG_OAUTH_CODE_DB_SWEEP_INTERVAL_MS: db 저장소의 만료 코드 정리 간격 (기본값: 60000)</li>
+ *   <li>VANS_BLOG_OAUTH_CODE_REDIS_URI: redis 저장소 접속 주소 (기본값: redis://localhost:6379)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see TempCodeStore
+ * @see TempCodeIssuer
+ */
+@Component
+class TempCodeProperties {
+    /**
+     * 임시 코드 저장소 종류입니다. (memory, db, redis)
+     */
+    @Value("\${VANS_BLOG_OAUTH_CODE_STORE:memory}")
+    var store: String = "memory"
+
+    /**
+     * 임시 코드 서명 키입니다.
+     *
+     * <p>비어 있으면 JWT 서명 키에서 파생하므로, JWT 키를 공유하는 인스턴스끼리는 따로 설정하지 않아도 됩니다.</p>
+     */
+    @Value("\${VANS_BLOG_OAUTH_CODE_SECRET:}")
+    var secret: String = ""
+
+    /**
+     * 임시 코드 유효 시간(초)입니다.
+     */
+    @Value("\${VANS_BLOG_OAUTH_CODE_TTL_SECONDS:300}")
+    var ttlSeconds: Long = 300L
+
+    /**
+     * memory 저장소가 동시에 보관할 최대 임시 코드 수입니다.
+     *
+     * <p>가득 차면 만료된 코드를 정리한 뒤에도 자리가 없을 때 발급을 거절합니다.
+     * 코드 하나는 수백 바이트이므로 기본값 기준 수 MB를 넘지 않습니다.</p>
+     */
+    @Value("\${VANS_BLOG_OAUTH_CODE_MAX_CODES:10000}")
+    var maxCodes: Int = 10_000
+
+    /**
+     * redis 저장소 접속 주소입니다. (예: redis://:password@host:6379/0)
+     */
+    @Value("\${VANS_BLOG_OAUTH_CODE_REDIS_URI:redis://localhost:6379}")
+    var redisUri: String = "redis://localhost:6379"
+}
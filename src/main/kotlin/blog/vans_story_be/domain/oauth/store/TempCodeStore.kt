@@ -0,0 +1,46 @@
+package blog.vans_story_be.domain.oauth.store
+
+/**
+ * OAuth 임시 코드를 보관하는 저장소입니다.
+ *
+ * <p>코드 전체가 아니라 [TempCodeIssuer]가 서명한 코드의 식별자만 보관합니다.
+ * 서명 검증은 [TempCodeIssuer]가 저장소 조회 전에 하므로, 위조된 코드는 저장소까지 오지 않습니다.</p>
+ *
+ * <h4>구현 (VANS_BLOG_OAUTH_CODE_STORE):</h4>
+ * <ul>
+ *   <li>memory: [MemoryTempCodeStore] - 인스턴스 하나일 때 (기본값)</li>
+ *   <li>db: [DatabaseTempCodeStore] - oauth_temp_codes 테이블, 여러 인스턴스가 DB를 공유할 때</li>
+ *   <li>redis: [RedisTempCodeStore] - Redis 프로토콜 서버, 여러 인스턴스가 Redis를 공유할 때</li>
+ * </ul>
+ *
+ * <p>여러 인스턴스로 운영할 때는 로그인과 코드 교환이 다른 인스턴스로 갈 수 있으므로 db 또는 redis를 사용합니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see TempCodeStoreConfig
+ */
+interface TempCodeStore {
+    /**
+     * 메트릭과 로그에 표시할 저장소 이름입니다.
+     */
+    val name: String
+
+    /**
+     * 코드를 보관합니다.
+     *
+     * @param id 코드 식별자
+     * @param grant 교환할 OAuth 계정 정보
+     * @param ttlSeconds 유효 시간(초)
+     * @throws blog.vans_story_be.global.exception.CustomException 보관할 수 없는 경우
+     */
+    fun save(id: String, grant: TempCodeGrant, ttlSeconds: Long)
+
+    /**
+     * 코드를 꺼내면서 삭제합니다. 같은 식별자는 여러 인스턴스에서 동시에 요청해도 한 번만 성공해야 합니다.
+     *
+     * @param id 코드 식별자
+     * @return 교환할 OAuth 계정 정보 (없거나 만료되었으면 null)
+     */
+    fun take(id: String): TempCodeGrant?
+}
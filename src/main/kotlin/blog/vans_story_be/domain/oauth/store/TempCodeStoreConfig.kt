@@ -0,0 +1,43 @@
+package blog.vans_story_be.domain.oauth.store
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.lettuce.core.RedisClient
+import io.micrometer.core.instrument.MeterRegistry
+import org.jetbrains.exposed.spring.SpringTransactionManager
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+/**
+ * VANS_BLOG_OAUTH_CODE_STORE 설정에 따라 [TempCodeStore] 구현 하나를 등록합니다.
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see TempCodeProperties
+ */
+@Configuration
+class TempCodeStoreConfig {
+    companion object {
+        private const val STORE_PROPERTY = "VANS_BLOG_OAUTH_CODE_STORE"
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = [STORE_PROPERTY], havingValue = "memory", matchIfMissing = true)
+    fun memoryTempCodeStore(properties: TempCodeProperties, meterRegistry: MeterRegistry): TempCodeStore =
+        MemoryTempCodeStore(properties, meterRegistry)
+
+    @Bean
+    @ConditionalOnProperty(name = [STORE_PROPERTY], havingValue = "db")
+    fun databaseTempCodeStore(transactionManager: SpringTransactionManager): TempCodeStore =
+        DatabaseTempCodeStore(transactionManager)
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = [STORE_PROPERTY], havingValue = "redis")
+    fun tempCodeRedisClient(properties: TempCodeProperties): RedisClient = RedisClient.create(properties.redisUri)
+
+    @Bean
+    @ConditionalOnProperty(name = [STORE_PROPERTY], havingValue = "redis")
+    fun redisTempCodeStore(tempCodeRedisClient: RedisClient, objectMapper: ObjectMapper): TempCodeStore =
+        RedisTempCodeStore(tempCodeRedisClient.connect(), objectMapper)
+}
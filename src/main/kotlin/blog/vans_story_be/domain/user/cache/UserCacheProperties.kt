@@ -0,0 +1,53 @@
+package blog.vans_story_be.domain.user.cache
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * 사용자 조회 캐시 설정 값을 관리하는 클래스입니다.
+ *
+ * <h4>설정 항목 (환경변수):</h4>
+ * <ul>
+ *   <li>VANS_BLOG_USER_CACHE_ENABLED: 캐시 사용 여부 (기본값: true)</li>
+ *   <li>VANS_BLOG_USER_CACHE_MAX_SIZE: 캐시별 최대 항목 수 (기본값: 10000)</li>
+ *   <li>VANS_BLOG_USER_CACHE_TTL_SECONDS: 존재하는 사용자 항목의 유효 시간 (기본값: 600)</li>
+ *   <li>VANS_BLOG_USER_CACHE_NEGATIVE_TTL_SECONDS: 존재하지 않는 사용자 항목의 유효 시간 (기본값: 60)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see UserLookupCache
+ */
+@Component
+class UserCacheProperties {
+    /**
+     * 캐시 사용 여부입니다. false이면 항상 DB에서 조회합니다.
+     */
+    @Value("\${VANS_BLOG_USER_CACHE_ENABLED:true}")
+    var enabled: Boolean = true
+
+    /**
+     * 캐시별(프로필, 닉네임) 최대 항목 수입니다.
+     *
+     * <p>항목 하나는 수백 바이트이므로 기본값 10,000개는 캐시당 수 MB 이내입니다.</p>
+     */
+    @Value("\${VANS_BLOG_USER_CACHE_MAX_SIZE:10000}")
+    var maxSize: Long = 10_000L
+
+    /**
+     * 존재하는 사용자 항목의 유효 시간(초)입니다.
+     *
+     * <p>변경 시 즉시 무효화되므로, 다른 인스턴스에서 변경된 경우에만 이 시간만큼 이전 값이 보일 수 있습니다.</p>
+     */
+    @Value("\${VANS_BLOG_USER_CACHE_TTL_SECONDS:600}")
+    var ttlSeconds: Long = 600L
+
+    /**
+     * 존재하지 않는 사용자 항목의 유효 시간(초)입니다.
+     *
+     * <p>없는 이메일을 반복 조회하는 요청이 DB까지 가지 않도록 짧게 보관합니다.</p>
+     */
+    @Value("\${VANS_BLOG_USER_CACHE_NEGATIVE_TTL_SECONDS:60}")
+    var negativeTtlSeconds: Long = 60L
+}
@@ -0,0 +1,140 @@
+package blog.vans_story_be.domain.user.cache
+
+import blog.vans_story_be.domain.user.dto.UserDto
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import mu.KotlinLogging
+import org.springframework.stereotype.Component
+import java.util.Locale
+import java.util.concurrent.TimeUnit
+
+/**
+ * 사용자 프로필(ID → 사용자 정보)과 닉네임(이메일 → 닉네임) 조회 결과를 보관하는 제한 크기 캐시입니다.
+ *
+ * <p>블로그 화면은 작성자 이름을 그리기 위해 공개 API인 닉네임 조회를 매우 자주 호출합니다.
+ * 이 캐시는 조회 결과를 메모리에 보관하여 같은 사용자에 대한 DB 조회를 줄이고,
+ * 존재하지 않는 사용자도 짧은 시간 동안 캐시하여(negative caching) 이메일 대입 요청이 DB에 도달하지 않도록 합니다.</p>
+ *
+ * <h4>만료 및 무효화 정책:</h4>
+ * <ul>
+ *   <li>존재하는 사용자는 [UserCacheProperties.ttlSeconds], 존재하지 않는 사용자는
+ *       [UserCacheProperties.negativeTtlSeconds] 후에 만료됩니다.</li>
+ *   <li>항목 수가 [UserCacheProperties.maxSize]를 넘으면 크기 기반으로 제거됩니다.</li>
+ *   <li>사용자 생성, 수정, 역할 변경, 삭제 시 [UserService][blog.vans_story_be.domain.user.service.UserService]가
+ *       트랜잭션 커밋 후 [evict]로 해당 ID와 변경 전후 이메일 항목을 제거합니다.</li>
+ *   <li>이메일 키는 소문자로 정규화합니다. (MariaDB 기본 collation이 대소문자를 구분하지 않으므로 같은 사용자)</li>
+ * </ul>
+ *
+ * <h4>메트릭:</h4>
+ * <p>cache.gets(result=hit|miss), cache.evictions, cache.size를 cache=user.profile, cache=user.nickname 태그로,
+ * 적중률은 user.cache.hit.ratio(cache=...) 게이지로 조회할 수 있습니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see UserCacheProperties
+ */
+@Component
+class UserLookupCache(
+    private val properties: UserCacheProperties,
+    meterRegistry: MeterRegistry
+) {
+    companion object {
+        private const val PROFILE_CACHE_NAME = "user.profile"
+        private const val NICKNAME_CACHE_NAME = "user.nickname"
+        private val logger = KotlinLogging.logger {}
+    }
+
+    /**
+     * 캐시 항목입니다. value가 null이면 존재하지 않는 사용자입니다.
+     */
+    private class Lookup<V : Any>(val value: V?)
+
+    private val profiles: Cache<Long, Lookup<UserDto.Response>> = newCache(PROFILE_CACHE_NAME, meterRegistry)
+    private val nicknames: Cache<String, Lookup<String>> = newCache(NICKNAME_CACHE_NAME, meterRegistry)
+
+    init {
+        logger.info {
+            "사용자 조회 캐시 초기화 - enabled: ${properties.enabled}, maxSize: ${properties.maxSize}, " +
+                "ttl: ${properties.ttlSeconds}s, negativeTtl: ${properties.negativeTtlSeconds}s"
+        }
+    }
+
+    /**
+     * ID로 사용자 정보를 조회합니다. 캐시에 없으면 loader로 조회한 결과(없음 포함)를 저장합니다.
+     *
+     * @param id 사용자 ID
+     * @param loader 캐시 미스 시 DB에서 조회하는 함수 (없으면 null 반환)
+     * @return 사용자 정보 또는 null (존재하지 않는 사용자)
+     */
+    fun getProfile(id: Long, loader: (Long) -> UserDto.Response?): UserDto.Response? {
+        if (!properties.enabled) return loader(id)
+        return profiles.get(id) { Lookup(loader(it)) }.value
+    }
+
+    /**
+     * 이메일로 닉네임을 조회합니다. 캐시에 없으면 loader로 조회한 결과(없음 포함)를 저장합니다.
+     *
+     * @param email 사용자 이메일
+     * @param loader 캐시 미스 시 DB에서 조회하는 함수 (없으면 null 반환)
+     * @return 닉네임 또는 null (존재하지 않는 사용자)
+     */
+    fun getNickname(email: String, loader: (String) -> String?): String? {
+        if (!properties.enabled) return loader(email)
+        return nicknames.get(normalize(email)) { Lookup(loader(email)) }.value
+    }
+
+    /**
+     * 사용자에 해당하는 항목을 제거합니다.
+     *
+     * <p>변경 트랜잭션이 커밋된 후 호출해야, 커밋 전 값을 다른 요청이 다시 캐시하지 않습니다.</p>
+     *
+     * @param id 사용자 ID (없으면 null)
+     * @param emails 변경 전후 이메일 (null 또는 빈 값은 무시)
+     */
+    fun evict(id: Long?, vararg emails: String?) {
+        id?.let(profiles::invalidate)
+        emails.forEach { email ->
+            if (!email.isNullOrBlank()) nicknames.invalidate(normalize(email))
+        }
+    }
+
+    /**
+     * 캐시의 모든 항목을 제거합니다.
+     */
+    fun invalidateAll() {
+        profiles.invalidateAll()
+        nicknames.invalidateAll()
+    }
+
+    private fun normalize(email: String): String = email.trim().lowercase(Locale.ROOT)
+
+    private fun <K : Any, V : Any> newCache(name: String, meterRegistry: MeterRegistry): Cache<K, Lookup<V>> =
+        Caffeine.newBuilder()
+            .maximumSize(properties.maxSize)
+            .expireAfter(object : Expiry<K, Lookup<V>> {
+                override fun expireAfterCreate(key: K, value: Lookup<V>, currentTime: Long): Long =
+                    TimeUnit.SECONDS.toNanos(
+                        if (value.value == null) properties.negativeTtlSeconds else properties.ttlSeconds
+                    )
+
+                override fun expireAfterUpdate(key: K, value: Lookup<V>, currentTime: Long, currentDuration: Long): Long =
+                    expireAfterCreate(key, value, currentTime)
+
+                override fun expireAfterRead(key: K, value: Lookup<V>, currentTime: Long, currentDuration: Long): Long =
+                    currentDuration
+            })
+            .recordStats()
+            .build<K, Lookup<V>>()
+            .also { cache ->
+                CaffeineCacheMetrics.monitor(meterRegistry, cache, name)
+                Gauge.builder("user.cache.hit.ratio", cache) { it.stats().hitRate() }
+                    .description("사용자 조회 캐시 적중률")
+                    .tag("cache", name)
+                    .register(meterRegistry)
+            }
+}
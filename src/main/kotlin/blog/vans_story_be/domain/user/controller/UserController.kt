@@ -3,19 +3,19 @@ package blog.vans_story_be.domain.user.controller
 import blog.vans_story_be.domain.user.dto.UserDto
 import blog.vans_story_be.domain.user.service.UserService
 import blog.vans_story_be.global.response.ApiResponse
-import blog.vans_story_be.global.response.noContent
-import blog.vans_story_be.global.response.withData
 import blog.vans_story_be.global.response.withLogging
+import com.fasterxml.jackson.databind.ObjectMapper
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.Parameter
 import io.swagger.v3.oas.annotations.tags.Tag
-import jakarta.servlet.http.HttpServletResponse
 import jakarta.validation.Valid
 import mu.KotlinLogging
 import org.springframework.http.HttpStatus
+import org.springframework.http.MediaType
 import org.springframework.http.ResponseEntity
 import org.springframework.security.access.prepost.PreAuthorize
 import org.springframework.web.bind.annotation.*
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody
 
 /**
  * 사용자 관련 요청을 처리하는 컨트롤러
@@ -27,12 +27,14 @@ import org.springframework.web.bind.annotation.*
  * - 사용자 목록 조회
  *
  * API 엔드포인트:
- * - GET /api/v1/users: 사용자 목록 조회
+ * - GET /api/v1/users: 사용자 목록 조회 (키셋 페이지)
+ * - GET /api/v1/users/stream: 사용자 목록 스트리밍 (NDJSON)
  * - GET /api/v1/users/{id}: 특정 사용자 정보 조회
  * - PUT /api/v1/users/{id}: 사용자 정보 수정
  * - DELETE /api/v1/users/{id}: 사용자 삭제
  *
  * @property userService 사용자 관련 비즈니스 로직을 처리하는 서비스
+ * @property objectMapper NDJSON 스트리밍 시 사용자 정보를 직렬화하는 ObjectMapper
  *
  * @author vans
  * @version 1.0.0
@@ -42,8 +44,14 @@ import org.springframework.web.bind.annotation.*
 @RequestMapping("/api/v1/users")
 @Tag(name = "User", description = "사용자 관리 API")
 class UserController(
-    private val userService: UserService
+    private val userService: UserService,
+    private val objectMapper: ObjectMapper
 ) {
+    companion object {
+        private const val NDJSON_VALUE = "application/x-ndjson"
+        private val NEW_LINE = '\n'.code
+    }
+
     private val logger = KotlinLogging.logger {}
 
     /**
@@ -51,51 +59,96 @@ class UserController(
      * 관리자만 접근 가능합니다.
      *
      * @param request 사용자 생성 요청 데이터
-     * @param response HTTP 응답 객체
      * @return 생성된 사용자 정보
      */
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     fun createUser(
         @Valid @RequestBody request: UserDto.CreateRequest,
-    ): ResponseEntity<ApiResponse<Unit>> = withLogging("사용자 생성") {
+    ): ResponseEntity<ApiResponse<UserDto.Response>> = withLogging("사용자 생성", HttpStatus.CREATED) {
         userService.createUser(request)
-        ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(Unit))
     }
 
     /**
-     * 모든 사용자 목록을 조회합니다.
+     * 사용자 목록을 ID 기준 키셋 페이지로 조회합니다.
      *
-     * @return 사용자 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 사용자 목록 페이지
      *
      * 사용 예시:
      * ```kotlin
-     * // GET /api/v1/users
+     * // GET /api/v1/users?size=2
      * // 응답:
      * // {
      * //   "success": true,
-     * //   "data": [
-     * //     {
-     * //       "id": 1,
-     * //       "email": "user1@example.com",
-     * //       "nickname": "User 1",
-     * //       "role": "USER"
-     * //     },
-     * //     ...
-     * //   ],
+     * //   "data": {
+     * //     "items": [
+     * //       { "id": 1, "email": "user1@example.com", "nickname": "User 1", "role": "USER", ... },
+     * //       { "id": 2, "email": "user2@example.com", "nickname": "User 2", "role": "USER", ... }
+     * //     ],
+     * //     "nextCursor": 2
+     * //   },
      * //   "message": null
      * // }
+     * // 다음 페이지: GET /api/v1/users?cursor=2&size=2
      * ```
      */
     @Operation(
         summary = "사용자 목록 조회",
-        description = "모든 사용자의 목록을 조회합니다."
+        description = "사용자 목록을 ID 순서로 페이지 단위로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다."
     )
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    fun getAllUsers() = withLogging("사용자 목록 조회") {
-        userService.getAllUsers()
-    }.withData(userService.getAllUsers())
+    fun getAllUsers(
+        @Parameter(description = "이전 페이지의 nextCursor")
+        @RequestParam(required = false) cursor: Long?,
+        @Parameter(description = "페이지 크기 (최대 100)")
+        @RequestParam(defaultValue = "${UserService.DEFAULT_PAGE_SIZE}") size: Int
+    ) = withLogging("사용자 목록 조회") {
+        userService.getUsers(cursor, size)
+    }
+
+    /**
+     * 사용자 목록 전체를 NDJSON(한 줄에 사용자 한 명)으로 스트리밍합니다.
+     *
+     * <p>DB 커서에서 읽은 행을 바로 응답에 쓰므로 전체 목록을 메모리에 만들지 않습니다.
+     * 응답은 [ApiResponse]로 감싸지 않습니다.</p>
+     *
+     * @param cursor 이 ID 이후부터 조회 (처음부터는 생략)
+     * @return NDJSON 스트리밍 응답
+     *
+     * 사용 예시:
+     * ```kotlin
+     * // GET /api/v1/users/stream
+     * // 응답 (application/x-ndjson):
+     * // {"id":1,"email":"user1@example.com","nickname":"User 1","role":"USER",...}
+     * // {"id":2,"email":"user2@example.com","nickname":"User 2","role":"USER",...}
+     * ```
+     */
+    @Operation(
+        summary = "사용자 목록 스트리밍",
+        description = "사용자 목록 전체를 application/x-ndjson 형식으로 스트리밍합니다."
+    )
+    @GetMapping("/stream", produces = [NDJSON_VALUE])
+    @PreAuthorize("hasRole('ADMIN')")
+    fun streamAllUsers(
+        @Parameter(description = "이 ID 이후부터 조회")
+        @RequestParam(required = false) cursor: Long?
+    ): ResponseEntity<StreamingResponseBody> {
+        logger.info { "[사용자 목록 스트리밍] 시작" }
+        val body = StreamingResponseBody { output ->
+            userService.streamUsers(cursor) { user ->
+                output.write(objectMapper.writeValueAsBytes(user))
+                output.write(NEW_LINE)
+            }
+            output.flush()
+            logger.info { "[사용자 목록 스트리밍] 완료" }
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+            .body(body)
+    }
 
     /**
      * 특정 ID의 사용자 정보를 조회합니다.
@@ -131,7 +184,7 @@ class UserController(
         @PathVariable id: Long
     ) = withLogging("사용자 정보 조회") {
         userService.getUserById(id)
-    }.withData(userService.getUserById(id))
+    }
 
     /**
      * 이메일로 사용자의 닉네임을 조회합니다.
@@ -150,7 +203,7 @@ class UserController(
         @PathVariable email: String
     ) = withLogging("이메일로 닉네임 조회") {
         userService.getNicknameByEmail(email)
-    }.withData(userService.getNicknameByEmail(email))
+    }
 
     /**
      * 사용자 정보를 수정합니다.
@@ -172,48 +225,26 @@ class UserController(
         @Valid @RequestBody updateRequest: UserDto.UpdateRequest
     ) = withLogging("사용자 정보 수정") {
         userService.updateUser(id, updateRequest)
-    }.withData(userService.updateUser(id, updateRequest))
+    }
 
     /**
      * 사용자를 삭제합니다.
      * 본인 또는 관리자만 삭제 가능합니다.
+     * 삭제 요청만 기록하고 바로 응답하며, 관련 데이터는 백그라운드에서 정리됩니다.
      *
      * @param id 사용자 ID
-     * @param response HTTP 응답 객체
-     * @return 삭제 성공 응답
+     * @return 삭제 성공 응답 (204 No Content)
      */
     @Operation(
         summary = "사용자 삭제",
-        description = "특정 ID의 사용자를 삭제합니다."
+        description = "특정 ID의 사용자를 삭제합니다. 즉시 조회와 로그인에서 제외되고, 연동 정보 등은 백그라운드에서 정리됩니다."
     )
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or authentication.principal.id == #id")
     fun deleteUser(
         @Parameter(description = "사용자 ID", required = true)
-        @PathVariable id: Long,
-        response: HttpServletResponse
-    ) = withLogging("사용자 삭제") {
+        @PathVariable id: Long
+    ) = withLogging("사용자 삭제", HttpStatus.NO_CONTENT) {
         userService.deleteUser(id)
-        response.noContent()
-    }
-
-    /**
-     * 로깅을 포함한 컨트롤러 메서드 실행을 위한 확장 함수
-     *
-     * @param operation 수행할 작업의 이름
-     * @param block 실행할 코드 블록
-     * @return API 응답
-     */
-    private inline fun <T> withLogging(
-        operation: String,
-        block: () -> T
-    ): ResponseEntity<ApiResponse<T>> = try {
-        logger.info { "[$operation] 시작" }
-        val result = block()
-        logger.info { "[$operation] 완료" }
-        ResponseEntity.ok(ApiResponse.success(result))
-    } catch (e: Exception) {
-        logger.error(e) { "[$operation] 실패" }
-        throw e
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package blog.vans_story_be.domain.user.controller
+
+import blog.vans_story_be.domain.user.importer.UserImportFormat
+import blog.vans_story_be.domain.user.service.UserImportService
+import blog.vans_story_be.global.response.withLogging
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.tags.Tag
+import jakarta.servlet.http.HttpServletRequest
+import org.springframework.security.access.prepost.PreAuthorize
+import org.springframework.web.bind.annotation.PostMapping
+import org.springframework.web.bind.annotation.RequestMapping
+import org.springframework.web.bind.annotation.RestController
+
+/**
+ * 사용자 일괄 가져오기 요청을 처리하는 컨트롤러
+ *
+ * API 엔드포인트:
+ * - POST /api/v1/users/import: CSV 또는 NDJSON 본문의 사용자를 일괄 생성 (관리자 전용)
+ *
+ * @property userImportService 사용자 일괄 가져오기 서비스
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@Tag(name = "User", description = "사용자 관리 API")
+class UserImportController(
+    private val userImportService: UserImportService
+) {
+
+    /**
+     * 요청 본문의 사용자를 일괄 생성하고 행별 결과를 반환합니다.
+     *
+     * <p>본문은 버퍼링하지 않고 스트림으로 읽습니다. Content-Type으로 형식을 구분합니다.</p>
+     *
+     * @param request HTTP 요청 (본문: text/csv 또는 application/x-ndjson)
+     * @return 행별 결과 보고서
+     *
+     * 사용 예시:
+     * ```kotlin
+     * // POST /api/v1/users/import
+     * // Content-Type: text/csv
+     * //
+     * // email,nickname,password_hash
+     * // user1@example.com,User 1,$2a$10$...
+     * // user2@example.com,User 2,$2a$10$...
+     * //
+     * // 응답:
+     * // {
+     * //   "success": true,
+     * //   "data": {
+     * //     "total": 2, "created": 1, "failed": 1, "truncated": false,
+     * //     "results": [
+     * //       { "line": 2, "email": "user1@example.com", "status": "CREATED", "message": null },
+     * //       { "line": 3, "email": "user2@example.com", "status": "DUPLICATE", "message": "이미 존재하는 이메일입니다" }
+     * //     ]
+     * //   },
+     * //   "message": null
+     * // }
+     * ```
+     */
+    @Operation(
+        summary = "사용자 일괄 가져오기",
+        description = "CSV(email, nickname, password 또는 password_hash 헤더) 또는 NDJSON 본문의 사용자를 일괄 생성하고 행별 결과를 반환합니다."
+    )
+    @PostMapping("/import", consumes = [UserImportFormat.CSV_VALUE, UserImportFormat.NDJSON_VALUE])
+    @PreAuthorize("hasRole('ADMIN')")
+    fun importUsers(request: HttpServletRequest) = withLogging("사용자 일괄 가져오기") {
+        userImportService.importUsers(UserImportFormat.of(request.contentType), request.inputStream)
+    }
+}
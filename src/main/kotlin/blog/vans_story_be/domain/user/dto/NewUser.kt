@@ -0,0 +1,29 @@
+package blog.vans_story_be.domain.user.dto
+
+import blog.vans_story_be.domain.user.entity.Role
+
+/**
+ * 일괄 저장할 사용자 한 명의 정보를 담는 객체
+ *
+ * [blog.vans_story_be.domain.user.service.UserImportService]가 검증과 해싱을 마친 행을
+ * [blog.vans_story_be.domain.user.repository.UserRepository.insertAll]로 전달할 때 사용합니다.
+ * DAO 엔티티를 만들지 않고 batchInsert로 바로 저장됩니다.
+ *
+ * 필드 설명:
+ * - [email]: 이메일 (로그인 아이디)
+ * - [passwordHash]: BCrypt 비밀번호 해시
+ * - [nickname]: 닉네임
+ * - [role]: 사용자 역할
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+data class NewUser(
+    val email: String,
+    val passwordHash: String,
+    val nickname: String,
+    val role: Role = Role.USER
+) {
+    override fun toString(): String = "NewUser(email=$email, nickname=$nickname, role=$role)"
+}
@@ -0,0 +1,29 @@
+package blog.vans_story_be.domain.user.dto
+
+import blog.vans_story_be.domain.user.entity.Role
+
+/**
+ * 로그인 인증에 필요한 사용자 정보만 담는 조회 전용 객체
+ *
+ * [blog.vans_story_be.domain.user.repository.UserRepository.findCredentialsByEmail]이
+ * users 테이블에서 네 개의 컬럼만 읽어 생성합니다. DAO 엔티티를 만들지 않으므로
+ * 엔티티 캐시에 남지 않고, API 응답으로 직렬화되지 않도록 컨트롤러에서 사용하지 않습니다.
+ *
+ * 필드 설명:
+ * - [id]: 사용자 ID
+ * - [email]: 이메일 (로그인 아이디)
+ * - [passwordHash]: BCrypt 비밀번호 해시
+ * - [role]: 사용자 역할
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+data class UserCredentials(
+    val id: Long,
+    val email: String,
+    val passwordHash: String,
+    val role: Role
+) {
+    override fun toString(): String = "UserCredentials(id=$id, email=$email, role=$role)"
+}
@@ -13,6 +13,8 @@ import jakarta.validation.constraints.Size
  * - [CreateRequest]: 사용자 생성 요청
  * - [UpdateRequest]: 사용자 정보 수정 요청
  * - [Response]: 사용자 정보 응답
+ * - [Page]: 사용자 목록 페이지 응답
+ * - [ImportRequest], [ImportReport]: 사용자 일괄 가져오기 행과 결과
  *
  * 사용 예시:
  * ```kotlin
@@ -72,9 +74,12 @@ sealed class UserDto {
     /**
      * 사용자 정보 수정 요청 DTO
      *
+     * PATCH 요청이므로 생략한(null) 필드는 변경하지 않습니다.
+     *
      * @property password 새로운 비밀번호 (선택, 8자 이상, 영문/숫자/특수문자 조합)
      * @property email 새로운 이메일 주소 (선택)
      * @property nickname 새로운 닉네임 (선택, 2-50자)
+     * @property role 새로운 역할 (관리자 역할 변경 전용, PATCH에서는 무시)
      */
     data class UpdateRequest(
         @field:Pattern(
@@ -84,10 +89,11 @@ sealed class UserDto {
         val password: String? = null,
 
         @field:Email(message = "올바른 이메일 형식이 아닙니다")
-        val email: String = "",
+        @field:Size(min = 1, max = 100, message = "이메일은 1자 이상 100자 이하여야 합니다")
+        val email: String? = null,
 
         @field:Size(min = 2, max = 50, message = "닉네임은 2자 이상 50자 이하여야 합니다")
-        val nickname: String = "",
+        val nickname: String? = null,
 
         val role: Role? = null
     )
@@ -110,4 +116,96 @@ sealed class UserDto {
         val createdAt: String = "",
         val updatedAt: String = ""
     )
-} 
\ No newline at end of file
+
+    /**
+     * 사용자 목록 페이지 응답 DTO (키셋 페이지네이션)
+     *
+     * @property items 현재 페이지의 사용자 목록 (ID 오름차순)
+     * @property nextCursor 다음 페이지 요청 시 cursor로 전달할 값 (마지막 페이지이면 null)
+     */
+    data class Page(
+        val items: List<Response> = emptyList(),
+        val nextCursor: Long? = null
+    )
+
+    /**
+     * 사용자 일괄 가져오기의 한 행 (CSV 한 줄 또는 NDJSON 한 줄)
+     *
+     * password와 passwordHash 중 하나만 지정합니다. 이전 플랫폼의 BCrypt 해시는 passwordHash로 전달하면
+     * 다시 해싱하지 않고 저장되며, cost가 낮으면 첫 로그인 때 현재 cost로 재해싱됩니다.
+     *
+     * @property email 이메일 주소 (필수)
+     * @property nickname 닉네임 (필수, 2-50자)
+     * @property password 평문 비밀번호 (8자 이상, 영문/숫자/특수문자 조합)
+     * @property passwordHash BCrypt 해시 ($2a$, $2b$, $2y$)
+     */
+    data class ImportRequest(
+        @field:NotBlank(message = "이메일은 필수입니다")
+        @field:Email(message = "올바른 이메일 형식이 아닙니다")
+        val email: String = "",
+
+        @field:NotBlank(message = "닉네임은 필수입니다")
+        @field:Size(min = 2, max = 50, message = "닉네임은 2자 이상 50자 이하여야 합니다")
+        val nickname: String = "",
+
+        @field:Pattern(
+            regexp = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$",
+            message = "비밀번호는 8자 이상이며, 영문자, 숫자, 특수문자를 포함해야 합니다"
+        )
+        val password: String? = null,
+
+        @field:Pattern(
+            regexp = "^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$",
+            message = "BCrypt 해시 형식이 아닙니다"
+        )
+        val passwordHash: String? = null
+    ) {
+        override fun toString(): String = "ImportRequest(email=$email, nickname=$nickname)"
+    }
+
+    /**
+     * 일괄 가져오기 행 처리 결과
+     */
+    enum class ImportStatus {
+        /** 저장됨 */
+        CREATED,
+        /** 이메일 또는 닉네임이 이미 존재하거나 파일 안에서 중복됨 */
+        DUPLICATE,
+        /** 형식 또는 검증 오류 */
+        INVALID,
+        /** 해싱 또는 저장 중 오류 */
+        FAILED
+    }
+
+    /**
+     * 일괄 가져오기 행별 결과
+     *
+     * @property line 입력 파일의 줄 번호 (1부터 시작, CSV 헤더 포함)
+     * @property email 행의 이메일 (읽지 못한 경우 null)
+     * @property status 처리 결과
+     * @property message 실패 사유 (성공 시 null)
+     */
+    data class ImportResult(
+        val line: Int,
+        val email: String?,
+        val status: ImportStatus,
+        val message: String? = null
+    )
+
+    /**
+     * 일괄 가져오기 결과 보고서
+     *
+     * @property total 처리한 행 수
+     * @property created 저장된 행 수
+     * @property failed 저장되지 않은 행 수
+     * @property truncated 최대 행 수를 넘어 나머지 행을 처리하지 않았는지 여부
+     * @property results 행별 결과 (줄 번호 순)
+     */
+    data class ImportReport(
+        val total: Int,
+        val created: Int,
+        val failed: Int,
+        val truncated: Boolean,
+        val results: List<ImportResult>
+    )
+}
@@ -0,0 +1,34 @@
+package blog.vans_story_be.domain.user.dto
+
+import blog.vans_story_be.domain.user.entity.Role
+
+/**
+ * 사용자 한 명의 일부 컬럼만 변경하는 값을 담는 객체
+ *
+ * [blog.vans_story_be.domain.user.repository.UserRepository.updateColumns]가
+ * null이 아닌 필드만 UPDATE의 SET 절에 넣습니다. DAO 엔티티를 읽지 않으므로
+ * 변경하지 않는 컬럼은 조회하지도, 다시 쓰지도 않습니다.
+ *
+ * 필드 설명:
+ * - [email]: 새 이메일 (null이면 유지)
+ * - [passwordHash]: 새 BCrypt 비밀번호 해시 (null이면 유지)
+ * - [nickname]: 새 닉네임 (null이면 유지)
+ * - [role]: 새 역할 (null이면 유지)
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+data class UserPatch(
+    val email: String? = null,
+    val passwordHash: String? = null,
+    val nickname: String? = null,
+    val role: Role? = null
+) {
+    /** 변경할 컬럼이 하나도 없는지 여부 */
+    val isEmpty: Boolean
+        get() = email == null && passwordHash == null && nickname == null && role == null
+
+    override fun toString(): String =
+        "UserPatch(email=$email, passwordHash=${passwordHash?.let { "****" }}, nickname=$nickname, role=$role)"
+}
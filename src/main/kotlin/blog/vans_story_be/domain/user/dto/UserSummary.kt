@@ -0,0 +1,33 @@
+package blog.vans_story_be.domain.user.dto
+
+import blog.vans_story_be.domain.user.entity.Role
+import java.time.LocalDateTime
+
+/**
+ * 사용자 목록 조회에 필요한 컬럼만 담는 조회 전용 객체
+ *
+ * [blog.vans_story_be.domain.user.repository.UserRepository.findUsersAfter]와
+ * [blog.vans_story_be.domain.user.repository.UserRepository.forEachUserAfter]가
+ * 비밀번호를 제외한 컬럼만 읽어 생성합니다. DAO 엔티티를 만들지 않으므로
+ * 목록을 스트리밍하는 동안 엔티티 캐시에 행이 쌓이지 않습니다.
+ *
+ * 필드 설명:
+ * - [id]: 사용자 ID
+ * - [email]: 이메일
+ * - [nickname]: 닉네임
+ * - [role]: 사용자 역할
+ * - [createdAt]: 생성 시간
+ * - [updatedAt]: 수정 시간
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+data class UserSummary(
+    val id: Long,
+    val email: String,
+    val nickname: String,
+    val role: Role,
+    val createdAt: LocalDateTime,
+    val updatedAt: LocalDateTime
+)
@@ -1,5 +1,8 @@
 package blog.vans_story_be.domain.user.entity
 
+import org.springframework.security.core.GrantedAuthority
+import org.springframework.security.core.authority.SimpleGrantedAuthority
+
 /**
  * 사용자 권한을 정의하는 열거형
  *
@@ -7,6 +10,9 @@ package blog.vans_story_be.domain.user.entity
  * - [USER]: 일반 사용자 (ROLE_USER)
  * - [ADMIN]: 관리자 (ROLE_ADMIN)
  *
+ * 각 역할의 [authorities]는 한 번만 만들어져 모든 인증 정보가 공유합니다.
+ * JWT 압축 클레임은 [ordinal]을 사용하므로 새 역할은 반드시 마지막에 추가해야 합니다.
+ *
  * 사용 예시:
  * ```kotlin
  * // 권한 확인
@@ -32,7 +38,34 @@ enum class Role(val value: String) {
     USER("ROLE_USER"),
     ADMIN("ROLE_ADMIN");
 
+    /**
+     * 이 역할에 해당하는 미리 생성된 불변 권한 집합입니다.
+     */
+    val authorities: Set<GrantedAuthority> = setOf(SimpleGrantedAuthority(value))
+
     companion object {
+        /**
+         * 권한 문자열("ROLE_USER", "USER")과 역할의 조회 테이블입니다.
+         */
+        private val byAuthority: Map<String, Role> =
+            entries.flatMap { listOf(it.value to it, it.name to it) }.toMap()
+
+        /**
+         * JWT auth 클레임 등의 권한 문자열로부터 Role enum을 찾습니다.
+         *
+         * <p>"ROLE_" 접두사가 있는 값과 없는 값을 모두 허용합니다.</p>
+         *
+         * @param authority 권한 문자열
+         * @return 찾은 Role enum 또는 null
+         *
+         * 사용 예시:
+         * ```kotlin
+         * Role.fromAuthority("ROLE_ADMIN")  // Role.ADMIN 반환
+         * Role.fromAuthority("USER")        // Role.USER 반환
+         * ```
+         */
+        fun fromAuthority(authority: String): Role? = byAuthority[authority]
+
         /**
          * 문자열로부터 Role enum을 찾습니다.
          *
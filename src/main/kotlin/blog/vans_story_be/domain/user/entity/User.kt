@@ -9,18 +9,33 @@ import org.jetbrains.exposed.sql.Table
 import org.jetbrains.exposed.sql.javatime.datetime
 import org.jetbrains.exposed.dao.id.LongIdTable
 import org.jetbrains.exposed.sql.Column
+import org.jetbrains.exposed.sql.Op
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.isNull
 import java.time.LocalDateTime
 
 /**
  * 사용자 정보를 관리하는 테이블 정의
  */
 object Users : LongIdTable("users") {
+    /** 이메일 고유 인덱스 이름 (Exposed 기본 이름과 같아 기존 스키마와 호환) */
+    const val EMAIL_UNIQUE_INDEX = "users_email_unique"
+
+    /** 닉네임 고유 인덱스 이름 (Exposed 기본 이름과 같아 기존 스키마와 호환) */
+    const val NICKNAME_UNIQUE_INDEX = "users_nickname_unique"
+
     val password = varchar("password", 100)
-    val email = varchar("email", 100).uniqueIndex()
-    val nickname = varchar("nickname", 50).uniqueIndex()
+    val email = varchar("email", 100).uniqueIndex(EMAIL_UNIQUE_INDEX)
+    val nickname = varchar("nickname", 50).uniqueIndex(NICKNAME_UNIQUE_INDEX)
     val role = enumerationByName("role", 20, Role::class)
     val createdAt = datetime("created_at").default(java.time.LocalDateTime.now())
     val updatedAt = datetime("updated_at").default(java.time.LocalDateTime.now())
+
+    /** 삭제 요청 시간 (null이면 활성 사용자, 값이 있으면 UserReaper가 정리할 때까지 조회에서 제외) */
+    val deletedAt = datetime("deleted_at").nullable().index("users_deleted_at")
+
+    /** 삭제 대기 중이 아닌 사용자 조건 (조회 쿼리의 기본 필터) */
+    val active: Op<Boolean>
+        get() = deletedAt.isNull()
 }
 
 /**
@@ -36,6 +51,7 @@ object Users : LongIdTable("users") {
  * - [email]: 이메일 (필수, 유효한 이메일 형식)
  * - [nickname]: 닉네임 (필수, 고유값)
  * - [role]: 사용자 역할 (필수)
+ * - [deletedAt]: 삭제 요청 시간 (null이면 활성 사용자)
  *
  * 사용 예시:
  * ```kotlin
@@ -65,6 +81,7 @@ class User(id: EntityID<Long>) : LongEntity(id) {
     var role: Role by Users.role
     var createdAt: LocalDateTime by Users.createdAt
     var updatedAt: LocalDateTime by Users.updatedAt
+    var deletedAt: LocalDateTime? by Users.deletedAt
 
     override fun toString(): String =
         "User(id=$id, email='$email', nickname='$nickname', role=$role)"
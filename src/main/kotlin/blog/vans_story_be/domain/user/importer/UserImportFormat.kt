@@ -0,0 +1,46 @@
+package blog.vans_story_be.domain.user.importer
+
+import blog.vans_story_be.global.exception.CustomException
+import org.springframework.http.InvalidMediaTypeException
+import org.springframework.http.MediaType
+
+/**
+ * 사용자 일괄 가져오기 입력 형식입니다.
+ *
+ * <h4>형식:</h4>
+ * <ul>
+ *   <li>[CSV]: 첫 줄은 헤더(email, nickname, password 또는 password_hash)이며, 열 순서는 자유입니다.</li>
+ *   <li>[NDJSON]: 한 줄에 JSON 객체 하나 ({"email", "nickname", "password" 또는 "passwordHash"})</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see UserImportParser
+ */
+enum class UserImportFormat(val mediaType: MediaType) {
+    CSV(MediaType.parseMediaType(CSV_VALUE)),
+    NDJSON(MediaType.parseMediaType(NDJSON_VALUE));
+
+    companion object {
+        const val CSV_VALUE = "text/csv"
+        const val NDJSON_VALUE = "application/x-ndjson"
+
+        /**
+         * 요청의 Content-Type으로 입력 형식을 찾습니다. (charset 등 파라미터는 무시)
+         *
+         * @param contentType 요청 Content-Type
+         * @return 입력 형식
+         * @throws CustomException 지원하지 않는 형식인 경우
+         */
+        fun of(contentType: String?): UserImportFormat {
+            val requested = try {
+                contentType?.let(MediaType::parseMediaType)
+            } catch (e: InvalidMediaTypeException) {
+                null
+            }
+            return entries.firstOrNull { requested != null && it.mediaType.equalsTypeAndSubtype(requested) }
+                ?: throw CustomException("지원하지 않는 형식입니다. ($CSV_VALUE 또는 $NDJSON_VALUE)")
+        }
+    }
+}
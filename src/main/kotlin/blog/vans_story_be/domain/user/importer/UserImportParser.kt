@@ -0,0 +1,141 @@
+package blog.vans_story_be.domain.user.importer
+
+import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.global.exception.CustomException
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.stereotype.Component
+import java.io.BufferedReader
+import java.io.InputStream
+import java.util.Locale
+
+/**
+ * 사용자 일괄 가져오기 입력을 한 줄씩 읽어 행으로 변환합니다.
+ *
+ * <p>입력 스트림을 [Sequence]로 감싸 필요한 만큼만 읽으므로, 파일 전체를 메모리에 올리지 않습니다.
+ * 한 줄의 형식 오류는 해당 행의 [ParsedRow.error]로 전달되며 나머지 행은 계속 처리됩니다.
+ * 빈 줄은 건너뜁니다.</p>
+ *
+ * <h4>CSV 규칙:</h4>
+ * <ul>
+ *   <li>첫 줄은 헤더이며 대소문자를 구분하지 않습니다. (password_hash, passwordHash 모두 허용)</li>
+ *   <li>큰따옴표로 감싼 필드 안의 쉼표와 ""(큰따옴표 이스케이프)를 지원합니다. 필드 안의 줄바꿈은 지원하지 않습니다.</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see UserImportFormat
+ */
+@Component
+class UserImportParser(
+    private val objectMapper: ObjectMapper
+) {
+    companion object {
+        private const val BOM = '\uFEFF'
+        private const val EMAIL = "email"
+        private const val NICKNAME = "nickname"
+        private const val PASSWORD = "password"
+        private const val PASSWORD_HASH = "passwordhash"
+    }
+
+    /**
+     * 파싱된 행입니다.
+     *
+     * @property line 입력의 줄 번호 (1부터 시작)
+     * @property request 읽은 값 (형식 오류이면 null)
+     * @property error 형식 오류 메시지
+     */
+    data class ParsedRow(
+        val line: Int,
+        val request: UserDto.ImportRequest?,
+        val error: String? = null
+    )
+
+    /**
+     * 입력을 행 단위 Sequence로 변환합니다.
+     *
+     * @param format 입력 형식
+     * @param input 요청 본문 (UTF-8)
+     * @return 행 Sequence (한 번만 순회 가능)
+     * @throws CustomException CSV 헤더에 필수 열이 없는 경우 (첫 행을 읽을 때)
+     */
+    fun parse(format: UserImportFormat, input: InputStream): Sequence<ParsedRow> {
+        val reader = input.bufferedReader(Charsets.UTF_8)
+        return when (format) {
+            UserImportFormat.CSV -> csv(reader)
+            UserImportFormat.NDJSON -> ndjson(reader)
+        }
+    }
+
+    private fun lines(reader: BufferedReader): Sequence<Pair<Int, String>> =
+        reader.lineSequence()
+            .mapIndexed { index, line -> index + 1 to if (index == 0) line.removePrefix(BOM.toString()) else line }
+            .filter { (_, line) -> line.isNotBlank() }
+
+    private fun ndjson(reader: BufferedReader): Sequence<ParsedRow> =
+        lines(reader).map { (line, text) ->
+            try {
+                ParsedRow(line, objectMapper.readValue(text, UserDto.ImportRequest::class.java))
+            } catch (e: JsonProcessingException) {
+                ParsedRow(line, null, "JSON 형식이 올바르지 않습니다")
+            }
+        }
+
+    private fun csv(reader: BufferedReader): Sequence<ParsedRow> = sequence {
+        val iterator = lines(reader).iterator()
+        if (!iterator.hasNext()) return@sequence
+
+        val header = splitCsvLine(iterator.next().second).map { it.trim().replace("_", "").lowercase(Locale.ROOT) }
+        val emailIndex = header.indexOf(EMAIL)
+        val nicknameIndex = header.indexOf(NICKNAME)
+        val passwordIndex = header.indexOf(PASSWORD)
+        val passwordHashIndex = header.indexOf(PASSWORD_HASH)
+        if (emailIndex < 0 || nicknameIndex < 0 || (passwordIndex < 0 && passwordHashIndex < 0)) {
+            throw CustomException("CSV 헤더에 email, nickname, password(또는 password_hash) 열이 필요합니다")
+        }
+
+        while (iterator.hasNext()) {
+            val (line, text) = iterator.next()
+            val fields = splitCsvLine(text)
+            if (fields.size != header.size) {
+                yield(ParsedRow(line, null, "열 개수가 헤더와 다릅니다 (${fields.size}/${header.size})"))
+                continue
+            }
+            yield(ParsedRow(line, UserDto.ImportRequest(
+                email = fields[emailIndex].trim(),
+                nickname = fields[nicknameIndex].trim(),
+                password = fields.getOrNull(passwordIndex)?.takeIf { it.isNotEmpty() },
+                passwordHash = fields.getOrNull(passwordHashIndex)?.trim()?.takeIf { it.isNotEmpty() }
+            )))
+        }
+    }
+
+    /**
+     * CSV 한 줄을 필드로 나눕니다.
+     */
+    private fun splitCsvLine(line: String): List<String> {
+        val fields = ArrayList<String>(4)
+        val current = StringBuilder()
+        var quoted = false
+        var i = 0
+        while (i < line.length) {
+            val c = line[i]
+            when {
+                quoted && c == '"' && i + 1 < line.length && line[i + 1] == '"' -> {
+                    current.append('"')
+                    i++
+                }
+                c == '"' -> quoted = !quoted
+                c == ',' && !quoted -> {
+                    fields.add(current.toString())
+                    current.setLength(0)
+                }
+                else -> current.append(c)
+            }
+            i++
+        }
+        fields.add(current.toString())
+        return fields
+    }
+}
@@ -0,0 +1,43 @@
+package blog.vans_story_be.domain.user.importer
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * 사용자 일괄 가져오기 설정입니다.
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see blog.vans_story_be.domain.user.service.UserImportService
+ */
+@Component
+class UserImportProperties {
+
+    /**
+     * 한 번에 중복 확인하고 한 트랜잭션으로 저장할 행 수
+     */
+    @Value("\${VANS_BLOG_USER_IMPORT_BATCH_SIZE:500}")
+    var batchSize: Int = 500
+
+    /**
+     * 평문 비밀번호를 동시에 해싱할 스레드 수
+     * 0이면 CPU 코어 수의 절반을 사용하여, 로그인 해싱에 쓸 여유를 남깁니다.
+     */
+    @Value("\${VANS_BLOG_USER_IMPORT_HASH_THREADS:0}")
+    var hashThreads: Int = 0
+
+    /**
+     * 해싱 풀에서 대기할 수 있는 최대 작업 수
+     * 가득 차면 제출한 요청 스레드가 직접 해싱하므로, 다음 묶음 준비가 해싱 속도에 맞춰 늦춰집니다.
+     */
+    @Value("\${VANS_BLOG_USER_IMPORT_HASH_QUEUE_CAPACITY:500}")
+    var hashQueueCapacity: Int = 500
+
+    /**
+     * 요청 하나에서 처리할 최대 행 수
+     * 넘는 행은 처리하지 않고 결과 보고서에 truncated로 표시합니다.
+     */
+    @Value("\${VANS_BLOG_USER_IMPORT_MAX_ROWS:100000}")
+    var maxRows: Int = 100_000
+}
@@ -1,9 +1,9 @@
 package blog.vans_story_be.domain.user.mapper
 
 import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.dto.UserSummary
 import blog.vans_story_be.domain.user.entity.Role
 import blog.vans_story_be.domain.user.entity.User
-import blog.vans_story_be.global.mapper.GenericMapper
 import org.springframework.stereotype.Component
 import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
@@ -11,6 +11,8 @@ import java.time.format.DateTimeFormatter
 /**
  * User 엔티티와 DTO 간의 변환을 처리하는 매퍼 클래스
  *
+ * 모든 필드를 직접 대입하므로 리플렉션을 사용하지 않으며, 타입이 맞지 않으면 컴파일 시점에 드러납니다.
+ *
  * 주요 기능:
  * - 엔티티를 DTO로 변환
  * - DTO를 엔티티로 변환
@@ -23,13 +25,13 @@ import java.time.format.DateTimeFormatter
  * private lateinit var userMapper: UserMapper
  *
  * // 엔티티를 DTO로 변환
- * val userDto = userMapper.toDto(user)
+ * val userDto = userMapper.toResponseDto(user)
  *
  * // DTO로 엔티티 업데이트
- * userMapper.updateEntity(userDto, user)
+ * userMapper.updateEntity(userMapper.toUpdateDto(user, nickname = "새닉네임"), user)
  *
  * // 생성 요청을 엔티티로 변환
- * val newUser = userMapper.toEntity(createRequest)
+ * val newUser = userMapper.toEntity(createRequest, encodedPassword)
  * ```
  *
  * @author vans
@@ -42,42 +44,92 @@ class UserMapper {
         private val formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
     }
 
+    /**
+     * 수정 DTO의 값을 엔티티에 반영합니다.
+     *
+     * <p>null인 필드는 반영하지 않습니다.</p>
+     *
+     * @param dto 수정할 값 ([toUpdateDto]로 생성)
+     * @param entity 수정할 사용자 엔티티 (트랜잭션 안에서 호출)
+     */
     fun updateEntity(dto: UserDto.UpdateRequest, entity: User) {
-        GenericMapper.toEntity(dto, entity).apply {
-            // password는 null이 아닐 때만 업데이트
-            dto.password?.let { this.password = it }
-        }
+        dto.email?.let { entity.email = it }
+        dto.nickname?.let { entity.nickname = it }
+        dto.role?.let { entity.role = it }
+        dto.password?.let { entity.password = it }
     }
 
-    // 특수한 경우 처리
-    fun toEntity(createRequest: UserDto.CreateRequest, encodedPassword: String): User = 
+    /**
+     * 생성 요청으로 일반 사용자 엔티티를 생성합니다.
+     *
+     * @param createRequest 사용자 생성 요청
+     * @param encodedPassword 암호화된 비밀번호
+     * @return 생성된 사용자 엔티티 (트랜잭션 안에서 호출)
+     */
+    fun toEntity(createRequest: UserDto.CreateRequest, encodedPassword: String): User =
         User.new {
-            GenericMapper.toEntity(createRequest, this)
+            this.email = createRequest.email
             this.password = encodedPassword
+            this.nickname = createRequest.nickname
             this.role = Role.USER
         }
 
-    fun toResponseDto(entity: User): UserDto.Response = 
-        GenericMapper.toDto(entity, UserDto.Response(
+    /**
+     * 사용자 엔티티를 응답 DTO로 변환합니다.
+     *
+     * @param entity 사용자 엔티티
+     * @return 사용자 정보 응답
+     */
+    fun toResponseDto(entity: User): UserDto.Response =
+        UserDto.Response(
             id = entity.id.value,
+            email = entity.email,
+            nickname = entity.nickname,
+            role = entity.role,
             createdAt = formatDateTime(entity.createdAt),
             updatedAt = formatDateTime(entity.updatedAt)
-        ))
+        )
+
+    /**
+     * 목록 조회용 프로젝션을 응답 DTO로 변환합니다.
+     *
+     * @param summary 사용자 목록 프로젝션
+     * @return 사용자 정보 응답
+     */
+    fun toResponseDto(summary: UserSummary): UserDto.Response =
+        UserDto.Response(
+            id = summary.id,
+            email = summary.email,
+            nickname = summary.nickname,
+            role = summary.role,
+            createdAt = formatDateTime(summary.createdAt),
+            updatedAt = formatDateTime(summary.updatedAt)
+        )
 
+    /**
+     * 엔티티의 현재 값에 변경할 값을 덮어쓴 수정 DTO를 생성합니다.
+     *
+     * @param entity 사용자 엔티티
+     * @param email 변경할 이메일 (null이면 현재 값)
+     * @param password 변경할 암호화된 비밀번호 (null이면 변경하지 않음)
+     * @param nickname 변경할 닉네임 (null이면 현재 값)
+     * @param role 변경할 역할 (null이면 현재 값)
+     * @return 수정 DTO
+     */
     fun toUpdateDto(
-        entity: User, 
-        email: String? = null, 
-        password: String? = null, 
+        entity: User,
+        email: String? = null,
+        password: String? = null,
         nickname: String? = null,
         role: Role? = null
-    ): UserDto.UpdateRequest = 
-        GenericMapper.toDto(entity, UserDto.UpdateRequest(
+    ): UserDto.UpdateRequest =
+        UserDto.UpdateRequest(
             email = email ?: entity.email,
             password = password,
             nickname = nickname ?: entity.nickname,
             role = role ?: entity.role
-        ))
+        )
 
     private fun formatDateTime(dateTime: LocalDateTime): String =
         dateTime.format(formatter)
-} 
\ No newline at end of file
+}
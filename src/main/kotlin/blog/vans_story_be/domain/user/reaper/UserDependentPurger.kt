@@ -0,0 +1,44 @@
+package blog.vans_story_be.domain.user.reaper
+
+/**
+ * 사용자를 참조하는 테이블의 행을 정리하는 확장 지점입니다.
+ *
+ * <p>users를 참조하는 테이블을 추가하는 도메인은 이 인터페이스를 구현한 빈을 등록하면
+ * [UserReaper]가 사용자 행을 삭제하기 전에 호출합니다. 외래 키에 ON DELETE CASCADE를 두지 않는 이유는
+ * 사용자 한 명의 삭제가 수많은 행을 한 문장으로 지우면서 긴 시간 잠금을 잡지 않도록,
+ * 정해진 크기로 나누어 각각 짧은 트랜잭션으로 지우기 위해서입니다.</p>
+ *
+ * 사용 예시:
+ * ```kotlin
+ * @Component
+ * class PostPurger : UserDependentPurger {
+ *     override val name = "posts"
+ *
+ *     override fun purge(userIds: List<Long>, limit: Int): Int {
+ *         val ids = Posts.slice(Posts.id).select { Posts.authorId inList userIds }.limit(limit).map { it[Posts.id] }
+ *         return if (ids.isEmpty()) 0 else Posts.deleteWhere { Posts.id inList ids }
+ *     }
+ * }
+ * ```
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+interface UserDependentPurger {
+    /**
+     * 로그에 표시할 이름 (보통 테이블 이름)
+     */
+    val name: String
+
+    /**
+     * 주어진 사용자들을 참조하는 행을 최대 [limit]건 삭제합니다.
+     *
+     * <p>[UserReaper]가 만든 트랜잭션 안에서 호출되며, 반환값이 [limit]보다 작아질 때까지 반복 호출됩니다.</p>
+     *
+     * @param userIds 정리할 사용자 ID
+     * @param limit 이번 호출에서 삭제할 최대 행 수
+     * @return 삭제된 행 수
+     */
+    fun purge(userIds: List<Long>, limit: Int): Int
+}
@@ -0,0 +1,94 @@
+package blog.vans_story_be.domain.user.reaper
+
+import blog.vans_story_be.domain.user.repository.UserRepository
+import mu.KotlinLogging
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * 삭제 요청된 사용자를 백그라운드에서 정리하는 클래스입니다.
+ *
+ * <p>사용자 삭제 API는 deleted_at만 기록하고 바로 응답하며, 실제 행 삭제는 이 클래스가 주기적으로 수행합니다.
+ * 참조 테이블은 [UserDependentPurger]를 통해 [UserReaperProperties.chunkSize]건씩 나누어 지우고,
+ * 참조가 모두 정리된 뒤 users 행을 삭제합니다. 각 단계는 별도의 짧은 트랜잭션이므로
+ * 한 사용자의 데이터가 많아도 행 잠금을 오래 잡지 않습니다.</p>
+ *
+ * <h4>정리 순서 (묶음 단위):</h4>
+ * <ul>
+ *   <li>보관 시간이 지난 삭제 요청 사용자 ID를 [UserReaperProperties.batchSize]명 조회</li>
+ *   <li>등록된 모든 [UserDependentPurger]로 참조 행을 chunkSize건씩, 남은 행이 없을 때까지 삭제</li>
+ *   <li>users 행 삭제</li>
+ * </ul>
+ *
+ * <p>중간에 실패하면 이미 지운 참조 행만 반영된 채로 다음 실행에서 이어서 정리합니다.
+ * 여러 인스턴스가 동시에 실행해도 같은 행을 두 번 지울 뿐 결과는 같습니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see UserDependentPurger
+ */
+@Component
+class UserReaper(
+    private val userRepository: UserRepository,
+    private val purgers: List<UserDependentPurger>,
+    private val properties: UserReaperProperties
+) {
+    companion object {
+        private val log = KotlinLogging.logger {}
+    }
+
+    /**
+     * 주기적으로 삭제 요청된 사용자를 정리합니다.
+     */
+    @Scheduled(
+        fixedDelayString = "\${VANS_BLOG_USER_REAPER_INTERVAL_MS:60000}",
+        initialDelayString = "\${VANS_BLOG_USER_REAPER_INTERVAL_MS:60000}"
+    )
+    fun reap() {
+        runCatching { purgeDeletedUsers() }
+            .onSuccess { purged ->
+                if (purged > 0) log.info { "삭제 요청된 사용자 정리 완료: ${purged}명" }
+            }
+            .onFailure { e ->
+                log.error(e) { "삭제 요청된 사용자 정리 실패, 다음 주기에 재시도합니다." }
+            }
+    }
+
+    /**
+     * 보관 시간이 지난 삭제 요청 사용자를 최대 [UserReaperProperties.maxBatches]묶음까지 정리합니다.
+     *
+     * @return 삭제된 사용자 수
+     */
+    fun purgeDeletedUsers(): Int {
+        val cutoff = LocalDateTime.now().minusSeconds(properties.retentionSeconds)
+        val batchSize = properties.batchSize.coerceAtLeast(1)
+        var purged = 0
+
+        repeat(properties.maxBatches.coerceAtLeast(1)) {
+            val userIds = transaction { userRepository.findDeletedIds(cutoff, batchSize) }
+            if (userIds.isEmpty()) return purged
+
+            purgers.forEach { purger -> purgeDependents(purger, userIds) }
+            purged += transaction { userRepository.purgeDeleted(userIds) }
+
+            if (userIds.size < batchSize) return purged
+        }
+        return purged
+    }
+
+    /**
+     * 한 참조 테이블의 행을 chunkSize건씩 나누어 남은 행이 없을 때까지 삭제합니다.
+     */
+    private fun purgeDependents(purger: UserDependentPurger, userIds: List<Long>) {
+        val chunkSize = properties.chunkSize.coerceAtLeast(1)
+        var total = 0
+        do {
+            val deleted = transaction { purger.purge(userIds, chunkSize) }
+            total += deleted
+        } while (deleted >= chunkSize)
+        if (total > 0) log.debug { "사용자 참조 행 정리: ${purger.name} ${total}건 (사용자 ${userIds.size}명)" }
+    }
+}
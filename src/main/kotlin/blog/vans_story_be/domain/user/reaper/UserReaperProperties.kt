@@ -0,0 +1,52 @@
+package blog.vans_story_be.domain.user.reaper
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * 삭제 요청된 사용자 정리 설정 값을 관리하는 클래스입니다.
+ *
+ * <h4>설정 항목 (환경변수):</h4>
+ * <ul>
+ *   <li>VANS_BLOG_USER_REAPER_INTERVAL_MS: 정리 작업 실행 간격 (기본값: 60000)</li>
+ *   <li>VANS_BLOG_USER_REAPER_RETENTION_SECONDS: 삭제 요청 후 정리까지 기다리는 시간 (기본값: 0)</li>
+ *   <li>VANS_BLOG_USER_REAPER_BATCH_SIZE: 한 번에 정리할 사용자 수 (기본값: 100)</li>
+ *   <li>VANS_BLOG_USER_REAPER_CHUNK_SIZE: 참조 테이블에서 트랜잭션 하나로 삭제할 최대 행 수 (기본값: 500)</li>
+ *   <li>VANS_BLOG_USER_REAPER_MAX_BATCHES: 한 번 실행할 때 처리할 최대 묶음 수 (기본값: 10)</li>
+ * </ul>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see UserReaper
+ */
+@Component
+class UserReaperProperties {
+    /**
+     * 삭제 요청 후 행을 실제로 정리하기까지 기다리는 시간(초)입니다.
+     *
+     * <p>정리되기 전까지는 삭제된 사용자의 이메일/닉네임으로 다시 가입할 수 없습니다. (고유 인덱스)</p>
+     */
+    @Value("\${VANS_BLOG_USER_REAPER_RETENTION_SECONDS:0}")
+    var retentionSeconds: Long = 0L
+
+    /**
+     * 한 묶음으로 정리할 사용자 수입니다.
+     */
+    @Value("\${VANS_BLOG_USER_REAPER_BATCH_SIZE:100}")
+    var batchSize: Int = 100
+
+    /**
+     * 참조 테이블에서 트랜잭션 하나로 삭제할 최대 행 수입니다.
+     *
+     * <p>작을수록 한 트랜잭션이 잡는 행 잠금이 줄어들고, 대신 왕복 횟수가 늘어납니다.</p>
+     */
+    @Value("\${VANS_BLOG_USER_REAPER_CHUNK_SIZE:500}")
+    var chunkSize: Int = 500
+
+    /**
+     * 한 번 실행할 때 처리할 최대 묶음 수입니다. 남은 사용자는 다음 실행에서 정리합니다.
+     */
+    @Value("\${VANS_BLOG_USER_REAPER_MAX_BATCHES:10}")
+    var maxBatches: Int = 10
+}
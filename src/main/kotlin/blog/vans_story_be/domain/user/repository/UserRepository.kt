@@ -1,5 +1,9 @@
 package blog.vans_story_be.domain.user.repository
 
+import blog.vans_story_be.domain.user.dto.NewUser
+import blog.vans_story_be.domain.user.dto.UserCredentials
+import blog.vans_story_be.domain.user.dto.UserPatch
+import blog.vans_story_be.domain.user.dto.UserSummary
 import blog.vans_story_be.domain.user.entity.User
 import blog.vans_story_be.domain.user.entity.Users
 import blog.vans_story_be.domain.user.entity.Role
@@ -9,6 +13,7 @@ import org.jetbrains.exposed.sql.and
 import org.jetbrains.exposed.sql.selectAll
 import org.jetbrains.exposed.sql.SqlExpressionBuilder.eq
 import org.springframework.stereotype.Repository
+import java.time.LocalDateTime
 import java.util.Optional
 
 /**
@@ -46,12 +51,24 @@ import java.util.Optional
 @Repository
 interface UserRepository {
     fun findByEmail(email: String): Optional<User>
+    fun findCredentialsByEmail(email: String): UserCredentials?
+    fun findNicknameByEmail(email: String): String?
     fun existsByEmail(email: String): Boolean
     fun save(user: User): User
-    fun delete(user: User)
-    fun findAllUsers(): List<User>
+    fun updateColumns(id: Long, patch: UserPatch, updatedAt: LocalDateTime): Int
+    fun softDelete(id: Long, deletedAt: LocalDateTime): Int
+    fun findDeletedIds(before: LocalDateTime, limit: Int): List<Long>
+    fun purgeDeleted(ids: Collection<Long>): Int
+    fun findUsersAfter(afterId: Long?, limit: Int): List<UserSummary>
+    fun forEachUserAfter(afterId: Long?, fetchSize: Int, action: (UserSummary) -> Unit)
     fun findUserById(id: Long): Optional<User>
+    fun findSummaryById(id: Long): UserSummary?
+    fun findEmailById(id: Long): String?
     fun existsByNickname(nickname: String): Boolean
+    fun findExistingEmails(emails: Collection<String>): Set<String>
+    fun findExistingNicknames(nicknames: Collection<String>): Set<String>
+    fun insertAll(users: List<NewUser>): Int
     fun findAll(): List<User>
     fun findById(id: Long): User?
+    fun updatePasswordByEmail(email: String, passwordHash: String): Int
 } 
\ No newline at end of file
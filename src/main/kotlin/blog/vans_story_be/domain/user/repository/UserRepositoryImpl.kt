@@ -1,16 +1,37 @@
 package blog.vans_story_be.domain.user.repository
 
+import blog.vans_story_be.domain.user.dto.NewUser
+import blog.vans_story_be.domain.user.dto.UserCredentials
+import blog.vans_story_be.domain.user.dto.UserPatch
+import blog.vans_story_be.domain.user.dto.UserSummary
 import blog.vans_story_be.domain.user.entity.Role
 import blog.vans_story_be.domain.user.entity.User
 import blog.vans_story_be.domain.user.entity.Users
+import org.jetbrains.exposed.dao.id.EntityID
+import org.jetbrains.exposed.sql.Query
+import org.jetbrains.exposed.sql.ResultRow
+import org.jetbrains.exposed.sql.SortOrder
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.eq
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.greater
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.inList
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.isNotNull
+import org.jetbrains.exposed.sql.SqlExpressionBuilder.less
+import org.jetbrains.exposed.sql.and
+import org.jetbrains.exposed.sql.batchInsert
+import org.jetbrains.exposed.sql.deleteWhere
 import org.jetbrains.exposed.sql.select
 import org.jetbrains.exposed.sql.transactions.transaction
+import org.jetbrains.exposed.sql.update
 import org.springframework.stereotype.Repository
+import java.time.LocalDateTime
 import java.util.Optional
 
 /**
  * UserRepository 인터페이스의 구현체
  * Exposed를 사용하여 데이터베이스 작업을 수행합니다.
+ *
+ * 삭제 요청된 사용자(deleted_at이 있는 행)는 조회/수정 쿼리에서 제외됩니다.
+ * 단, 중복 확인(exists*, findExisting*)은 고유 인덱스와 같은 기준이어야 하므로 삭제 대기 중인 행도 포함합니다.
  * 
  * @property UserRepository 인터페이스를 구현하여 사용자 관련 데이터베이스 작업을 처리
  * @sample 사용 예시
@@ -26,15 +47,49 @@ class UserRepositoryImpl : UserRepository {
      * @param email 사용자 이메일
      * @return Optional<User>
      * @sample SQL
-     * SELECT * FROM users WHERE email = ? LIMIT 1;
+     * SELECT * FROM users WHERE email = ? AND deleted_at IS NULL LIMIT 1;
      */
     override fun findByEmail(email: String): Optional<User> =
-        Optional.ofNullable(User.find { Users.email.eq(email) }.firstOrNull())
+        Optional.ofNullable(User.find { Users.email.eq(email) and Users.active }.firstOrNull())
 
+    /**
+     * 이메일로 로그인 인증 정보만 조회 (엔티티를 만들지 않는 프로젝션)
+     * @param email 사용자 이메일
+     * @return UserCredentials? (없으면 null)
+     * @sample SQL
+     * SELECT users.id, users.email, users.password, users.role FROM users WHERE email = ? AND deleted_at IS NULL LIMIT 1;
+     */
+    override fun findCredentialsByEmail(email: String): UserCredentials? =
+        Users.slice(Users.id, Users.email, Users.password, Users.role)
+            .select { (Users.email eq email) and Users.active }
+            .limit(1)
+            .firstOrNull()
+            ?.let { row ->
+                UserCredentials(
+                    id = row[Users.id].value,
+                    email = row[Users.email],
+                    passwordHash = row[Users.password],
+                    role = row[Users.role]
+                )
+            }
 
 
     /**
-     * 이메일로 사용자 존재 여부 확인
+     * 이메일로 닉네임만 조회 (엔티티를 만들지 않는 프로젝션)
+     * @param email 사용자 이메일
+     * @return String? (없으면 null)
+     * @sample SQL
+     * SELECT users.nickname FROM users WHERE email = ? AND deleted_at IS NULL LIMIT 1;
+     */
+    override fun findNicknameByEmail(email: String): String? =
+        Users.slice(Users.nickname)
+            .select { (Users.email eq email) and Users.active }
+            .limit(1)
+            .firstOrNull()
+            ?.get(Users.nickname)
+
+    /**
+     * 이메일로 사용자 존재 여부 확인 (삭제 대기 중인 사용자 포함)
      * @param email 사용자 이메일
      * @return Boolean
      * @sample SQL
@@ -44,7 +99,7 @@ class UserRepositoryImpl : UserRepository {
         Users.select { Users.email eq email }.any()
 
     /**
-     * 닉네임으로 사용자 존재 여부 확인
+     * 닉네임으로 사용자 존재 여부 확인 (삭제 대기 중인 사용자 포함)
      * @param nickname 사용자 닉네임
      * @return Boolean
      * @sample SQL
@@ -53,6 +108,54 @@ class UserRepositoryImpl : UserRepository {
     override fun existsByNickname(nickname: String): Boolean =
         Users.select { Users.nickname eq nickname }.any()
 
+    /**
+     * 주어진 이메일 중 이미 가입된 이메일 조회 (일괄 가져오기 중복 확인용, 삭제 대기 중인 사용자 포함)
+     * @param emails 확인할 이메일 목록
+     * @return Set<String> 이미 존재하는 이메일 (DB에 저장된 값)
+     * @sample SQL
+     * SELECT users.email FROM users WHERE email IN (?, ?, ...);
+     */
+    override fun findExistingEmails(emails: Collection<String>): Set<String> =
+        if (emails.isEmpty()) emptySet()
+        else Users.slice(Users.email)
+            .select { Users.email inList emails }
+            .mapTo(HashSet()) { it[Users.email] }
+
+    /**
+     * 주어진 닉네임 중 이미 사용 중인 닉네임 조회 (일괄 가져오기 중복 확인용, 삭제 대기 중인 사용자 포함)
+     * @param nicknames 확인할 닉네임 목록
+     * @return Set<String> 이미 존재하는 닉네임 (DB에 저장된 값)
+     * @sample SQL
+     * SELECT users.nickname FROM users WHERE nickname IN (?, ?, ...);
+     */
+    override fun findExistingNicknames(nicknames: Collection<String>): Set<String> =
+        if (nicknames.isEmpty()) emptySet()
+        else Users.slice(Users.nickname)
+            .select { Users.nickname inList nicknames }
+            .mapTo(HashSet()) { it[Users.nickname] }
+
+    /**
+     * 사용자 일괄 저장 (엔티티를 만들지 않는 다중 행 INSERT)
+     * @param users 저장할 사용자 목록
+     * @return 저장된 행 수
+     * @sample SQL
+     * INSERT INTO users (email, password, nickname, role, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?), ...;
+     * (JDBC 배치 한 번으로 전송되며, MariaDB Connector/J 3.x는 bulk 프로토콜(useBulkStmts)을 사용)
+     */
+    override fun insertAll(users: List<NewUser>): Int {
+        if (users.isEmpty()) return 0
+        val now = LocalDateTime.now()
+        Users.batchInsert(users, shouldReturnGeneratedValues = false) { user ->
+            this[Users.email] = user.email
+            this[Users.password] = user.passwordHash
+            this[Users.nickname] = user.nickname
+            this[Users.role] = user.role
+            this[Users.createdAt] = now
+            this[Users.updatedAt] = now
+        }
+        return users.size
+    }
+
     /**
      * 사용자 저장(업데이트)
      * @param user 저장할 User 엔티티
@@ -67,45 +170,174 @@ class UserRepositoryImpl : UserRepository {
     }
 
     /**
-     * 사용자 삭제
-     * @param user 삭제할 User 엔티티
+     * 요청에 포함된 컬럼과 updated_at만 변경 (엔티티를 읽지 않는 부분 UPDATE)
+     * @param id 사용자 ID
+     * @param patch 변경할 값 (null인 필드는 SET 절에서 제외)
+     * @param updatedAt 수정 시간
+     * @return 변경된 행 수 (사용자가 없으면 0)
      * @sample SQL
-     * DELETE FROM users WHERE id = ?;
+     * UPDATE users SET nickname = ?, updated_at = ? WHERE id = ? AND deleted_at IS NULL;
+     * (닉네임만 변경한 경우)
      */
-    override fun delete(user: User) = user.delete()
+    override fun updateColumns(id: Long, patch: UserPatch, updatedAt: LocalDateTime): Int =
+        Users.update({ (Users.id eq EntityID(id, Users)) and Users.active }) { row ->
+            patch.email?.let { row[Users.email] = it }
+            patch.passwordHash?.let { row[Users.password] = it }
+            patch.nickname?.let { row[Users.nickname] = it }
+            patch.role?.let { row[Users.role] = it }
+            row[Users.updatedAt] = updatedAt
+        }
 
     /**
-     * 모든 사용자 조회
-     * @return List<User>
+     * 사용자 삭제 요청 (행은 UserReaper가 나중에 정리)
+     * @param id 사용자 ID
+     * @param deletedAt 삭제 요청 시간
+     * @return 변경된 행 수 (없거나 이미 삭제 요청된 사용자이면 0)
      * @sample SQL
-     * SELECT * FROM users;
+     * UPDATE users SET deleted_at = ?, updated_at = ? WHERE id = ? AND deleted_at IS NULL;
      */
-    override fun findAllUsers(): List<User> = User.all().toList()
+    override fun softDelete(id: Long, deletedAt: LocalDateTime): Int =
+        Users.update({ (Users.id eq EntityID(id, Users)) and Users.active }) {
+            it[Users.deletedAt] = deletedAt
+            it[Users.updatedAt] = deletedAt
+        }
+
+    /**
+     * 정리할 사용자 ID 조회 (삭제 요청 시간 순)
+     * @param before 이 시간 이전에 삭제 요청된 사용자만 조회
+     * @param limit 최대 조회 건수
+     * @return List<Long> 사용자 ID
+     * @sample SQL
+     * SELECT users.id FROM users WHERE deleted_at < ? ORDER BY deleted_at LIMIT ?;
+     */
+    override fun findDeletedIds(before: LocalDateTime, limit: Int): List<Long> =
+        Users.slice(Users.id)
+            .select { Users.deletedAt less before }
+            .orderBy(Users.deletedAt to SortOrder.ASC)
+            .limit(limit)
+            .map { it[Users.id].value }
+
+    /**
+     * 삭제 요청된 사용자 행을 실제로 삭제 (참조하는 행은 먼저 정리되어 있어야 함)
+     * @param ids 사용자 ID
+     * @return 삭제된 행 수
+     * @sample SQL
+     * DELETE FROM users WHERE id IN (?, ...) AND deleted_at IS NOT NULL;
+     */
+    override fun purgeDeleted(ids: Collection<Long>): Int =
+        if (ids.isEmpty()) 0
+        else Users.deleteWhere { (Users.id inList ids.map { EntityID(it, Users) }) and Users.deletedAt.isNotNull() }
+
+    /**
+     * ID 기준 키셋 페이지 조회 (비밀번호를 제외한 프로젝션)
+     * @param afterId 이전 페이지의 마지막 ID (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     * @return List<UserSummary> (ID 오름차순)
+     * @sample SQL
+     * SELECT id, email, nickname, role, created_at, updated_at FROM users WHERE id > ? AND deleted_at IS NULL ORDER BY id LIMIT ?;
+     */
+    override fun findUsersAfter(afterId: Long?, limit: Int): List<UserSummary> =
+        summaryQuery(afterId)
+            .limit(limit)
+            .map(::toSummary)
+
+    /**
+     * ID 오름차순으로 사용자를 한 행씩 전달 (전체 목록을 메모리에 만들지 않음)
+     *
+     * fetchSize를 지정하면 MariaDB 드라이버가 결과를 한 번에 받지 않고 전방향 커서로 나누어 읽습니다.
+     * 호출한 쪽의 트랜잭션 안에서 실행되어야 합니다.
+     * @param afterId 이 ID 이후부터 조회 (처음부터는 null)
+     * @param fetchSize 드라이버가 한 번에 가져올 행 수
+     * @param action 각 행에 대해 실행할 작업
+     * @sample SQL
+     * SELECT id, email, nickname, role, created_at, updated_at FROM users WHERE id > ? AND deleted_at IS NULL ORDER BY id;
+     */
+    override fun forEachUserAfter(afterId: Long?, fetchSize: Int, action: (UserSummary) -> Unit) {
+        summaryQuery(afterId)
+            .fetchSize(fetchSize)
+            .forEach { row -> action(toSummary(row)) }
+    }
+
+    private fun summaryQuery(afterId: Long?): Query =
+        Users.slice(Users.id, Users.email, Users.nickname, Users.role, Users.createdAt, Users.updatedAt)
+            .let { columns ->
+                if (afterId == null) columns.select { Users.active }
+                else columns.select { (Users.id greater EntityID(afterId, Users)) and Users.active }
+            }
+            .orderBy(Users.id to SortOrder.ASC)
+
+    private fun toSummary(row: ResultRow): UserSummary =
+        UserSummary(
+            id = row[Users.id].value,
+            email = row[Users.email],
+            nickname = row[Users.nickname],
+            role = row[Users.role],
+            createdAt = row[Users.createdAt],
+            updatedAt = row[Users.updatedAt]
+        )
+
+    /**
+     * ID로 비밀번호를 제외한 컬럼만 조회 (엔티티를 만들지 않는 프로젝션)
+     * @param id 사용자 ID
+     * @return UserSummary? (없으면 null)
+     * @sample SQL
+     * SELECT id, email, nickname, role, created_at, updated_at FROM users WHERE id = ? AND deleted_at IS NULL;
+     */
+    override fun findSummaryById(id: Long): UserSummary? =
+        Users.slice(Users.id, Users.email, Users.nickname, Users.role, Users.createdAt, Users.updatedAt)
+            .select { (Users.id eq EntityID(id, Users)) and Users.active }
+            .firstOrNull()
+            ?.let(::toSummary)
+
+    /**
+     * ID로 이메일만 조회 (엔티티를 만들지 않는 프로젝션)
+     * @param id 사용자 ID
+     * @return String? (없으면 null)
+     * @sample SQL
+     * SELECT users.email FROM users WHERE id = ? AND deleted_at IS NULL;
+     */
+    override fun findEmailById(id: Long): String? =
+        Users.slice(Users.email)
+            .select { (Users.id eq EntityID(id, Users)) and Users.active }
+            .firstOrNull()
+            ?.get(Users.email)
 
     /**
      * ID로 사용자 조회 (Optional)
      * @param id 사용자 ID
      * @return Optional<User>
      * @sample SQL
-     * SELECT * FROM users WHERE id = ? LIMIT 1;
+     * SELECT * FROM users WHERE id = ? AND deleted_at IS NULL LIMIT 1;
      */
     override fun findUserById(id: Long): Optional<User> =
-        Optional.ofNullable(User.findById(id))
+        Optional.ofNullable(findById(id))
 
     /**
      * 모든 사용자 조회 (중복 구현)
      * @return List<User>
      * @sample SQL
-     * SELECT * FROM users;
+     * SELECT * FROM users WHERE deleted_at IS NULL;
      */
-    override fun findAll(): List<User> = User.all().toList()
+    override fun findAll(): List<User> = User.find { Users.active }.toList()
 
     /**
      * ID로 사용자 조회 (nullable)
      * @param id 사용자 ID
      * @return User?
      * @sample SQL
-     * SELECT * FROM users WHERE id = ? LIMIT 1;
+     * SELECT * FROM users WHERE id = ? AND deleted_at IS NULL LIMIT 1;
+     */
+    override fun findById(id: Long): User? =
+        User.find { (Users.id eq EntityID(id, Users)) and Users.active }.firstOrNull()
+
+    /**
+     * 이메일로 사용자의 비밀번호 해시만 변경 (BCrypt cost 상향 재해싱용)
+     * @param email 사용자 이메일
+     * @param passwordHash 새 비밀번호 해시
+     * @return 변경된 행 수
+     * @sample SQL
+     * UPDATE users SET password = ? WHERE email = ? AND deleted_at IS NULL;
      */
-    override fun findById(id: Long): User? = User.findById(id)
-} 
\ No newline at end of file
+    override fun updatePasswordByEmail(email: String, passwordHash: String): Int =
+        Users.update({ (Users.email eq email) and Users.active }) { it[password] = passwordHash }
+}
@@ -0,0 +1,71 @@
+package blog.vans_story_be.domain.user.repository
+
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.global.exception.CustomException
+import org.jetbrains.exposed.exceptions.ExposedSQLException
+import java.sql.SQLException
+
+/**
+ * users 테이블의 고유 인덱스 위반을 필드별 [CustomException]으로 변환합니다.
+ *
+ * <p>이메일/닉네임 중복을 미리 SELECT로 확인하지 않고 INSERT/UPDATE를 한 번 시도한 뒤,
+ * 실패하면 DB가 알려 준 인덱스 이름으로 어느 필드가 중복되었는지 판별합니다.
+ * 확인과 쓰기 사이에 다른 요청이 끼어들 틈이 없으므로 동시 가입에서도 중복이 저장되지 않습니다.</p>
+ *
+ * <h4>판별 기준:</h4>
+ * <ul>
+ *   <li>SQLState가 23(무결성 제약 위반)으로 시작 (MariaDB 23000, H2 23505)</li>
+ *   <li>오류 메시지에 인덱스 이름이 포함 (MariaDB: "for key 'users_email_unique'",
+ *       H2: "PUBLIC.USERS_EMAIL_UNIQUE_INDEX_4 ...")</li>
+ * </ul>
+ *
+ * 사용 예시:
+ * ```kotlin
+ * transaction {
+ *     val user = userMapper.toEntity(request, encodedPassword)
+ *     UserUniqueConstraints.translate { userRepository.save(user) }
+ * }
+ * ```
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ */
+object UserUniqueConstraints {
+    private const val INTEGRITY_CONSTRAINT_VIOLATION = "23"
+
+    /**
+     * 쓰기 작업을 실행하고, 고유 인덱스 위반이면 필드별 [CustomException]을 던집니다.
+     *
+     * <p>트랜잭션 안에서 호출해야 합니다. 변환된 예외는 SQLException이 아니므로
+     * Exposed의 트랜잭션 재시도 없이 바로 롤백됩니다.</p>
+     *
+     * @param block INSERT 또는 UPDATE를 실행하는 작업
+     * @return 작업 결과
+     * @throws CustomException 이메일 또는 닉네임이 이미 존재하는 경우
+     * @throws ExposedSQLException 그 밖의 SQL 오류
+     */
+    inline fun <T> translate(block: () -> T): T =
+        try {
+            block()
+        } catch (e: ExposedSQLException) {
+            throw toCustomException(e) ?: e
+        }
+
+    /**
+     * 예외가 이메일 또는 닉네임 고유 인덱스 위반이면 해당 필드의 [CustomException]을 만듭니다.
+     *
+     * @param e SQL 실행 예외
+     * @return 필드별 예외 (다른 오류이면 null)
+     */
+    fun toCustomException(e: ExposedSQLException): CustomException? {
+        val cause = e.cause as? SQLException ?: return null
+        if (cause.sqlState?.startsWith(INTEGRITY_CONSTRAINT_VIOLATION) != true) return null
+        val message = cause.message ?: return null
+        return when {
+            message.contains(Users.EMAIL_UNIQUE_INDEX, ignoreCase = true) -> CustomException.alreadyExists("이메일")
+            message.contains(Users.NICKNAME_UNIQUE_INDEX, ignoreCase = true) -> CustomException.alreadyExists("닉네임")
+            else -> null
+        }
+    }
+}
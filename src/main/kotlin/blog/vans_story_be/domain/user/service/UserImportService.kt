@@ -0,0 +1,263 @@
+package blog.vans_story_be.domain.user.service
+
+import blog.vans_story_be.config.security.CalibratedPasswordEncoder
+import blog.vans_story_be.config.security.PasswordHashingExecutor
+import blog.vans_story_be.domain.user.cache.UserLookupCache
+import blog.vans_story_be.domain.user.dto.NewUser
+import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.dto.UserDto.ImportStatus
+import blog.vans_story_be.domain.user.importer.UserImportFormat
+import blog.vans_story_be.domain.user.importer.UserImportParser
+import blog.vans_story_be.domain.user.importer.UserImportProperties
+import blog.vans_story_be.domain.user.repository.UserRepository
+import blog.vans_story_be.domain.user.repository.UserUniqueConstraints
+import blog.vans_story_be.global.exception.CustomException
+import jakarta.annotation.PreDestroy
+import jakarta.validation.Validator
+import mu.KotlinLogging
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.stereotype.Service
+import java.io.InputStream
+import java.util.Locale
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * 이전 블로그 플랫폼의 사용자를 일괄로 가져오는 서비스입니다.
+ *
+ * <p>[UserService.createUser]를 행마다 호출하면 BCrypt 해싱과 INSERT가 한 행씩 순서대로 실행되고,
+ * 중복 행은 INSERT가 실패해야 드러납니다. 이 서비스는 입력을 [UserImportProperties.batchSize]행씩 묶어 처리합니다.</p>
+ *
+ * <h4>처리 단계 (묶음 단위):</h4>
+ * <ul>
+ *   <li>검증: Bean Validation과 password/passwordHash 중 하나만 지정했는지 확인합니다.</li>
+ *   <li>중복 확인: 이번 요청에서 이미 나온 이메일/닉네임을 제외한 뒤, 묶음 전체를 IN 조회 두 번으로 DB와 비교합니다.</li>
+ *   <li>해싱: 평문 비밀번호는 대기열 크기가 제한된 전용 풀에서 해싱합니다. BCrypt 해시가 주어지면 그대로 사용합니다.</li>
+ *   <li>저장: 한 트랜잭션에서 batchInsert로 저장합니다.</li>
+ * </ul>
+ *
+ * <p>해싱은 로그인용 [PasswordHashingExecutor]를 거치지 않고, 보정된 cost와 같은 BCryptPasswordEncoder로
+ * 전용 풀에서 직접 수행합니다. 가져오기가 로그인 해싱 대기열을 차지하여 로그인이 503으로 거절되거나,
+ * 가져오기 행이 로그인 대기열 시간 초과로 실패하지 않도록 하기 위함입니다.</p>
+ *
+ * <p>다음 묶음의 검증과 중복 확인은 이전 묶음의 해싱이 진행되는 동안 수행되고, 그 뒤에 이전 묶음을 저장합니다.
+ * 중복 확인과 저장 사이에 다른 요청이 같은 이메일로 가입하여 batchInsert가 고유 인덱스 위반으로 실패하면,
+ * 그 묶음만 한 행씩 다시 저장하여 중복된 행을 결과에 표시합니다.</p>
+ *
+ * @author vans
+ * @version 1.0.0
+ * @since 2025.06.07
+ * @see UserImportParser
+ */
+@Service
+class UserImportService(
+    private val userRepository: UserRepository,
+    passwordEncoder: PasswordEncoder,
+    private val userLookupCache: UserLookupCache,
+    private val parser: UserImportParser,
+    private val validator: Validator,
+    private val properties: UserImportProperties
+) {
+    companion object {
+        private val log = KotlinLogging.logger {}
+    }
+
+    /**
+     * 검증과 중복 확인을 통과하고 해싱을 기다리는 행입니다.
+     */
+    private class PendingRow(
+        val line: Int,
+        val email: String,
+        val nickname: String,
+        val passwordHash: Future<String>
+    )
+
+    private val hashThreads = properties.hashThreads.takeIf { it > 0 }
+        ?: (Runtime.getRuntime().availableProcessors() / 2).coerceAtLeast(1)
+
+    private val hashPool = ThreadPoolExecutor(
+        hashThreads, hashThreads, 0L, TimeUnit.MILLISECONDS,
+        ArrayBlockingQueue(properties.hashQueueCapacity.coerceAtLeast(1)),
+        CustomizableThreadFactory("user-import-hash-"),
+        // 대기열이 가득 차면 요청 스레드가 직접 해싱하여 제출 속도를 늦춤
+        ThreadPoolExecutor.CallerRunsPolicy()
+    )
+
+    // 로그인 해싱 실행기를 거치지 않도록 같은 cost의 인코더를 따로 사용
+    private val hashEncoder: PasswordEncoder =
+        (passwordEncoder as? CalibratedPasswordEncoder)?.let { BCryptPasswordEncoder(it.cost) } ?: passwordEncoder
+
+    /**
+     * 입력 스트림의 사용자를 가져옵니다.
+     *
+     * @param format 입력 형식
+     * @param input 요청 본문
+     * @return 행별 결과 보고서
+     * @throws CustomException CSV 헤더가 올바르지 않은 경우
+     *
+     * 사용 예시:
+     * ```kotlin
+     * val report = userImportService.importUsers(UserImportFormat.CSV, file.inputStream())
+     * println("${report.created}/${report.total}명 저장")
+     * ```
+     */
+    fun importUsers(format: UserImportFormat, input: InputStream): UserDto.ImportReport {
+        val startedAt = System.nanoTime()
+        val results = ArrayList<UserDto.ImportResult>()
+        val seenEmails = HashSet<String>()
+        val seenNicknames = HashSet<String>()
+        var pending: List<PendingRow> = emptyList()
+        var total = 0
+        var truncated = false
+
+        parser.parse(format, input)
+            .takeWhile { (total < properties.maxRows).also { if (!it) truncated = true } }
+            .onEach { total++ }
+            .chunked(properties.batchSize.coerceAtLeast(1))
+            .forEach { chunk ->
+                val prepared = prepare(chunk, seenEmails, seenNicknames, results)
+                insert(pending, results)
+                pending = prepared
+            }
+        insert(pending, results)
+
+        val created = results.count { it.status == ImportStatus.CREATED }
+        if (created > 0) {
+            // 새 사용자의 이메일/ID가 "없음"으로 캐시되어 있을 수 있으므로 모두 제거
+            userLookupCache.invalidateAll()
+        }
+
+        val elapsedMs = (System.nanoTime() - startedAt) / 1_000_000
+        log.info { "사용자 일괄 가져오기 완료: ${created}/${total}명 저장, ${elapsedMs}ms, truncated=$truncated" }
+        results.sortBy { it.line }
+        return UserDto.ImportReport(
+            total = total,
+            created = created,
+            failed = total - created,
+            truncated = truncated,
+            results = results
+        )
+    }
+
+    /**
+     * 묶음을 검증하고 중복을 걸러낸 뒤, 남은 행의 해싱을 시작합니다.
+     */
+    private fun prepare(
+        chunk: List<UserImportParser.ParsedRow>,
+        seenEmails: MutableSet<String>,
+        seenNicknames: MutableSet<String>,
+        results: MutableList<UserDto.ImportResult>
+    ): List<PendingRow> {
+        val candidates = ArrayList<Pair<Int, UserDto.ImportRequest>>(chunk.size)
+        for (row in chunk) {
+            val request = row.request
+            if (request == null) {
+                results += UserDto.ImportResult(row.line, null, ImportStatus.INVALID, row.error ?: "행을 읽을 수 없습니다")
+                continue
+            }
+            val error = validate(request)
+            if (error != null) {
+                results += UserDto.ImportResult(row.line, request.email, ImportStatus.INVALID, error)
+                continue
+            }
+            if (!seenEmails.add(request.email.lowercase(Locale.ROOT))) {
+                results += UserDto.ImportResult(row.line, request.email, ImportStatus.DUPLICATE, "입력 안에서 중복된 이메일입니다")
+                continue
+            }
+            if (!seenNicknames.add(request.nickname)) {
+                results += UserDto.ImportResult(row.line, request.email, ImportStatus.DUPLICATE, "입력 안에서 중복된 닉네임입니다")
+                continue
+            }
+            candidates += row.line to request
+        }
+        if (candidates.isEmpty()) return emptyList()
+
+        val (existingEmails, existingNicknames) = transaction {
+            userRepository.findExistingEmails(candidates.map { it.second.email })
+                .mapTo(HashSet()) { it.lowercase(Locale.ROOT) } to
+                userRepository.findExistingNicknames(candidates.map { it.second.nickname })
+        }
+
+        return candidates.mapNotNull { (line, request) ->
+            when {
+                request.email.lowercase(Locale.ROOT) in existingEmails -> {
+                    results += UserDto.ImportResult(line, request.email, ImportStatus.DUPLICATE, "이미 존재하는 이메일입니다")
+                    null
+                }
+                request.nickname in existingNicknames -> {
+                    results += UserDto.ImportResult(line, request.email, ImportStatus.DUPLICATE, "이미 존재하는 닉네임입니다")
+                    null
+                }
+                else -> PendingRow(line, request.email, request.nickname, hash(request))
+            }
+        }
+    }
+
+    /**
+     * 행의 값을 검증합니다.
+     *
+     * @return 오류 메시지 (통과하면 null)
+     */
+    private fun validate(request: UserDto.ImportRequest): String? {
+        if ((request.password == null) == (request.passwordHash == null)) {
+            return "password와 passwordHash 중 하나만 지정해야 합니다"
+        }
+        val violations = validator.validate(request)
+        return if (violations.isEmpty()) null else violations.map { it.message }.sorted().joinToString(", ")
+    }
+
+    private fun hash(request: UserDto.ImportRequest): Future<String> {
+        request.passwordHash?.let { return CompletableFuture.completedFuture(it) }
+        val password = checkNotNull(request.password)
+        return hashPool.submit<String> { hashEncoder.encode(password) }
+    }
+
+    /**
+     * 해싱이 끝나기를 기다린 뒤 묶음을 한 트랜잭션으로 저장합니다.
+     */
+    private fun insert(rows: List<PendingRow>, results: MutableList<UserDto.ImportResult>) {
+        if (rows.isEmpty()) return
+
+        val hashed = ArrayList<Pair<PendingRow, NewUser>>(rows.size)
+        for (row in rows) {
+            try {
+                hashed += row to NewUser(row.email, row.passwordHash.get(), row.nickname)
+            } catch (e: ExecutionException) {
+                log.warn(e.cause) { "사용자 일괄 가져오기 해싱 실패: line=${row.line}" }
+                results += UserDto.ImportResult(row.line, row.email, ImportStatus.FAILED, "비밀번호 해싱에 실패했습니다")
+            }
+        }
+
+        try {
+            // 중복은 SQLException이 아닌 CustomException으로 바뀌어 트랜잭션 재시도 없이 롤백됨
+            transaction { UserUniqueConstraints.translate { userRepository.insertAll(hashed.map { it.second }) } }
+            hashed.mapTo(results) { (row, _) -> UserDto.ImportResult(row.line, row.email, ImportStatus.CREATED) }
+        } catch (e: CustomException) {
+            log.warn { "사용자 일괄 저장 중 중복 발생, 한 행씩 다시 저장합니다: ${e.message}" }
+            hashed.mapTo(results) { (row, user) -> insertOne(row, user) }
+        }
+    }
+
+    private fun insertOne(row: PendingRow, user: NewUser): UserDto.ImportResult =
+        try {
+            transaction { UserUniqueConstraints.translate { userRepository.insertAll(listOf(user)) } }
+            UserDto.ImportResult(row.line, row.email, ImportStatus.CREATED)
+        } catch (e: CustomException) {
+            UserDto.ImportResult(row.line, row.email, ImportStatus.DUPLICATE, e.message)
+        }
+
+    /**
+     * 애플리케이션 종료 시 해싱 풀을 정리합니다.
+     */
+    @PreDestroy
+    fun shutdown() {
+        hashPool.shutdown()
+    }
+}
@@ -1,25 +1,32 @@
 package blog.vans_story_be.domain.user.service
 
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import blog.vans_story_be.domain.user.cache.UserLookupCache
 import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.dto.UserPatch
 import blog.vans_story_be.domain.user.entity.Role
 import blog.vans_story_be.domain.user.entity.User
 import blog.vans_story_be.domain.user.mapper.UserMapper
 import blog.vans_story_be.domain.user.repository.UserRepository
+import blog.vans_story_be.domain.user.repository.UserUniqueConstraints
 import blog.vans_story_be.global.exception.CustomException
 import mu.KotlinLogging
 import org.springframework.security.crypto.password.PasswordEncoder
 import org.springframework.stereotype.Service
 import org.jetbrains.exposed.sql.transactions.transaction
+import java.time.LocalDateTime
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스 클래스
  *
  * 주요 기능:
  * - 사용자 계정 생성 (일반 사용자/관리자)
- * - 사용자 정보 조회 (전체/개별)
+ * - 사용자 정보 조회 (키셋 페이지/스트리밍/개별)
  * - 사용자 정보 수정
  * - 사용자 계정 삭제
  * - 사용자 정보 검증
+ * - 역할/비밀번호 변경 및 삭제 시 기존 토큰 폐기
+ * - 프로필/닉네임 조회 캐시 사용 및 변경 커밋 후 캐시 무효화
  *
  * 사용 예시:
  * ```kotlin
@@ -45,15 +52,29 @@ import org.jetbrains.exposed.sql.transactions.transaction
 class UserService(
     private val userRepository: UserRepository,
     private val userMapper: UserMapper,
-    private val passwordEncoder: PasswordEncoder
+    private val passwordEncoder: PasswordEncoder,
+    private val tokenRevocationList: TokenRevocationList,
+    private val userLookupCache: UserLookupCache
 ) {
     companion object {
         private val log = KotlinLogging.logger {}
+
+        /** 사용자 목록 페이지 기본 크기 */
+        const val DEFAULT_PAGE_SIZE = 20
+
+        /** 사용자 목록 페이지 최대 크기 */
+        const val MAX_PAGE_SIZE = 100
+
+        /** 스트리밍 시 드라이버가 한 번에 가져올 행 수 */
+        private const val STREAM_FETCH_SIZE = 500
     }
 
     /**
      * 일반 사용자 계정을 생성합니다.
      *
+     * <p>이메일/닉네임 중복은 미리 조회하지 않고 INSERT 한 번으로 고유 인덱스에 맡깁니다.
+     * 비밀번호 해싱은 트랜잭션 밖에서 수행하여 해싱하는 동안 커넥션을 점유하지 않습니다.</p>
+     *
      * @param request 사용자 생성 요청 정보
      * @return 생성된 사용자 정보
      * @throws CustomException 사용자명 또는 이메일이 이미 존재하는 경우
@@ -72,26 +93,18 @@ class UserService(
      * userService.updateRole(user.id, Role.ADMIN)
      * ```
      */
-    fun createUser(request: UserDto.CreateRequest): UserDto.Response = transaction {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.email)) {
-            throw CustomException("이미 존재하는 이메일입니다")
-        }
-
-        // 닉네임 중복 체크
-        if (userRepository.existsByNickname(request.nickname)) {
-            throw CustomException("이미 존재하는 닉네임입니다")
-        }
-
+    fun createUser(request: UserDto.CreateRequest): UserDto.Response {
         // 비밀번호 암호화
         val encodedPassword = passwordEncoder.encode(request.password)
 
-        // 엔티티 생성 및 저장
-        val user = userMapper.toEntity(request, encodedPassword)
-        userRepository.save(user)
+        return transaction {
+            // 엔티티 생성 및 저장 (중복이면 고유 인덱스 위반을 필드별 예외로 변환)
+            val user = userMapper.toEntity(request, encodedPassword)
+            UserUniqueConstraints.translate { userRepository.save(user) }
 
-        log.info { "사용자 계정 생성 완료: id=${user.id}, email=${user.email}" }
-        userMapper.toResponseDto(user)
+            log.info { "사용자 계정 생성 완료: id=${user.id}, email=${user.email}" }
+            userMapper.toResponseDto(user)
+        }.also { evictAfterCommit(it.id, request.email) }
     }
 
     /**
@@ -99,6 +112,7 @@ class UserService(
      *
      * @param request 사용자 생성 요청 정보
      * @return 생성된 관리자 정보
+     * @throws CustomException 이메일 또는 닉네임이 이미 존재하는 경우
      *
      * 사용 예시:
      * ```kotlin
@@ -111,54 +125,77 @@ class UserService(
      * val admin = userService.createAdmin(adminRequest)
      * ```
      */
-    fun createAdmin(request: UserDto.CreateRequest): UserDto.Response = transaction {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.email)) {
-            throw CustomException("이미 존재하는 이메일입니다")
-        }
-
-        // 닉네임 중복 체크
-        if (userRepository.existsByNickname(request.nickname)) {
-            throw CustomException("이미 존재하는 닉네임입니다")
-        }
-
+    fun createAdmin(request: UserDto.CreateRequest): UserDto.Response {
         // 비밀번호 암호화
         val encodedPassword = passwordEncoder.encode(request.password)
 
-        // 관리자 엔티티 생성
-        val user = User.new {
-            this.email = request.email
-            this.password = encodedPassword
-            this.nickname = request.nickname
-            this.role = Role.ADMIN
-        }
-        userRepository.save(user)
+        return transaction {
+            // 관리자 엔티티 생성
+            val user = User.new {
+                this.email = request.email
+                this.password = encodedPassword
+                this.nickname = request.nickname
+                this.role = Role.ADMIN
+            }
+            UserUniqueConstraints.translate { userRepository.save(user) }
 
-        log.info { "관리자 계정 생성 완료: id=${user.id}, email=${user.email}" }
-        userMapper.toResponseDto(user)
+            log.info { "관리자 계정 생성 완료: id=${user.id}, email=${user.email}" }
+            userMapper.toResponseDto(user)
+        }.also { evictAfterCommit(it.id, request.email) }
     }
 
     /**
-     * 모든 사용자 정보를 조회합니다.
+     * 사용자 목록을 ID 기준 키셋 페이지로 조회합니다.
+     *
+     * <p>OFFSET 대신 마지막으로 받은 ID 이후를 조회하므로 페이지가 뒤로 가도 비용이 일정합니다.
+     * 다음 페이지 존재 여부는 한 건을 더 조회하여 판단합니다.</p>
      *
-     * @return 사용자 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ [MAX_PAGE_SIZE]로 보정)
+     * @return 사용자 목록 페이지
      *
      * 사용 예시:
      * ```kotlin
-     * val users = userService.getAllUsers()
-     * users.forEach { user ->
-     *     println("사용자: ${user.nickname}, 이메일: ${user.email}")
+     * var page = userService.getUsers(cursor = null, size = 50)
+     * while (page.nextCursor != null) {
+     *     page = userService.getUsers(page.nextCursor, 50)
      * }
      * ```
      */
-    fun getAllUsers(): List<UserDto.Response> =
-        userRepository.findAllUsers()
-            .map(userMapper::toResponseDto)
-            .also { log.debug { "전체 사용자 조회 완료: ${it.size}명" } }
+    fun getUsers(cursor: Long?, size: Int): UserDto.Page = transaction {
+        val pageSize = size.coerceIn(1, MAX_PAGE_SIZE)
+        val rows = userRepository.findUsersAfter(cursor, pageSize + 1)
+        val items = rows.take(pageSize).map(userMapper::toResponseDto)
+        UserDto.Page(
+            items = items,
+            nextCursor = if (rows.size > pageSize) items.last().id else null
+        ).also { log.debug { "사용자 목록 조회 완료: cursor=$cursor, ${items.size}명" } }
+    }
+
+    /**
+     * 사용자 목록을 ID 오름차순으로 한 명씩 전달합니다.
+     *
+     * <p>전방향 커서로 [STREAM_FETCH_SIZE]건씩 읽으면서 바로 전달하므로
+     * 전체 목록을 메모리에 만들지 않습니다.</p>
+     *
+     * @param cursor 이 ID 이후부터 조회 (처음부터는 null)
+     * @param action 사용자마다 실행할 작업 (예: 응답 스트림에 한 줄 쓰기)
+     */
+    fun streamUsers(cursor: Long?, action: (UserDto.Response) -> Unit) = transaction {
+        var count = 0
+        userRepository.forEachUserAfter(cursor, STREAM_FETCH_SIZE) { summary ->
+            action(userMapper.toResponseDto(summary))
+            count++
+        }
+        log.debug { "사용자 목록 스트리밍 완료: cursor=$cursor, ${count}명" }
+    }
 
     /**
      * ID로 사용자를 조회합니다.
      *
+     * <p>[UserLookupCache]를 먼저 확인하고, 없을 때만 DB를 조회합니다.
+     * 존재하지 않는 ID도 짧은 시간 동안 캐시됩니다.</p>
+     *
      * @param id 사용자 ID
      * @return 조회된 사용자 정보
      * @throws CustomException 사용자를 찾을 수 없는 경우
@@ -170,18 +207,35 @@ class UserService(
      * ```
      */
     fun getUserById(id: Long): UserDto.Response =
+        userLookupCache.getProfile(id, ::loadProfile)
+            ?.also { log.debug { "사용자 조회 완료: id=$id" } }
+            ?: throw CustomException("사용자를 찾을 수 없습니다")
+
+    /**
+     * 캐시 미스 시 DB에서 사용자 정보를 조회합니다.
+     *
+     * @param id 사용자 ID
+     * @return 사용자 정보 또는 null (존재하지 않는 경우)
+     */
+    private fun loadProfile(id: Long): UserDto.Response? = transaction {
         userRepository.findUserById(id)
             .map(userMapper::toResponseDto)
-            .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
-            .also { log.debug { "사용자 조회 완료: id=$id" } }
+            .orElse(null)
+    }
 
     /**
      * 사용자 정보를 수정합니다.
      *
+     * <p>엔티티를 읽어 모든 컬럼을 다시 쓰지 않고, 요청에 포함된 컬럼과 updated_at만
+     * UPDATE 한 번으로 변경한 뒤 비밀번호를 제외한 컬럼을 한 번 조회하여 응답합니다.
+     * (MariaDB와 H2는 UPDATE ... RETURNING을 지원하지 않습니다)
+     * 이메일이나 비밀번호를 바꾸는 경우에만 토큰 폐기와 캐시 무효화를 위해 기존 이메일을 먼저 조회합니다.
+     * 역할은 이 메서드로 변경할 수 없습니다. ([updateRole] 사용)</p>
+     *
      * @param id 수정할 사용자 ID
-     * @param request 수정할 사용자 정보
+     * @param request 수정할 사용자 정보 (null인 필드는 유지)
      * @return 수정된 사용자 정보
-     * @throws CustomException 사용자를 찾을 수 없는 경우
+     * @throws CustomException 사용자를 찾을 수 없거나, 변경할 이메일 또는 닉네임이 이미 존재하는 경우
      *
      * 사용 예시:
      * ```kotlin
@@ -192,57 +246,74 @@ class UserService(
      * val updatedUser = userService.updateUser(1L, updateRequest)
      * ```
      */
-    fun updateUser(id: Long, request: UserDto.UpdateRequest): UserDto.Response = transaction {
-        val user = userRepository.findUserById(id)
-            .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
-
-        // 이메일 중복 체크 (다른 사용자의 이메일과 중복되는 경우)
-        request.email?.let { email ->
-            if (email != user.email && userRepository.existsByEmail(email)) {
-                throw CustomException("이미 존재하는 이메일입니다")
+    fun updateUser(id: Long, request: UserDto.UpdateRequest): UserDto.Response {
+        // 비밀번호 암호화 (커넥션을 잡기 전에 수행)
+        val patch = UserPatch(
+            email = request.email,
+            passwordHash = request.password?.let { passwordEncoder.encode(it) },
+            nickname = request.nickname
+        )
+
+        val (previousEmail, summary) = transaction {
+            val previousEmail = if (patch.email != null || patch.passwordHash != null) {
+                userRepository.findEmailById(id) ?: throw CustomException("사용자를 찾을 수 없습니다")
+            } else null
+
+            if (!patch.isEmpty) {
+                // 다른 사용자의 이메일/닉네임과 중복되면 고유 인덱스 위반을 필드별 예외로 변환
+                val updated = UserUniqueConstraints.translate {
+                    userRepository.updateColumns(id, patch, LocalDateTime.now())
+                }
+                if (updated == 0) throw CustomException("사용자를 찾을 수 없습니다")
             }
-        }
+            val summary = userRepository.findSummaryById(id)
+                ?: throw CustomException("사용자를 찾을 수 없습니다")
 
-        // 닉네임 중복 체크 (다른 사용자의 닉네임과 중복되는 경우)
-        request.nickname?.let { nickname ->
-            if (nickname != user.nickname && userRepository.existsByNickname(nickname)) {
-                throw CustomException("이미 존재하는 닉네임입니다")
+            // 비밀번호가 바뀌면 기존 토큰으로 더 이상 접근할 수 없도록 폐기
+            if (patch.passwordHash != null && previousEmail != null) {
+                tokenRevocationList.revokeUser(id, previousEmail)
             }
-        }
 
-        val updateDto = userMapper.toUpdateDto(
-            entity = user,
-            email = request.email,
-            password = request.password?.let { passwordEncoder.encode(it) },
-            nickname = request.nickname
-        )
-        userMapper.updateEntity(updateDto, user)
-        userRepository.save(user)
+            log.info { "사용자 정보 수정 완료: id=$id, $patch" }
+            previousEmail to summary
+        }
 
-        log.info { "사용자 정보 수정 완료: id=$id" }
-        userMapper.toResponseDto(user)
+        // 이메일이 바뀐 경우 이전 이메일의 닉네임 항목도 함께 제거
+        evictAfterCommit(id, previousEmail, summary.email)
+        return userMapper.toResponseDto(summary)
     }
 
     /**
      * 사용자를 삭제합니다.
      *
+     * <p>deleted_at만 기록하고 바로 반환합니다. 이후 모든 조회와 로그인에서 제외되며,
+     * 연동 정보 등 참조 행과 사용자 행은 [blog.vans_story_be.domain.user.reaper.UserReaper]가
+     * 백그라운드에서 나누어 삭제합니다.
+     * 삭제된 사용자가 이미 발급받은 토큰도 함께 폐기하고, 커밋 후 조회 캐시에서 제거합니다.</p>
+     *
      * @param id 삭제할 사용자 ID
-     * @throws CustomException 사용자를 찾을 수 없는 경우
+     * @throws CustomException 사용자를 찾을 수 없거나 이미 삭제된 경우
      *
      * 사용 예시:
      * ```kotlin
      * userService.deleteUser(1L)
      * ```
      */
-    fun deleteUser(id: Long) = transaction {
-        val user = userRepository.findUserById(id)
-            .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
-        userRepository.delete(user)
-        log.info { "사용자 삭제 완료: id=$id" }
+    fun deleteUser(id: Long) {
+        val email = transaction {
+            val email = userRepository.findEmailById(id)
+                ?: throw CustomException("사용자를 찾을 수 없습니다")
+            if (userRepository.softDelete(id, LocalDateTime.now()) == 0) {
+                throw CustomException("사용자를 찾을 수 없습니다")
+            }
+            tokenRevocationList.revokeUser(id, email)
+            log.info { "사용자 삭제 요청 완료: id=$id" }
+            email
+        }
+        evictAfterCommit(id, email)
     }
 
 
-
     /**
      * 이메일 존재 여부를 확인합니다.
      *
@@ -263,6 +334,9 @@ class UserService(
     /**
      * 이메일로 사용자의 닉네임을 조회합니다.
      *
+     * <p>[UserLookupCache]를 먼저 확인하고, 없을 때만 닉네임 컬럼 하나만 조회합니다.
+     * 존재하지 않는 이메일도 짧은 시간 동안 캐시됩니다.</p>
+     *
      * @param email 조회할 사용자의 이메일
      * @return 사용자의 닉네임
      * @throws CustomException 사용자를 찾을 수 없는 경우
@@ -274,53 +348,82 @@ class UserService(
      * ```
      */
     fun getNicknameByEmail(email: String): String =
-        userRepository.findByEmail(email)
-            .map(User::nickname)
-            .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
-            .also { log.debug { "닉네임 조회 완료: email=$email, nickname=$it" } }
+        userLookupCache.getNickname(email) { transaction { userRepository.findNicknameByEmail(it) } }
+            ?.also { log.debug { "닉네임 조회 완료: email=$email, nickname=$it" } }
+            ?: throw CustomException("사용자를 찾을 수 없습니다")
 
     /**
      * 사용자의 비밀번호를 업데이트합니다.
      *
+     * <p>기존 비밀번호로 발급된 토큰은 모두 폐기됩니다.
+     * 해싱은 트랜잭션을 열기 전에 수행하여 해싱 동안 커넥션을 잡지 않습니다.</p>
+     *
      * @param id 사용자 ID
      * @param newPassword 새로운 비밀번호 (평문)
      * @throws CustomException 사용자를 찾을 수 없는 경우
      * @throws IllegalArgumentException 비밀번호가 비어있는 경우
      */
-    fun updatePassword(id: Long, newPassword: String) = transaction {
+    fun updatePassword(id: Long, newPassword: String) {
         require(newPassword.isNotBlank()) { "비밀번호는 비어있을 수 없습니다" }
-        
-        val user = userRepository.findUserById(id)
-            .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
-        
-        val updateDto = userMapper.toUpdateDto(
-            entity = user,
-            password = passwordEncoder.encode(newPassword)
-        )
-        userMapper.updateEntity(updateDto, user)
-        userRepository.save(user)
-        
-        log.info { "사용자 비밀번호 업데이트: id=$id" }
+        // 비밀번호 암호화 (커넥션을 잡기 전에 수행)
+        val encodedPassword = passwordEncoder.encode(newPassword)
+
+        transaction {
+            val user = userRepository.findUserById(id)
+                .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
+
+            val updateDto = userMapper.toUpdateDto(
+                entity = user,
+                password = encodedPassword
+            )
+            userMapper.updateEntity(updateDto, user)
+            userRepository.save(user)
+            tokenRevocationList.revokeUser(id, user.email)
+
+            log.info { "사용자 비밀번호 업데이트: id=$id" }
+        }
+        // 프로필의 updatedAt이 바뀌었으므로 제거 (닉네임은 그대로)
+        evictAfterCommit(id)
     }
 
     /**
      * 사용자의 역할을 업데이트합니다.
      *
+     * <p>이전 역할이 담긴 토큰은 모두 폐기되어, 다시 로그인해야 새 역할이 적용됩니다.</p>
+     *
      * @param id 사용자 ID
      * @param newRole 새로운 역할
      * @throws CustomException 사용자를 찾을 수 없는 경우
      */
-    fun updateRole(id: Long, newRole: Role) = transaction {
-        val user = userRepository.findUserById(id)
-            .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
-        
-        val updateDto = userMapper.toUpdateDto(
-            entity = user,
-            role = newRole
-        )
-        userMapper.updateEntity(updateDto, user)
-        userRepository.save(user)
-        
-        log.info { "사용자 역할 업데이트: id=$id, role=$newRole" }
+    fun updateRole(id: Long, newRole: Role) {
+        transaction {
+            val user = userRepository.findUserById(id)
+                .orElseThrow { CustomException("사용자를 찾을 수 없습니다") }
+
+            val updateDto = userMapper.toUpdateDto(
+                entity = user,
+                role = newRole
+            )
+            userMapper.updateEntity(updateDto, user)
+            userRepository.save(user)
+            tokenRevocationList.revokeUser(id, user.email)
+
+            log.info { "사용자 역할 업데이트: id=$id, role=$newRole" }
+        }
+        evictAfterCommit(id)
+    }
+
+    /**
+     * 변경이 커밋된 사용자의 조회 캐시 항목을 제거합니다.
+     *
+     * <p>트랜잭션 안에서 제거하면 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로
+     * 반드시 transaction 블록이 끝난 뒤 호출합니다.</p>
+     *
+     * @param id 사용자 ID
+     * @param emails 변경 전후 이메일
+     */
+    private fun evictAfterCommit(id: Long, vararg emails: String?) {
+        userLookupCache.evict(id, *emails)
+        log.debug { "사용자 조회 캐시 무효화: id=$id" }
     }
 } 
\ No newline at end of file
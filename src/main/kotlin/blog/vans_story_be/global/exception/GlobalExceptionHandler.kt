@@ -1,8 +1,10 @@
 package blog.vans_story_be.global.exception
 
+import blog.vans_story_be.config.security.PasswordHashingBusyException
 import blog.vans_story_be.global.response.ApiResponse
 import blog.vans_story_be.global.response.withError
 import mu.KotlinLogging
+import org.springframework.http.HttpHeaders
 import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
 import org.springframework.http.converter.HttpMessageNotReadableException
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice
  * - [MethodArgumentNotValidException]: 요청 데이터 검증 실패
  * - [HttpMessageNotReadableException]: JSON 파싱 실패
  * - [BadCredentialsException]: 인증 실패
+ * - [PasswordHashingBusyException]: 비밀번호 해싱 실행기 포화
  * - [Exception]: 기타 예외
  *
  * 사용 예시:
@@ -144,4 +147,21 @@ class GlobalExceptionHandler {
         ResponseEntity.status(HttpStatus.UNAUTHORIZED)
             .body(ApiResponse.error<Unit>("잘못된 사용자명 또는 비밀번호입니다."))
             .also { log.warn { "인증 실패: ${e.message}" } }
-} 
\ No newline at end of file
+
+    /**
+     * PasswordHashingBusyException 처리를 위한 핸들러
+     *
+     * @param e 발생한 예외
+     * @return ApiResponse 형식의 에러 응답 (Retry-After 헤더 포함)
+     *
+     * 처리되는 예외:
+     * - [PasswordHashingBusyException]
+     * - 로그인/회원가입 폭주로 비밀번호 해싱 대기열이 가득 찬 경우
+     */
+    @ExceptionHandler(PasswordHashingBusyException::class)
+    fun handlePasswordHashingBusyException(e: PasswordHashingBusyException): ResponseEntity<ApiResponse<Unit>> =
+        ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(ApiResponse.error<Unit>(e.message ?: "요청이 많아 잠시 후 다시 시도해주세요."))
+            .also { log.warn { "비밀번호 해싱 요청 거절: ${e.message}" } }
+}
@@ -13,26 +13,26 @@ import org.springframework.http.ResponseEntity.BodyBuilder
  * - 성공 응답 생성 (200 OK)
  * - 생성 성공 응답 (201 Created)
  * - 삭제 성공 응답 (204 No Content)
- * - 데이터와 함께하는 성공 응답
- * - 컨트롤러 메서드 실행 로깅
+ * - 컨트롤러 메서드 실행 로깅 및 결과를 [ApiResponse]로 한 번만 감싸기
  *
  * 사용 예시:
  * ```kotlin
  * @PostMapping
  * fun createUser(
- *     @RequestBody request: CreateRequest,
- *     response: HttpServletResponse
- * ): ResponseEntity<ApiResponse<Nothing?>> = withLogging("사용자 생성") {
+ *     @RequestBody request: CreateRequest
+ * ): ResponseEntity<ApiResponse<UserDto.Response>> = withLogging("사용자 생성", HttpStatus.CREATED) {
  *     userService.createUser(request)
- *     response.created()
  * }
  *
  * @GetMapping("/{id}")
  * fun getUser(@PathVariable id: Long): ResponseEntity<ApiResponse<UserDto>> = withLogging("사용자 조회") {
  *     userService.findUserById(id)
- * }.withData(userService.findUserById(id))
+ * }
  * ```
  *
+ * 블록의 반환값이 그대로 응답 데이터가 되므로, 서비스 호출 결과를 다른 함수로 다시 감싸지 않습니다.
+ * (서비스를 두 번 호출하면 DB 조회, 비밀번호 해싱, 쓰기 트랜잭션이 모두 두 번 실행됩니다.)
+ *
  * @author vans
  * @version 1.0.0
  * @since 2025.06.07
@@ -41,19 +41,23 @@ import org.springframework.http.ResponseEntity.BodyBuilder
 /**
  * 로깅을 포함한 컨트롤러 메서드 실행을 위한 확장 함수
  *
+ * 블록은 정확히 한 번 실행되며, 그 결과를 [ApiResponse.success]로 감싸 반환합니다.
+ *
  * @param operation 수행할 작업의 이름
- * @param block 실행할 코드 블록
- * @return API 응답
+ * @param status 성공 시 응답 상태 (기본값: 200 OK)
+ * @param block 실행할 코드 블록 (서비스 호출)
+ * @return 블록 결과를 데이터로 담은 API 응답
  */
 inline fun <T> withLogging(
     operation: String,
+    status: HttpStatus = HttpStatus.OK,
     block: () -> T
 ): ResponseEntity<ApiResponse<T>> = try {
     val log = KotlinLogging.logger {}
     log.info { "[$operation] 시작" }
     val result = block()
     log.info { "[$operation] 완료" }
-    ResponseEntity.ok(ApiResponse.success(result))
+    ResponseEntity.status(status).body(ApiResponse.success(result))
 } catch (e: Exception) {
     val log = KotlinLogging.logger {}
     log.error(e) { "[$operation] 실패" }
@@ -90,16 +94,6 @@ fun HttpServletResponse.noContent() = ResponseEntity
     .status(HttpStatus.NO_CONTENT)
     .body(ApiResponse.success<Nothing?>(null))
 
-/**
- * 데이터와 함께하는 200 OK 응답을 생성합니다.
- *
- * @param data 응답에 포함할 데이터
- * @return 성공 응답 (데이터 포함)
- */
-fun <T> ResponseEntity<ApiResponse<T>>.withData(data: T) = ResponseEntity
-    .status(HttpStatus.OK)
-    .body(ApiResponse.success(data))
-
 /**
  * 에러 응답을 생성하는 확장 함수
  *
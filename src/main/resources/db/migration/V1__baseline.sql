@@ -0,0 +1,51 @@
+-- 기존에 SchemaUtils.create로 만들어진 스키마와 같은 구조 (이미 있으면 건너뜀)
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    password VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    nickname VARCHAR(50) NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT users_email_unique UNIQUE (email),
+    CONSTRAINT users_nickname_unique UNIQUE (nickname)
+);
+
+CREATE TABLE IF NOT EXISTS user_oauths (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    provider VARCHAR(50) NOT NULL,
+    provider_id VARCHAR(100) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_user_oauths_user_id__id FOREIGN KEY (user_id) REFERENCES users (id)
+        ON DELETE RESTRICT ON UPDATE RESTRICT,
+    CONSTRAINT user_oauths_provider_provider_id_unique UNIQUE (provider, provider_id)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_id VARCHAR(32) NOT NULL,
+    family_id VARCHAR(32) NOT NULL,
+    subject VARCHAR(100) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    last_used DATETIME(6) NULL,
+    rotated BOOLEAN NOT NULL DEFAULT FALSE,
+    revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (token_id)
+);
+
+CREATE INDEX IF NOT EXISTS refresh_tokens_family_id ON refresh_tokens (family_id);
+
+CREATE INDEX IF NOT EXISTS refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    revocation_key VARCHAR(100) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    issued_before DATETIME(6) NULL,
+    expires_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_revoked_tokens PRIMARY KEY (revocation_key, type)
+);
+
+CREATE INDEX IF NOT EXISTS revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,5 @@
+-- 사용자 삭제 요청 시간 (UserReaper가 정리할 때까지 조회에서 제외)
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at DATETIME(6) NULL;
+
+CREATE INDEX IF NOT EXISTS users_deleted_at ON users (deleted_at);
@@ -0,0 +1,11 @@
+-- 여러 인스턴스가 공유하는 OAuth 임시 코드 (VANS_BLOG_OAUTH_CODE_STORE=db)
+
+CREATE TABLE IF NOT EXISTS oauth_temp_codes (
+    code_id VARCHAR(32) NOT NULL,
+    provider VARCHAR(50) NOT NULL,
+    provider_id VARCHAR(100) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_oauth_temp_codes PRIMARY KEY (code_id)
+);
+
+CREATE INDEX IF NOT EXISTS oauth_temp_codes_expires_at ON oauth_temp_codes (expires_at);
@@ -0,0 +1,13 @@
+-- 여러 인스턴스가 공유하는 비대칭 JWT 서명 키 (VANS_BLOG_JWT_ALGORITHM=EdDSA 또는 ES256)
+
+CREATE TABLE IF NOT EXISTS jwt_signing_keys (
+    kid VARCHAR(32) NOT NULL,
+    algorithm VARCHAR(10) NOT NULL,
+    public_key VARCHAR(512) NOT NULL,
+    private_key VARCHAR(512) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NULL,
+    CONSTRAINT pk_jwt_signing_keys PRIMARY KEY (kid)
+);
+
+CREATE INDEX IF NOT EXISTS jwt_signing_keys_expires_at ON jwt_signing_keys (expires_at);
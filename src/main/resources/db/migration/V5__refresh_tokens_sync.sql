@@ -0,0 +1,7 @@
+-- 다른 인스턴스가 사용 완료/폐기된 Refresh Token을 주기적으로 읽어 가기 위한 변경 시각과 인덱스
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS revoked_at DATETIME(6) NULL;
+
+CREATE INDEX IF NOT EXISTS refresh_tokens_last_used ON refresh_tokens (last_used);
+
+CREATE INDEX IF NOT EXISTS refresh_tokens_revoked_at ON refresh_tokens (revoked_at);
@@ -1,5 +1,6 @@
 package auth.config
 
+import blog.vans_story_be.domain.auth.jwt.JwtKeyRing
 import blog.vans_story_be.domain.auth.jwt.JwtProperties
 import blog.vans_story_be.domain.auth.jwt.JwtProvider
 import org.springframework.boot.test.context.TestConfiguration
@@ -33,7 +34,13 @@ class TestJwtConfig {
 
     @Bean
     @Primary
-    fun jwtProvider(jwtProperties: JwtProperties): JwtProvider {
-        return JwtProvider(jwtProperties)
+    fun jwtKeyRing(jwtProperties: JwtProperties): JwtKeyRing {
+        return JwtKeyRing(jwtProperties)
+    }
+
+    @Bean
+    @Primary
+    fun jwtProvider(jwtProperties: JwtProperties, jwtKeyRing: JwtKeyRing): JwtProvider {
+        return JwtProvider(jwtProperties, jwtKeyRing)
     }
 } 
\ No newline at end of file
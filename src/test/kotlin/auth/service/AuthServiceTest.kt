@@ -4,9 +4,13 @@ import auth.support.TestConstants
 import auth.support.TestDataBuilder
 import blog.vans_story_be.domain.auth.dto.LoginRequest
 import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import blog.vans_story_be.domain.auth.jwt.TokenVerification
 import blog.vans_story_be.domain.auth.service.AuthService
+import blog.vans_story_be.domain.auth.store.RefreshTokenStore
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
 import blog.vans_story_be.domain.user.entity.User
 import blog.vans_story_be.global.exception.CustomException
+import io.jsonwebtoken.Claims
 import io.kotest.assertions.throwables.shouldThrow
 import io.kotest.core.spec.style.DescribeSpec
 import io.kotest.matchers.shouldBe
@@ -19,6 +23,7 @@ import org.springframework.security.authentication.AuthenticationManager
 import org.springframework.security.authentication.BadCredentialsException
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
 import org.springframework.security.core.Authentication
+import java.util.Date
 
 /**
  * AuthService 단위 테스트
@@ -30,23 +35,28 @@ class AuthServiceTest : DescribeSpec({
     // 테스트에 필요한 모의 객체들
     val mockAuthManager = mockk<AuthenticationManager>()
     val mockJwtProvider = mockk<JwtProvider>()
+    val mockRefreshTokenStore = mockk<RefreshTokenStore>()
+    val mockTokenRevocationList = mockk<TokenRevocationList>()
     val mockResponse = mockk<HttpServletResponse>(relaxed = true)
     
     // 테스트할 서비스 인스턴스
-    val authService = AuthService(mockAuthManager, mockJwtProvider)
+    val authService = AuthService(mockAuthManager, mockJwtProvider, mockRefreshTokenStore, mockTokenRevocationList)
     
     describe("login 메서드는") {
         context("유효한 로그인 요청이 주어지면") {
             val loginRequest = TestDataBuilder.createLoginRequest()
             val mockAuth = mockk<Authentication>()
             val mockUser = mockk<User>()
+            val issued = RefreshTokenStore.Issued("token-id", "family-id")
             
             beforeEach {
                 // 인증 성공 시나리오 설정
                 every { mockAuthManager.authenticate(any<UsernamePasswordAuthenticationToken>()) } returns mockAuth
                 every { mockAuth.principal } returns mockUser
+                every { mockJwtProvider.subjectOf(mockAuth) } returns loginRequest.email
+                every { mockRefreshTokenStore.startFamily(loginRequest.email) } returns issued
                 every { mockJwtProvider.generateAccessToken(mockAuth) } returns "test.access.token"
-                every { mockJwtProvider.generateRefreshToken(mockAuth) } returns "test.refresh.token"
+                every { mockJwtProvider.generateRefreshToken(mockAuth, issued) } returns "test.refresh.token"
                 every { mockResponse.addHeader(any(), any()) } returns Unit
                 every { mockResponse.addCookie(any()) } returns Unit
             }
@@ -58,8 +68,9 @@ class AuthServiceTest : DescribeSpec({
                 // verify
                 verify { 
                     mockAuthManager.authenticate(any<UsernamePasswordAuthenticationToken>())
+                    mockRefreshTokenStore.startFamily(loginRequest.email)
                     mockJwtProvider.generateAccessToken(mockAuth)
-                    mockJwtProvider.generateRefreshToken(mockAuth)
+                    mockJwtProvider.generateRefreshToken(mockAuth, issued)
                     mockResponse.setHeader("Authorization", "Bearer test.access.token")
                     mockResponse.addCookie(match { cookie ->
                         cookie.name == "refreshToken" && 
@@ -98,13 +109,25 @@ class AuthServiceTest : DescribeSpec({
         context("유효한 리프레시 토큰이 주어지면") {
             val refreshToken = "valid.refresh.token"
             val mockAuth = mockk<Authentication>()
+            val mockClaims = mockk<Claims>()
+            val next = RefreshTokenStore.Issued("next-token-id", "family-id")
             
             beforeEach {
                 // 토큰 갱신 성공 시나리오 설정
-                every { mockJwtProvider.validateToken(refreshToken) } returns true
-                every { mockJwtProvider.getAuthentication(refreshToken) } returns mockAuth
+                every { mockJwtProvider.verify(refreshToken) } returns TokenVerification.Valid(mockClaims)
+                every { mockClaims.id } returns "token-id"
+                every { mockClaims.subject } returns TestDataBuilder.TEST_EMAIL
+                every { mockClaims.issuedAt } returns Date()
+                every { mockClaims[JwtProvider.ISSUED_AT_MILLIS_CLAIM] } returns null
+                every { mockClaims[JwtProvider.TOKEN_TYPE_CLAIM] } returns JwtProvider.REFRESH_TOKEN_TYPE
+                every { mockTokenRevocationList.isRevoked(any(), any(), any()) } returns false
+                every { mockClaims.get(JwtProvider.FAMILY_CLAIM, String::class.java) } returns "family-id"
+                every {
+                    mockRefreshTokenStore.rotate("token-id", "family-id", TestDataBuilder.TEST_EMAIL)
+                } returns RefreshTokenStore.RotationResult.Rotated(next)
+                every { mockJwtProvider.getAuthentication(refreshToken, mockClaims) } returns mockAuth
                 every { mockJwtProvider.generateAccessToken(mockAuth) } returns "new.access.token"
-                every { mockJwtProvider.generateRefreshToken(mockAuth) } returns "new.refresh.token"
+                every { mockJwtProvider.generateRefreshToken(mockAuth, next) } returns "new.refresh.token"
                 every { mockResponse.addHeader(any(), any()) } returns Unit
                 every { mockResponse.addCookie(any()) } returns Unit
             }
@@ -115,10 +138,11 @@ class AuthServiceTest : DescribeSpec({
                 
                 // verify
                 verify { 
-                    mockJwtProvider.validateToken(refreshToken)
-                    mockJwtProvider.getAuthentication(refreshToken)
+                    mockJwtProvider.verify(refreshToken)
+                    mockRefreshTokenStore.rotate("token-id", "family-id", TestDataBuilder.TEST_EMAIL)
+                    mockJwtProvider.getAuthentication(refreshToken, mockClaims)
                     mockJwtProvider.generateAccessToken(mockAuth)
-                    mockJwtProvider.generateRefreshToken(mockAuth)
+                    mockJwtProvider.generateRefreshToken(mockAuth, next)
                     mockResponse.setHeader("Authorization", "Bearer new.access.token")
                     mockResponse.addCookie(match { cookie ->
                         cookie.name == "refreshToken" && 
@@ -135,7 +159,8 @@ class AuthServiceTest : DescribeSpec({
             
             beforeEach {
                 // 토큰 검증 실패 시나리오 설정
-                every { mockJwtProvider.validateToken(refreshToken) } returns false
+                every { mockJwtProvider.verify(refreshToken) } returns
+                    TokenVerification.Invalid(TokenVerification.FailureReason.INVALID_SIGNATURE)
             }
             
             it("CustomException을 던져야 한다") {
@@ -147,7 +172,94 @@ class AuthServiceTest : DescribeSpec({
                 exception.message shouldBe "토큰 갱신에 실패했습니다."
                 
                 // verify
-                verify { mockJwtProvider.validateToken(refreshToken) }
+                verify(exactly = 1) { mockJwtProvider.verify(refreshToken) }
+                verify(exactly = 0) { mockJwtProvider.getAuthentication(refreshToken, any()) }
+            }
+        }
+
+        context("액세스 토큰이 주어지면") {
+            val accessToken = "valid.access.token"
+            val mockClaims = mockk<Claims>()
+
+            beforeEach {
+                // 종류 클레임이 없는 액세스 토큰으로 갱신을 시도하는 시나리오 설정
+                every { mockJwtProvider.verify(accessToken) } returns TokenVerification.Valid(mockClaims)
+                every { mockClaims[JwtProvider.TOKEN_TYPE_CLAIM] } returns null
+            }
+
+            it("저장소를 거치지 않고 CustomException을 던져야 한다") {
+                // when & then
+                val exception = shouldThrow<CustomException> {
+                    authService.refresh(accessToken, mockResponse)
+                }
+
+                exception.message shouldBe "토큰 갱신에 실패했습니다."
+
+                // verify
+                verify(exactly = 0) { mockRefreshTokenStore.rotate(any(), any(), any()) }
+            }
+        }
+
+        context("폐기된 사용자의 리프레시 토큰이 주어지면") {
+            val refreshToken = "revoked.refresh.token"
+            val mockClaims = mockk<Claims>()
+            val issuedAt = Date()
+
+            beforeEach {
+                // 역할 변경 등으로 사용자 토큰이 폐기된 시나리오 설정
+                every { mockJwtProvider.verify(refreshToken) } returns TokenVerification.Valid(mockClaims)
+                every { mockClaims.id } returns "revoked-token-id"
+                every { mockClaims.subject } returns TestDataBuilder.TEST_EMAIL
+                every { mockClaims.issuedAt } returns issuedAt
+                every { mockClaims[JwtProvider.ISSUED_AT_MILLIS_CLAIM] } returns null
+                every { mockClaims[JwtProvider.TOKEN_TYPE_CLAIM] } returns JwtProvider.REFRESH_TOKEN_TYPE
+                every {
+                    mockTokenRevocationList.isRevoked("revoked-token-id", TestDataBuilder.TEST_EMAIL, issuedAt.time)
+                } returns true
+            }
+
+            it("저장소를 거치지 않고 CustomException을 던져야 한다") {
+                // when & then
+                val exception = shouldThrow<CustomException> {
+                    authService.refresh(refreshToken, mockResponse)
+                }
+
+                exception.message shouldBe "토큰 갱신에 실패했습니다."
+
+                // verify
+                verify(exactly = 0) { mockRefreshTokenStore.rotate("revoked-token-id", any(), any()) }
+            }
+        }
+
+        context("이미 사용된 리프레시 토큰이 주어지면") {
+            val refreshToken = "reused.refresh.token"
+            val mockClaims = mockk<Claims>()
+
+            beforeEach {
+                // 재사용 감지 시나리오 설정
+                every { mockJwtProvider.verify(refreshToken) } returns TokenVerification.Valid(mockClaims)
+                every { mockClaims.id } returns "used-token-id"
+                every { mockClaims.subject } returns TestDataBuilder.TEST_EMAIL
+                every { mockClaims.issuedAt } returns Date()
+                every { mockClaims[JwtProvider.ISSUED_AT_MILLIS_CLAIM] } returns null
+                every { mockClaims[JwtProvider.TOKEN_TYPE_CLAIM] } returns JwtProvider.REFRESH_TOKEN_TYPE
+                every { mockTokenRevocationList.isRevoked(any(), any(), any()) } returns false
+                every { mockClaims.get(JwtProvider.FAMILY_CLAIM, String::class.java) } returns "family-id"
+                every {
+                    mockRefreshTokenStore.rotate("used-token-id", "family-id", TestDataBuilder.TEST_EMAIL)
+                } returns RefreshTokenStore.RotationResult.Rejected("이미 사용된 Refresh Token입니다.")
+            }
+
+            it("새 토큰을 발급하지 않고 CustomException을 던져야 한다") {
+                // when & then
+                val exception = shouldThrow<CustomException> {
+                    authService.refresh(refreshToken, mockResponse)
+                }
+
+                exception.message shouldBe "토큰 갱신에 실패했습니다."
+
+                // verify
+                verify(exactly = 0) { mockJwtProvider.generateRefreshToken(any(), any()) }
             }
         }
     }
@@ -0,0 +1,49 @@
+package blog.vans_story_be.config.database
+
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.util.concurrent.atomic.AtomicInteger
+import javax.sql.DataSource
+
+/**
+ * 커넥션 대여와 커밋 횟수를 세는 테스트용 DataSource입니다.
+ *
+ * 작업 하나가 커넥션을 몇 번 빌리고 몇 번 커밋하는지 확인하여,
+ * 트랜잭션이 나뉘는 회귀를 잡는 데 사용합니다.
+ */
+class CountingDataSource(private val delegate: DataSource) : DataSource by delegate {
+
+    /** getConnection 호출 수 (풀에서 커넥션을 빌린 횟수) */
+    val checkouts = AtomicInteger()
+
+    /** Connection.commit 호출 수 */
+    val commits = AtomicInteger()
+
+    fun reset() {
+        checkouts.set(0)
+        commits.set(0)
+    }
+
+    override fun getConnection(): Connection = count(delegate.connection)
+
+    override fun getConnection(username: String?, password: String?): Connection =
+        count(delegate.getConnection(username, password))
+
+    private fun count(connection: Connection): Connection {
+        checkouts.incrementAndGet()
+        return Proxy.newProxyInstance(
+            Connection::class.java.classLoader,
+            arrayOf(Connection::class.java),
+            InvocationHandler { _, method, args ->
+                if (method.name == "commit") commits.incrementAndGet()
+                try {
+                    method.invoke(connection, *(args ?: emptyArray()))
+                } catch (e: InvocationTargetException) {
+                    throw e.targetException
+                }
+            }
+        ) as Connection
+    }
+}
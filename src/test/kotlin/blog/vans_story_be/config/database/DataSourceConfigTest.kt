@@ -0,0 +1,39 @@
+package blog.vans_story_be.config.database
+
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.transaction.support.TransactionTemplate
+
+/**
+ * Exposed Database와 트랜잭션 매니저 설정 테스트 (H2 인메모리 DB)
+ *
+ * 애플리케이션에 Database가 하나만 있고, 기본 Database와 Spring 트랜잭션 매니저가 같은 Database를 쓰는지 확인합니다.
+ */
+class DataSourceConfigTest : DescribeSpec({
+
+    val dataSource = DriverManagerDataSource("jdbc:h2:mem:datasource-config;MODE=MySQL;DB_CLOSE_DELAY=-1")
+    val config = DataSourceConfig(DatabaseProperties().apply { migrateOnStartup = false })
+    val transactionManager = config.transactionManager(dataSource, showSql = false)
+    val database = config.database(dataSource, transactionManager)
+
+    describe("database 빈은") {
+        it("트랜잭션 매니저가 사용하는 Database를 기본 Database로 등록해야 한다") {
+            TransactionManager.defaultDatabase shouldBeSameInstanceAs database
+            TransactionTemplate(transactionManager).execute { TransactionManager.current().db } shouldBeSameInstanceAs database
+        }
+
+        it("@Transactional 밖의 transaction {}도 같은 Database를 사용해야 한다") {
+            transaction { db } shouldBeSameInstanceAs database
+        }
+
+        it("Spring 트랜잭션 안의 transaction {}은 바깥 트랜잭션에 참여해야 한다") {
+            TransactionTemplate(transactionManager).execute {
+                val outer = TransactionManager.current()
+                transaction { this } shouldBeSameInstanceAs outer
+            }
+        }
+    }
+})
@@ -0,0 +1,49 @@
+package blog.vans_story_be.config.database
+
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.string.shouldContain
+import io.mockk.mockk
+import javax.sql.DataSource
+
+class DataSourcePoolSelfCheckTest : DescribeSpec({
+
+    val heap384m = 384L * 1024 * 1024
+
+    fun selfCheck(poolSize: Int, instances: Int = 1) = DataSourcePoolSelfCheck(
+        dataSource = mockk<DataSource>(),
+        properties = DatabaseProperties().apply {
+            maxPoolSize = poolSize
+            this.instances = instances
+        }
+    )
+
+    describe("evaluate 메서드는") {
+        it("기본 풀 크기는 384MB 힙, 8코어, max_connections 151에서 경고하지 않아야 한다") {
+            selfCheck(poolSize = 10).evaluate(heap384m, processors = 8, dbMaxConnections = 151).shouldBeEmpty()
+        }
+
+        it("힙 기준 권장값을 넘으면 경고해야 한다") {
+            // 384MB x 0.1 / 2MB = 19
+            val warnings = selfCheck(poolSize = 20).evaluate(heap384m, processors = 16, dbMaxConnections = null)
+
+            warnings shouldHaveSize 1
+            warnings.single() shouldContain "힙 기준 권장값(19)"
+        }
+
+        it("CPU 기준 권장값을 넘으면 경고해야 한다") {
+            val warnings = selfCheck(poolSize = 10).evaluate(heap384m, processors = 2, dbMaxConnections = null)
+
+            warnings shouldHaveSize 1
+            warnings.single() shouldContain "CPU 기준 권장값(5"
+        }
+
+        it("인스턴스 전체 커넥션 수가 DB max_connections의 80%를 넘으면 경고해야 한다") {
+            val warnings = selfCheck(poolSize = 10, instances = 4).evaluate(heap384m, processors = 8, dbMaxConnections = 40)
+
+            warnings shouldHaveSize 1
+            warnings.single() shouldContain "DB max_connections(40)"
+        }
+    }
+})
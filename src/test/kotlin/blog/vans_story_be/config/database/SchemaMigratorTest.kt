@@ -0,0 +1,210 @@
+package blog.vans_story_be.config.database
+
+import blog.vans_story_be.domain.auth.entity.RefreshTokens
+import blog.vans_story_be.domain.auth.entity.RevokedTokens
+import blog.vans_story_be.domain.oauth.entity.UserOAuths
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.string.shouldContain
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.insert
+import org.jetbrains.exposed.sql.insertAndGetId
+import org.jetbrains.exposed.sql.select
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.Statement
+import java.time.LocalDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import javax.sql.DataSource
+
+/**
+ * 스키마 마이그레이션 테스트 (H2 인메모리 DB)
+ *
+ * 실제 db/migration 스크립트로 스키마를 만들고, 적용된 뒤의 기동에서는 이력 조회 한 번만 실행하는지 확인합니다.
+ * 적용된 스키마 확인 비용은 이전 방식(SchemaUtils.createMissingTablesAndColumns)과 함께 H2 기준으로 출력합니다.
+ * 실제 MariaDB의 기동 시간 측정은 아닙니다.
+ */
+class SchemaMigratorTest : DescribeSpec({
+
+    fun h2(name: String) = DriverManagerDataSource("jdbc:h2:mem:$name;MODE=MySQL;DB_CLOSE_DELAY=-1")
+
+    // 실행된 SQL을 기록하는 DataSource
+    class RecordingDataSource(private val delegate: DataSource) : DataSource by delegate {
+        val executed = ArrayList<String>()
+
+        private fun <T> record(target: T, type: Class<T>): T =
+            type.cast(Proxy.newProxyInstance(type.classLoader, arrayOf(type), InvocationHandler { _, method, args ->
+                if (method.name.startsWith("execute") && args?.firstOrNull() is String) executed += args[0] as String
+                if (method.name == "prepareStatement") executed += args[0] as String
+                try {
+                    val result = method.invoke(target, *(args ?: emptyArray()))
+                    if (result is Statement && result !is PreparedStatement) record(result, Statement::class.java) else result
+                } catch (e: InvocationTargetException) {
+                    throw e.targetException
+                }
+            }))
+
+        override fun getConnection(): Connection = record(delegate.connection, Connection::class.java)
+    }
+
+    describe("migrate 메서드는") {
+
+        context("빈 데이터베이스에서는") {
+            val dataSource = h2("schema-migrator-empty")
+            val migrator = SchemaMigrator(dataSource)
+
+            it("모든 스크립트를 버전 순서대로 적용하고 Exposed 테이블로 읽고 쓸 수 있어야 한다") {
+                val versions = migrator.loadMigrations().map { it.version }
+                versions shouldContainExactly listOf(1, 2, 3, 4, 5)
+
+                migrator.migrate() shouldBe 5
+
+                val database = Database.connect(dataSource)
+                transaction(database) {
+                    val userId = Users.insertAndGetId {
+                        it[email] = "migrated@example.com"
+                        it[password] = "encoded"
+                        it[nickname] = "migrated"
+                        it[role] = Role.USER
+                        it[deletedAt] = LocalDateTime.now()
+                    }
+                    UserOAuths.insert {
+                        it[this.userId] = userId
+                        it[provider] = "google"
+                        it[providerId] = "migrated"
+                    }
+                    RefreshTokens.insert {
+                        it[tokenId] = "token"
+                        it[familyId] = "family"
+                        it[subject] = "migrated@example.com"
+                        it[expiresAt] = LocalDateTime.now().plusDays(1)
+                    }
+
+                    Users.select { Users.id eq userId }.single()[Users.deletedAt] shouldNotBe null
+                    RefreshTokens.select { RefreshTokens.tokenId eq "token" }.single()[RefreshTokens.rotated] shouldBe false
+                }
+            }
+
+            it("이미 적용된 뒤에는 이력 조회 한 번만 실행해야 한다") {
+                val recording = RecordingDataSource(dataSource)
+
+                SchemaMigrator(recording).migrate() shouldBe 0
+
+                recording.executed shouldHaveSize 1
+                recording.executed.single() shouldContain "SELECT version, checksum FROM schema_migrations"
+            }
+
+            it("적용된 스크립트의 체크섬이 바뀌면 예외가 발생해야 한다") {
+                val modified = migrator.loadMigrations().map {
+                    if (it.version == 1) SchemaMigrator.Migration(it.version, it.description, it.script + "\n-- changed")
+                    else it
+                }
+
+                val exception = shouldThrow<IllegalStateException> { migrator.migrate(modified) }
+                exception.message shouldContain "V1"
+            }
+        }
+
+        context("SchemaUtils로 만든 기존 데이터베이스에서는") {
+            val dataSource = h2("schema-migrator-existing")
+
+            it("기존 테이블을 유지한 채 이력만 기록해야 한다") {
+                val database = Database.connect(dataSource)
+                transaction(database) {
+                    SchemaUtils.create(Users, UserOAuths, RefreshTokens, RevokedTokens)
+                    Users.insert {
+                        it[email] = "existing@example.com"
+                        it[password] = "encoded"
+                        it[nickname] = "existing"
+                        it[role] = Role.USER
+                    }
+                }
+
+                SchemaMigrator(dataSource).migrate() shouldBe 5
+
+                transaction(database) {
+                    Users.select { Users.email eq "existing@example.com" }.count() shouldBe 1L
+                }
+            }
+        }
+
+        context("여러 인스턴스가 동시에 기동하면") {
+            // 락을 기다리는 동안 H2 기본 잠금 대기 시간(1초)에 걸리지 않도록 늘립니다.
+            val dataSource = DriverManagerDataSource(
+                "jdbc:h2:mem:schema-migrator-concurrent;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+            )
+
+            it("한 인스턴스만 스크립트를 적용해야 한다") {
+                val instances = 4
+                val ready = CountDownLatch(instances)
+                val pool = Executors.newFixedThreadPool(instances)
+                try {
+                    val results = (1..instances).map {
+                        pool.submit(Callable {
+                            ready.countDown()
+                            ready.await()
+                            SchemaMigrator(dataSource).migrate()
+                        })
+                    }.map { it.get(30, TimeUnit.SECONDS) }
+
+                    results.sum() shouldBe 5
+                    results.count { it == 5 } shouldBe 1
+                } finally {
+                    pool.shutdownNow()
+                }
+
+                dataSource.connection.use { connection ->
+                    connection.createStatement().use { statement ->
+                        statement.executeQuery("SELECT COUNT(*) FROM schema_migrations").use { rs ->
+                            rs.next()
+                            rs.getInt(1) shouldBe 5
+                        }
+                    }
+                }
+            }
+        }
+
+        context("적용된 스키마 확인 비용") {
+            val dataSource = h2("schema-migrator-startup")
+            val database = Database.connect(dataSource)
+            SchemaMigrator(dataSource).migrate()
+
+            it("적용된 뒤의 마이그레이션 확인과 이전 방식의 스키마 비교 소요 시간을 H2 기준으로 출력한다") {
+                val rounds = 20
+
+                val migratorNanos = (1..rounds).sumOf {
+                    val startedAt = System.nanoTime()
+                    SchemaMigrator(dataSource).migrate() shouldBe 0
+                    System.nanoTime() - startedAt
+                }
+                val schemaUtilsNanos = (1..rounds).sumOf {
+                    val startedAt = System.nanoTime()
+                    transaction(database) {
+                        SchemaUtils.createMissingTablesAndColumns(Users, UserOAuths, RefreshTokens, RevokedTokens)
+                    }
+                    System.nanoTime() - startedAt
+                }
+
+                println(
+                    "적용된 스키마 확인 ${rounds}회 평균: SchemaMigrator ${migratorNanos / rounds / 1_000}us, " +
+                        "SchemaUtils.createMissingTablesAndColumns ${schemaUtilsNanos / rounds / 1_000}us"
+                )
+            }
+        }
+    }
+})
@@ -0,0 +1,66 @@
+package blog.vans_story_be.config.security
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.longs.shouldBeLessThan
+import io.kotest.matchers.shouldBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+/**
+ * 비밀번호 해싱 실행기 테스트
+ *
+ * 제한 시간 안에 끝나지 않을 작업을 대기열에 넣기 전에 거절하는지 확인합니다.
+ */
+class PasswordHashingExecutorTest : DescribeSpec({
+
+    fun executor(meterRegistry: SimpleMeterRegistry) = PasswordHashingExecutor(
+        PasswordHashingProperties().apply { threads = 1; queueCapacity = 4; timeoutMs = 1000L },
+        meterRegistry
+    )
+
+    describe("execute 메서드는") {
+        val hashNanos = TimeUnit.MILLISECONDS.toNanos(600)
+
+        it("앞선 작업 때문에 제한 시간 안에 끝나지 않을 작업은 대기열에 넣지 않고 거절해야 한다") {
+            val meterRegistry = SimpleMeterRegistry()
+            val executor = executor(meterRegistry)
+            val started = CountDownLatch(1)
+            val release = CountDownLatch(1)
+            val running = thread {
+                runCatching {
+                    executor.execute(PasswordHashingExecutor.Operation.MATCHES) {
+                        started.countDown()
+                        release.await()
+                    }
+                }
+            }
+            try {
+                started.await(5, TimeUnit.SECONDS) shouldBe true
+
+                val startedAt = System.nanoTime()
+                shouldThrow<PasswordHashingBusyException> {
+                    executor.execute(PasswordHashingExecutor.Operation.MATCHES, hashNanos) { true }
+                }
+                // 제한 시간(1초)까지 기다리지 않고 바로 거절
+                (System.nanoTime() - startedAt) shouldBeLessThan TimeUnit.MILLISECONDS.toNanos(500)
+                meterRegistry.counter("password.hash.rejected").count() shouldBe 1.0
+            } finally {
+                release.countDown()
+                running.join()
+                executor.shutdown()
+            }
+        }
+
+        it("실행기가 비어 있고 예상 해시 시간이 제한 시간 안이면 실행해야 한다") {
+            val executor = executor(SimpleMeterRegistry())
+            try {
+                executor.execute(PasswordHashingExecutor.Operation.ENCODE, hashNanos) { "hash" } shouldBe "hash"
+            } finally {
+                executor.shutdown()
+            }
+        }
+    }
+})
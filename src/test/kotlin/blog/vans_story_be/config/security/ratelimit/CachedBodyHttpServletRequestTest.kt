@@ -0,0 +1,71 @@
+package blog.vans_story_be.config.security.ratelimit
+
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.shouldBe
+import jakarta.servlet.ReadListener
+import org.springframework.mock.web.MockHttpServletRequest
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+
+/**
+ * 본문 캐시 요청 래퍼 테스트
+ *
+ * 미리 읽어 둔 본문을 비동기 읽기([ReadListener])로도 끝까지 읽을 수 있는지 확인합니다.
+ */
+class CachedBodyHttpServletRequestTest : DescribeSpec({
+
+    val body = """{"email":"user@example.com","password":"password"}""".toByteArray()
+
+    describe("getInputStream의 setReadListener는") {
+        it("본문을 읽을 수 있다고 알린 뒤 모두 읽었다고 알려야 한다") {
+            val input = CachedBodyHttpServletRequest(MockHttpServletRequest("POST", "/api/v1/auth/login"), body)
+                .inputStream
+            val read = ByteArrayOutputStream()
+            val events = mutableListOf<String>()
+
+            input.setReadListener(object : ReadListener {
+                override fun onDataAvailable() {
+                    events += "available"
+                    val buffer = ByteArray(16)
+                    while (input.isReady && !input.isFinished) {
+                        val n = input.read(buffer)
+                        if (n > 0) read.write(buffer, 0, n)
+                    }
+                }
+
+                override fun onAllDataRead() {
+                    events += "all-read"
+                }
+
+                override fun onError(t: Throwable) {
+                    events += "error"
+                }
+            })
+
+            events shouldBe listOf("available", "all-read")
+            read.toByteArray() shouldBe body
+        }
+
+        it("읽는 중 IOException이 나면 onError로 알려야 한다") {
+            val input = CachedBodyHttpServletRequest(MockHttpServletRequest("POST", "/api/v1/auth/login"), body)
+                .inputStream
+            val events = mutableListOf<String>()
+
+            input.setReadListener(object : ReadListener {
+                override fun onDataAvailable() {
+                    throw IOException("client aborted")
+                }
+
+                override fun onAllDataRead() {
+                    events += "all-read"
+                }
+
+                override fun onError(t: Throwable) {
+                    events += "error"
+                }
+            })
+
+            events shouldBe listOf("error")
+        }
+    }
+})
@@ -0,0 +1,325 @@
+package blog.vans_story_be.domain
+
+import blog.vans_story_be.config.security.CustomUserDetailsService
+import blog.vans_story_be.domain.auth.controller.AuthController
+import blog.vans_story_be.domain.auth.jwt.JwtKeyRing
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import blog.vans_story_be.domain.auth.service.AuthService
+import blog.vans_story_be.domain.auth.store.RefreshTokenStore
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import blog.vans_story_be.domain.oauth.controller.OAuthController
+import blog.vans_story_be.domain.oauth.dto.OAuthDto
+import blog.vans_story_be.domain.oauth.dto.OAuthLoginUser
+import blog.vans_story_be.domain.oauth.entity.UserOAuth
+import blog.vans_story_be.domain.oauth.mapper.OAuthMapper
+import blog.vans_story_be.domain.oauth.repository.OAuthRepository
+import blog.vans_story_be.domain.oauth.service.OAuthService
+import blog.vans_story_be.domain.oauth.store.MemoryTempCodeStore
+import blog.vans_story_be.domain.oauth.store.TempCodeIssuer
+import blog.vans_story_be.domain.oauth.store.TempCodeProperties
+import blog.vans_story_be.domain.user.cache.UserCacheProperties
+import blog.vans_story_be.domain.user.cache.UserLookupCache
+import blog.vans_story_be.domain.user.controller.UserController
+import blog.vans_story_be.domain.user.dto.UserCredentials
+import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.dto.UserPatch
+import blog.vans_story_be.domain.user.dto.UserSummary
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.User
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.mapper.UserMapper
+import blog.vans_story_be.domain.user.repository.UserRepository
+import blog.vans_story_be.domain.user.service.UserService
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.shouldBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.*
+import org.jetbrains.exposed.dao.id.EntityID
+import org.jetbrains.exposed.sql.Database
+import org.springframework.http.MediaType
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter
+import org.springframework.security.authentication.ProviderManager
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.security.core.userdetails.User as SecurityUser
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*
+import org.springframework.test.web.servlet.setup.MockMvcBuilders
+import java.security.SecureRandom
+import java.time.LocalDateTime
+import java.util.Base64
+import java.util.Optional
+
+/**
+ * 컨트롤러 요청 한 번당 리포지토리 호출 횟수 회귀 테스트
+ *
+ * 실제 서비스와 컨트롤러를 MockMvc로 연결하고 리포지토리만 모킹하여,
+ * 응답을 만드는 과정에서 서비스가 두 번 호출되지 않는지(조회/쓰기/해싱이 중복되지 않는지) 확인합니다.
+ */
+class ControllerRepositoryCallTest : DescribeSpec({
+
+    Database.connect(
+        url = "jdbc:h2:mem:controller-call-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver"
+    )
+
+    val objectMapper = jacksonObjectMapper().findAndRegisterModules()
+
+    val userRepository = mockk<UserRepository>()
+    val oauthRepository = mockk<OAuthRepository>()
+    val userMapper = mockk<UserMapper>()
+    val oauthMapper = mockk<OAuthMapper>()
+    val passwordEncoder = mockk<PasswordEncoder>()
+    val tokenRevocationList = mockk<TokenRevocationList>(relaxed = true)
+    val userLookupCache = UserLookupCache(UserCacheProperties(), SimpleMeterRegistry())
+
+    val jwtProperties = JwtProperties().apply {
+        secretKey = Base64.getEncoder().encodeToString(ByteArray(64).also { SecureRandom().nextBytes(it) })
+        accessTokenValidityInSeconds = 1800L
+        refreshTokenValidityInSeconds = 604800L
+    }
+    val jwtProvider = JwtProvider(jwtProperties, JwtKeyRing(jwtProperties).also { it.init() }).also { it.init() }
+    val refreshTokenStore = RefreshTokenStore(jwtProperties)
+
+    val authenticationManager = ProviderManager(
+        DaoAuthenticationProvider(CustomUserDetailsService(userRepository)).apply {
+            setPasswordEncoder(passwordEncoder)
+        }
+    )
+
+    val userService = UserService(userRepository, userMapper, passwordEncoder, tokenRevocationList, userLookupCache)
+    val authService = AuthService(authenticationManager, jwtProvider, refreshTokenStore, tokenRevocationList)
+    val oauthService = OAuthService(
+        oauthRepository, oauthMapper, jwtProvider, refreshTokenStore,
+        TempCodeIssuer(
+            MemoryTempCodeStore(TempCodeProperties(), SimpleMeterRegistry()),
+            TempCodeProperties(),
+            jwtProperties
+        )
+    )
+
+    val mockMvc: MockMvc = MockMvcBuilders
+        .standaloneSetup(
+            UserController(userService, objectMapper),
+            AuthController(authService, userService),
+            OAuthController(oauthService)
+        )
+        .setCustomArgumentResolvers(AuthenticationPrincipalArgumentResolver())
+        .setMessageConverters(MappingJackson2HttpMessageConverter(objectMapper))
+        .build()
+
+    val userId = 1L
+    val email = "user@example.com"
+    val response = UserDto.Response(id = userId, email = email, nickname = "user", role = Role.USER)
+
+    val user = mockk<User>()
+    val summary = UserSummary(userId, email, "changed", Role.USER, LocalDateTime.now(), LocalDateTime.now())
+
+    fun json(builder: MockHttpServletRequestBuilder, body: Any): MockHttpServletRequestBuilder =
+        builder.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body))
+
+    fun perform(builder: MockHttpServletRequestBuilder): Int =
+        mockMvc.perform(builder).andReturn().response.status
+
+    beforeEach {
+        clearMocks(userRepository, oauthRepository, userMapper, oauthMapper, passwordEncoder, user)
+        userLookupCache.invalidateAll()
+
+        every { user.id } returns EntityID(userId, Users)
+        every { user.email } returns email
+        every { user.nickname } returns "user"
+        every { user.role } returns Role.USER
+
+        every { passwordEncoder.encode(any()) } returns "encoded"
+        every { passwordEncoder.matches(any(), any()) } returns true
+        every { passwordEncoder.upgradeEncoding(any()) } returns false
+
+        every { userMapper.toResponseDto(any<User>()) } returns response
+        every { userMapper.toResponseDto(any<UserSummary>()) } returns response
+        every { userMapper.toEntity(any(), any()) } returns user
+        every { userMapper.toUpdateDto(any(), any(), any(), any(), any()) } returns UserDto.UpdateRequest()
+        every { userMapper.updateEntity(any(), any()) } just Runs
+
+        SecurityContextHolder.getContext().authentication = SecurityUser.withUsername(userId.toString())
+            .password("")
+            .roles("USER")
+            .build()
+            .let { UsernamePasswordAuthenticationToken(it, null, it.authorities) }
+    }
+
+    afterEach {
+        SecurityContextHolder.clearContext()
+    }
+
+    describe("UserController") {
+        it("사용자 목록 조회는 페이지 조회를 한 번만 수행해야 한다") {
+            every { userRepository.findUsersAfter(null, any()) } returns emptyList()
+
+            perform(get("/api/v1/users")) shouldBe 200
+
+            verify(exactly = 1) { userRepository.findUsersAfter(null, any()) }
+        }
+
+        it("사용자 조회는 ID 조회를 한 번만 수행해야 한다") {
+            every { userRepository.findUserById(userId) } returns Optional.of(user)
+
+            perform(get("/api/v1/users/$userId")) shouldBe 200
+
+            verify(exactly = 1) { userRepository.findUserById(userId) }
+        }
+
+        it("닉네임 조회는 닉네임 컬럼 조회를 한 번만 수행해야 한다") {
+            every { userRepository.findNicknameByEmail(email) } returns "tester"
+
+            perform(get("/api/v1/users/email/$email")) shouldBe 200
+
+            verify(exactly = 1) { userRepository.findNicknameByEmail(email) }
+        }
+
+        it("사용자 정보 수정은 이메일 조회, 부분 UPDATE, 결과 조회, 비밀번호 해싱을 한 번씩만 수행해야 한다") {
+            every { userRepository.findEmailById(userId) } returns email
+            every { userRepository.updateColumns(userId, any(), any()) } returns 1
+            every { userRepository.findSummaryById(userId) } returns summary
+
+            perform(
+                json(patch("/api/v1/users/$userId"), mapOf("nickname" to "changed", "password" to "Password1!"))
+            ) shouldBe 200
+
+            verify(exactly = 1) { userRepository.findEmailById(userId) }
+            verify(exactly = 1) { userRepository.updateColumns(userId, UserPatch(passwordHash = "encoded", nickname = "changed"), any()) }
+            verify(exactly = 1) { userRepository.findSummaryById(userId) }
+            verify(exactly = 1) { passwordEncoder.encode("Password1!") }
+            verify(exactly = 0) { userRepository.findUserById(any()) }
+            verify(exactly = 0) { userRepository.existsByNickname(any()) }
+        }
+
+        it("사용자 생성은 중복 확인 조회 없이 저장만 한 번 수행해야 한다") {
+            every { userRepository.save(user) } returns user
+
+            perform(
+                json(post("/api/v1/users"), UserDto.CreateRequest(email, "Password1!", "user"))
+            ) shouldBe 201
+
+            verify(exactly = 0) { userRepository.existsByEmail(any()) }
+            verify(exactly = 1) { userRepository.save(user) }
+            verify(exactly = 1) { passwordEncoder.encode("Password1!") }
+        }
+
+        it("사용자 삭제는 이메일 조회와 삭제 요청 기록을 한 번씩만 수행해야 한다") {
+            every { userRepository.findEmailById(userId) } returns email
+            every { userRepository.softDelete(userId, any()) } returns 1
+
+            perform(delete("/api/v1/users/$userId")) shouldBe 204
+
+            verify(exactly = 1) { userRepository.findEmailById(userId) }
+            verify(exactly = 1) { userRepository.softDelete(userId, any()) }
+        }
+    }
+
+    describe("AuthController") {
+        it("회원가입은 중복 확인 조회 없이 저장만 한 번 수행해야 한다") {
+            every { userRepository.save(user) } returns user
+
+            perform(
+                json(post("/api/v1/auth/signup"), UserDto.CreateRequest(email, "Password1!", "user"))
+            ) shouldBe 201
+
+            verify(exactly = 0) { userRepository.existsByEmail(any()) }
+            verify(exactly = 1) { userRepository.save(user) }
+        }
+
+        it("로그인은 인증 정보 조회와 비밀번호 검증을 한 번씩만 수행해야 한다") {
+            every { userRepository.findCredentialsByEmail(email) } returns
+                UserCredentials(userId, email, "hash", Role.USER)
+
+            perform(
+                json(post("/api/v1/auth/login"), mapOf("email" to email, "password" to "Password1!"))
+            ) shouldBe 200
+
+            verify(exactly = 1) { userRepository.findCredentialsByEmail(email) }
+            verify(exactly = 1) { passwordEncoder.matches("Password1!", "hash") }
+        }
+
+        it("토큰 갱신과 로그아웃은 사용자 리포지토리를 조회하지 않아야 한다") {
+            every { userRepository.findCredentialsByEmail(email) } returns
+                UserCredentials(userId, email, "hash", Role.USER)
+            val refreshCookie = mockMvc.perform(
+                json(post("/api/v1/auth/login"), mapOf("email" to email, "password" to "Password1!"))
+            ).andReturn().response.getCookie("refreshToken")!!
+            clearMocks(userRepository, answers = false)
+
+            val rotatedCookie = mockMvc.perform(post("/api/v1/auth/refresh").cookie(refreshCookie))
+                .andReturn().response.let { result ->
+                    result.status shouldBe 200
+                    result.getCookie("refreshToken")!!
+                }
+            perform(post("/api/v1/auth/logout").cookie(rotatedCookie)) shouldBe 204
+
+            verify(exactly = 0) { userRepository.findCredentialsByEmail(any()) }
+            verify(exactly = 0) { userRepository.findUserById(any()) }
+        }
+    }
+
+    describe("OAuthController") {
+        val oauth = mockk<UserOAuth>()
+
+        beforeEach {
+            clearMocks(oauth)
+            every { oauth.userId } returns EntityID(userId, Users)
+            every { oauth.user } returns user
+        }
+
+        it("임시 코드 발급은 리포지토리를 조회하지 않고, 코드 교환은 연동 정보 조회를 한 번만 수행해야 한다") {
+            every { oauthRepository.findLoginUserByProviderAndProviderId("google", "g-1") } returns
+                OAuthLoginUser(userId, email, Role.USER)
+
+            val code = mockMvc.perform(
+                json(post("/api/v1/oauth/login"), OAuthDto.LoginRequest("google", "g-1"))
+            ).andReturn().response.contentAsString
+                .let { objectMapper.readTree(it)["data"]["code"].asText() }
+
+            perform(json(post("/api/v1/oauth/exchange"), OAuthDto.ExchangeRequest(code))) shouldBe 200
+
+            verify(exactly = 1) { oauthRepository.findLoginUserByProviderAndProviderId("google", "g-1") }
+        }
+
+        it("계정 연결은 중복 확인과 저장을 한 번씩만 수행해야 한다") {
+            every { oauthRepository.existsByUserIdAndProvider(userId, "kakao") } returns false
+            every { oauthRepository.save(userId, "kakao", "k-1") } returns oauth
+            every { oauthMapper.toDto(oauth) } returns OAuthDto.Response(
+                1L, userId, "kakao", "k-1", LocalDateTime.now(), LocalDateTime.now()
+            )
+
+            perform(json(post("/api/v1/oauth/link"), OAuthDto.LinkRequest("kakao", "k-1"))) shouldBe 200
+
+            verify(exactly = 1) { oauthRepository.existsByUserIdAndProvider(userId, "kakao") }
+            verify(exactly = 0) { oauthRepository.existsByProviderAndProviderId(any(), any()) }
+            verify(exactly = 1) { oauthRepository.save(userId, "kakao", "k-1") }
+        }
+
+        it("계정 연결 해제는 조회 없이 삭제만 한 번 수행해야 한다") {
+            every { oauthRepository.deleteByUserIdAndProvider(userId, "kakao") } returns true
+
+            perform(json(delete("/api/v1/oauth/unlink"), OAuthDto.UnlinkRequest("kakao"))) shouldBe 200
+
+            verify(exactly = 0) { oauthRepository.findByUserIdAndProvider(any(), any()) }
+            verify(exactly = 1) { oauthRepository.deleteByUserIdAndProvider(userId, "kakao") }
+        }
+
+        it("연결된 계정 조회는 목록 조회를 한 번만 수행해야 한다") {
+            every { oauthRepository.findAllByUserId(userId) } returns listOf(oauth)
+            every { oauthMapper.toLinkedAccountsResponse(listOf(oauth)) } returns
+                OAuthDto.LinkedAccountsResponse(emptyList())
+
+            perform(get("/api/v1/oauth/linked")) shouldBe 200
+
+            verify(exactly = 1) { oauthRepository.findAllByUserId(userId) }
+        }
+    }
+})
@@ -0,0 +1,66 @@
+package blog.vans_story_be.domain.auth.jwt
+
+import blog.vans_story_be.domain.auth.store.RefreshTokenStore
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import jakarta.servlet.FilterChain
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.Authentication
+import org.springframework.security.core.authority.SimpleGrantedAuthority
+import org.springframework.security.core.context.SecurityContextHolder
+import java.security.SecureRandom
+import java.util.Base64
+
+/**
+ * JWT 필터 테스트 (HS512)
+ *
+ * 같은 키로 서명된 리프레시 토큰을 Bearer 토큰으로 보내도 인증되지 않는지 확인합니다.
+ */
+class JwtFilterTest : DescribeSpec({
+
+    val properties = JwtProperties().apply {
+        secretKey = Base64.getEncoder().encodeToString(ByteArray(64).also { SecureRandom().nextBytes(it) })
+        accessTokenValidityInSeconds = 1800L
+        refreshTokenValidityInSeconds = 604800L
+    }
+    val provider = JwtProvider(properties, JwtKeyRing(properties).also { it.init() }).also { it.init() }
+    val filter = JwtFilter(provider, AccessTokenCache(properties, SimpleMeterRegistry()), TokenRevocationList(properties))
+
+    val authentication = UsernamePasswordAuthenticationToken(
+        "user@example.com", null, listOf(SimpleGrantedAuthority("ROLE_USER"))
+    )
+
+    fun authenticate(token: String): Authentication? {
+        val request = MockHttpServletRequest("GET", "/api/v1/users/1").apply {
+            addHeader("Authorization", "Bearer $token")
+        }
+        var authenticated: Authentication? = null
+        filter.doFilter(request, MockHttpServletResponse(), FilterChain { _, _ ->
+            authenticated = SecurityContextHolder.getContext().authentication
+        })
+        SecurityContextHolder.clearContext()
+        return authenticated
+    }
+
+    describe("doFilter 메서드는") {
+        it("액세스 토큰으로 인증해야 한다") {
+            authenticate(provider.generateAccessToken(authentication)).shouldNotBeNull()
+        }
+
+        it("리프레시 토큰은 액세스 토큰으로 인증하지 않아야 한다") {
+            val refreshToken = provider.generateRefreshToken(
+                authentication,
+                RefreshTokenStore.Issued("token-id", "family-id")
+            )
+
+            provider.validateToken(refreshToken) shouldBe true
+            authenticate(refreshToken).shouldBeNull()
+        }
+    }
+})
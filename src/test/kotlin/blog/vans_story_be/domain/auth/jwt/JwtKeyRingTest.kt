@@ -0,0 +1,112 @@
+package blog.vans_story_be.domain.auth.jwt
+
+import blog.vans_story_be.domain.auth.entity.JwtSigningKeys
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.types.shouldBeInstanceOf
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.deleteAll
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.authority.SimpleGrantedAuthority
+import java.security.SecureRandom
+import java.time.Instant
+import java.util.Base64
+
+/**
+ * JWT 키 링 테스트 (H2 인메모리 DB)
+ *
+ * 비대칭 서명 키가 DB에 공유되어 다른 인스턴스와 재시작 후에도 토큰이 검증되는지,
+ * kid 없는 HS512 토큰은 허용 기한 안에서만 검증되는지 확인합니다.
+ */
+class JwtKeyRingTest : DescribeSpec({
+
+    val database = Database.connect(
+        url = "jdbc:h2:mem:jwt-key-ring;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver"
+    )
+    val secret = Base64.getEncoder().encodeToString(ByteArray(64).also { SecureRandom().nextBytes(it) })
+
+    fun properties(algorithm: JwtSigningAlgorithm, legacyUntil: String = "") = JwtProperties().apply {
+        secretKey = secret
+        accessTokenValidityInSeconds = 1800L
+        refreshTokenValidityInSeconds = 604800L
+        signingAlgorithm = algorithm
+        legacyHmacUntil = legacyUntil
+    }
+
+    fun ring(algorithm: JwtSigningAlgorithm = JwtSigningAlgorithm.EdDSA, legacyUntil: String = "") =
+        JwtKeyRing(properties(algorithm, legacyUntil)).also { it.init() }
+
+    fun provider(keyRing: JwtKeyRing) =
+        JwtProvider(properties(JwtSigningAlgorithm.EdDSA), keyRing).also { it.init() }
+
+    val authentication = UsernamePasswordAuthenticationToken(
+        "user@example.com", null, listOf(SimpleGrantedAuthority("ROLE_USER"))
+    )
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+        transaction(database) { SchemaUtils.create(JwtSigningKeys) }
+    }
+
+    beforeEach {
+        transaction(database) { JwtSigningKeys.deleteAll() }
+    }
+
+    afterSpec {
+        transaction(database) { SchemaUtils.drop(JwtSigningKeys) }
+    }
+
+    describe("비대칭 서명 키는") {
+        it("다른 인스턴스에서 서명한 토큰을 검증해야 한다") {
+            val first = ring()
+            val second = ring()
+
+            second.signingKey().kid shouldBe first.signingKey().kid
+            provider(second).validateToken(provider(first).generateAccessToken(authentication)) shouldBe true
+        }
+
+        it("재시작 후에도 이전 키로 서명한 토큰을 검증해야 한다") {
+            val token = provider(ring()).generateAccessToken(authentication)
+
+            provider(ring()).validateToken(token) shouldBe true
+        }
+
+        it("교체 후 새 키는 읽기 주기가 지나야 서명에 사용하고, 이전 키는 검증용으로 유지해야 한다") {
+            val keyRing = ring()
+            val properties = properties(JwtSigningAlgorithm.EdDSA)
+            val previous = keyRing.signingKey().kid
+            val rotatedAt = System.currentTimeMillis() + properties.keyRotationIntervalMs
+
+            keyRing.rotate(rotatedAt)
+            keyRing.signingKey().kid shouldBe previous
+
+            keyRing.reload(rotatedAt + properties.keyReloadIntervalMs)
+            keyRing.signingKey().kid shouldNotBe previous
+            keyRing.verificationKey(previous).shouldNotBeNull()
+        }
+    }
+
+    describe("kid 없는 토큰은") {
+        it("HS512에서는 비밀키로 검증해야 한다") {
+            ring(JwtSigningAlgorithm.HS512).verificationKey(null).shouldNotBeNull()
+        }
+
+        it("비대칭 알고리즘에서는 거부해야 한다") {
+            ring().verificationKey(null).shouldBeNull()
+        }
+
+        it("비대칭 알고리즘에서도 허용 기한 안에서만 비밀키로 검증해야 한다") {
+            ring(legacyUntil = Instant.now().plusSeconds(3600).toString())
+                .verificationKey(null).shouldBeInstanceOf<javax.crypto.SecretKey>()
+            ring(legacyUntil = Instant.now().minusSeconds(1).toString())
+                .verificationKey(null).shouldBeNull()
+        }
+    }
+})
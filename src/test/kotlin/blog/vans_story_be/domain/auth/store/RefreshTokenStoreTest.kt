@@ -0,0 +1,131 @@
+package blog.vans_story_be.domain.auth.store
+
+import blog.vans_story_be.domain.auth.entity.RefreshTokens
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.comparables.shouldBeGreaterThan
+import io.kotest.matchers.types.shouldBeInstanceOf
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.select
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+
+/**
+ * Refresh Token 저장소 테스트 (H2 인메모리 DB)
+ *
+ * 메모리 인덱스가 비어 있는 재시작 직후나 다른 인스턴스에서 사용/폐기된 뒤에도 토큰이 다시 갱신되지 않는지 확인합니다.
+ */
+class RefreshTokenStoreTest : DescribeSpec({
+
+    val database = Database.connect(
+        url = "jdbc:h2:mem:refresh-token-store;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver"
+    )
+    val jwtProperties = JwtProperties().apply { refreshTokenValidityInSeconds = 604800L }
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+        transaction(database) { SchemaUtils.create(RefreshTokens) }
+    }
+
+    afterSpec {
+        transaction(database) { SchemaUtils.drop(RefreshTokens) }
+    }
+
+    describe("flush 메서드는") {
+        it("토큰마다 발급 시각을 created_at으로 기록해야 한다") {
+            val store = RefreshTokenStore(jwtProperties)
+            val first = store.startFamily("user@example.com")
+            Thread.sleep(20)
+            val second = store.startFamily("user@example.com")
+            store.flush()
+
+            fun createdAt(tokenId: String) = transaction(database) {
+                RefreshTokens.select { RefreshTokens.tokenId eq tokenId }.single()[RefreshTokens.createdAt]
+            }
+
+            createdAt(second.tokenId) shouldBeGreaterThan createdAt(first.tokenId)
+        }
+    }
+
+    describe("rotate 메서드는") {
+        it("재시작 후에도 폐기된 계열의 토큰을 거부해야 한다") {
+            val beforeRestart = RefreshTokenStore(jwtProperties)
+            val issued = beforeRestart.startFamily("user@example.com")
+            beforeRestart.flush()
+            beforeRestart.revokeFamily(issued.familyId)
+            beforeRestart.flush()
+
+            // 메모리 인덱스가 비어 있는 새 인스턴스 = 재시작 직후
+            val afterRestart = RefreshTokenStore(jwtProperties)
+
+            afterRestart.rotate(issued.tokenId, issued.familyId, "user@example.com")
+                .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rejected>()
+        }
+
+        it("재시작 후 폐기되지 않은 계열의 토큰은 한 번만 갱신해야 한다") {
+            val beforeRestart = RefreshTokenStore(jwtProperties)
+            val issued = beforeRestart.startFamily("user@example.com")
+            beforeRestart.flush()
+
+            val afterRestart = RefreshTokenStore(jwtProperties)
+
+            afterRestart.rotate(issued.tokenId, issued.familyId, "user@example.com")
+                .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rotated>()
+            afterRestart.rotate(issued.tokenId, issued.familyId, "user@example.com")
+                .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rejected>()
+        }
+
+        it("인덱스 크기를 넘어 빠진 토큰도 DB에서 읽어 한 번만 갱신해야 한다") {
+            val store = RefreshTokenStore(
+                JwtProperties().apply { refreshTokenValidityInSeconds = 604800L; refreshTokenIndexMaxSize = 1L }
+            )
+            val issued = (1..3).map { store.startFamily("user$it@example.com") }
+            store.flush()
+            store.sweepExpired()
+
+            issued.forEachIndexed { index, it ->
+                store.rotate(it.tokenId, it.familyId, "user${index + 1}@example.com")
+                    .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rotated>()
+            }
+            store.flush()
+            issued.forEachIndexed { index, it ->
+                store.rotate(it.tokenId, it.familyId, "user${index + 1}@example.com")
+                    .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rejected>()
+            }
+        }
+    }
+
+    describe("여러 인스턴스에서는") {
+        it("다른 인스턴스에서 사용된 토큰을 동기화 후 재사용으로 거부해야 한다") {
+            val nodeA = RefreshTokenStore(jwtProperties)
+            val nodeB = RefreshTokenStore(jwtProperties)
+            // B에서 발급되어 B의 인덱스에 올라 있는 토큰
+            val issued = nodeB.startFamily("user@example.com")
+            nodeB.flush()
+
+            nodeA.rotate(issued.tokenId, issued.familyId, "user@example.com")
+                .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rotated>()
+            nodeA.flush()
+            nodeB.sync()
+
+            nodeB.rotate(issued.tokenId, issued.familyId, "user@example.com")
+                .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rejected>()
+        }
+
+        it("다른 인스턴스에서 폐기한 계열을 동기화 후 거부해야 한다") {
+            val nodeA = RefreshTokenStore(jwtProperties)
+            val nodeB = RefreshTokenStore(jwtProperties)
+            val issued = nodeB.startFamily("user@example.com")
+            nodeB.flush()
+
+            nodeA.revokeFamily(issued.familyId)
+            nodeA.flush()
+            nodeB.sync()
+
+            nodeB.rotate(issued.tokenId, issued.familyId, "user@example.com")
+                .shouldBeInstanceOf<RefreshTokenStore.RotationResult.Rejected>()
+        }
+    }
+})
@@ -0,0 +1,119 @@
+package blog.vans_story_be.domain.auth.store
+
+import blog.vans_story_be.config.database.DataSourceConfig
+import blog.vans_story_be.config.database.DatabaseProperties
+import blog.vans_story_be.domain.auth.entity.RevokedTokens
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.shouldBe
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.deleteAll
+import org.jetbrains.exposed.sql.selectAll
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.ZoneId
+import java.util.Date
+
+/**
+ * 토큰 폐기 목록 테스트 (H2 인메모리 DB)
+ *
+ * 사용자 단위 폐기 기준을 밀리초로 비교하는지, 메모리 목록이 커밋된 폐기만 반영하는지 확인합니다.
+ */
+class TokenRevocationListTest : DescribeSpec({
+
+    val dataSource = DriverManagerDataSource("jdbc:h2:mem:token-revocation-list;MODE=MySQL;DB_CLOSE_DELAY=-1")
+    val config = DataSourceConfig(DatabaseProperties().apply { migrateOnStartup = false })
+    val transactionManager = config.transactionManager(dataSource, showSql = false)
+    config.database(dataSource, transactionManager)
+
+    val jwtProperties = JwtProperties().apply { refreshTokenValidityInSeconds = 604800L }
+
+    beforeSpec {
+        transaction { SchemaUtils.create(RevokedTokens) }
+    }
+
+    beforeEach {
+        transaction { RevokedTokens.deleteAll() }
+    }
+
+    afterSpec {
+        transaction { SchemaUtils.drop(RevokedTokens) }
+    }
+
+    describe("revokeUser 메서드는") {
+        // 초 경계에서 500ms 지난 시각
+        val revokedAt = 1_750_000_000_500L
+
+        it("같은 초 안이라도 폐기 직전에 발급된 토큰은 폐기하고 직후에 발급된 토큰은 허용해야 한다") {
+            val revocationList = TokenRevocationList(jwtProperties)
+            revocationList.revokeUser(1L, "user@example.com", revokedAt)
+
+            revocationList.isRevoked(null, "1", revokedAt - 1) shouldBe true
+            revocationList.isRevoked(null, "user@example.com", revokedAt - 400) shouldBe true
+            revocationList.isRevoked(null, "1", revokedAt) shouldBe false
+            revocationList.isRevoked(null, "1", revokedAt + 1) shouldBe false
+        }
+
+        it("밀리초 발급 시각이 없는 이전 토큰은 같은 초에 발급되었으면 폐기해야 한다") {
+            val revocationList = TokenRevocationList(jwtProperties)
+            revocationList.revokeUser(1L, "user@example.com", revokedAt)
+
+            // 초 단위 iat만 있는 토큰 (실제 발급 시각은 revokedAt 전후 어느 쪽일 수도 있음)
+            revocationList.isRevoked(null, "1", revokedAt - revokedAt % 1000) shouldBe true
+        }
+
+        it("재시작 후에도 밀리초 기준 시각을 그대로 읽어 들여야 한다") {
+            TokenRevocationList(jwtProperties).revokeUser(1L, "user@example.com", System.currentTimeMillis())
+            val revokedAtNow = transaction {
+                RevokedTokens.selectAll().first()[RevokedTokens.issuedBefore]!!
+            }
+            val cutoff = revokedAtNow.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+
+            val afterRestart = TokenRevocationList(jwtProperties).apply { load() }
+
+            afterRestart.isRevoked(null, "1", cutoff - 1) shouldBe true
+            afterRestart.isRevoked(null, "1", cutoff) shouldBe false
+        }
+
+        it("트랜잭션이 롤백되면 토큰을 폐기하지 않아야 한다") {
+            val revocationList = TokenRevocationList(jwtProperties)
+
+            TransactionTemplate(transactionManager).execute { status ->
+                revocationList.revokeUser(1L, "user@example.com", revokedAt)
+                // 커밋 전에는 메모리 목록에 반영되지 않음
+                revocationList.isRevoked(null, "1", revokedAt - 1) shouldBe false
+                status.setRollbackOnly()
+            }
+
+            revocationList.isRevoked(null, "1", revokedAt - 1) shouldBe false
+            transaction { RevokedTokens.selectAll().count() } shouldBe 0L
+        }
+
+        it("트랜잭션이 커밋되면 토큰을 폐기해야 한다") {
+            val revocationList = TokenRevocationList(jwtProperties)
+
+            TransactionTemplate(transactionManager).execute {
+                revocationList.revokeUser(1L, "user@example.com", revokedAt)
+            }
+
+            revocationList.isRevoked(null, "1", revokedAt - 1) shouldBe true
+        }
+    }
+
+    describe("revokeToken 메서드는") {
+        it("롤백된 트랜잭션의 토큰 폐기를 반영하지 않아야 한다") {
+            val revocationList = TokenRevocationList(jwtProperties)
+            val expiration = Date(System.currentTimeMillis() + 60_000)
+
+            TransactionTemplate(transactionManager).execute { status ->
+                revocationList.revokeToken("rolled-back", expiration)
+                status.setRollbackOnly()
+            }
+            transaction { revocationList.revokeToken("committed", expiration) }
+
+            revocationList.isRevoked("rolled-back", "1", 0L) shouldBe false
+            revocationList.isRevoked("committed", "1", 0L) shouldBe true
+        }
+    }
+})
@@ -0,0 +1,109 @@
+package blog.vans_story_be.domain.oauth.service
+
+import blog.vans_story_be.domain.auth.jwt.JwtKeyRing
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import blog.vans_story_be.domain.auth.store.RefreshTokenStore
+import blog.vans_story_be.domain.oauth.dto.OAuthDto
+import blog.vans_story_be.domain.oauth.entity.UserOAuths
+import blog.vans_story_be.domain.oauth.mapper.OAuthMapper
+import blog.vans_story_be.domain.oauth.repository.OAuthRepositoryImpl
+import blog.vans_story_be.domain.oauth.store.MemoryTempCodeStore
+import blog.vans_story_be.domain.oauth.store.TempCodeIssuer
+import blog.vans_story_be.domain.oauth.store.TempCodeProperties
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldStartWith
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.mockk
+import org.jetbrains.exposed.sql.*
+import org.jetbrains.exposed.sql.statements.StatementContext
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.mock.web.MockHttpServletResponse
+import java.security.SecureRandom
+import java.util.Base64
+import java.util.Collections
+
+/**
+ * OAuth 코드 교환 쿼리 수 테스트 (H2 인메모리 DB)
+ *
+ * 코드 교환이 연동 정보와 사용자 정보를 조인 쿼리 한 번으로 읽고,
+ * 지연 로딩으로 인한 추가 쿼리 없이 토큰을 발급하는지 실행된 SQL로 확인합니다.
+ */
+class OAuthExchangeQueryCountTest : DescribeSpec({
+
+    val statements = Collections.synchronizedList(ArrayList<String>())
+    val database = Database.connect(
+        url = "jdbc:h2:mem:oauth-exchange;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver",
+        databaseConfig = DatabaseConfig {
+            sqlLogger = object : SqlLogger {
+                override fun log(context: StatementContext, transaction: Transaction) {
+                    statements += context.sql(transaction)
+                }
+            }
+        }
+    )
+
+    val jwtProperties = JwtProperties().apply {
+        secretKey = Base64.getEncoder().encodeToString(ByteArray(64).also { SecureRandom().nextBytes(it) })
+        accessTokenValidityInSeconds = 1800L
+        refreshTokenValidityInSeconds = 604800L
+    }
+    val jwtProvider = JwtProvider(jwtProperties, JwtKeyRing(jwtProperties).also { it.init() }).also { it.init() }
+    val tempCodeProperties = TempCodeProperties()
+    val oauthService = OAuthService(
+        oauthRepository = OAuthRepositoryImpl(),
+        oauthMapper = mockk<OAuthMapper>(),
+        jwtProvider = jwtProvider,
+        refreshTokenStore = RefreshTokenStore(jwtProperties),
+        tempCodeIssuer = TempCodeIssuer(
+            MemoryTempCodeStore(tempCodeProperties, SimpleMeterRegistry()),
+            tempCodeProperties,
+            jwtProperties
+        )
+    )
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+        transaction(database) {
+            SchemaUtils.create(Users, UserOAuths)
+            val userId = Users.insertAndGetId {
+                it[email] = "oauth@example.com"
+                it[password] = "encoded"
+                it[nickname] = "oauth"
+                it[role] = Role.USER
+            }
+            UserOAuths.insert {
+                it[this.userId] = userId
+                it[provider] = "google"
+                it[providerId] = "g-1"
+            }
+        }
+    }
+
+    afterSpec {
+        transaction(database) { SchemaUtils.drop(UserOAuths, Users) }
+    }
+
+    describe("exchangeCodeForToken 메서드는") {
+        it("연동 정보와 사용자 정보를 SQL 한 번으로 조회해야 한다") {
+            val code = oauthService.oauthLogin(OAuthDto.LoginRequest("google", "g-1")).code
+            val response = MockHttpServletResponse()
+            statements.clear()
+
+            oauthService.exchangeCodeForToken(OAuthDto.ExchangeRequest(code), response)
+
+            statements shouldHaveSize 1
+            statements.single() shouldStartWith "SELECT"
+            statements.single().lowercase() shouldContain "inner join"
+            response.getHeader("Authorization") shouldNotBe null
+            response.getCookie("refreshToken") shouldNotBe null
+        }
+    }
+})
@@ -0,0 +1,190 @@
+package blog.vans_story_be.domain.oauth.service
+
+import blog.vans_story_be.config.database.CountingDataSource
+import blog.vans_story_be.config.database.DataSourceConfig
+import blog.vans_story_be.domain.auth.jwt.JwtProvider
+import blog.vans_story_be.domain.auth.store.RefreshTokenStore
+import blog.vans_story_be.domain.oauth.dto.OAuthDto
+import blog.vans_story_be.domain.oauth.entity.UserOAuths
+import blog.vans_story_be.domain.oauth.mapper.OAuthMapper
+import blog.vans_story_be.domain.oauth.repository.OAuthRepositoryImpl
+import blog.vans_story_be.domain.oauth.store.TempCodeIssuer
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.global.exception.CustomException
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import io.kotest.matchers.string.shouldStartWith
+import io.mockk.mockk
+import org.jetbrains.exposed.spring.SpringTransactionManager
+import org.jetbrains.exposed.sql.*
+import org.jetbrains.exposed.sql.statements.StatementContext
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.context.annotation.AnnotationConfigApplicationContext
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.transaction.annotation.EnableTransactionManagement
+import java.util.Collections
+import java.util.function.Supplier
+
+/**
+ * OAuth 서비스 트랜잭션 테스트 (H2 인메모리 DB)
+ *
+ * `@Transactional` 서비스 메서드 안에서 리포지토리를 여러 번 호출해도
+ * 커넥션을 한 번만 빌리고 한 번만 커밋하는지 [CountingDataSource]로 확인하고,
+ * 연결/해제의 쓰기 작업이 각각 SQL 한 문장으로 처리되는지 실행된 SQL로 확인합니다.
+ */
+class OAuthTransactionTest : DescribeSpec({
+
+    val dataSource = CountingDataSource(
+        DriverManagerDataSource("jdbc:h2:mem:oauth-transaction;MODE=MySQL;DB_CLOSE_DELAY=-1")
+    )
+
+    val context = AnnotationConfigApplicationContext().apply {
+        registerBean("dataSource", CountingDataSource::class.java, Supplier { dataSource })
+        register(OAuthTransactionTestConfig::class.java)
+        refresh()
+    }
+    val oauthService = context.getBean(OAuthService::class.java)
+
+    // 운영과 같이 트랜잭션 매니저가 만든 Database 하나만 사용
+    val database = DataSourceConfig.databaseOf(context.getBean(SpringTransactionManager::class.java))
+
+    var userId = 0L
+    var otherUserId = 0L
+
+    fun linkedProviders(owner: Long = userId): List<String> = transaction(database) {
+        UserOAuths.select { UserOAuths.userId eq owner }.map { it[UserOAuths.provider] }
+    }
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+        transaction(database) {
+            SchemaUtils.create(Users, UserOAuths)
+            userId = Users.insertAndGetId {
+                it[email] = "tx@example.com"
+                it[password] = "encoded"
+                it[nickname] = "tx"
+                it[role] = Role.USER
+            }.value
+            otherUserId = Users.insertAndGetId {
+                it[email] = "other@example.com"
+                it[password] = "encoded"
+                it[nickname] = "other"
+                it[role] = Role.USER
+            }.value
+        }
+    }
+
+    afterSpec {
+        context.close()
+        transaction(database) { SchemaUtils.drop(UserOAuths, Users) }
+    }
+
+    beforeEach {
+        dataSource.reset()
+        executedStatements.clear()
+    }
+
+    describe("linkOAuthAccount 메서드는") {
+        it("중복 확인과 저장을 커넥션 하나, 커밋 한 번으로 처리해야 한다") {
+            oauthService.linkOAuthAccount(userId, OAuthDto.LinkRequest("kakao", "k-1"))
+
+            dataSource.checkouts.get() shouldBe 1
+            dataSource.commits.get() shouldBe 1
+            linkedProviders() shouldBe listOf("kakao")
+        }
+
+        it("중복 확인은 COUNT 없이 LIMIT 1로 조회하고 저장은 INSERT 한 번으로 처리해야 한다") {
+            oauthService.linkOAuthAccount(userId, OAuthDto.LinkRequest("google", "g-1"))
+
+            executedStatements shouldHaveSize 2
+            executedStatements[0] shouldStartWith "SELECT 1 FROM"
+            executedStatements[0] shouldContain "LIMIT 1"
+            executedStatements[0] shouldNotContain "COUNT"
+            executedStatements[1] shouldStartWith "INSERT INTO"
+        }
+
+        it("같은 provider가 이미 연결되어 있으면 저장하지 않고 커넥션 하나로 끝나야 한다") {
+            shouldThrow<CustomException> {
+                oauthService.linkOAuthAccount(userId, OAuthDto.LinkRequest("kakao", "k-2"))
+            }
+
+            dataSource.checkouts.get() shouldBe 1
+            executedStatements.none { it.startsWith("INSERT") } shouldBe true
+            linkedProviders() shouldContainExactlyInAnyOrder listOf("kakao", "google")
+        }
+
+        it("다른 계정에 연결된 OAuth 계정이면 고유 인덱스가 INSERT를 막아야 한다") {
+            val exception = shouldThrow<CustomException> {
+                oauthService.linkOAuthAccount(otherUserId, OAuthDto.LinkRequest("kakao", "k-1"))
+            }
+
+            exception.message shouldBe "이미 다른 계정에 연결된 OAuth 계정입니다."
+            dataSource.checkouts.get() shouldBe 1
+            linkedProviders(otherUserId) shouldBe emptyList()
+            linkedProviders() shouldContainExactlyInAnyOrder listOf("kakao", "google")
+        }
+    }
+
+    describe("unlinkOAuthAccount 메서드는") {
+        it("조건부 DELETE 한 번을 커넥션 하나, 커밋 한 번으로 처리해야 한다") {
+            oauthService.unlinkOAuthAccount(userId, OAuthDto.UnlinkRequest("kakao"))
+
+            dataSource.checkouts.get() shouldBe 1
+            dataSource.commits.get() shouldBe 1
+            executedStatements shouldHaveSize 1
+            executedStatements.single() shouldStartWith "DELETE FROM"
+            linkedProviders() shouldBe listOf("google")
+        }
+
+        it("연결된 계정이 없으면 삭제된 행 수로 판단해 예외를 던져야 한다") {
+            shouldThrow<CustomException> {
+                oauthService.unlinkOAuthAccount(userId, OAuthDto.UnlinkRequest("kakao"))
+            }
+
+            executedStatements shouldHaveSize 1
+            executedStatements.single() shouldStartWith "DELETE FROM"
+            linkedProviders() shouldBe listOf("google")
+        }
+    }
+})
+
+/** 서비스 트랜잭션 안에서 실행된 SQL */
+private val executedStatements: MutableList<String> = Collections.synchronizedList(ArrayList())
+
+/**
+ * 운영과 같은 방식(@EnableTransactionManagement + SpringTransactionManager)으로 OAuthService 프록시를 만드는 설정
+ */
+@Configuration
+@EnableTransactionManagement
+class OAuthTransactionTestConfig {
+
+    @Bean
+    fun transactionManager(dataSource: CountingDataSource) = SpringTransactionManager(
+        dataSource,
+        DatabaseConfig {
+            sqlLogger = object : SqlLogger {
+                override fun log(context: StatementContext, transaction: Transaction) {
+                    executedStatements += context.sql(transaction)
+                }
+            }
+        }
+    )
+
+    @Bean
+    fun oauthService() = OAuthService(
+        oauthRepository = OAuthRepositoryImpl(),
+        oauthMapper = OAuthMapper(),
+        jwtProvider = mockk<JwtProvider>(),
+        refreshTokenStore = mockk<RefreshTokenStore>(),
+        tempCodeIssuer = mockk<TempCodeIssuer>()
+    )
+}
@@ -0,0 +1,108 @@
+package blog.vans_story_be.domain.oauth.store
+
+import blog.vans_story_be.config.database.DataSourceConfig
+import blog.vans_story_be.config.database.DatabaseProperties
+import blog.vans_story_be.domain.oauth.entity.OAuthTempCodes
+import blog.vans_story_be.global.exception.CustomException
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.insert
+import org.jetbrains.exposed.sql.selectAll
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * DB 임시 코드 저장소 테스트 (H2 인메모리 DB)
+ *
+ * 두 인스턴스가 같은 테이블을 공유할 때 한 인스턴스에서 보관한 코드를 다른 인스턴스에서 한 번만 꺼낼 수 있는지,
+ * 꺼낸 뒤 호출한 쪽 트랜잭션이 롤백되어도 코드가 되살아나지 않는지 확인합니다.
+ */
+class DatabaseTempCodeStoreTest : DescribeSpec({
+
+    val dataSource = DriverManagerDataSource("jdbc:h2:mem:oauth-temp-codes;MODE=MySQL;DB_CLOSE_DELAY=-1")
+    val config = DataSourceConfig(DatabaseProperties().apply { migrateOnStartup = false })
+    val transactionManager = config.transactionManager(dataSource, showSql = false)
+    val database = config.database(dataSource, transactionManager)
+
+    val grant = TempCodeGrant("google", "g-1")
+    val loginNode = DatabaseTempCodeStore(transactionManager)
+    val exchangeNode = DatabaseTempCodeStore(transactionManager)
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+        transaction(database) { SchemaUtils.create(OAuthTempCodes) }
+    }
+
+    afterSpec {
+        transaction(database) { SchemaUtils.drop(OAuthTempCodes) }
+    }
+
+    describe("take 메서드는") {
+        it("다른 인스턴스에서 보관한 코드를 한 번만 꺼내야 한다") {
+            loginNode.save("shared", grant, 300L)
+
+            exchangeNode.take("shared") shouldBe grant
+            loginNode.take("shared").shouldBeNull()
+        }
+
+        it("여러 스레드가 같은 코드를 동시에 꺼내도 한 번만 성공해야 한다") {
+            loginNode.save("contended", grant, 300L)
+            val threads = 8
+            val executor = Executors.newFixedThreadPool(threads)
+            val start = CountDownLatch(1)
+            try {
+                val futures = (0 until threads).map { i ->
+                    executor.submit(Callable {
+                        start.await()
+                        (if (i % 2 == 0) loginNode else exchangeNode).take("contended")
+                    })
+                }
+                start.countDown()
+
+                futures.mapNotNull { it.get(10, TimeUnit.SECONDS) }.size shouldBe 1
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+
+        it("꺼낸 뒤 호출한 쪽 트랜잭션이 롤백되어도 코드를 다시 꺼낼 수 없어야 한다") {
+            loginNode.save("rolled-back", grant, 300L)
+
+            // OAuthService.exchangeCodeForToken처럼 코드를 꺼낸 뒤 사용자 조회가 실패하는 경우
+            shouldThrow<CustomException> {
+                TransactionTemplate(transactionManager).execute {
+                    exchangeNode.take("rolled-back") shouldBe grant
+                    throw CustomException("연동되지 않은 OAuth 계정입니다.")
+                }
+            }
+
+            exchangeNode.take("rolled-back").shouldBeNull()
+        }
+
+        it("만료된 코드는 꺼내지 않고 sweep에서 삭제해야 한다") {
+            transaction(database) {
+                OAuthTempCodes.insert {
+                    it[codeId] = "expired"
+                    it[provider] = grant.provider
+                    it[providerId] = grant.providerId
+                    it[expiresAt] = LocalDateTime.now().minusSeconds(1)
+                }
+            }
+
+            exchangeNode.take("expired").shouldBeNull()
+
+            exchangeNode.sweep()
+            transaction(database) { OAuthTempCodes.selectAll().count() } shouldBe 0L
+        }
+    }
+})
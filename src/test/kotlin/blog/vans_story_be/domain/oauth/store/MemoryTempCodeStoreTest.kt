@@ -0,0 +1,97 @@
+package blog.vans_story_be.domain.oauth.store
+
+import blog.vans_story_be.global.exception.CustomException
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 메모리 임시 코드 저장소 테스트
+ *
+ * 코드가 한 번만 교환되고, 만료 시각(System.nanoTime 기준)이 지나면 교환과 보관에서 모두 제외되며,
+ * 보관 수 상한을 넘으면 발급을 거절하는지 확인합니다.
+ */
+class MemoryTempCodeStoreTest : DescribeSpec({
+
+    val grant = TempCodeGrant("google", "g-1")
+    val ttlSeconds = 300L
+    val ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds)
+
+    fun store(maxCodes: Int = 100) = MemoryTempCodeStore(
+        TempCodeProperties().apply { this.maxCodes = maxCodes },
+        SimpleMeterRegistry()
+    )
+
+    describe("take 메서드는") {
+        it("보관한 코드를 한 번만 꺼내야 한다") {
+            val store = store()
+            store.save("id", grant, ttlSeconds)
+
+            store.take("id") shouldBe grant
+            store.take("id").shouldBeNull()
+        }
+
+        it("여러 스레드가 같은 코드를 동시에 꺼내도 한 번만 성공해야 한다") {
+            val store = store()
+            store.save("id", grant, ttlSeconds)
+            val threads = 16
+            val executor = Executors.newFixedThreadPool(threads)
+            val start = CountDownLatch(1)
+            try {
+                val futures = (0 until threads).map {
+                    executor.submit(Callable {
+                        start.await()
+                        store.take("id")
+                    })
+                }
+                start.countDown()
+
+                futures.mapNotNull { it.get(10, TimeUnit.SECONDS) }.size shouldBe 1
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+
+        it("만료된 코드는 꺼내지 않아야 한다") {
+            val store = store()
+            val now = System.nanoTime()
+            store.save("id", grant, ttlSeconds, now)
+
+            store.take("id", now + ttlNanos).shouldBeNull()
+        }
+    }
+
+    describe("expire 메서드는") {
+        it("만료 시각이 지난 코드만 정리해야 한다") {
+            val store = store()
+            val now = System.nanoTime()
+            store.save("expired", grant, ttlSeconds, now)
+            store.save("alive", grant, ttlSeconds, now + ttlNanos / 2)
+
+            store.expire(now + ttlNanos) shouldBe 1
+
+            store.take("expired", now).shouldBeNull()
+            store.take("alive", now + ttlNanos) shouldBe grant
+        }
+    }
+
+    describe("save 메서드는") {
+        it("보관 수 상한에 도달하면 거절하고, 만료된 코드가 있으면 정리 후 보관해야 한다") {
+            val store = store(maxCodes = 2)
+            val now = System.nanoTime()
+            store.save("first", grant, ttlSeconds, now)
+            store.save("second", grant, ttlSeconds, now)
+
+            shouldThrow<CustomException> { store.save("third", grant, ttlSeconds, now) }
+
+            store.save("third", grant, ttlSeconds, now + ttlNanos)
+            store.take("third", now + ttlNanos) shouldBe grant
+        }
+    }
+})
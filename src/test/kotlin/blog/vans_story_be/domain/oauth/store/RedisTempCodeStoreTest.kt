@@ -0,0 +1,73 @@
+package blog.vans_story_be.domain.oauth.store
+
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.lettuce.core.ClientOptions
+import io.lettuce.core.RedisClient
+import io.lettuce.core.RedisURI
+import io.lettuce.core.protocol.ProtocolVersion
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Redis 임시 코드 저장소 테스트 (테스트용 RESP 서버 [RespStandInServer])
+ *
+ * 두 인스턴스가 같은 Redis를 공유할 때 한 인스턴스에서 보관한 코드를 다른 인스턴스에서 한 번만 꺼낼 수 있고,
+ * 보관과 교환이 각각 명령 하나(SET EX, GETDEL)로 처리되는지 확인합니다.
+ */
+class RedisTempCodeStoreTest : DescribeSpec({
+
+    val server = RespStandInServer()
+    val client = RedisClient.create(RedisURI.create("localhost", server.port)).apply {
+        options = ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build()
+    }
+    val objectMapper = jacksonObjectMapper()
+    val loginNode = RedisTempCodeStore(client.connect(), objectMapper)
+    val exchangeNode = RedisTempCodeStore(client.connect(), objectMapper)
+
+    val grant = TempCodeGrant("google", "g-1")
+
+    afterSpec {
+        loginNode.close()
+        exchangeNode.close()
+        client.shutdown()
+        server.close()
+    }
+
+    describe("take 메서드는") {
+        it("다른 인스턴스에서 보관한 코드를 한 번만 꺼내야 한다") {
+            server.commands.clear()
+
+            loginNode.save("shared", grant, 300L)
+            exchangeNode.take("shared") shouldBe grant
+            loginNode.take("shared").shouldBeNull()
+
+            server.commands.toList() shouldContainExactly listOf("SET", "GETDEL", "GETDEL")
+        }
+
+        it("여러 스레드가 같은 코드를 동시에 꺼내도 한 번만 성공해야 한다") {
+            loginNode.save("contended", grant, 300L)
+            val threads = 16
+            val executor = Executors.newFixedThreadPool(threads)
+            val start = CountDownLatch(1)
+            try {
+                val futures = (0 until threads).map { i ->
+                    executor.submit(Callable {
+                        start.await()
+                        (if (i % 2 == 0) loginNode else exchangeNode).take("contended")
+                    })
+                }
+                start.countDown()
+
+                futures.mapNotNull { it.get(10, TimeUnit.SECONDS) }.size shouldBe 1
+            } finally {
+                executor.shutdownNow()
+            }
+        }
+    }
+})
@@ -0,0 +1,112 @@
+package blog.vans_story_be.domain.oauth.store
+
+import java.io.BufferedInputStream
+import java.io.InputStream
+import java.net.InetAddress
+import java.net.ServerSocket
+import java.net.Socket
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+/**
+ * 테스트용 Redis 프로토콜(RESP2) 서버입니다.
+ *
+ * [RedisTempCodeStore]가 사용하는 명령(SET EX, GETDEL)과 클라이언트 접속 시 보내는 명령만 처리하며,
+ * 받은 명령 이름을 [commands]에 기록합니다. 외부 Redis 없이 실제 Lettuce 클라이언트로 저장소를 검증할 때 사용합니다.
+ */
+class RespStandInServer : AutoCloseable {
+
+    private class Value(val data: String, val deadlineNanos: Long?)
+
+    private val server = ServerSocket(0, 50, InetAddress.getLoopbackAddress())
+    private val values = ConcurrentHashMap<String, Value>()
+    private val clients = ConcurrentLinkedQueue<Socket>()
+
+    /** 받은 명령 이름 (대문자) */
+    val commands = ConcurrentLinkedQueue<String>()
+
+    val port: Int
+        get() = server.localPort
+
+    init {
+        thread(isDaemon = true, name = "resp-stand-in") {
+            while (!server.isClosed) {
+                val socket = runCatching { server.accept() }.getOrNull() ?: break
+                clients += socket
+                thread(isDaemon = true) { serve(socket) }
+            }
+        }
+    }
+
+    private fun serve(socket: Socket) = runCatching {
+        val input = BufferedInputStream(socket.getInputStream())
+        val output = socket.getOutputStream()
+        while (true) {
+            val command = readCommand(input) ?: break
+            commands += command[0].uppercase()
+            output.write(execute(command).toByteArray(Charsets.UTF_8))
+            output.flush()
+        }
+    }
+
+    private fun execute(command: List<String>): String {
+        val args = command.drop(1)
+        return when (command[0].uppercase()) {
+            // RESP3 협상을 거절하면 클라이언트가 RESP2로 접속
+            "HELLO" -> "-ERR unknown command 'HELLO'\r\n"
+            "PING" -> "+PONG\r\n"
+            "SET" -> {
+                val ex = args.indexOfFirst { it.equals("EX", ignoreCase = true) }
+                val deadline = if (ex >= 0) System.nanoTime() + TimeUnit.SECONDS.toNanos(args[ex + 1].toLong()) else null
+                values[args[0]] = Value(args[1], deadline)
+                "+OK\r\n"
+            }
+            "GET" -> bulk(values[args[0]]?.takeIf(::alive)?.data)
+            "GETDEL" -> bulk(values.remove(args[0])?.takeIf(::alive)?.data)
+            else -> "+OK\r\n"
+        }
+    }
+
+    private fun alive(value: Value): Boolean =
+        value.deadlineNanos == null || value.deadlineNanos - System.nanoTime() > 0
+
+    private fun bulk(data: String?): String {
+        if (data == null) return "$-1\r\n"
+        val bytes = data.toByteArray(Charsets.UTF_8)
+        return "$${bytes.size}\r\n$data\r\n"
+    }
+
+    /**
+     * 배열로 전송된 명령 하나를 읽습니다. (*N\r\n $len\r\n arg\r\n ...)
+     */
+    private fun readCommand(input: InputStream): List<String>? {
+        val header = readLine(input) ?: return null
+        require(header.startsWith("*")) { "지원하지 않는 요청: $header" }
+        return (0 until header.substring(1).toInt()).map {
+            val length = readLine(input)!!.substring(1).toInt()
+            val bytes = input.readNBytes(length)
+            input.readNBytes(2)
+            String(bytes, Charsets.UTF_8)
+        }
+    }
+
+    private fun readLine(input: InputStream): String? {
+        val line = StringBuilder()
+        while (true) {
+            val b = input.read()
+            if (b == -1) return null
+            if (b == '\r'.code) {
+                input.read()
+                return line.toString()
+            }
+            line.append(b.toChar())
+        }
+    }
+
+    override fun close() {
+        server.close()
+        clients.forEach { runCatching { it.close() } }
+    }
+}
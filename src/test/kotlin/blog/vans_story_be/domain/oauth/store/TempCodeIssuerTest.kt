@@ -0,0 +1,67 @@
+package blog.vans_story_be.domain.oauth.store
+
+import blog.vans_story_be.domain.auth.jwt.JwtProperties
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldStartWith
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.clearMocks
+import io.mockk.spyk
+import io.mockk.verify
+
+/**
+ * 서명된 OAuth 임시 코드 테스트
+ *
+ * 발급한 코드는 한 번만 교환되고, 서명이 맞지 않는 코드는 저장소를 조회하지 않고 거절되는지 확인합니다.
+ */
+class TempCodeIssuerTest : DescribeSpec({
+
+    val properties = TempCodeProperties()
+    val jwtProperties = JwtProperties().apply { secretKey = "test-jwt-secret-key-for-temp-code-issuer" }
+    val store = spyk(MemoryTempCodeStore(properties, SimpleMeterRegistry()))
+    val issuer = TempCodeIssuer(store, properties, jwtProperties)
+
+    val grant = TempCodeGrant("google", "g-1")
+
+    beforeEach { clearMocks(store, answers = false) }
+
+    describe("redeem 메서드는") {
+        it("발급한 코드를 한 번만 교환해야 한다") {
+            val code = issuer.issue(grant)
+
+            code shouldStartWith "oauth_temp_"
+            issuer.redeem(code) shouldBe grant
+            issuer.redeem(code).shouldBeNull()
+        }
+
+        it("서명이 맞지 않는 코드는 저장소를 조회하지 않고 거절해야 한다") {
+            val code = issuer.issue(grant)
+            val id = code.removePrefix("oauth_temp_").substringBefore('.')
+            val forged = listOf(
+                "oauth_temp_${id}.AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA",
+                "oauth_temp_$id",
+                "oauth_temp_${id}.!!!",
+                code.dropLast(1),
+                "oauth_temp_" + "x".repeat(32)
+            )
+
+            forged.forEach { issuer.redeem(it).shouldBeNull() }
+
+            verify(exactly = 0) { store.take(any()) }
+            issuer.redeem(code) shouldBe grant
+        }
+
+        it("서명 키가 다른 인스턴스에서 발급한 코드는 거절해야 한다") {
+            val otherIssuer = TempCodeIssuer(
+                store,
+                TempCodeProperties().apply { secret = "other-secret" },
+                jwtProperties
+            )
+            val code = otherIssuer.issue(grant)
+
+            issuer.redeem(code).shouldBeNull()
+            verify(exactly = 0) { store.take(any()) }
+        }
+    }
+})
@@ -0,0 +1,121 @@
+package blog.vans_story_be.domain.user.cache
+
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.mapper.UserMapper
+import blog.vans_story_be.domain.user.repository.UserRepositoryImpl
+import blog.vans_story_be.domain.user.service.UserService
+import blog.vans_story_be.global.exception.CustomException
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.ints.shouldBeLessThan
+import io.kotest.matchers.shouldBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.mockk
+import org.jetbrains.exposed.sql.*
+import org.jetbrains.exposed.sql.statements.StatementContext
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.security.crypto.password.PasswordEncoder
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.random.Random
+
+/**
+ * 사용자 조회 캐시 부하 테스트 (H2 인메모리 DB)
+ *
+ * 실제 Repository와 UserService로 소수의 인기 사용자에 몰리는 닉네임/프로필 조회와
+ * 존재하지 않는 이메일 조회를 여러 스레드에서 실행하고, 캐시 사용 여부에 따라 실행된 SELECT 수를 비교합니다.
+ */
+class UserLookupCacheLoadTest : DescribeSpec({
+
+    val userCount = 200
+    val threads = 8
+    val requestsPerThread = 2_000
+
+    val selectCount = AtomicInteger()
+    val database = Database.connect(
+        url = "jdbc:h2:mem:user-cache-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver",
+        databaseConfig = DatabaseConfig {
+            sqlLogger = object : SqlLogger {
+                override fun log(context: StatementContext, transaction: Transaction) {
+                    if (context.sql(transaction).startsWith("SELECT")) selectCount.incrementAndGet()
+                }
+            }
+        }
+    )
+
+    fun userService(enabled: Boolean) = UserService(
+        userRepository = UserRepositoryImpl(),
+        userMapper = UserMapper(),
+        passwordEncoder = mockk<PasswordEncoder>(),
+        tokenRevocationList = mockk<TokenRevocationList>(relaxed = true),
+        userLookupCache = UserLookupCache(
+            UserCacheProperties().apply { this.enabled = enabled },
+            SimpleMeterRegistry()
+        )
+    )
+
+    /**
+     * 인기 사용자 10명에게 요청의 90%가 몰리고, 5%는 존재하지 않는 이메일인 조회 부하를 실행합니다.
+     *
+     * @return 실행된 SELECT 수
+     */
+    fun runLoad(service: UserService): Int {
+        selectCount.set(0)
+        val executor = Executors.newFixedThreadPool(threads)
+        try {
+            (0 until threads).map { seed ->
+                Callable {
+                    val random = Random(seed)
+                    repeat(requestsPerThread) {
+                        val roll = random.nextInt(100)
+                        val id = if (roll < 90) random.nextInt(1, 11) else random.nextInt(1, userCount + 1)
+                        when {
+                            roll >= 95 -> shouldThrow<CustomException> {
+                                service.getNicknameByEmail("unknown${random.nextInt(20)}@vans-story.com")
+                            }
+                            roll % 2 == 0 -> service.getNicknameByEmail("user$id@vans-story.com") shouldBe "user$id"
+                            else -> service.getUserById(id.toLong()).id shouldBe id.toLong()
+                        }
+                    }
+                }
+            }.let(executor::invokeAll).forEach { it.get() }
+        } finally {
+            executor.shutdown()
+            executor.awaitTermination(10, TimeUnit.SECONDS)
+        }
+        return selectCount.get()
+    }
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+        transaction(database) {
+            SchemaUtils.drop(Users)
+            SchemaUtils.create(Users)
+            Users.batchInsert(1..userCount, shouldReturnGeneratedValues = false) { i ->
+                this[Users.email] = "user$i@vans-story.com"
+                this[Users.password] = "encoded"
+                this[Users.nickname] = "user$i"
+                this[Users.role] = Role.USER
+            }
+        }
+    }
+
+    describe("프로필/닉네임 조회 부하에서") {
+        it("캐시를 사용하면 DB 조회 수가 사용자 수 수준으로 줄어야 한다") {
+            val uncached = runLoad(userService(enabled = false))
+            val cached = runLoad(userService(enabled = true))
+
+            println("SELECT 수 - 캐시 미사용: $uncached, 캐시 사용: $cached")
+
+            uncached shouldBe threads * requestsPerThread
+            // 키마다 최대 한 번 (프로필 200 + 닉네임 200 + 없는 이메일 20)
+            cached shouldBeLessThan userCount * 2 + 20 + 1
+        }
+    }
+})
@@ -0,0 +1,146 @@
+package blog.vans_story_be.domain.user.reaper
+
+import blog.vans_story_be.domain.oauth.entity.UserOAuths
+import blog.vans_story_be.domain.oauth.repository.OAuthRepositoryImpl
+import blog.vans_story_be.domain.oauth.repository.UserOAuthPurger
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.repository.UserRepositoryImpl
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import org.jetbrains.exposed.dao.id.EntityID
+import org.jetbrains.exposed.sql.*
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import java.time.LocalDateTime
+
+/**
+ * 삭제 요청 사용자 정리 테스트 (H2 인메모리 DB)
+ *
+ * 삭제 요청된 사용자가 조회에서 바로 제외되고, UserReaper가 참조 행을 chunkSize 이하로 나누어 지운 뒤
+ * 사용자 행을 삭제하는지 확인합니다.
+ */
+class UserReaperTest : DescribeSpec({
+
+    val database = Database.connect(
+        url = "jdbc:h2:mem:user-reaper;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver"
+    )
+
+    val userRepository = UserRepositoryImpl()
+    val oauthRepository = OAuthRepositoryImpl()
+    val properties = UserReaperProperties().apply {
+        batchSize = 1
+        chunkSize = 2
+    }
+
+    // 한 번에 지운 행 수를 기록하는 OAuth 정리 작업
+    val deletedPerChunk = ArrayList<Int>()
+    val recordingPurger = object : UserDependentPurger {
+        private val delegate = UserOAuthPurger()
+        override val name = delegate.name
+        override fun purge(userIds: List<Long>, limit: Int): Int =
+            delegate.purge(userIds, limit).also { deletedPerChunk += it }
+    }
+    val userReaper = UserReaper(userRepository, listOf(recordingPurger), properties)
+
+    fun createUser(name: String, oauthCount: Int): Long = transaction(database) {
+        val id = Users.insertAndGetId {
+            it[email] = "$name@example.com"
+            it[password] = "encoded"
+            it[nickname] = name
+            it[role] = Role.USER
+        }
+        repeat(oauthCount) { i ->
+            UserOAuths.insert {
+                it[userId] = id
+                it[provider] = "provider$i"
+                it[providerId] = "$name-$i"
+            }
+        }
+        id.value
+    }
+
+    fun oauthOwners(): List<Long> = transaction(database) {
+        UserOAuths.selectAll().map { it[UserOAuths.userId].value }
+    }
+
+    fun userIds(): List<Long> = transaction(database) {
+        Users.selectAll().map { it[Users.id].value }
+    }
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+    }
+
+    beforeEach {
+        properties.retentionSeconds = 0
+        deletedPerChunk.clear()
+        transaction(database) {
+            SchemaUtils.drop(UserOAuths, Users)
+            SchemaUtils.create(Users, UserOAuths)
+        }
+    }
+
+    describe("삭제 요청은") {
+        it("행을 지우지 않고 조회와 OAuth 로그인 대상에서 바로 제외해야 한다") {
+            val userId = createUser("deleted", oauthCount = 1)
+
+            transaction(database) { userRepository.softDelete(userId, LocalDateTime.now()) } shouldBe 1
+
+            transaction(database) {
+                userRepository.findSummaryById(userId) shouldBe null
+                userRepository.findCredentialsByEmail("deleted@example.com") shouldBe null
+                // 고유 인덱스와 같은 기준이므로 중복 확인에는 남아 있음
+                userRepository.existsByEmail("deleted@example.com") shouldBe true
+            }
+            oauthRepository.findLoginUserByProviderAndProviderId("provider0", "deleted-0") shouldBe null
+            userIds() shouldBe listOf(userId)
+
+            // 두 번째 요청은 변경 없음
+            transaction(database) { userRepository.softDelete(userId, LocalDateTime.now()) } shouldBe 0
+        }
+    }
+
+    describe("UserReaper는") {
+        it("참조 행을 chunkSize 이하로 나누어 지운 뒤 사용자 행을 삭제해야 한다") {
+            val active = createUser("active", oauthCount = 2)
+            val many = createUser("many", oauthCount = 5)
+            val none = createUser("none", oauthCount = 0)
+            transaction(database) {
+                userRepository.softDelete(many, LocalDateTime.now().minusSeconds(1))
+                userRepository.softDelete(none, LocalDateTime.now().minusSeconds(1))
+            }
+
+            userReaper.purgeDeletedUsers() shouldBe 2
+
+            userIds() shouldBe listOf(active)
+            oauthOwners() shouldContainExactlyInAnyOrder listOf(active, active)
+            // 5건을 2, 2, 1로 나누어 삭제하고, 참조 행이 없는 사용자는 한 번만 확인
+            deletedPerChunk shouldBe listOf(2, 2, 1, 0)
+        }
+
+        it("보관 시간이 지나지 않은 사용자는 정리하지 않아야 한다") {
+            val userId = createUser("recent", oauthCount = 1)
+            transaction(database) { userRepository.softDelete(userId, LocalDateTime.now()) }
+            properties.retentionSeconds = 3600
+
+            userReaper.purgeDeletedUsers() shouldBe 0
+
+            userIds() shouldBe listOf(userId)
+            oauthOwners() shouldBe listOf(userId)
+        }
+
+        it("활성 사용자는 정리하지 않아야 한다") {
+            val userId = createUser("alive", oauthCount = 1)
+
+            userReaper.purgeDeletedUsers() shouldBe 0
+
+            transaction(database) {
+                Users.select { Users.id eq EntityID(userId, Users) }.count() shouldBe 1L
+            }
+            oauthOwners() shouldBe listOf(userId)
+        }
+    }
+})
@@ -0,0 +1,205 @@
+package blog.vans_story_be.domain.user.service
+
+import blog.vans_story_be.config.security.CalibratedPasswordEncoder
+import blog.vans_story_be.config.security.PasswordHashingExecutor
+import blog.vans_story_be.config.security.PasswordHashingProperties
+import blog.vans_story_be.domain.user.cache.UserCacheProperties
+import blog.vans_story_be.domain.user.cache.UserLookupCache
+import blog.vans_story_be.domain.user.dto.UserDto.ImportStatus
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.importer.UserImportFormat
+import blog.vans_story_be.domain.user.importer.UserImportParser
+import blog.vans_story_be.domain.user.importer.UserImportProperties
+import blog.vans_story_be.domain.user.repository.UserRepositoryImpl
+import blog.vans_story_be.global.exception.CustomException
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldStartWith
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.mockk
+import io.mockk.verify
+import jakarta.validation.Validation
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.insert
+import org.jetbrains.exposed.sql.select
+import org.jetbrains.exposed.sql.selectAll
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+
+class UserImportServiceTest : DescribeSpec({
+
+    val database = Database.connect(
+        url = "jdbc:h2:mem:user-import;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver"
+    )
+    val passwordEncoder = BCryptPasswordEncoder(4)
+    val existingHash = passwordEncoder.encode("Legacy123!")
+
+    val userImportService = UserImportService(
+        userRepository = UserRepositoryImpl(),
+        passwordEncoder = passwordEncoder,
+        userLookupCache = UserLookupCache(UserCacheProperties(), SimpleMeterRegistry()),
+        parser = UserImportParser(jacksonObjectMapper()),
+        validator = Validation.buildDefaultValidatorFactory().validator,
+        properties = UserImportProperties().apply { batchSize = 3 }
+    )
+
+    fun import(format: UserImportFormat, body: String) =
+        userImportService.importUsers(format, body.byteInputStream())
+
+    fun countUsers(): Long = transaction(database) { Users.selectAll().count() }
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+    }
+
+    beforeEach {
+        transaction(database) {
+            SchemaUtils.drop(Users)
+            SchemaUtils.create(Users)
+            Users.insert {
+                it[email] = "existing@example.com"
+                it[password] = existingHash
+                it[nickname] = "기존사용자"
+                it[role] = Role.USER
+            }
+        }
+    }
+
+    afterSpec {
+        userImportService.shutdown()
+    }
+
+    describe("CSV 가져오기는") {
+        it("행마다 저장, 중복, 검증 오류를 구분하여 보고해야 한다") {
+            val report = import(
+                UserImportFormat.CSV,
+                """
+                email,nickname,password,password_hash
+                new1@example.com,새사용자1,Password1!,
+                new2@example.com,"새사용자,2",,$existingHash
+                existing@example.com,중복이메일,Password1!,
+                NEW1@example.com,대소문자중복,Password1!,
+                new3@example.com,기존사용자,Password1!,
+                not-an-email,잘못된이메일,Password1!,
+                new4@example.com,해시없음,,
+                new5@example.com,열부족
+                """.trimIndent()
+            )
+
+            report.results.map { it.line to it.status } shouldBe listOf(
+                2 to ImportStatus.CREATED,
+                3 to ImportStatus.CREATED,
+                4 to ImportStatus.DUPLICATE,
+                5 to ImportStatus.DUPLICATE,
+                6 to ImportStatus.DUPLICATE,
+                7 to ImportStatus.INVALID,
+                8 to ImportStatus.INVALID,
+                9 to ImportStatus.INVALID
+            )
+            report.total shouldBe 8
+            report.created shouldBe 2
+            report.failed shouldBe 6
+            countUsers() shouldBe 3L
+        }
+
+        it("평문 비밀번호는 해싱하고, 주어진 해시는 그대로 저장해야 한다") {
+            import(
+                UserImportFormat.CSV,
+                """
+                email,nickname,password,password_hash
+                plain@example.com,평문,Password1!,
+                hashed@example.com,해시,,$existingHash
+                """.trimIndent()
+            )
+
+            transaction(database) {
+                val plain = Users.select { Users.email eq "plain@example.com" }.single()[Users.password]
+                passwordEncoder.matches("Password1!", plain) shouldBe true
+                Users.select { Users.email eq "hashed@example.com" }.single()[Users.password] shouldBe existingHash
+            }
+        }
+
+        it("필수 열이 없으면 아무것도 저장하지 않고 CustomException을 던져야 한다") {
+            shouldThrow<CustomException> {
+                import(UserImportFormat.CSV, "email,password\nx@example.com,Password1!")
+            }
+            countUsers() shouldBe 1L
+        }
+    }
+
+    describe("NDJSON 가져오기는") {
+        it("형식이 잘못된 줄만 INVALID로 보고하고 나머지는 저장해야 한다") {
+            val report = import(
+                UserImportFormat.NDJSON,
+                """
+                {"email":"a@example.com","nickname":"에이","password":"Password1!"}
+                {"email":"b@example.com",
+                {"email":"c@example.com","nickname":"씨씨","passwordHash":"$existingHash"}
+                """.trimIndent()
+            )
+
+            report.results.map { it.status } shouldBe listOf(
+                ImportStatus.CREATED,
+                ImportStatus.INVALID,
+                ImportStatus.CREATED
+            )
+            countUsers() shouldBe 3L
+        }
+
+        it("수천 건의 해시된 사용자를 묶음 단위로 저장해야 한다") {
+            val rows = 5_000
+            val body = (1..rows).joinToString("\n") { i ->
+                """{"email":"bulk$i@example.com","nickname":"bulk$i","passwordHash":"$existingHash"}"""
+            }
+
+            val startedAt = System.nanoTime()
+            val report = import(UserImportFormat.NDJSON, body)
+            val elapsedMs = (System.nanoTime() - startedAt) / 1_000_000
+
+            println("사용자 일괄 가져오기: ${rows}건, ${elapsedMs}ms")
+            report.created shouldBe rows
+            countUsers() shouldBe rows + 1L
+        }
+    }
+
+    describe("평문 비밀번호 해싱은") {
+        it("로그인 해싱 실행기를 거치지 않고 보정된 cost로 해싱해야 한다") {
+            val loginExecutor = mockk<PasswordHashingExecutor>()
+            val calibrated = CalibratedPasswordEncoder(
+                PasswordHashingProperties().apply { fixedCost = 4 },
+                loginExecutor,
+                SimpleMeterRegistry()
+            )
+            val service = UserImportService(
+                userRepository = UserRepositoryImpl(),
+                passwordEncoder = calibrated,
+                userLookupCache = UserLookupCache(UserCacheProperties(), SimpleMeterRegistry()),
+                parser = UserImportParser(jacksonObjectMapper()),
+                validator = Validation.buildDefaultValidatorFactory().validator,
+                properties = UserImportProperties().apply { batchSize = 2; hashThreads = 1; hashQueueCapacity = 1 }
+            )
+
+            try {
+                val body = (1..5).joinToString("\n") { i ->
+                    """{"email":"lane$i@example.com","nickname":"lane$i","password":"Password1!"}"""
+                }
+                service.importUsers(UserImportFormat.NDJSON, body.byteInputStream()).created shouldBe 5
+            } finally {
+                service.shutdown()
+            }
+
+            verify(exactly = 0) { loginExecutor.execute<Any>(any(), any(), any()) }
+            transaction(database) {
+                val hash = Users.select { Users.email eq "lane1@example.com" }.single()[Users.password]
+                hash shouldStartWith "\$2a\$04\$"
+                passwordEncoder.matches("Password1!", hash) shouldBe true
+            }
+        }
+    }
+})
@@ -0,0 +1,177 @@
+package blog.vans_story_be.domain.user.service
+
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import blog.vans_story_be.domain.user.cache.UserCacheProperties
+import blog.vans_story_be.domain.user.cache.UserLookupCache
+import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.entity.Role
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.mapper.UserMapper
+import blog.vans_story_be.domain.user.repository.UserRepositoryImpl
+import blog.vans_story_be.global.exception.CustomException
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.clearMocks
+import io.mockk.mockk
+import io.mockk.verify
+import org.jetbrains.exposed.dao.id.EntityID
+import org.jetbrains.exposed.sql.*
+import org.jetbrains.exposed.sql.statements.StatementContext
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import java.time.LocalDateTime
+import java.util.Collections
+import java.util.Locale
+
+/**
+ * 사용자 정보 부분 수정 테스트 (H2 인메모리 DB)
+ *
+ * PATCH 요청이 요청에 포함된 컬럼과 updated_at만 SET 절에 넣는지 실행된 SQL로 확인하고,
+ * 나머지 컬럼의 값이 그대로인지 행을 다시 읽어 비교합니다.
+ */
+class UserPartialUpdateTest : DescribeSpec({
+
+    val statements = Collections.synchronizedList(ArrayList<String>())
+    val database = Database.connect(
+        url = "jdbc:h2:mem:user-partial-update;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver",
+        databaseConfig = DatabaseConfig {
+            sqlLogger = object : SqlLogger {
+                override fun log(context: StatementContext, transaction: Transaction) {
+                    statements += context.sql(transaction)
+                }
+            }
+        }
+    )
+
+    val passwordEncoder = BCryptPasswordEncoder(4)
+    val tokenRevocationList = mockk<TokenRevocationList>(relaxed = true)
+    val userLookupCache = UserLookupCache(UserCacheProperties(), SimpleMeterRegistry())
+    val userService = UserService(
+        userRepository = UserRepositoryImpl(),
+        userMapper = UserMapper(),
+        passwordEncoder = passwordEncoder,
+        tokenRevocationList = tokenRevocationList,
+        userLookupCache = userLookupCache
+    )
+
+    val createdAt = LocalDateTime.of(2025, 1, 1, 9, 0)
+    var userId = 0L
+
+    fun row(): ResultRow = transaction(database) { Users.select { Users.id eq EntityID(userId, Users) }.single() }
+
+    /**
+     * 실행된 UPDATE 문의 SET 절 컬럼 이름을 소문자로 반환합니다.
+     */
+    fun updatedColumns(): List<List<String>> =
+        statements.filter { it.startsWith("UPDATE", ignoreCase = true) }.map { sql ->
+            sql.substringAfter(" SET ").substringBefore(" WHERE ")
+                .split(",")
+                .map { it.substringBefore("=").trim().trim('"', '`').lowercase(Locale.ROOT) }
+        }
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+    }
+
+    beforeEach {
+        clearMocks(tokenRevocationList)
+        userLookupCache.invalidateAll()
+        userId = transaction(database) {
+            SchemaUtils.drop(Users)
+            SchemaUtils.create(Users)
+            Users.insertAndGetId {
+                it[email] = "before@example.com"
+                it[password] = passwordEncoder.encode("Before123!")
+                it[nickname] = "이전닉네임"
+                it[role] = Role.USER
+                it[Users.createdAt] = createdAt
+                it[updatedAt] = createdAt
+            }.value
+        }
+        statements.clear()
+    }
+
+    describe("부분 수정은") {
+        it("닉네임만 보내면 nickname과 updated_at만 변경해야 한다") {
+            val before = row()
+            statements.clear()
+
+            val response = userService.updateUser(userId, UserDto.UpdateRequest(nickname = "새닉네임"))
+
+            updatedColumns() shouldBe listOf(listOf("nickname", "updated_at"))
+            // UPDATE 한 번과 결과 조회 한 번
+            statements.size shouldBe 2
+
+            val after = row()
+            after[Users.nickname] shouldBe "새닉네임"
+            after[Users.email] shouldBe before[Users.email]
+            after[Users.password] shouldBe before[Users.password]
+            after[Users.role] shouldBe before[Users.role]
+            after[Users.createdAt] shouldBe createdAt
+            after[Users.updatedAt] shouldNotBe createdAt
+
+            response.nickname shouldBe "새닉네임"
+            response.email shouldBe "before@example.com"
+            verify(exactly = 0) { tokenRevocationList.revokeUser(any(), any()) }
+        }
+
+        it("이메일만 보내면 email과 updated_at만 변경하고 이전 이메일의 캐시를 비워야 한다") {
+            userService.getNicknameByEmail("before@example.com") shouldBe "이전닉네임"
+
+            userService.updateUser(userId, UserDto.UpdateRequest(email = "after@example.com"))
+
+            updatedColumns() shouldBe listOf(listOf("email", "updated_at"))
+            row()[Users.email] shouldBe "after@example.com"
+            row()[Users.nickname] shouldBe "이전닉네임"
+            shouldThrow<CustomException> { userService.getNicknameByEmail("before@example.com") }
+            userService.getNicknameByEmail("after@example.com") shouldBe "이전닉네임"
+        }
+
+        it("비밀번호만 보내면 password와 updated_at만 변경하고 기존 토큰을 폐기해야 한다") {
+            userService.updateUser(userId, UserDto.UpdateRequest(password = "After123!"))
+
+            updatedColumns() shouldBe listOf(listOf("password", "updated_at"))
+            passwordEncoder.matches("After123!", row()[Users.password]) shouldBe true
+            row()[Users.email] shouldBe "before@example.com"
+            verify(exactly = 1) { tokenRevocationList.revokeUser(userId, "before@example.com") }
+        }
+
+        it("역할은 PATCH로 변경되지 않아야 한다") {
+            userService.updateUser(userId, UserDto.UpdateRequest(nickname = "새닉네임", role = Role.ADMIN))
+
+            updatedColumns() shouldBe listOf(listOf("nickname", "updated_at"))
+            row()[Users.role] shouldBe Role.USER
+        }
+
+        it("보낸 필드가 없으면 UPDATE를 실행하지 않아야 한다") {
+            userService.updateUser(userId, UserDto.UpdateRequest()).updatedAt shouldBe "2025-01-01 09:00:00"
+
+            updatedColumns() shouldBe emptyList()
+            row()[Users.updatedAt] shouldBe createdAt
+        }
+
+        it("다른 사용자의 닉네임으로 바꾸면 아무 컬럼도 바뀌지 않아야 한다") {
+            transaction(database) {
+                Users.insert {
+                    it[email] = "other@example.com"
+                    it[password] = "encoded"
+                    it[nickname] = "다른닉네임"
+                    it[role] = Role.USER
+                }
+            }
+
+            val exception = shouldThrow<CustomException> {
+                userService.updateUser(userId, UserDto.UpdateRequest(email = "changed@example.com", nickname = "다른닉네임"))
+            }
+
+            exception.message shouldBe "이미 존재하는 닉네임입니다"
+            row()[Users.email] shouldBe "before@example.com"
+            row()[Users.updatedAt] shouldBe createdAt
+        }
+    }
+})
@@ -1,7 +1,12 @@
 package blog.vans_story_be.domain.user.service
 
 import auth.support.TestDataBuilder
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import blog.vans_story_be.domain.user.cache.UserCacheProperties
+import blog.vans_story_be.domain.user.cache.UserLookupCache
 import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.dto.UserPatch
+import blog.vans_story_be.domain.user.dto.UserSummary
 import blog.vans_story_be.domain.user.entity.Role
 import blog.vans_story_be.domain.user.entity.User
 import blog.vans_story_be.domain.user.mapper.UserMapper
@@ -10,22 +15,44 @@ import blog.vans_story_be.global.exception.CustomException
 import io.kotest.assertions.throwables.shouldThrow
 import io.kotest.core.spec.style.DescribeSpec
 import io.kotest.matchers.shouldBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import io.mockk.*
+import org.jetbrains.exposed.exceptions.ExposedSQLException
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.Transaction
 import org.springframework.security.crypto.password.PasswordEncoder
+import java.sql.SQLIntegrityConstraintViolationException
+import java.time.LocalDateTime
 import java.util.Optional
 
 class UserServiceTest : DescribeSpec({
+
+    // transaction 블록 실행용 (리포지토리는 모킹)
+    Database.connect(
+        url = "jdbc:h2:mem:user-service;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver"
+    )
+
+    fun uniqueViolation(message: String) = ExposedSQLException(
+        SQLIntegrityConstraintViolationException(message, "23000"),
+        emptyList(),
+        mockk<Transaction>(relaxed = true)
+    )
     
     // 테스트에 필요한 모의 객체들
     val mockUserRepository = mockk<UserRepository>()
     val mockUserMapper = mockk<UserMapper>()
     val mockPasswordEncoder = mockk<PasswordEncoder>()
+    val mockTokenRevocationList = mockk<TokenRevocationList>(relaxed = true)
+    val userLookupCache = UserLookupCache(UserCacheProperties(), SimpleMeterRegistry())
     
     // 테스트할 서비스 인스턴스
     val userService = UserService(
         userRepository = mockUserRepository,
         userMapper = mockUserMapper,
-        passwordEncoder = mockPasswordEncoder
+        passwordEncoder = mockPasswordEncoder,
+        tokenRevocationList = mockTokenRevocationList,
+        userLookupCache = userLookupCache
     )
     
     describe("createUser 메서드는") {
@@ -36,13 +63,11 @@ class UserServiceTest : DescribeSpec({
             val mockResponseDto = mockk<UserDto.Response>()
             
             beforeEach {
-                // 중복 체크 실패 시나리오 설정
-                every { mockUserRepository.existsByEmail(any()) } returns false
-                every { mockUserRepository.existsByNickname(any()) } returns false
                 every { mockPasswordEncoder.encode(any()) } returns encodedPassword
                 every { mockUserMapper.toEntity(createRequest, encodedPassword) } returns mockUser
                 every { mockUserRepository.save(mockUser) } returns mockUser
                 every { mockUserMapper.toResponseDto(mockUser) } returns mockResponseDto
+                every { mockResponseDto.id } returns 1L
             }
             
             it("새로운 사용자를 생성하고 응답 DTO를 반환해야 한다") {
@@ -54,27 +79,32 @@ class UserServiceTest : DescribeSpec({
                 
                 // verify
                 verify {
-                    mockUserRepository.existsByEmail(createRequest.email)
-                    mockUserRepository.existsByNickname(createRequest.nickname)
                     mockPasswordEncoder.encode(createRequest.password)
                     mockUserMapper.toEntity(createRequest, encodedPassword)
                     mockUserRepository.save(mockUser)
                     mockUserMapper.toResponseDto(mockUser)
                 }
+                // 중복 여부는 미리 조회하지 않고 고유 인덱스에 맡김
+                verify(exactly = 0) {
+                    mockUserRepository.existsByEmail(any())
+                    mockUserRepository.existsByNickname(any())
+                }
             }
         }
         
         context("이미 존재하는 이메일로 요청이 주어지면") {
             val createRequest = TestDataBuilder.createSignupRequest()
+            val mockUser = mockk<User>()
             
             beforeEach {
                 clearAllMocks()
-                every { mockUserRepository.existsByEmail(any()) } returns false
-                every { mockUserRepository.existsByEmail(createRequest.email) } returns true
-                every { mockUserRepository.existsByNickname(any()) } returns false
+                every { mockPasswordEncoder.encode(any()) } returns "encoded_password"
+                every { mockUserMapper.toEntity(createRequest, "encoded_password") } returns mockUser
+                every { mockUserRepository.save(mockUser) } throws
+                    uniqueViolation("Duplicate entry '${createRequest.email}' for key 'users_email_unique'")
             }
             
-            it("CustomException을 던져야 한다") {
+            it("INSERT 한 번의 고유 인덱스 위반을 이메일 중복 CustomException으로 변환해야 한다") {
                 // when & then
                 val exception = shouldThrow<CustomException> {
                     userService.createUser(createRequest)
@@ -82,12 +112,88 @@ class UserServiceTest : DescribeSpec({
                 
                 exception.message shouldBe "이미 존재하는 이메일입니다"
                 
-                verify(exactly = 1) { mockUserRepository.existsByEmail(createRequest.email) }
-                verify(exactly = 0) { mockUserRepository.save(any()) }
+                verify(exactly = 1) { mockUserRepository.save(mockUser) }
+                verify(exactly = 0) { mockUserRepository.existsByEmail(any()) }
+            }
+        }
+
+        context("이미 존재하는 닉네임으로 요청이 주어지면") {
+            val createRequest = TestDataBuilder.createSignupRequest()
+            val mockUser = mockk<User>()
+
+            beforeEach {
+                clearAllMocks()
+                every { mockPasswordEncoder.encode(any()) } returns "encoded_password"
+                every { mockUserMapper.toEntity(createRequest, "encoded_password") } returns mockUser
+                every { mockUserRepository.save(mockUser) } throws
+                    uniqueViolation("Duplicate entry '${createRequest.nickname}' for key 'users_nickname_unique'")
+            }
+
+            it("닉네임 중복 CustomException으로 변환해야 한다") {
+                val exception = shouldThrow<CustomException> {
+                    userService.createUser(createRequest)
+                }
+
+                exception.message shouldBe "이미 존재하는 닉네임입니다"
             }
         }
     }
     
+    describe("getUsers 메서드는") {
+        fun summary(id: Long) = UserSummary(
+            id = id,
+            email = "user$id@example.com",
+            nickname = "user$id",
+            role = Role.USER,
+            createdAt = LocalDateTime.now(),
+            updatedAt = LocalDateTime.now()
+        )
+
+        beforeEach {
+            every { mockUserMapper.toResponseDto(any<UserSummary>()) } answers {
+                UserDto.Response(id = firstArg<UserSummary>().id)
+            }
+        }
+
+        context("다음 페이지가 있으면") {
+            beforeEach {
+                every { mockUserRepository.findUsersAfter(10L, 3) } returns (11L..13L).map(::summary)
+            }
+
+            it("한 건을 더 조회하여 페이지 크기만큼 반환하고 마지막 ID를 nextCursor로 반환해야 한다") {
+                val result = userService.getUsers(cursor = 10L, size = 2)
+
+                result.items.map { it.id } shouldBe listOf(11L, 12L)
+                result.nextCursor shouldBe 12L
+            }
+        }
+
+        context("마지막 페이지이면") {
+            beforeEach {
+                every { mockUserRepository.findUsersAfter(null, 3) } returns (1L..2L).map(::summary)
+            }
+
+            it("nextCursor로 null을 반환해야 한다") {
+                val result = userService.getUsers(cursor = null, size = 2)
+
+                result.items.map { it.id } shouldBe listOf(1L, 2L)
+                result.nextCursor shouldBe null
+            }
+        }
+
+        context("최대 크기보다 큰 페이지를 요청하면") {
+            beforeEach {
+                every { mockUserRepository.findUsersAfter(null, UserService.MAX_PAGE_SIZE + 1) } returns emptyList()
+            }
+
+            it("최대 크기로 제한하여 조회해야 한다") {
+                userService.getUsers(cursor = null, size = 10_000)
+
+                verify { mockUserRepository.findUsersAfter(null, UserService.MAX_PAGE_SIZE + 1) }
+            }
+        }
+    }
+
     describe("getUserById 메서드는") {
         context("존재하는 사용자 ID가 주어지면") {
             val userId = 1L
@@ -132,52 +238,163 @@ class UserServiceTest : DescribeSpec({
                 verify(exactly = 1) { mockUserRepository.findUserById(userId) }
             }
         }
+
+        context("같은 사용자 ID를 다시 조회하면") {
+            val userId = 2L
+            val mockUser = mockk<User>()
+            val mockResponseDto = mockk<UserDto.Response>()
+
+            beforeEach {
+                userLookupCache.invalidateAll()
+                clearMocks(mockUserRepository)
+                every { mockUserRepository.findUserById(userId) } returns Optional.of(mockUser)
+                every { mockUserMapper.toResponseDto(mockUser) } returns mockResponseDto
+            }
+
+            it("캐시된 정보를 반환하고 DB는 한 번만 조회해야 한다") {
+                repeat(3) { userService.getUserById(userId) shouldBe mockResponseDto }
+
+                verify(exactly = 1) { mockUserRepository.findUserById(userId) }
+            }
+        }
+
+        context("존재하지 않는 사용자 ID를 다시 조회하면") {
+            val userId = 998L
+
+            beforeEach {
+                userLookupCache.invalidateAll()
+                clearMocks(mockUserRepository)
+                every { mockUserRepository.findUserById(userId) } returns Optional.empty()
+            }
+
+            it("없음도 캐시하여 DB는 한 번만 조회해야 한다") {
+                repeat(3) {
+                    shouldThrow<CustomException> { userService.getUserById(userId) }
+                }
+
+                verify(exactly = 1) { mockUserRepository.findUserById(userId) }
+            }
+        }
+    }
+
+    describe("getNicknameByEmail 메서드는") {
+        val email = TestDataBuilder.TEST_EMAIL
+
+        beforeEach {
+            userLookupCache.invalidateAll()
+            clearMocks(mockUserRepository)
+            every { mockUserRepository.findNicknameByEmail(email) } returns "닉네임"
+        }
+
+        it("대소문자만 다른 이메일도 같은 캐시 항목을 사용해야 한다") {
+            userService.getNicknameByEmail(email) shouldBe "닉네임"
+            userService.getNicknameByEmail(email.uppercase()) shouldBe "닉네임"
+
+            verify(exactly = 1) { mockUserRepository.findNicknameByEmail(any()) }
+        }
     }
     
     describe("updateUser 메서드는") {
-        context("유효한 업데이트 요청이 주어지면") {
-            val userId = 1L
+        val userId = 1L
+        val summary = UserSummary(
+            id = userId,
+            email = "new@example.com",
+            nickname = "새로운닉네임",
+            role = Role.USER,
+            createdAt = LocalDateTime.of(2025, 1, 1, 0, 0),
+            updatedAt = LocalDateTime.of(2025, 6, 7, 12, 0)
+        )
+        val mockResponseDto = mockk<UserDto.Response>()
+
+        beforeEach {
+            clearAllMocks()
+            every { mockUserRepository.findSummaryById(userId) } returns summary
+            every { mockUserMapper.toResponseDto(summary) } returns mockResponseDto
+        }
+
+        context("이메일, 비밀번호, 닉네임 변경 요청이 주어지면") {
             val updateRequest = UserDto.UpdateRequest(
                 email = "new@example.com",
                 password = "newPassword123!",
                 nickname = "새로운닉네임"
             )
-            val mockUser = mockk<User>()
-            val mockResponseDto = mockk<UserDto.Response>()
             val encodedPassword = "encoded_new_password"
-            val mockUpdateDto = mockk<UserDto.UpdateRequest>()
-            
+
             beforeEach {
-                every { mockUserRepository.findUserById(userId) } returns Optional.of(mockUser)
-                every { mockUser.email } returns "old@example.com"
-                every { mockUser.nickname } returns "기존닉네임"
-                every { mockUserRepository.existsByEmail(any()) } returns false
-                every { mockUserRepository.existsByNickname(any()) } returns false
                 every { mockPasswordEncoder.encode(any()) } returns encodedPassword
-                every { mockUserMapper.toUpdateDto(mockUser, updateRequest.email, encodedPassword, updateRequest.nickname) } returns mockUpdateDto
-                every { mockUserMapper.updateEntity(mockUpdateDto, mockUser) } just Runs
-                every { mockUserRepository.save(mockUser) } returns mockUser
-                every { mockUserMapper.toResponseDto(mockUser) } returns mockResponseDto
+                every { mockUserRepository.findEmailById(userId) } returns "old@example.com"
+                every { mockUserRepository.updateColumns(userId, any(), any()) } returns 1
             }
-            
-            it("사용자 정보를 업데이트하고 응답 DTO를 반환해야 한다") {
+
+            it("요청한 컬럼만 한 번에 변경하고 변경된 행을 다시 조회하여 반환해야 한다") {
                 // when
                 val result = userService.updateUser(userId, updateRequest)
-                
+
                 // then
                 result shouldBe mockResponseDto
-                
+
                 // verify
                 verify {
-                    mockUserRepository.findUserById(userId)
-                    mockUserRepository.existsByEmail(updateRequest.email!!)
-                    mockUserRepository.existsByNickname(updateRequest.nickname!!)
                     mockPasswordEncoder.encode(updateRequest.password!!)
-                    mockUserMapper.toUpdateDto(mockUser, updateRequest.email, encodedPassword, updateRequest.nickname)
-                    mockUserMapper.updateEntity(mockUpdateDto, mockUser)
-                    mockUserRepository.save(mockUser)
-                    mockUserMapper.toResponseDto(mockUser)
+                    mockUserRepository.findEmailById(userId)
+                    mockUserRepository.updateColumns(
+                        userId,
+                        UserPatch(email = "new@example.com", passwordHash = encodedPassword, nickname = "새로운닉네임"),
+                        any()
+                    )
+                    mockUserRepository.findSummaryById(userId)
+                    mockTokenRevocationList.revokeUser(userId, "old@example.com")
+                }
+                // 엔티티를 읽거나 전체를 다시 쓰지 않음
+                verify(exactly = 0) {
+                    mockUserRepository.findUserById(any())
+                    mockUserRepository.save(any())
+                }
+            }
+        }
+
+        context("닉네임만 변경 요청이 주어지면") {
+            val updateRequest = UserDto.UpdateRequest(nickname = "새로운닉네임")
+
+            beforeEach {
+                every { mockUserRepository.updateColumns(userId, any(), any()) } returns 1
+            }
+
+            it("기존 이메일을 조회하지 않고 토큰도 폐기하지 않아야 한다") {
+                userService.updateUser(userId, updateRequest)
+
+                verify(exactly = 1) {
+                    mockUserRepository.updateColumns(userId, UserPatch(nickname = "새로운닉네임"), any())
                 }
+                verify(exactly = 0) {
+                    mockUserRepository.findEmailById(any())
+                    mockPasswordEncoder.encode(any())
+                    mockTokenRevocationList.revokeUser(any(), any())
+                }
+            }
+        }
+
+        context("변경할 필드가 없는 요청이 주어지면") {
+            it("UPDATE 없이 현재 값을 반환해야 한다") {
+                userService.updateUser(userId, UserDto.UpdateRequest()) shouldBe mockResponseDto
+
+                verify(exactly = 0) { mockUserRepository.updateColumns(any(), any(), any()) }
+                verify(exactly = 1) { mockUserRepository.findSummaryById(userId) }
+            }
+        }
+
+        context("존재하지 않는 사용자 ID가 주어지면") {
+            beforeEach {
+                every { mockUserRepository.updateColumns(userId, any(), any()) } returns 0
+            }
+
+            it("CustomException을 던져야 한다") {
+                val exception = shouldThrow<CustomException> {
+                    userService.updateUser(userId, UserDto.UpdateRequest(nickname = "새로운닉네임"))
+                }
+
+                exception.message shouldBe "사용자를 찾을 수 없습니다"
+                verify(exactly = 0) { mockUserRepository.findSummaryById(any()) }
             }
         }
     }
@@ -185,26 +402,72 @@ class UserServiceTest : DescribeSpec({
     describe("deleteUser 메서드는") {
         context("존재하는 사용자 ID가 주어지면") {
             val userId = 1L
-            val mockUser = mockk<User>()
             
             beforeEach {
-                every { mockUserRepository.findUserById(userId) } returns Optional.of(mockUser)
-                every { mockUserRepository.delete(mockUser) } just Runs
+                every { mockUserRepository.findEmailById(userId) } returns TestDataBuilder.TEST_EMAIL
+                every { mockUserRepository.softDelete(userId, any()) } returns 1
             }
             
-            it("해당 사용자를 삭제해야 한다") {
+            it("삭제 요청만 기록하고 발급된 토큰을 폐기해야 한다") {
                 // when
                 userService.deleteUser(userId)
                 
                 // verify
                 verify {
-                    mockUserRepository.findUserById(userId)
-                    mockUserRepository.delete(mockUser)
+                    mockUserRepository.findEmailById(userId)
+                    mockUserRepository.softDelete(userId, any())
+                    mockTokenRevocationList.revokeUser(userId, TestDataBuilder.TEST_EMAIL)
                 }
+                verify(exactly = 0) { mockUserRepository.purgeDeleted(any()) }
+            }
+        }
+
+        context("존재하지 않거나 이미 삭제된 사용자 ID가 주어지면") {
+            val userId = 2L
+
+            beforeEach {
+                every { mockUserRepository.findEmailById(userId) } returns null
+            }
+
+            it("CustomException을 던져야 한다") {
+                val exception = shouldThrow<CustomException> {
+                    userService.deleteUser(userId)
+                }
+
+                exception.message shouldBe "사용자를 찾을 수 없습니다"
+                verify(exactly = 0) { mockUserRepository.softDelete(userId, any()) }
             }
         }
     }
     
+    describe("updatePassword 메서드는") {
+        context("유효한 비밀번호 변경 요청이 주어지면") {
+            val userId = 1L
+            val mockUser = mockk<User>()
+            val mockUpdateDto = mockk<UserDto.UpdateRequest>()
+
+            beforeEach {
+                every { mockPasswordEncoder.encode("newPassword123!") } returns "encoded_password"
+                every { mockUserRepository.findUserById(userId) } returns Optional.of(mockUser)
+                every { mockUser.email } returns TestDataBuilder.TEST_EMAIL
+                every { mockUserMapper.toUpdateDto(mockUser, password = "encoded_password") } returns mockUpdateDto
+                every { mockUserMapper.updateEntity(mockUpdateDto, mockUser) } just Runs
+                every { mockUserRepository.save(mockUser) } returns mockUser
+            }
+
+            it("사용자를 조회하기 전에 비밀번호를 해싱하고 기존 토큰을 폐기해야 한다") {
+                userService.updatePassword(userId, "newPassword123!")
+
+                verifyOrder {
+                    mockPasswordEncoder.encode("newPassword123!")
+                    mockUserRepository.findUserById(userId)
+                    mockUserRepository.save(mockUser)
+                }
+                verify { mockTokenRevocationList.revokeUser(userId, TestDataBuilder.TEST_EMAIL) }
+            }
+        }
+    }
+
     describe("updateRole 메서드는") {
         context("유효한 역할 업데이트 요청이 주어지면") {
             val userId = 1L
@@ -214,12 +477,13 @@ class UserServiceTest : DescribeSpec({
             
             beforeEach {
                 every { mockUserRepository.findUserById(userId) } returns Optional.of(mockUser)
+                every { mockUser.email } returns TestDataBuilder.TEST_EMAIL
                 every { mockUserMapper.toUpdateDto(mockUser, role = newRole) } returns mockUpdateDto
                 every { mockUserMapper.updateEntity(mockUpdateDto, mockUser) } just Runs
                 every { mockUserRepository.save(mockUser) } returns mockUser
             }
             
-            it("사용자의 역할을 업데이트해야 한다") {
+            it("사용자의 역할을 업데이트하고 이전 역할의 토큰을 폐기해야 한다") {
                 // when
                 userService.updateRole(userId, newRole)
                 
@@ -229,8 +493,23 @@ class UserServiceTest : DescribeSpec({
                     mockUserMapper.toUpdateDto(mockUser, role = newRole)
                     mockUserMapper.updateEntity(mockUpdateDto, mockUser)
                     mockUserRepository.save(mockUser)
+                    mockTokenRevocationList.revokeUser(userId, TestDataBuilder.TEST_EMAIL)
                 }
             }
+
+            it("캐시된 사용자 정보를 제거하여 다음 조회 시 DB에서 다시 읽어야 한다") {
+                val mockResponseDto = mockk<UserDto.Response>()
+                every { mockUserMapper.toResponseDto(mockUser) } returns mockResponseDto
+                userLookupCache.invalidateAll()
+                clearMocks(mockUserRepository, answers = false)
+
+                userService.getUserById(userId)
+                userService.updateRole(userId, newRole)
+                userService.getUserById(userId)
+
+                // 조회 2회 + 역할 변경 1회
+                verify(exactly = 3) { mockUserRepository.findUserById(userId) }
+            }
         }
     }
 }) 
\ No newline at end of file
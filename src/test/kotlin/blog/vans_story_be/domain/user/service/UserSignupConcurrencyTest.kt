@@ -0,0 +1,112 @@
+package blog.vans_story_be.domain.user.service
+
+import blog.vans_story_be.domain.auth.store.TokenRevocationList
+import blog.vans_story_be.domain.user.cache.UserCacheProperties
+import blog.vans_story_be.domain.user.cache.UserLookupCache
+import blog.vans_story_be.domain.user.dto.UserDto
+import blog.vans_story_be.domain.user.entity.Users
+import blog.vans_story_be.domain.user.mapper.UserMapper
+import blog.vans_story_be.domain.user.repository.UserRepositoryImpl
+import blog.vans_story_be.global.exception.CustomException
+import io.kotest.core.spec.style.DescribeSpec
+import io.kotest.matchers.shouldBe
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.mockk
+import org.jetbrains.exposed.sql.Database
+import org.jetbrains.exposed.sql.SchemaUtils
+import org.jetbrains.exposed.sql.selectAll
+import org.jetbrains.exposed.sql.transactions.TransactionManager
+import org.jetbrains.exposed.sql.transactions.transaction
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 동시 회원가입 테스트 (H2 인메모리 DB)
+ *
+ * 같은 이메일 또는 닉네임으로 여러 스레드가 동시에 가입할 때, 고유 인덱스만으로
+ * 한 건만 저장되고 나머지는 필드별 CustomException을 받는지 확인합니다.
+ */
+class UserSignupConcurrencyTest : DescribeSpec({
+
+    val threads = 16
+
+    val database = Database.connect(
+        url = "jdbc:h2:mem:user-signup;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        driver = "org.h2.Driver"
+    )
+
+    val userService = UserService(
+        userRepository = UserRepositoryImpl(),
+        userMapper = UserMapper(),
+        passwordEncoder = BCryptPasswordEncoder(4),
+        tokenRevocationList = mockk<TokenRevocationList>(relaxed = true),
+        userLookupCache = UserLookupCache(UserCacheProperties(), SimpleMeterRegistry())
+    )
+
+    /**
+     * 모든 스레드가 준비된 뒤 동시에 가입을 요청합니다.
+     *
+     * @return 스레드별 결과 (성공이면 null, 실패이면 예외 메시지)
+     */
+    fun signupConcurrently(request: (Int) -> UserDto.CreateRequest): List<String?> {
+        val executor = Executors.newFixedThreadPool(threads)
+        val start = CountDownLatch(1)
+        try {
+            val futures = (0 until threads).map { i ->
+                executor.submit(Callable {
+                    start.await()
+                    try {
+                        userService.createUser(request(i))
+                        null
+                    } catch (e: CustomException) {
+                        e.message
+                    }
+                })
+            }
+            start.countDown()
+            return futures.map { it.get(30, TimeUnit.SECONDS) }
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+    fun countUsers(): Long = transaction(database) { Users.selectAll().count() }
+
+    beforeSpec {
+        TransactionManager.defaultDatabase = database
+    }
+
+    beforeEach {
+        transaction(database) {
+            SchemaUtils.drop(Users)
+            SchemaUtils.create(Users)
+        }
+    }
+
+    describe("같은 이메일로 동시에 가입하면") {
+        it("한 건만 저장되고 나머지는 이메일 중복 예외를 받아야 한다") {
+            val results = signupConcurrently { i ->
+                UserDto.CreateRequest("race@example.com", "Password1!", "경쟁$i")
+            }
+
+            results.count { it == null } shouldBe 1
+            results.filterNotNull().toSet() shouldBe setOf("이미 존재하는 이메일입니다")
+            countUsers() shouldBe 1L
+        }
+    }
+
+    describe("같은 닉네임으로 동시에 가입하면") {
+        it("한 건만 저장되고 나머지는 닉네임 중복 예외를 받아야 한다") {
+            val results = signupConcurrently { i ->
+                UserDto.CreateRequest("race$i@example.com", "Password1!", "경쟁닉네임")
+            }
+
+            results.count { it == null } shouldBe 1
+            results.filterNotNull().toSet() shouldBe setOf("이미 존재하는 닉네임입니다")
+            countUsers() shouldBe 1L
+        }
+    }
+})